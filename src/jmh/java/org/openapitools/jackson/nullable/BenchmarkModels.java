@@ -0,0 +1,244 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Models shared by the JsonNullable benchmarks. Every model mirrors the same set of
+ * properties so that the wrapper cost can be compared against the baselines.
+ */
+final class BenchmarkModels {
+
+    private BenchmarkModels() {
+    }
+
+    static class PatchDto {
+        public JsonNullable<Long> id = JsonNullable.undefined();
+        public JsonNullable<String> name = JsonNullable.undefined();
+        public JsonNullable<String> description = JsonNullable.undefined();
+        public JsonNullable<Integer> quantity = JsonNullable.undefined();
+        public JsonNullable<BigDecimal> price = JsonNullable.undefined();
+        public JsonNullable<Double> score = JsonNullable.undefined();
+        public JsonNullable<Boolean> active = JsonNullable.undefined();
+        public JsonNullable<List<String>> tags = JsonNullable.undefined();
+
+        static PatchDto allUndefined() {
+            return new PatchDto();
+        }
+
+        static PatchDto allNull() {
+            PatchDto dto = new PatchDto();
+            dto.id = JsonNullable.of(null);
+            dto.name = JsonNullable.of(null);
+            dto.description = JsonNullable.of(null);
+            dto.quantity = JsonNullable.of(null);
+            dto.price = JsonNullable.of(null);
+            dto.score = JsonNullable.of(null);
+            dto.active = JsonNullable.of(null);
+            dto.tags = JsonNullable.of(null);
+            return dto;
+        }
+
+        static PatchDto allPresent() {
+            PatchDto dto = new PatchDto();
+            dto.id = JsonNullable.of(4711L);
+            dto.name = JsonNullable.of("Rex");
+            dto.description = JsonNullable.of("A very good dog");
+            dto.quantity = JsonNullable.of(3);
+            dto.price = JsonNullable.of(new BigDecimal("19.99"));
+            dto.score = JsonNullable.of(0.75d);
+            dto.active = JsonNullable.of(Boolean.TRUE);
+            dto.tags = JsonNullable.of(Arrays.asList("dog", "pet"));
+            return dto;
+        }
+    }
+
+    static class NestedDto {
+        public JsonNullable<String> id = JsonNullable.undefined();
+        public JsonNullable<PatchDto> child = JsonNullable.undefined();
+        public JsonNullable<List<PatchDto>> children = JsonNullable.undefined();
+
+        static NestedDto create() {
+            NestedDto dto = new NestedDto();
+            dto.id = JsonNullable.of("parent");
+            dto.child = JsonNullable.of(PatchDto.allPresent());
+            dto.children = JsonNullable.of(Arrays.asList(PatchDto.allNull(), PatchDto.allPresent()));
+            return dto;
+        }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "type")
+    @JsonSubTypes({@JsonSubTypes.Type(name = "circle", value = Circle.class),
+            @JsonSubTypes.Type(name = "square", value = Square.class)})
+    interface Shape {
+    }
+
+    static class Circle implements Shape {
+        public JsonNullable<Double> radius = JsonNullable.undefined();
+    }
+
+    static class Square implements Shape {
+        public JsonNullable<Double> side = JsonNullable.undefined();
+    }
+
+    static class PolymorphicDto {
+        public JsonNullable<String> name = JsonNullable.undefined();
+        public JsonNullable<Shape> shape = JsonNullable.undefined();
+
+        static PolymorphicDto create() {
+            Circle circle = new Circle();
+            circle.radius = JsonNullable.of(2.5d);
+            PolymorphicDto dto = new PolymorphicDto();
+            dto.name = JsonNullable.of("wheel");
+            dto.shape = JsonNullable.of(circle);
+            return dto;
+        }
+    }
+
+    static class Address {
+        public String street = "Main Street 1";
+        public String city = "Springfield";
+    }
+
+    static class UnwrappedDto {
+        public JsonNullable<String> name = JsonNullable.undefined();
+        @JsonUnwrapped(prefix = "address.")
+        public JsonNullable<Address> address = JsonNullable.undefined();
+
+        static UnwrappedDto create() {
+            UnwrappedDto dto = new UnwrappedDto();
+            dto.name = JsonNullable.of("home");
+            dto.address = JsonNullable.of(new Address());
+            return dto;
+        }
+    }
+
+    static class CreatorDto {
+        private final JsonNullable<String> name;
+        private final JsonNullable<Integer> quantity;
+        private final JsonNullable<BigDecimal> price;
+
+        @JsonCreator
+        CreatorDto(@JsonProperty("name") JsonNullable<String> name,
+                   @JsonProperty("quantity") JsonNullable<Integer> quantity,
+                   @JsonProperty("price") JsonNullable<BigDecimal> price) {
+            this.name = name;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        @JsonProperty
+        public JsonNullable<String> getName() {
+            return name;
+        }
+
+        @JsonProperty
+        public JsonNullable<Integer> getQuantity() {
+            return quantity;
+        }
+
+        @JsonProperty
+        public JsonNullable<BigDecimal> getPrice() {
+            return price;
+        }
+
+        static CreatorDto create() {
+            return new CreatorDto(JsonNullable.of("Rex"), JsonNullable.of(3), JsonNullable.of(new BigDecimal("19.99")));
+        }
+    }
+
+    static class OptionalDto {
+        public Optional<Long> id = Optional.empty();
+        public Optional<String> name = Optional.empty();
+        public Optional<String> description = Optional.empty();
+        public Optional<Integer> quantity = Optional.empty();
+        public Optional<BigDecimal> price = Optional.empty();
+        public Optional<Double> score = Optional.empty();
+        public Optional<Boolean> active = Optional.empty();
+        public Optional<List<String>> tags = Optional.empty();
+
+        static OptionalDto allPresent() {
+            OptionalDto dto = new OptionalDto();
+            dto.id = Optional.of(4711L);
+            dto.name = Optional.of("Rex");
+            dto.description = Optional.of("A very good dog");
+            dto.quantity = Optional.of(3);
+            dto.price = Optional.of(new BigDecimal("19.99"));
+            dto.score = Optional.of(0.75d);
+            dto.active = Optional.of(Boolean.TRUE);
+            dto.tags = Optional.of(Arrays.asList("dog", "pet"));
+            return dto;
+        }
+    }
+
+    static class PlainDto {
+        public Long id;
+        public String name;
+        public String description;
+        public Integer quantity;
+        public BigDecimal price;
+        public Double score;
+        public Boolean active;
+        public List<String> tags;
+
+        static PlainDto allPresent() {
+            PlainDto dto = new PlainDto();
+            dto.id = 4711L;
+            dto.name = "Rex";
+            dto.description = "A very good dog";
+            dto.quantity = 3;
+            dto.price = new BigDecimal("19.99");
+            dto.score = 0.75d;
+            dto.active = Boolean.TRUE;
+            dto.tags = Arrays.asList("dog", "pet");
+            return dto;
+        }
+    }
+
+    /**
+     * Creates a processor for the given Jackson line with the JsonNullable module registered,
+     * plus Jdk8Module on Jackson 2 so that the {@link OptionalDto} baseline is comparable.
+     */
+    static JsonProcessor processor(String jackson) {
+        if ("jackson2".equals(jackson)) {
+            Jackson2Processor processor = new Jackson2Processor();
+            processor.mapperWithModule();
+            processor.mapper.registerModule(new com.fasterxml.jackson.datatype.jdk8.Jdk8Module());
+            return processor;
+        }
+        if ("jackson3".equals(jackson)) {
+            return new BuiltJackson3Processor();
+        }
+        throw new IllegalArgumentException("Unknown Jackson line: " + jackson);
+    }
+
+    /**
+     * Builds the Jackson 3 mapper once; the test processor rebuilds it on every call,
+     * which the benchmarks would otherwise measure.
+     */
+    static final class BuiltJackson3Processor extends Jackson3Processor {
+
+        BuiltJackson3Processor() {
+            mapperWithModule();
+            mapper = builder.build();
+        }
+
+        @Override
+        public String writeValueAsString(Object obj) {
+            return mapper.writeValueAsString(obj);
+        }
+
+        @Override
+        public <T> T readValue(String string, Class<T> type) {
+            return mapper.readValue(string, type);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.openapitools.jackson.nullable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many threads updating one {@link JsonNullableAccumulator} against the same updates on a synchronized patch.
+ * Every benchmark exists for 8, 32 and 64 threads; pass {@code -t} to try other counts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonNullableAccumulatorBenchmark {
+
+    private static final String[] PROPERTIES = {"id", "name", "description", "quantity", "price", "score", "active", "tags"};
+
+    private JsonNullableAccumulator<BenchmarkModels.PatchDto> accumulator;
+
+    private PatchDocument locked;
+
+    private final JsonNullable<String> value = JsonNullable.of("Rex");
+
+    @Setup
+    public void setup() {
+        accumulator = new JsonNullableAccumulator<>(BenchmarkModels.PatchDto.class);
+        locked = new PatchDocument();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void accumulator8() {
+        accumulate();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void accumulator32() {
+        accumulate();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void accumulator64() {
+        accumulate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void synchronized8() {
+        lockAndSet();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void synchronized32() {
+        lockAndSet();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void synchronized64() {
+        lockAndSet();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public BenchmarkModels.PatchDto snapshotWhileUpdating8() {
+        return updateOrSnapshot();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public BenchmarkModels.PatchDto snapshotWhileUpdating64() {
+        return updateOrSnapshot();
+    }
+
+    private void accumulate() {
+        accumulator.set(ThreadLocalRandom.current().nextInt(PROPERTIES.length), value);
+    }
+
+    private void lockAndSet() {
+        String property = PROPERTIES[ThreadLocalRandom.current().nextInt(PROPERTIES.length)];
+        synchronized (locked) {
+            locked.set(property, value.get());
+        }
+    }
+
+    /**
+     * One call in 64 takes a snapshot, the others update.
+     */
+    private BenchmarkModels.PatchDto updateOrSnapshot() {
+        int random = ThreadLocalRandom.current().nextInt(64 * PROPERTIES.length);
+        if (random < PROPERTIES.length) {
+            return accumulator.snapshot();
+        }
+        accumulator.set(random % PROPERTIES.length, value);
+        return null;
+    }
+}
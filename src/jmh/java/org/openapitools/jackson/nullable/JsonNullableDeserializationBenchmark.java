@@ -0,0 +1,95 @@
+package org.openapitools.jackson.nullable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization throughput of JsonNullable models on both Jackson lines.
+ * Run with {@code -prof gc} to get the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonNullableDeserializationBenchmark {
+
+    @Param({"jackson2", "jackson3"})
+    public String jackson;
+
+    private JsonProcessor processor;
+
+    private String allUndefinedJson;
+    private String allNullJson;
+    private String allPresentJson;
+    private String nestedJson;
+    private String polymorphicJson;
+    private String creatorJson;
+    private String optionalJson;
+    private String plainJson;
+
+    @Setup
+    public void setup() throws Exception {
+        processor = BenchmarkModels.processor(jackson);
+        allUndefinedJson = processor.writeValueAsString(BenchmarkModels.PatchDto.allUndefined());
+        allNullJson = processor.writeValueAsString(BenchmarkModels.PatchDto.allNull());
+        allPresentJson = processor.writeValueAsString(BenchmarkModels.PatchDto.allPresent());
+        nestedJson = processor.writeValueAsString(BenchmarkModels.NestedDto.create());
+        polymorphicJson = processor.writeValueAsString(BenchmarkModels.PolymorphicDto.create());
+        creatorJson = processor.writeValueAsString(BenchmarkModels.CreatorDto.create());
+        optionalJson = processor.writeValueAsString(BenchmarkModels.OptionalDto.allPresent());
+        plainJson = processor.writeValueAsString(BenchmarkModels.PlainDto.allPresent());
+    }
+
+    @Benchmark
+    public BenchmarkModels.PatchDto allUndefined() throws Exception {
+        return processor.readValue(allUndefinedJson, BenchmarkModels.PatchDto.class);
+    }
+
+    @Benchmark
+    public BenchmarkModels.PatchDto allNull() throws Exception {
+        return processor.readValue(allNullJson, BenchmarkModels.PatchDto.class);
+    }
+
+    @Benchmark
+    public BenchmarkModels.PatchDto allPresent() throws Exception {
+        return processor.readValue(allPresentJson, BenchmarkModels.PatchDto.class);
+    }
+
+    @Benchmark
+    public BenchmarkModels.NestedDto nested() throws Exception {
+        return processor.readValue(nestedJson, BenchmarkModels.NestedDto.class);
+    }
+
+    @Benchmark
+    public BenchmarkModels.PolymorphicDto polymorphic() throws Exception {
+        return processor.readValue(polymorphicJson, BenchmarkModels.PolymorphicDto.class);
+    }
+
+    @Benchmark
+    public BenchmarkModels.CreatorDto creator() throws Exception {
+        return processor.readValue(creatorJson, BenchmarkModels.CreatorDto.class);
+    }
+
+    @Benchmark
+    public BenchmarkModels.OptionalDto baselineOptional() throws Exception {
+        return processor.readValue(optionalJson, BenchmarkModels.OptionalDto.class);
+    }
+
+    @Benchmark
+    public BenchmarkModels.PlainDto baselinePlain() throws Exception {
+        return processor.readValue(plainJson, BenchmarkModels.PlainDto.class);
+    }
+}
@@ -0,0 +1,69 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JsonNullableDiffer} against diffing the two snapshots as Jackson trees.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonNullableDifferBenchmark {
+
+    private final JsonNullableDiffer differ = new JsonNullableDiffer();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private BenchmarkModels.PlainDto oldSnapshot;
+    private BenchmarkModels.PlainDto newSnapshot;
+
+    @Setup
+    public void setup() {
+        oldSnapshot = BenchmarkModels.PlainDto.allPresent();
+        newSnapshot = BenchmarkModels.PlainDto.allPresent();
+        newSnapshot.tags = new ArrayList<>(Arrays.asList("dog", "pet"));
+        newSnapshot.price = new BigDecimal("17.99");
+        newSnapshot.description = null;
+    }
+
+    @Benchmark
+    public BenchmarkModels.PatchDto typedDiff() {
+        return differ.diff(oldSnapshot, newSnapshot, BenchmarkModels.PatchDto.class);
+    }
+
+    @Benchmark
+    public ObjectNode treeDiff() {
+        JsonNode oldTree = mapper.valueToTree(oldSnapshot);
+        JsonNode newTree = mapper.valueToTree(newSnapshot);
+        ObjectNode patch = mapper.createObjectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> it = newTree.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            if (!field.getValue().equals(oldTree.get(field.getKey()))) {
+                patch.set(field.getKey(), field.getValue());
+            }
+        }
+        return patch;
+    }
+}
@@ -0,0 +1,78 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of a 500-property DTO with every tenth property defined, into a new instance per message and into
+ * pooled instances with the refill readers. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonNullablePoolBenchmark {
+
+    @Param({"jackson2", "jackson3"})
+    public String jackson;
+
+    private interface Reader {
+        JsonNullableSparseBenchmark.WideDto read(String json) throws Exception;
+    }
+
+    private final JsonNullablePool<JsonNullableSparseBenchmark.WideDto> pool =
+            new JsonNullablePool<>(JsonNullableSparseBenchmark.WideDto.class);
+
+    private Reader fresh;
+    private Reader refill;
+    private String json;
+
+    @Setup
+    public void setup() {
+        if ("jackson2".equals(jackson)) {
+            ObjectMapper mapper = new ObjectMapper().registerModule(new JsonNullableModule());
+            JsonNullableRefillReaderJackson2 reader = new JsonNullableRefillReaderJackson2(mapper.reader());
+            fresh = json -> mapper.readValue(json, JsonNullableSparseBenchmark.WideDto.class);
+            refill = json -> reader.readInto(pool.acquire(), json);
+        } else {
+            tools.jackson.databind.ObjectMapper mapper = JsonMapper.builder()
+                    .addModule(new JsonNullableJackson3Module())
+                    .build();
+            JsonNullableRefillReaderJackson3 reader = new JsonNullableRefillReaderJackson3(mapper.reader());
+            fresh = json -> mapper.readValue(json, JsonNullableSparseBenchmark.WideDto.class);
+            refill = json -> reader.readInto(pool.acquire(), json);
+        }
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < 500; i += 10) {
+            sb.append(i == 0 ? "" : ",").append("\"f").append(i).append("\":").append(i % 20 == 0 ? "null" : "\"v" + i + "\"");
+        }
+        json = sb.append('}').toString();
+    }
+
+    @Benchmark
+    public JsonNullableSparseBenchmark.WideDto fresh() throws Exception {
+        return fresh.read(json);
+    }
+
+    @Benchmark
+    public JsonNullableSparseBenchmark.WideDto pooled() throws Exception {
+        JsonNullableSparseBenchmark.WideDto dto = refill.read(json);
+        pool.release(dto);
+        return dto;
+    }
+}
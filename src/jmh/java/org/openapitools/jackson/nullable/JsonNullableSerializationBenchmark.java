@@ -0,0 +1,102 @@
+package org.openapitools.jackson.nullable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization throughput of JsonNullable models on both Jackson lines.
+ * Run with {@code -prof gc} to get the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonNullableSerializationBenchmark {
+
+    @Param({"jackson2", "jackson3"})
+    public String jackson;
+
+    private JsonProcessor processor;
+
+    private BenchmarkModels.PatchDto allUndefined;
+    private BenchmarkModels.PatchDto allNull;
+    private BenchmarkModels.PatchDto allPresent;
+    private BenchmarkModels.NestedDto nested;
+    private BenchmarkModels.PolymorphicDto polymorphic;
+    private BenchmarkModels.UnwrappedDto unwrapped;
+    private BenchmarkModels.CreatorDto creator;
+    private BenchmarkModels.OptionalDto optional;
+    private BenchmarkModels.PlainDto plain;
+
+    @Setup
+    public void setup() {
+        processor = BenchmarkModels.processor(jackson);
+        allUndefined = BenchmarkModels.PatchDto.allUndefined();
+        allNull = BenchmarkModels.PatchDto.allNull();
+        allPresent = BenchmarkModels.PatchDto.allPresent();
+        nested = BenchmarkModels.NestedDto.create();
+        polymorphic = BenchmarkModels.PolymorphicDto.create();
+        unwrapped = BenchmarkModels.UnwrappedDto.create();
+        creator = BenchmarkModels.CreatorDto.create();
+        optional = BenchmarkModels.OptionalDto.allPresent();
+        plain = BenchmarkModels.PlainDto.allPresent();
+    }
+
+    @Benchmark
+    public String allUndefined() throws Exception {
+        return processor.writeValueAsString(allUndefined);
+    }
+
+    @Benchmark
+    public String allNull() throws Exception {
+        return processor.writeValueAsString(allNull);
+    }
+
+    @Benchmark
+    public String allPresent() throws Exception {
+        return processor.writeValueAsString(allPresent);
+    }
+
+    @Benchmark
+    public String nested() throws Exception {
+        return processor.writeValueAsString(nested);
+    }
+
+    @Benchmark
+    public String polymorphic() throws Exception {
+        return processor.writeValueAsString(polymorphic);
+    }
+
+    @Benchmark
+    public String unwrapped() throws Exception {
+        return processor.writeValueAsString(unwrapped);
+    }
+
+    @Benchmark
+    public String creator() throws Exception {
+        return processor.writeValueAsString(creator);
+    }
+
+    @Benchmark
+    public String baselineOptional() throws Exception {
+        return processor.writeValueAsString(optional);
+    }
+
+    @Benchmark
+    public String baselinePlain() throws Exception {
+        return processor.writeValueAsString(plain);
+    }
+}
@@ -0,0 +1,171 @@
+package org.openapitools.jackson.nullable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.openapitools.jackson.nullable.JsonNullable.undefined;
+
+/**
+ * Serialization of a 500-property DTO with a handful of defined properties, with the regular bean serializer and
+ * with {@link JsonNullableSparse}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonNullableSparseBenchmark {
+
+    @Param({"jackson2", "jackson3"})
+    public String jackson;
+
+    private JsonProcessor processor;
+
+    private WideDto regular;
+    private SparseWideDto sparse;
+
+    @Setup
+    public void setup() {
+        processor = BenchmarkModels.processor(jackson);
+        regular = fill(new WideDto());
+        sparse = fill(new SparseWideDto());
+    }
+
+    private static <T extends WideDto> T fill(T dto) {
+        dto.f3 = JsonNullable.of("three");
+        dto.f97 = JsonNullable.of(null);
+        dto.f250 = JsonNullable.of("two hundred fifty");
+        dto.f404 = JsonNullable.of("four hundred four");
+        dto.f499 = JsonNullable.of("last");
+        return dto;
+    }
+
+    @Benchmark
+    public String regular() throws Exception {
+        return processor.writeValueAsString(regular);
+    }
+
+    @Benchmark
+    public String sparse() throws Exception {
+        return processor.writeValueAsString(sparse);
+    }
+
+    @JsonNullableSparse
+    static class SparseWideDto extends WideDto {
+    }
+
+    static class WideDto {
+        public JsonNullable<String> f0 = undefined(), f1 = undefined(), f2 = undefined(), f3 = undefined(), f4 = undefined(),
+                f5 = undefined(), f6 = undefined(), f7 = undefined(), f8 = undefined(), f9 = undefined();
+        public JsonNullable<String> f10 = undefined(), f11 = undefined(), f12 = undefined(), f13 = undefined(), f14 = undefined(),
+                f15 = undefined(), f16 = undefined(), f17 = undefined(), f18 = undefined(), f19 = undefined();
+        public JsonNullable<String> f20 = undefined(), f21 = undefined(), f22 = undefined(), f23 = undefined(), f24 = undefined(),
+                f25 = undefined(), f26 = undefined(), f27 = undefined(), f28 = undefined(), f29 = undefined();
+        public JsonNullable<String> f30 = undefined(), f31 = undefined(), f32 = undefined(), f33 = undefined(), f34 = undefined(),
+                f35 = undefined(), f36 = undefined(), f37 = undefined(), f38 = undefined(), f39 = undefined();
+        public JsonNullable<String> f40 = undefined(), f41 = undefined(), f42 = undefined(), f43 = undefined(), f44 = undefined(),
+                f45 = undefined(), f46 = undefined(), f47 = undefined(), f48 = undefined(), f49 = undefined();
+        public JsonNullable<String> f50 = undefined(), f51 = undefined(), f52 = undefined(), f53 = undefined(), f54 = undefined(),
+                f55 = undefined(), f56 = undefined(), f57 = undefined(), f58 = undefined(), f59 = undefined();
+        public JsonNullable<String> f60 = undefined(), f61 = undefined(), f62 = undefined(), f63 = undefined(), f64 = undefined(),
+                f65 = undefined(), f66 = undefined(), f67 = undefined(), f68 = undefined(), f69 = undefined();
+        public JsonNullable<String> f70 = undefined(), f71 = undefined(), f72 = undefined(), f73 = undefined(), f74 = undefined(),
+                f75 = undefined(), f76 = undefined(), f77 = undefined(), f78 = undefined(), f79 = undefined();
+        public JsonNullable<String> f80 = undefined(), f81 = undefined(), f82 = undefined(), f83 = undefined(), f84 = undefined(),
+                f85 = undefined(), f86 = undefined(), f87 = undefined(), f88 = undefined(), f89 = undefined();
+        public JsonNullable<String> f90 = undefined(), f91 = undefined(), f92 = undefined(), f93 = undefined(), f94 = undefined(),
+                f95 = undefined(), f96 = undefined(), f97 = undefined(), f98 = undefined(), f99 = undefined();
+        public JsonNullable<String> f100 = undefined(), f101 = undefined(), f102 = undefined(), f103 = undefined(), f104 = undefined(),
+                f105 = undefined(), f106 = undefined(), f107 = undefined(), f108 = undefined(), f109 = undefined();
+        public JsonNullable<String> f110 = undefined(), f111 = undefined(), f112 = undefined(), f113 = undefined(), f114 = undefined(),
+                f115 = undefined(), f116 = undefined(), f117 = undefined(), f118 = undefined(), f119 = undefined();
+        public JsonNullable<String> f120 = undefined(), f121 = undefined(), f122 = undefined(), f123 = undefined(), f124 = undefined(),
+                f125 = undefined(), f126 = undefined(), f127 = undefined(), f128 = undefined(), f129 = undefined();
+        public JsonNullable<String> f130 = undefined(), f131 = undefined(), f132 = undefined(), f133 = undefined(), f134 = undefined(),
+                f135 = undefined(), f136 = undefined(), f137 = undefined(), f138 = undefined(), f139 = undefined();
+        public JsonNullable<String> f140 = undefined(), f141 = undefined(), f142 = undefined(), f143 = undefined(), f144 = undefined(),
+                f145 = undefined(), f146 = undefined(), f147 = undefined(), f148 = undefined(), f149 = undefined();
+        public JsonNullable<String> f150 = undefined(), f151 = undefined(), f152 = undefined(), f153 = undefined(), f154 = undefined(),
+                f155 = undefined(), f156 = undefined(), f157 = undefined(), f158 = undefined(), f159 = undefined();
+        public JsonNullable<String> f160 = undefined(), f161 = undefined(), f162 = undefined(), f163 = undefined(), f164 = undefined(),
+                f165 = undefined(), f166 = undefined(), f167 = undefined(), f168 = undefined(), f169 = undefined();
+        public JsonNullable<String> f170 = undefined(), f171 = undefined(), f172 = undefined(), f173 = undefined(), f174 = undefined(),
+                f175 = undefined(), f176 = undefined(), f177 = undefined(), f178 = undefined(), f179 = undefined();
+        public JsonNullable<String> f180 = undefined(), f181 = undefined(), f182 = undefined(), f183 = undefined(), f184 = undefined(),
+                f185 = undefined(), f186 = undefined(), f187 = undefined(), f188 = undefined(), f189 = undefined();
+        public JsonNullable<String> f190 = undefined(), f191 = undefined(), f192 = undefined(), f193 = undefined(), f194 = undefined(),
+                f195 = undefined(), f196 = undefined(), f197 = undefined(), f198 = undefined(), f199 = undefined();
+        public JsonNullable<String> f200 = undefined(), f201 = undefined(), f202 = undefined(), f203 = undefined(), f204 = undefined(),
+                f205 = undefined(), f206 = undefined(), f207 = undefined(), f208 = undefined(), f209 = undefined();
+        public JsonNullable<String> f210 = undefined(), f211 = undefined(), f212 = undefined(), f213 = undefined(), f214 = undefined(),
+                f215 = undefined(), f216 = undefined(), f217 = undefined(), f218 = undefined(), f219 = undefined();
+        public JsonNullable<String> f220 = undefined(), f221 = undefined(), f222 = undefined(), f223 = undefined(), f224 = undefined(),
+                f225 = undefined(), f226 = undefined(), f227 = undefined(), f228 = undefined(), f229 = undefined();
+        public JsonNullable<String> f230 = undefined(), f231 = undefined(), f232 = undefined(), f233 = undefined(), f234 = undefined(),
+                f235 = undefined(), f236 = undefined(), f237 = undefined(), f238 = undefined(), f239 = undefined();
+        public JsonNullable<String> f240 = undefined(), f241 = undefined(), f242 = undefined(), f243 = undefined(), f244 = undefined(),
+                f245 = undefined(), f246 = undefined(), f247 = undefined(), f248 = undefined(), f249 = undefined();
+        public JsonNullable<String> f250 = undefined(), f251 = undefined(), f252 = undefined(), f253 = undefined(), f254 = undefined(),
+                f255 = undefined(), f256 = undefined(), f257 = undefined(), f258 = undefined(), f259 = undefined();
+        public JsonNullable<String> f260 = undefined(), f261 = undefined(), f262 = undefined(), f263 = undefined(), f264 = undefined(),
+                f265 = undefined(), f266 = undefined(), f267 = undefined(), f268 = undefined(), f269 = undefined();
+        public JsonNullable<String> f270 = undefined(), f271 = undefined(), f272 = undefined(), f273 = undefined(), f274 = undefined(),
+                f275 = undefined(), f276 = undefined(), f277 = undefined(), f278 = undefined(), f279 = undefined();
+        public JsonNullable<String> f280 = undefined(), f281 = undefined(), f282 = undefined(), f283 = undefined(), f284 = undefined(),
+                f285 = undefined(), f286 = undefined(), f287 = undefined(), f288 = undefined(), f289 = undefined();
+        public JsonNullable<String> f290 = undefined(), f291 = undefined(), f292 = undefined(), f293 = undefined(), f294 = undefined(),
+                f295 = undefined(), f296 = undefined(), f297 = undefined(), f298 = undefined(), f299 = undefined();
+        public JsonNullable<String> f300 = undefined(), f301 = undefined(), f302 = undefined(), f303 = undefined(), f304 = undefined(),
+                f305 = undefined(), f306 = undefined(), f307 = undefined(), f308 = undefined(), f309 = undefined();
+        public JsonNullable<String> f310 = undefined(), f311 = undefined(), f312 = undefined(), f313 = undefined(), f314 = undefined(),
+                f315 = undefined(), f316 = undefined(), f317 = undefined(), f318 = undefined(), f319 = undefined();
+        public JsonNullable<String> f320 = undefined(), f321 = undefined(), f322 = undefined(), f323 = undefined(), f324 = undefined(),
+                f325 = undefined(), f326 = undefined(), f327 = undefined(), f328 = undefined(), f329 = undefined();
+        public JsonNullable<String> f330 = undefined(), f331 = undefined(), f332 = undefined(), f333 = undefined(), f334 = undefined(),
+                f335 = undefined(), f336 = undefined(), f337 = undefined(), f338 = undefined(), f339 = undefined();
+        public JsonNullable<String> f340 = undefined(), f341 = undefined(), f342 = undefined(), f343 = undefined(), f344 = undefined(),
+                f345 = undefined(), f346 = undefined(), f347 = undefined(), f348 = undefined(), f349 = undefined();
+        public JsonNullable<String> f350 = undefined(), f351 = undefined(), f352 = undefined(), f353 = undefined(), f354 = undefined(),
+                f355 = undefined(), f356 = undefined(), f357 = undefined(), f358 = undefined(), f359 = undefined();
+        public JsonNullable<String> f360 = undefined(), f361 = undefined(), f362 = undefined(), f363 = undefined(), f364 = undefined(),
+                f365 = undefined(), f366 = undefined(), f367 = undefined(), f368 = undefined(), f369 = undefined();
+        public JsonNullable<String> f370 = undefined(), f371 = undefined(), f372 = undefined(), f373 = undefined(), f374 = undefined(),
+                f375 = undefined(), f376 = undefined(), f377 = undefined(), f378 = undefined(), f379 = undefined();
+        public JsonNullable<String> f380 = undefined(), f381 = undefined(), f382 = undefined(), f383 = undefined(), f384 = undefined(),
+                f385 = undefined(), f386 = undefined(), f387 = undefined(), f388 = undefined(), f389 = undefined();
+        public JsonNullable<String> f390 = undefined(), f391 = undefined(), f392 = undefined(), f393 = undefined(), f394 = undefined(),
+                f395 = undefined(), f396 = undefined(), f397 = undefined(), f398 = undefined(), f399 = undefined();
+        public JsonNullable<String> f400 = undefined(), f401 = undefined(), f402 = undefined(), f403 = undefined(), f404 = undefined(),
+                f405 = undefined(), f406 = undefined(), f407 = undefined(), f408 = undefined(), f409 = undefined();
+        public JsonNullable<String> f410 = undefined(), f411 = undefined(), f412 = undefined(), f413 = undefined(), f414 = undefined(),
+                f415 = undefined(), f416 = undefined(), f417 = undefined(), f418 = undefined(), f419 = undefined();
+        public JsonNullable<String> f420 = undefined(), f421 = undefined(), f422 = undefined(), f423 = undefined(), f424 = undefined(),
+                f425 = undefined(), f426 = undefined(), f427 = undefined(), f428 = undefined(), f429 = undefined();
+        public JsonNullable<String> f430 = undefined(), f431 = undefined(), f432 = undefined(), f433 = undefined(), f434 = undefined(),
+                f435 = undefined(), f436 = undefined(), f437 = undefined(), f438 = undefined(), f439 = undefined();
+        public JsonNullable<String> f440 = undefined(), f441 = undefined(), f442 = undefined(), f443 = undefined(), f444 = undefined(),
+                f445 = undefined(), f446 = undefined(), f447 = undefined(), f448 = undefined(), f449 = undefined();
+        public JsonNullable<String> f450 = undefined(), f451 = undefined(), f452 = undefined(), f453 = undefined(), f454 = undefined(),
+                f455 = undefined(), f456 = undefined(), f457 = undefined(), f458 = undefined(), f459 = undefined();
+        public JsonNullable<String> f460 = undefined(), f461 = undefined(), f462 = undefined(), f463 = undefined(), f464 = undefined(),
+                f465 = undefined(), f466 = undefined(), f467 = undefined(), f468 = undefined(), f469 = undefined();
+        public JsonNullable<String> f470 = undefined(), f471 = undefined(), f472 = undefined(), f473 = undefined(), f474 = undefined(),
+                f475 = undefined(), f476 = undefined(), f477 = undefined(), f478 = undefined(), f479 = undefined();
+        public JsonNullable<String> f480 = undefined(), f481 = undefined(), f482 = undefined(), f483 = undefined(), f484 = undefined(),
+                f485 = undefined(), f486 = undefined(), f487 = undefined(), f488 = undefined(), f489 = undefined();
+        public JsonNullable<String> f490 = undefined(), f491 = undefined(), f492 = undefined(), f493 = undefined(), f494 = undefined(),
+                f495 = undefined(), f496 = undefined(), f497 = undefined(), f498 = undefined(), f499 = undefined();
+    }
+}
@@ -0,0 +1,125 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+
+/**
+ * Streaming <a href="https://www.rfc-editor.org/rfc/rfc7396">RFC 7396</a> JSON Merge Patch for Jackson 2.
+ * <p>
+ * Only the patch is buffered: its objects are kept as {@link PatchDocument}s and its other values as token buffers.
+ * The source document is then read once and written to the generator while it is read; subtrees the patch does
+ * not touch are copied token by token. As with <code>JsonNullable</code>, an absent member keeps the source
+ * value and a null member deletes it.
+ *
+ * @since 0.2.12
+ */
+public final class JsonMergePatchJackson2 {
+
+    private JsonMergePatchJackson2() {
+    }
+
+    /**
+     * Write the result of applying the patch to the source document.
+     *
+     * @param source the parser of the source document, before or at its first token
+     * @param patch  the parser of the merge patch, before or at its first token
+     * @param out    the generator to write the merged document to
+     * @throws IOException if reading or writing fails
+     */
+    public static void apply(JsonParser source, JsonParser patch, JsonGenerator out) throws IOException {
+        JsonToken patchToken = patch.hasCurrentToken() ? patch.currentToken() : patch.nextToken();
+        JsonToken sourceToken = source.hasCurrentToken() ? source.currentToken() : source.nextToken();
+        if (patchToken != JsonToken.START_OBJECT) {
+            // a patch that is not an object replaces the whole document
+            out.copyCurrentStructure(patch);
+            return;
+        }
+        PatchDocument changes = readObject(patch);
+        if (sourceToken == JsonToken.START_OBJECT) {
+            merge(source, changes, out);
+        } else {
+            source.skipChildren();
+            write(changes, out);
+        }
+    }
+
+    private static PatchDocument readObject(JsonParser patch) throws IOException {
+        PatchDocument changes = new PatchDocument();
+        for (JsonToken t = patch.nextToken(); t == JsonToken.FIELD_NAME; t = patch.nextToken()) {
+            String name = patch.currentName();
+            JsonToken valueToken = patch.nextToken();
+            if (valueToken == JsonToken.VALUE_NULL) {
+                changes.set(name, null);
+            } else if (valueToken == JsonToken.START_OBJECT) {
+                changes.set(name, readObject(patch));
+            } else {
+                TokenBuffer value = new TokenBuffer(patch);
+                value.copyCurrentStructure(patch);
+                changes.set(name, value);
+            }
+        }
+        return changes;
+    }
+
+    private static void merge(JsonParser source, PatchDocument changes, JsonGenerator out) throws IOException {
+        out.writeStartObject();
+        boolean[] applied = new boolean[changes.slotCount()];
+        for (JsonToken t = source.nextToken(); t == JsonToken.FIELD_NAME; t = source.nextToken()) {
+            String name = source.currentName();
+            JsonToken valueToken = source.nextToken();
+            int slot = changes.slotIndex(name);
+            if (slot < 0) {
+                out.writeFieldName(name);
+                out.copyCurrentStructure(source);
+                continue;
+            }
+            applied[slot] = true;
+            Object change = changes.slotValue(slot);
+            if (change instanceof PatchDocument && valueToken == JsonToken.START_OBJECT) {
+                out.writeFieldName(name);
+                merge(source, (PatchDocument) change, out);
+                continue;
+            }
+            source.skipChildren();
+            if (change != null) {
+                out.writeFieldName(name);
+                writeValue(change, out);
+            }
+        }
+        for (int slot = 0; slot < applied.length; slot++) {
+            Object change = changes.slotValue(slot);
+            if (!applied[slot] && change != null) {
+                out.writeFieldName(changes.slotName(slot));
+                writeValue(change, out);
+            }
+        }
+        out.writeEndObject();
+    }
+
+    /**
+     * Write a patch object that has no counterpart in the source, dropping its null members.
+     */
+    private static void write(PatchDocument changes, JsonGenerator out) throws IOException {
+        out.writeStartObject();
+        for (int slot = 0, slots = changes.slotCount(); slot < slots; slot++) {
+            Object change = changes.slotValue(slot);
+            if (change != null) {
+                out.writeFieldName(changes.slotName(slot));
+                writeValue(change, out);
+            }
+        }
+        out.writeEndObject();
+    }
+
+    private static void writeValue(Object change, JsonGenerator out) throws IOException {
+        if (change instanceof PatchDocument) {
+            write((PatchDocument) change, out);
+        } else {
+            ((TokenBuffer) change).serialize(out);
+        }
+    }
+}
@@ -15,11 +15,14 @@ public class JsonNullable<T> implements Serializable {
 
     private static final JsonNullable<?> UNDEFINED = new JsonNullable<>(null, false);
 
-    private final T value;
+    private static final JsonNullable<?> NULL = new JsonNullable<>(null, true);
+
+    // The value, or a Lazy that decodes it on first access
+    private final Object value;
 
     private final boolean isPresent;
 
-    private JsonNullable(T value, boolean isPresent) {
+    private JsonNullable(Object value, boolean isPresent) {
         this.value = value;
         this.isPresent = isPresent;
     }
@@ -44,9 +47,69 @@ public class JsonNullable<T> implements Serializable {
      * @return the <code>JsonNullable</code> with the submitted value present.
      */
     public static <T> JsonNullable<T> of(T value) {
+        if (value == null) {
+            @SuppressWarnings("unchecked")
+            JsonNullable<T> t = (JsonNullable<T>) NULL;
+            return t;
+        }
         return new JsonNullable<>(value, true);
     }
 
+    /**
+     * Create a <code>JsonNullable</code> from the submitted value, returning a shared instance
+     * for values that are very common in JSON: <code>null</code>, <code>Boolean</code> values,
+     * <code>Integer</code> and <code>Long</code> values between -128 and 127 and the empty string.
+     * Any other value gets a new instance, just like {@link #of(Object)}.
+     *
+     * @param value the value
+     * @param <T>   the type of the value
+     * @return the <code>JsonNullable</code> with the submitted value present.
+     *
+     * @since 0.2.12
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JsonNullable<T> ofCanonical(T value) {
+        if (value == null) {
+            return (JsonNullable<T>) NULL;
+        }
+        if (value instanceof Boolean) {
+            return (JsonNullable<T>) (((Boolean) value) ? CanonicalValues.TRUE : CanonicalValues.FALSE);
+        }
+        if (value instanceof Integer) {
+            int i = (Integer) value;
+            if (i >= CanonicalValues.LOW && i <= CanonicalValues.HIGH) {
+                return (JsonNullable<T>) CanonicalValues.INTEGERS[i - CanonicalValues.LOW];
+            }
+        } else if (value instanceof Long) {
+            long l = (Long) value;
+            if (l >= CanonicalValues.LOW && l <= CanonicalValues.HIGH) {
+                return (JsonNullable<T>) CanonicalValues.LONGS[(int) l - CanonicalValues.LOW];
+            }
+        } else if (value instanceof String && ((String) value).isEmpty()) {
+            return (JsonNullable<T>) CanonicalValues.EMPTY_STRING;
+        }
+        return new JsonNullable<>(value, true);
+    }
+
+    /**
+     * Create a present <code>JsonNullable</code> whose value is computed by the loader on first access. The loader
+     * runs at most once, unless it throws, in which case the exception is rethrown to the caller and the next
+     * access tries again.
+     *
+     * @param loader computes the value
+     * @param <T>    the type of the value
+     * @return the <code>JsonNullable</code> with the value present
+     */
+    static <T> JsonNullable<T> lazy(Supplier<? extends T> loader) {
+        return new JsonNullable<>(new Lazy(Objects.requireNonNull(loader, "loader")), true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T value() {
+        Object v = value;
+        return (T) (v instanceof Lazy ? ((Lazy) v).get() : v);
+    }
+
     /**
      * Obtain the value of this <code>JsonNullable</code>.
      *
@@ -57,7 +120,7 @@ public class JsonNullable<T> implements Serializable {
         if (!isPresent) {
             throw new NoSuchElementException("Value is undefined");
         }
-        return value;
+        return value();
     }
 
     /**
@@ -67,7 +130,7 @@ public class JsonNullable<T> implements Serializable {
      * @return the value of this <code>JsonNullable</code> if present, the submitted value otherwise
      */
     public T orElse(T other) {
-        return this.isPresent ? this.value : other;
+        return this.isPresent ? value() : other;
     }
 
     /**
@@ -81,7 +144,7 @@ public class JsonNullable<T> implements Serializable {
      * @since 0.2.8
      */
     public T orElseGet(Supplier<? extends T> supplier) {
-        return this.isPresent ? this.value : supplier.get();
+        return this.isPresent ? value() : supplier.get();
     }
 
     /**
@@ -97,7 +160,7 @@ public class JsonNullable<T> implements Serializable {
         if (!isPresent) {
             throw new NoSuchElementException("Value is undefined");
         }
-        return value;
+        return value();
     }
 
     /**
@@ -118,7 +181,7 @@ public class JsonNullable<T> implements Serializable {
         throws X
     {
         if (this.isPresent) {
-            return this.value;
+            return value();
         }
         throw supplier.get();
     }
@@ -155,7 +218,7 @@ public class JsonNullable<T> implements Serializable {
             Consumer<? super T> action) {
 
         if (this.isPresent) {
-            action.accept(value);
+            action.accept(value());
         }
     }
 
@@ -174,7 +237,7 @@ public class JsonNullable<T> implements Serializable {
      */
     public void ifPresentOrElse( Consumer<? super T> action, Runnable undefinedAction ) {
         if (this.isPresent) {
-            action.accept(value);
+            action.accept(value());
         }
         else {
             undefinedAction.run();
@@ -198,7 +261,7 @@ public class JsonNullable<T> implements Serializable {
         if (predicate == null) {
             throw new NullPointerException("filter predicate is null");
         }
-        if (this.isPresent && predicate.test(value)) {
+        if (this.isPresent && predicate.test(value())) {
             return this;
         }
         else {
@@ -225,7 +288,7 @@ public class JsonNullable<T> implements Serializable {
             throw new NullPointerException("mapping function is null");
         }
         if (this.isPresent) {
-            return new JsonNullable<U>(mapper.apply(value), true);
+            return of(mapper.apply(value()));
         }
         return undefined();
     }
@@ -255,7 +318,7 @@ public class JsonNullable<T> implements Serializable {
             return undefined();
         }
 
-        JsonNullable<U> mapped = (JsonNullable<U>)mapper.apply(value);
+        JsonNullable<U> mapped = (JsonNullable<U>)mapper.apply(value());
         if (mapped == null) {
             throw new NullPointerException("mapped value is null");
         }
@@ -301,11 +364,23 @@ public class JsonNullable<T> implements Serializable {
      */
     public Stream<T> stream() {
         if (this.isPresent) {
-            return Stream.of(value);
+            return Stream.of(value());
         }
         return Stream.empty();
     }
 
+    // A lazy value is decoded before it is written, so the serialized form never holds a Lazy
+    private Object writeReplace() {
+        return value instanceof Lazy ? new JsonNullable<>(value(), true) : this;
+    }
+
+    private Object readResolve() {
+        if (!isPresent) {
+            return UNDEFINED;
+        }
+        return value == null ? NULL : this;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -317,17 +392,92 @@ public class JsonNullable<T> implements Serializable {
         }
 
         JsonNullable<?> other = (JsonNullable<?>) obj;
-        return Objects.equals(value, other.value) &&
+        return Objects.equals(comparedValue(), other.comparedValue()) &&
                 isPresent == other.isPresent;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value, isPresent);
+        return Objects.hash(comparedValue(), isPresent);
     }
 
     @Override
     public String toString() {
-        return this.isPresent ? String.format("JsonNullable[%s]", value) : "JsonNullable.undefined";
+        if (!this.isPresent) {
+            return "JsonNullable.undefined";
+        }
+        Object v = value;
+        return (v instanceof Lazy && !((Lazy) v).isDecoded()) ? "JsonNullable[<not decoded>]"
+                : String.format("JsonNullable[%s]", value());
+    }
+
+    // The value for equals and hashCode: a lazy value that fails to decode only equals itself, the error is left
+    // to the value accessors
+    private Object comparedValue() {
+        Object v = value;
+        return v instanceof Lazy ? ((Lazy) v).getOrSelf() : v;
+    }
+
+    // The value of a JsonNullable created by lazy(Supplier)
+    private static final class Lazy {
+
+        // Cleared once the value is computed; the volatile write publishes the value
+        private volatile Supplier<?> loader;
+
+        private Object value;
+
+        Lazy(Supplier<?> loader) {
+            this.loader = loader;
+        }
+
+        Object get() {
+            if (loader != null) {
+                synchronized (this) {
+                    Supplier<?> l = loader;
+                    if (l != null) {
+                        value = l.get();
+                        loader = null;
+                    }
+                }
+            }
+            return value;
+        }
+
+        Object getOrSelf() {
+            try {
+                return get();
+            } catch (RuntimeException e) {
+                return this;
+            }
+        }
+
+        boolean isDecoded() {
+            return loader == null;
+        }
+    }
+
+    // Shared instances for ofCanonical, initialized on first use
+    private static final class CanonicalValues {
+
+        static final int LOW = -128;
+
+        static final int HIGH = 127;
+
+        static final JsonNullable<Boolean> TRUE = new JsonNullable<>(Boolean.TRUE, true);
+
+        static final JsonNullable<Boolean> FALSE = new JsonNullable<>(Boolean.FALSE, true);
+
+        static final JsonNullable<String> EMPTY_STRING = new JsonNullable<>("", true);
+
+        static final JsonNullable<?>[] INTEGERS = new JsonNullable<?>[HIGH - LOW + 1];
+
+        static final JsonNullable<?>[] LONGS = new JsonNullable<?>[HIGH - LOW + 1];
+
+        static {
+            for (int i = 0; i < INTEGERS.length; i++) {
+                INTEGERS[i] = new JsonNullable<>(Integer.valueOf(i + LOW), true);
+                LONGS[i] = new JsonNullable<>(Long.valueOf(i + LOW), true);
+            }
+        }
     }
 }
@@ -0,0 +1,265 @@
+package org.openapitools.jackson.nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Builds reflection-free accessors for getters, setters and fields. Public methods of public classes that are
+ * visible from this library's class loader are bound through {@link LambdaMetafactory}, which the JIT inlines
+ * like a hand-written call; everything else goes through a {@link MethodHandle}.
+ */
+final class JsonNullableAccessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private JsonNullableAccessors() {
+    }
+
+    static Function<Object, Object> getter(Method getter) {
+        if (canSpinLambda(getter)) {
+            try {
+                MethodHandle target = LOOKUP.unreflect(getter);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        target,
+                        MethodType.methodType(wrap(getter.getReturnType()), getter.getDeclaringClass()));
+                return invokeFactory(site);
+            } catch (Exception | LinkageError e) {
+                // fall back to the method handle below
+            }
+        }
+        return getter(unreflect(getter));
+    }
+
+    static Function<Object, Object> getter(Field field) {
+        makeAccessible(field);
+        try {
+            return getter(LOOKUP.unreflectGetter(field));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Field " + field + " is not accessible", e);
+        }
+    }
+
+    static BiConsumer<Object, Object> setter(Method setter) {
+        if (canSpinLambda(setter)) {
+            try {
+                MethodHandle target = LOOKUP.unreflect(setter);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class),
+                        target,
+                        MethodType.methodType(void.class, setter.getDeclaringClass(), wrap(setter.getParameterTypes()[0])));
+                return invokeFactory(site);
+            } catch (Exception | LinkageError e) {
+                // fall back to the method handle below
+            }
+        }
+        return setter(unreflect(setter));
+    }
+
+    static BiConsumer<Object, Object> setter(Field field) {
+        makeAccessible(field);
+        try {
+            return setter(LOOKUP.unreflectSetter(field));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Field " + field + " is not accessible", e);
+        }
+    }
+
+    static Supplier<Object> constructor(Class<?> type) {
+        Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(type.getName() + " has no no-argument constructor", e);
+        }
+        makeAccessible(constructor);
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Constructor " + constructor + " is not accessible", e);
+        }
+        return () -> {
+            try {
+                return handle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+    }
+
+    /**
+     * @param suffix the part of a getter or setter name after <code>get</code>, <code>is</code> or <code>set</code>
+     * @return the property name as Jackson derives it by default, with the leading upper case letters lower cased
+     */
+    static String propertyName(String suffix) {
+        int upper = 0;
+        while (upper < suffix.length() && Character.isUpperCase(suffix.charAt(upper))) {
+            upper++;
+        }
+        return suffix.substring(0, upper).toLowerCase(Locale.ROOT) + suffix.substring(upper);
+    }
+
+    /**
+     * @param jsonNullableType a (parameterized) <code>JsonNullable</code> type
+     * @return the type of the wrapped value
+     */
+    static Type valueType(Type jsonNullableType) {
+        return jsonNullableType instanceof ParameterizedType
+                ? ((ParameterizedType) jsonNullableType).getActualTypeArguments()[0]
+                : Object.class;
+    }
+
+    static Class<?> rawClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return rawClass(((ParameterizedType) type).getRawType());
+        }
+        return Object.class;
+    }
+
+    private static Function<Object, Object> getter(MethodHandle handle) {
+        MethodHandle erased = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return bean -> {
+            try {
+                return erased.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> setter(MethodHandle handle) {
+        MethodHandle erased = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (bean, value) -> {
+            try {
+                erased.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        makeAccessible(method);
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Method " + method + " is not accessible", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T invokeFactory(CallSite site) {
+        try {
+            return (T) site.getTarget().invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * The generated lambda class lives next to this class, so it can only link against public members of public
+     * classes that this class loader resolves to the same class.
+     */
+    private static boolean canSpinLambda(Member member) {
+        if (!isPublic(member)) {
+            return false;
+        }
+        Class<?> declaringClass = member.getDeclaringClass();
+        try {
+            return Class.forName(declaringClass.getName(), false, JsonNullableAccessors.class.getClassLoader()) == declaringClass;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return true for a public member of a public class that is nested only in public classes
+     */
+    private static boolean isPublic(Member member) {
+        if (!Modifier.isPublic(member.getModifiers())) {
+            return false;
+        }
+        for (Class<?> c = member.getDeclaringClass(); c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Suppress the access checks of a member that needs it: one that is not public, or a final field, which a
+     * setter can only write with the checks suppressed.
+     */
+    private static void makeAccessible(AccessibleObject object) {
+        Member member = (Member) object;
+        if (isPublic(member) && !(member instanceof Field && Modifier.isFinal(member.getModifiers()))) {
+            return;
+        }
+        try {
+            object.setAccessible(true);
+        } catch (RuntimeException e) {
+            // not opened to this module, unreflect decides whether the member is usable anyway
+        }
+    }
+
+    static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        }
+        if (type == long.class) {
+            return Long.class;
+        }
+        if (type == double.class) {
+            return Double.class;
+        }
+        if (type == boolean.class) {
+            return Boolean.class;
+        }
+        if (type == float.class) {
+            return Float.class;
+        }
+        if (type == short.class) {
+            return Short.class;
+        }
+        if (type == byte.class) {
+            return Byte.class;
+        }
+        if (type == char.class) {
+            return Character.class;
+        }
+        return Void.class;
+    }
+}
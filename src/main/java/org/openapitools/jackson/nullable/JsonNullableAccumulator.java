@@ -0,0 +1,351 @@
+package org.openapitools.jackson.nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Collects <code>JsonNullable</code> property updates for one patch from many threads. Every property has its own
+ * atomic slot: an update that is present (an explicit null included) replaces the value of its property, undefined
+ * updates are ignored.
+ * <p>
+ * {@link #snapshot()} is linearizable: it returns the patch exactly as it was at one instant between the call and
+ * its return, never a mix of older and newer updates. It collects all slots until two collects in a row see the
+ * same updates. Producers never lock while this succeeds within a few collects. If producers keep writing past
+ * that, the snapshot takes a lock that makes further updates wait for it; each producer can then complete at most
+ * the update it has already started, so the snapshot completes. {@link #drain()} takes such a snapshot and then
+ * clears the drained slots, leaving any update that arrived in between for the next drain: every update ends up in
+ * exactly one drained patch or is superseded by a later update of the same property.
+ * <p>
+ * Patch properties are <code>getX()</code>/<code>setX(JsonNullable)</code> pairs and public non-final
+ * <code>JsonNullable</code> fields, or the properties of a {@link JsonNullablePatchModel}. The slots are spaced a
+ * cache line apart so that producers updating different properties do not contend.
+ *
+ * @param <P> the type of the patch
+ * @since 0.2.12
+ */
+public final class JsonNullableAccumulator<P> {
+
+    /**
+     * Slots per property; 16 compressed references fill a 64 byte cache line.
+     */
+    private static final int SPACING = 16;
+
+    private static final Cell INITIAL = new Cell(null);
+
+    /**
+     * Collects a snapshot tries before it makes producers wait.
+     */
+    private static final int MAX_COLLECTS = 8;
+
+    private final Class<P> patchType;
+
+    private final Plan plan;
+
+    /**
+     * Holds a fresh {@link Cell} per update, so that two collects seeing the same cells saw no update in between.
+     */
+    private final AtomicReferenceArray<Cell> slots;
+
+    /**
+     * Held by a snapshot that ran out of collects, while {@link #frozen} is set.
+     */
+    private final Object freezeLock = new Object();
+
+    /**
+     * Set while a snapshot holds {@link #freezeLock}; producers then update under the lock as well.
+     */
+    private volatile boolean frozen;
+
+    /**
+     * @param patchType the type of the patch; needs a no-argument constructor unless it is a patch model
+     */
+    public JsonNullableAccumulator(Class<P> patchType) {
+        this.patchType = Objects.requireNonNull(patchType, "patchType");
+        this.plan = Plan.create(patchType);
+        this.slots = new AtomicReferenceArray<>(plan.names.length * SPACING);
+        for (int i = 0; i < plan.names.length; i++) {
+            slots.set(i * SPACING, INITIAL);
+        }
+    }
+
+    /**
+     * @param property the name of a patch property
+     * @return the index of the property, or -1 if the patch has no such property
+     */
+    public int indexOf(String property) {
+        Integer index = plan.indexes.get(property);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Update a property.
+     *
+     * @param property the name of the property
+     * @param value    the new value; undefined leaves the property as it is
+     * @throws IllegalArgumentException if the patch has no such property
+     */
+    public void set(String property, JsonNullable<?> value) {
+        int index = indexOf(property);
+        if (index < 0) {
+            throw new IllegalArgumentException(patchType.getName() + " has no JsonNullable property '" + property + "'");
+        }
+        set(index, value);
+    }
+
+    /**
+     * Update a property.
+     *
+     * @param index the index of the property, see {@link #indexOf(String)}
+     * @param value the new value; undefined leaves the property as it is
+     */
+    public void set(int index, JsonNullable<?> value) {
+        if (index < 0 || index >= plan.names.length) {
+            throw new IndexOutOfBoundsException("Property index " + index + " of " + plan.names.length);
+        }
+        if (value == null || !value.isPresent()) {
+            return;
+        }
+        Cell cell = new Cell(value);
+        if (frozen) {
+            synchronized (freezeLock) {
+                slots.set(index * SPACING, cell);
+            }
+        } else {
+            slots.set(index * SPACING, cell);
+        }
+    }
+
+    /**
+     * Update every property that is present in the patch. Each property is updated atomically, the patch as a whole
+     * is not: a concurrent snapshot may see some of its properties and not others.
+     *
+     * @param patch the patch
+     */
+    public void accumulate(P patch) {
+        Objects.requireNonNull(patch, "patch");
+        for (int i = 0; i < plan.names.length; i++) {
+            set(i, plan.read(patch, i));
+        }
+    }
+
+    /**
+     * @return a new patch with the properties updated so far
+     */
+    public P snapshot() {
+        return toPatch(collect());
+    }
+
+    /**
+     * @return a new patch document with the properties updated so far
+     */
+    public PatchDocument snapshotAsDocument() {
+        return toDocument(collect());
+    }
+
+    /**
+     * Take a snapshot and clear the properties it contains.
+     *
+     * @return a new patch with the properties updated since the previous drain
+     */
+    public P drain() {
+        return toPatch(drainCells());
+    }
+
+    /**
+     * Take a snapshot and clear the properties it contains.
+     *
+     * @return a new patch document with the properties updated since the previous drain
+     */
+    public PatchDocument drainAsDocument() {
+        return toDocument(drainCells());
+    }
+
+    private Cell[] collect() {
+        Cell[] previous = read();
+        for (int i = 1; i < MAX_COLLECTS; i++) {
+            Cell[] current = read();
+            if (sameCells(previous, current)) {
+                return current;
+            }
+            previous = current;
+        }
+        synchronized (freezeLock) {
+            frozen = true;
+            try {
+                // only updates that missed the flag can still land, at most one per producer
+                while (true) {
+                    Cell[] current = read();
+                    if (sameCells(previous, current)) {
+                        return current;
+                    }
+                    previous = current;
+                }
+            } finally {
+                frozen = false;
+            }
+        }
+    }
+
+    private Cell[] drainCells() {
+        Cell[] cells = collect();
+        // a fresh empty cell per drain keeps a drained slot from looking unchanged to a concurrent collect
+        Cell empty = new Cell(null);
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i].value != null) {
+                slots.compareAndSet(i * SPACING, cells[i], empty);
+            }
+        }
+        return cells;
+    }
+
+    private Cell[] read() {
+        Cell[] cells = new Cell[plan.names.length];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = slots.get(i * SPACING);
+        }
+        return cells;
+    }
+
+    private static boolean sameCells(Cell[] a, Cell[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private P toPatch(Cell[] cells) {
+        Object patch = plan.factory.get();
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i].value != null) {
+                plan.write(patch, i, cells[i].value);
+            }
+        }
+        return patchType.cast(patch);
+    }
+
+    private PatchDocument toDocument(Cell[] cells) {
+        PatchDocument document = new PatchDocument(cells.length);
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i].value != null) {
+                document.set(plan.names[i], cells[i].value.get());
+            }
+        }
+        return document;
+    }
+
+    private static final class Cell {
+
+        /**
+         * A present value, or null if the property is undefined.
+         */
+        private final JsonNullable<?> value;
+
+        private Cell(JsonNullable<?> value) {
+            this.value = value;
+        }
+    }
+
+    private static final class Plan {
+
+        private final String[] names;
+
+        private final Map<String, Integer> indexes;
+
+        private final Supplier<Object> factory;
+
+        /**
+         * Null for patch models, which are accessed through {@link JsonNullablePatchModelAccess}.
+         */
+        private final Function<Object, Object>[] readers;
+
+        private final BiConsumer<Object, Object>[] writers;
+
+        @SuppressWarnings("unchecked")
+        private Plan(List<String> names, Supplier<Object> factory, List<Function<Object, Object>> readers,
+                     List<BiConsumer<Object, Object>> writers) {
+            this.names = names.toArray(new String[0]);
+            this.indexes = new HashMap<>();
+            for (int i = 0; i < this.names.length; i++) {
+                indexes.put(this.names[i], i);
+            }
+            this.factory = factory;
+            this.readers = readers == null ? null : readers.toArray(new Function[0]);
+            this.writers = writers == null ? null : writers.toArray(new BiConsumer[0]);
+        }
+
+        JsonNullable<?> read(Object patch, int index) {
+            if (readers == null) {
+                JsonNullablePatchModelAccess model = (JsonNullablePatchModelAccess) patch;
+                return model.isDefined(index) ? JsonNullable.of(model.getRaw(index)) : JsonNullable.undefined();
+            }
+            return (JsonNullable<?>) readers[index].apply(patch);
+        }
+
+        void write(Object patch, int index, JsonNullable<?> value) {
+            if (writers == null) {
+                ((JsonNullablePatchModelAccess) patch).setRaw(index, value.get());
+            } else {
+                writers[index].accept(patch, value);
+            }
+        }
+
+        static Plan create(Class<?> type) {
+            if (JsonNullablePatchModelAccess.class.isAssignableFrom(type) || type.isAnnotationPresent(JsonNullablePatchModel.class)) {
+                JsonNullablePatchModelDescriptor descriptor = JsonNullablePatchModelDescriptor.forType(type);
+                List<String> names = new ArrayList<>();
+                for (int i = 0; i < descriptor.propertyCount(); i++) {
+                    names.add(descriptor.propertyName(i));
+                }
+                return new Plan(names, descriptor::newInstance, null, null);
+            }
+            Map<String, Method> getters = new LinkedHashMap<>();
+            Map<String, Method> setters = new HashMap<>();
+            for (Method method : type.getMethods()) {
+                String name = method.getName();
+                if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || name.length() <= 3) {
+                    continue;
+                }
+                if (name.startsWith("get") && method.getParameterCount() == 0 && method.getReturnType() == JsonNullable.class) {
+                    getters.put(JsonNullableAccessors.propertyName(name.substring(3)), method);
+                } else if (name.startsWith("set") && method.getParameterCount() == 1
+                        && method.getParameterTypes()[0] == JsonNullable.class) {
+                    setters.put(JsonNullableAccessors.propertyName(name.substring(3)), method);
+                }
+            }
+            List<String> names = new ArrayList<>();
+            List<Function<Object, Object>> readers = new ArrayList<>();
+            List<BiConsumer<Object, Object>> writers = new ArrayList<>();
+            for (Map.Entry<String, Method> getter : getters.entrySet()) {
+                Method setter = setters.get(getter.getKey());
+                if (setter != null) {
+                    names.add(getter.getKey());
+                    readers.add(JsonNullableAccessors.getter(getter.getValue()));
+                    writers.add(JsonNullableAccessors.setter(setter));
+                }
+            }
+            for (Field field : type.getFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && field.getType() == JsonNullable.class
+                        && !names.contains(field.getName())) {
+                    names.add(field.getName());
+                    readers.add(JsonNullableAccessors.getter(field));
+                    writers.add(JsonNullableAccessors.setter(field));
+                }
+            }
+            return new Plan(names, JsonNullableAccessors.constructor(type), readers, writers);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.openapitools.jackson.nullable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Columnar container of nullable object values, see {@link JsonNullableColumn}. Use {@link JsonNullableDoubleArray}
+ * and {@link JsonNullableLongArray} for numbers to avoid boxing.
+ *
+ * @param <T> the type of the values
+ * @since 0.2.12
+ */
+public final class JsonNullableArray<T> extends JsonNullableColumn {
+
+    private static final long serialVersionUID = 1L;
+
+    private Object[] values;
+
+    public JsonNullableArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of elements to allocate room for
+     */
+    public JsonNullableArray(int capacity) {
+        super(capacity);
+        values = new Object[capacity];
+    }
+
+    /**
+     * Append a value.
+     *
+     * @param value the value; null appends an explicit null
+     */
+    public void add(T value) {
+        if (value == null) {
+            addNull();
+        } else {
+            int index = append(true, true);
+            values[index] = value;
+        }
+    }
+
+    /**
+     * Append an element in the state of the given <code>JsonNullable</code>.
+     *
+     * @param value the element; a null reference appends an undefined element
+     */
+    public void addNullable(JsonNullable<? extends T> value) {
+        addRaw(value);
+    }
+
+    /**
+     * @param index the index of the element
+     * @return the value of the element
+     * @throws NoSuchElementException if the element is undefined or null
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (!hasValue(index)) {
+            throw new NoSuchElementException(isDefined(index) ? "Value is null" : "Value is undefined");
+        }
+        return (T) values[index];
+    }
+
+    /**
+     * @param index the index of the element
+     * @param other the value to return if the element is undefined or null
+     * @return the value of the element, or <code>other</code>
+     */
+    @SuppressWarnings("unchecked")
+    public T orElse(int index, T other) {
+        return hasValue(index) ? (T) values[index] : other;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonNullable<T> getNullable(int index) {
+        if (hasValue(index)) {
+            return JsonNullable.of((T) values[index]);
+        }
+        return isDefined(index) ? JsonNullable.of(null) : JsonNullable.undefined();
+    }
+
+    /**
+     * Call the action for every non-null value, in index order.
+     *
+     * @param action the action
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super T> action) {
+        for (int i = nextValue(0); i >= 0; i = nextValue(i + 1)) {
+            action.accept((T) values[i]);
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, 0, size, null);
+        super.clear();
+    }
+
+    @Override
+    void setValueAt(int index, Object value) {
+        setBits(index, true, true);
+        values[index] = value;
+    }
+
+    @Override
+    int capacity() {
+        return values.length;
+    }
+
+    @Override
+    void resize(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void clearValue(int index) {
+        values[index] = null;
+    }
+
+    @Override
+    boolean valuesEqual(JsonNullableColumn other) {
+        Object[] otherValues = ((JsonNullableArray<?>) other).values;
+        for (int i = nextValue(0); i >= 0; i = nextValue(i + 1)) {
+            if (!Objects.equals(values[i], otherValues[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
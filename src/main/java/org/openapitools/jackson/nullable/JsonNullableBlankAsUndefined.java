@@ -0,0 +1,26 @@
+package org.openapitools.jackson.nullable;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Controls whether a blank JSON string (empty or only whitespace) is deserialized as
+ * {@link JsonNullable#undefined()} for the annotated property.
+ * <p>
+ * Without this annotation blank strings become undefined for every value type except
+ * <code>String</code>, where they are kept as is. The policy is resolved once per property
+ * when the deserializer is contextualized.
+ *
+ * @since 0.2.12
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonNullableBlankAsUndefined {
+
+    /**
+     * @return true to deserialize blank strings as undefined, false to pass them to the value deserializer
+     */
+    boolean value() default true;
+}
@@ -0,0 +1,160 @@
+package org.openapitools.jackson.nullable;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+
+/**
+ * A primitive specialization of <code>JsonNullable&lt;Boolean&gt;</code>. Like {@link JsonNullable}
+ * it distinguishes an undefined value from an explicit <code>null</code> and from a present
+ * <code>boolean</code>. There are only four possible states, each backed by a shared instance,
+ * so creating a <code>JsonNullableBoolean</code> never allocates.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableBoolean implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final JsonNullableBoolean UNDEFINED = new JsonNullableBoolean(false, false, false);
+
+    private static final JsonNullableBoolean NULL = new JsonNullableBoolean(false, true, true);
+
+    private static final JsonNullableBoolean TRUE = new JsonNullableBoolean(true, true, false);
+
+    private static final JsonNullableBoolean FALSE = new JsonNullableBoolean(false, true, false);
+
+    private final boolean value;
+
+    private final boolean isPresent;
+
+    private final boolean isNull;
+
+    private JsonNullableBoolean(boolean value, boolean isPresent, boolean isNull) {
+        this.value = value;
+        this.isPresent = isPresent;
+        this.isNull = isNull;
+    }
+
+    /**
+     * Create a <code>JsonNullableBoolean</code> representing an undefined value (not present).
+     *
+     * @return the shared undefined <code>JsonNullableBoolean</code>
+     */
+    public static JsonNullableBoolean undefined() {
+        return UNDEFINED;
+    }
+
+    /**
+     * Create a <code>JsonNullableBoolean</code> representing an explicit <code>null</code>.
+     *
+     * @return the shared <code>JsonNullableBoolean</code> with a present <code>null</code> value
+     */
+    public static JsonNullableBoolean ofNull() {
+        return NULL;
+    }
+
+    /**
+     * Create a <code>JsonNullableBoolean</code> from the submitted value.
+     *
+     * @param value the value
+     * @return the shared <code>JsonNullableBoolean</code> with the submitted value present
+     */
+    public static JsonNullableBoolean of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * Create a <code>JsonNullableBoolean</code> from the submitted boxed value.
+     *
+     * @param value the value, may be null
+     * @return the shared <code>JsonNullableBoolean</code> with the submitted value present
+     */
+    public static JsonNullableBoolean of(Boolean value) {
+        return value == null ? NULL : of(value.booleanValue());
+    }
+
+    /**
+     * Obtain the value of this <code>JsonNullableBoolean</code>.
+     *
+     * @return the value, if present and not null
+     * @throws NoSuchElementException if no value is present or the value is null
+     */
+    public boolean getAsBoolean() {
+        if (!isPresent) {
+            throw new NoSuchElementException("Value is undefined");
+        }
+        if (isNull) {
+            throw new NoSuchElementException("Value is null");
+        }
+        return value;
+    }
+
+    /**
+     * Obtain the value of this <code>JsonNullableBoolean</code>.
+     *
+     * @param other the value to be returned if no value is present or the value is null
+     * @return the value of this <code>JsonNullableBoolean</code> if present and not null, the submitted value otherwise
+     */
+    public boolean orElse(boolean other) {
+        return isPresent && !isNull ? value : other;
+    }
+
+    /**
+     * If a value is present, returns true, otherwise false. A present value may be null.
+     *
+     * @return true if a value is present, otherwise false
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * If a value is not present, returns true, otherwise false.
+     *
+     * @return true if a value is not present, otherwise false
+     */
+    public boolean isUndefined() {
+        return !isPresent;
+    }
+
+    /**
+     * If the value is present and null, returns true, otherwise false.
+     *
+     * @return true if an explicit null is present, otherwise false
+     */
+    public boolean isNull() {
+        return isNull;
+    }
+
+    /**
+     * Convert to the boxing <code>JsonNullable</code> with the same state.
+     *
+     * @return the equivalent <code>JsonNullable</code>
+     */
+    public JsonNullable<Boolean> toJsonNullable() {
+        if (!isPresent) {
+            return JsonNullable.undefined();
+        }
+        return JsonNullable.of(isNull ? null : Boolean.valueOf(value));
+    }
+
+    private Object readResolve() {
+        if (!isPresent) {
+            return UNDEFINED;
+        }
+        if (isNull) {
+            return NULL;
+        }
+        return value ? TRUE : FALSE;
+    }
+
+    // Instances are canonical, so the identity based equals and hashCode of Object apply
+
+    @Override
+    public String toString() {
+        if (!isPresent) {
+            return "JsonNullableBoolean.undefined";
+        }
+        return isNull ? "JsonNullableBoolean[null]" : "JsonNullableBoolean[" + value + "]";
+    }
+}
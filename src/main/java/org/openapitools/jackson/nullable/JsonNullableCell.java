@@ -0,0 +1,147 @@
+package org.openapitools.jackson.nullable;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * A mutable counterpart of {@link JsonNullable} for hand-written streaming readers: one cell per field is reused for
+ * every record instead of allocating a new <code>JsonNullable</code> per field and record. Like
+ * <code>JsonNullable</code>, a cell is undefined, holds an explicit <code>null</code>, or holds a value.
+ * <p>
+ * {@link JsonNullableCellsJackson2} and {@link JsonNullableCellsJackson3} fill cells from a parser. Convert a cell
+ * with {@link #toJsonNullable()} where its state has to outlive the current record. Cells are not safe for
+ * concurrent use.
+ *
+ * @param <T> the type of the value
+ * @since 0.2.12
+ */
+public final class JsonNullableCell<T> {
+
+    private T value;
+
+    private boolean isPresent;
+
+    /**
+     * Create an undefined cell.
+     */
+    public JsonNullableCell() {
+    }
+
+    /**
+     * Set a present value.
+     *
+     * @param value the value, may be null
+     * @return this cell
+     */
+    public JsonNullableCell<T> set(T value) {
+        this.value = value;
+        this.isPresent = true;
+        return this;
+    }
+
+    /**
+     * Set an explicit <code>null</code>.
+     *
+     * @return this cell
+     */
+    public JsonNullableCell<T> markNull() {
+        return set(null);
+    }
+
+    /**
+     * Make the cell undefined, dropping the reference to its value.
+     *
+     * @return this cell
+     */
+    public JsonNullableCell<T> clear() {
+        this.value = null;
+        this.isPresent = false;
+        return this;
+    }
+
+    /**
+     * Take over the state of a <code>JsonNullable</code>; a null reference counts as undefined.
+     *
+     * @param nullable the state to copy
+     * @return this cell
+     */
+    public JsonNullableCell<T> setFrom(JsonNullable<? extends T> nullable) {
+        return nullable == null || !nullable.isPresent() ? clear() : set(nullable.get());
+    }
+
+    /**
+     * Obtain the value of this cell.
+     *
+     * @return the value, if present
+     * @throws NoSuchElementException if no value is present
+     */
+    public T get() {
+        if (!isPresent) {
+            throw new NoSuchElementException("Value is undefined");
+        }
+        return value;
+    }
+
+    /**
+     * Obtain the value of this cell.
+     *
+     * @param other the value to be returned if no value is present
+     * @return the value of this cell if present, the submitted value otherwise
+     */
+    public T orElse(T other) {
+        return isPresent ? value : other;
+    }
+
+    /**
+     * If a value is present, returns true, otherwise false. A present value may be null.
+     *
+     * @return true if a value is present, otherwise false
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * If a value is not present, returns true, otherwise false.
+     *
+     * @return true if a value is not present, otherwise false
+     */
+    public boolean isUndefined() {
+        return !isPresent;
+    }
+
+    /**
+     * If the value is present and null, returns true, otherwise false.
+     *
+     * @return true if an explicit null is present, otherwise false
+     */
+    public boolean isNull() {
+        return isPresent && value == null;
+    }
+
+    /**
+     * If a value is present, performs the given action with the value, otherwise does nothing.
+     *
+     * @param action the action to be performed, if a value is present
+     */
+    public void ifPresent(Consumer<? super T> action) {
+        if (isPresent) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Convert to an immutable <code>JsonNullable</code> with the same state. Undefined cells, explicit nulls and the
+     * values that {@link JsonNullable#ofCanonical(Object)} shares convert without allocating.
+     *
+     * @return the equivalent <code>JsonNullable</code>
+     */
+    public JsonNullable<T> toJsonNullable() {
+        return isPresent ? JsonNullable.ofCanonical(value) : JsonNullable.undefined();
+    }
+
+    @Override
+    public String toString() {
+        return isPresent ? "JsonNullableCell[" + value + "]" : "JsonNullableCell.undefined";
+    }
+}
@@ -0,0 +1,193 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import java.io.IOException;
+
+/**
+ * Fills {@link JsonNullableCell}s from a Jackson 2 parser, for streaming readers that reuse their cells per record.
+ * <p>
+ * Every method reads the value at the current token, so call it right after moving to the value of a property.
+ * A JSON <code>null</code> marks the cell null; absent properties are the caller's to clear, typically by clearing
+ * all cells before each record. The scalar methods accept only the matching JSON token and never coerce. Numbers
+ * read into a <code>JsonNullableCell</code> are boxed; read them into a {@link JsonNullableIntCell},
+ * {@link JsonNullableLongCell} or {@link JsonNullableDoubleCell} to avoid that.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableCellsJackson2 {
+
+    private JsonNullableCellsJackson2() {
+    }
+
+    /**
+     * @param p    a parser at a string or null
+     * @param cell the cell to fill
+     * @return the cell
+     * @throws IOException if the value is not a string or null
+     */
+    public static JsonNullableCell<String> readString(JsonParser p, JsonNullableCell<String> cell) throws IOException {
+        switch (token(p)) {
+            case VALUE_NULL:
+                return cell.markNull();
+            case VALUE_STRING:
+                return cell.set(p.getText());
+            default:
+                throw mismatch(p, String.class, "a string");
+        }
+    }
+
+    /**
+     * @param p    a parser at an integer number or null
+     * @param cell the cell to fill; the value is boxed, see the <code>JsonNullableIntCell</code> overload
+     * @return the cell
+     * @throws IOException if the value is not an int or null
+     */
+    public static JsonNullableCell<Integer> readInt(JsonParser p, JsonNullableCell<Integer> cell) throws IOException {
+        switch (token(p)) {
+            case VALUE_NULL:
+                return cell.markNull();
+            case VALUE_NUMBER_INT:
+                return cell.set(p.getIntValue());
+            default:
+                throw mismatch(p, Integer.class, "an int");
+        }
+    }
+
+    /**
+     * @param p    a parser at an integer number or null
+     * @param cell the cell to fill, without boxing the value
+     * @return the cell
+     * @throws IOException if the value is not an int or null
+     */
+    public static JsonNullableIntCell readInt(JsonParser p, JsonNullableIntCell cell) throws IOException {
+        switch (token(p)) {
+            case VALUE_NULL:
+                return cell.markNull();
+            case VALUE_NUMBER_INT:
+                return cell.set(p.getIntValue());
+            default:
+                throw mismatch(p, Integer.class, "an int");
+        }
+    }
+
+    /**
+     * @param p    a parser at an integer number or null
+     * @param cell the cell to fill; the value is boxed, see the <code>JsonNullableLongCell</code> overload
+     * @return the cell
+     * @throws IOException if the value is not a long or null
+     */
+    public static JsonNullableCell<Long> readLong(JsonParser p, JsonNullableCell<Long> cell) throws IOException {
+        switch (token(p)) {
+            case VALUE_NULL:
+                return cell.markNull();
+            case VALUE_NUMBER_INT:
+                return cell.set(p.getLongValue());
+            default:
+                throw mismatch(p, Long.class, "a long");
+        }
+    }
+
+    /**
+     * @param p    a parser at an integer number or null
+     * @param cell the cell to fill, without boxing the value
+     * @return the cell
+     * @throws IOException if the value is not a long or null
+     */
+    public static JsonNullableLongCell readLong(JsonParser p, JsonNullableLongCell cell) throws IOException {
+        switch (token(p)) {
+            case VALUE_NULL:
+                return cell.markNull();
+            case VALUE_NUMBER_INT:
+                return cell.set(p.getLongValue());
+            default:
+                throw mismatch(p, Long.class, "a long");
+        }
+    }
+
+    /**
+     * @param p    a parser at a number or null
+     * @param cell the cell to fill; the value is boxed, see the <code>JsonNullableDoubleCell</code> overload
+     * @return the cell
+     * @throws IOException if the value is not a number or null
+     */
+    public static JsonNullableCell<Double> readDouble(JsonParser p, JsonNullableCell<Double> cell) throws IOException {
+        switch (token(p)) {
+            case VALUE_NULL:
+                return cell.markNull();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return cell.set(p.getDoubleValue());
+            default:
+                throw mismatch(p, Double.class, "a number");
+        }
+    }
+
+    /**
+     * @param p    a parser at a number or null
+     * @param cell the cell to fill, without boxing the value
+     * @return the cell
+     * @throws IOException if the value is not a number or null
+     */
+    public static JsonNullableDoubleCell readDouble(JsonParser p, JsonNullableDoubleCell cell) throws IOException {
+        switch (token(p)) {
+            case VALUE_NULL:
+                return cell.markNull();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return cell.set(p.getDoubleValue());
+            default:
+                throw mismatch(p, Double.class, "a number");
+        }
+    }
+
+    /**
+     * @param p    a parser at a boolean or null
+     * @param cell the cell to fill
+     * @return the cell
+     * @throws IOException if the value is not a boolean or null
+     */
+    public static JsonNullableCell<Boolean> readBoolean(JsonParser p, JsonNullableCell<Boolean> cell) throws IOException {
+        switch (token(p)) {
+            case VALUE_NULL:
+                return cell.markNull();
+            case VALUE_TRUE:
+                return cell.set(Boolean.TRUE);
+            case VALUE_FALSE:
+                return cell.set(Boolean.FALSE);
+            default:
+                throw mismatch(p, Boolean.class, "a boolean");
+        }
+    }
+
+    /**
+     * Read any value with the parser's codec, usually the <code>ObjectMapper</code> that created the parser.
+     *
+     * @param p    a parser at the value
+     * @param type the type of the value
+     * @param cell the cell to fill
+     * @param <T>  the type of the value
+     * @return the cell
+     * @throws IOException if the value cannot be read as the type
+     */
+    public static <T> JsonNullableCell<T> read(JsonParser p, Class<T> type, JsonNullableCell<T> cell) throws IOException {
+        if (token(p) == JsonToken.VALUE_NULL) {
+            return cell.markNull();
+        }
+        return cell.set(p.readValueAs(type));
+    }
+
+    private static JsonToken token(JsonParser p) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == null) {
+            throw MismatchedInputException.from(p, (Class<?>) null, "Unexpected end of input, expected a value");
+        }
+        return t;
+    }
+
+    private static MismatchedInputException mismatch(JsonParser p, Class<?> type, String expected) {
+        return MismatchedInputException.from(p, type, "Expected " + expected + " or null, got " + p.currentToken());
+    }
+}
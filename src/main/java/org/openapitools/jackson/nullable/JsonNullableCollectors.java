@@ -0,0 +1,264 @@
+package org.openapitools.jackson.nullable;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector}s that reduce streams of <code>JsonNullable</code> values and of patches. A null element counts
+ * as undefined.
+ * <p>
+ * All collectors combine partial results correctly, so they can be used with parallel streams. The order-sensitive
+ * ones come in two flavours: {@link #firstPresent()}, {@link #lastPresent()} and {@link #coalesce()} respect the
+ * encounter order, while {@link #anyPresent()} and {@link #coalesceAny()} are concurrent and unordered, which lets
+ * an unordered parallel stream accumulate into one shared container instead of merging one container per split.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableCollectors {
+
+    private static final JsonNullableMerger MERGER = new JsonNullableMerger();
+
+    private static final Collector.Characteristics[] UNORDERED = {Collector.Characteristics.UNORDERED};
+
+    private static final Collector.Characteristics[] CONCURRENT = {
+            Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED};
+
+    private JsonNullableCollectors() {
+    }
+
+    /**
+     * @param <T> the type of the values
+     * @return a collector that returns the first present value in encounter order, an explicit null included, or
+     * undefined if there is none
+     */
+    public static <T> Collector<JsonNullable<T>, ?, JsonNullable<T>> firstPresent() {
+        return ordered(false, false);
+    }
+
+    /**
+     * @param <T> the type of the values
+     * @return a collector that returns the last present value in encounter order, an explicit null included, or
+     * undefined if there is none
+     */
+    public static <T> Collector<JsonNullable<T>, ?, JsonNullable<T>> lastPresent() {
+        return ordered(false, true);
+    }
+
+    /**
+     * @param <T> the type of the values
+     * @return an unordered collector that returns any present value, an explicit null included, or undefined if
+     * there is none
+     */
+    public static <T> Collector<JsonNullable<T>, ?, JsonNullable<T>> anyPresent() {
+        return concurrent(false);
+    }
+
+    /**
+     * @param <T> the type of the values
+     * @return a collector that returns the first non-null value in encounter order, or an explicit null if all
+     * present values are null, or undefined if there is none
+     */
+    public static <T> Collector<JsonNullable<T>, ?, JsonNullable<T>> coalesce() {
+        return ordered(true, false);
+    }
+
+    /**
+     * @param <T> the type of the values
+     * @return an unordered collector that returns any non-null value, or an explicit null if all present values are
+     * null, or undefined if there is none
+     */
+    public static <T> Collector<JsonNullable<T>, ?, JsonNullable<T>> coalesceAny() {
+        return concurrent(true);
+    }
+
+    /**
+     * @return a collector that counts undefined values, explicit nulls and non-null values
+     */
+    public static Collector<JsonNullable<?>, ?, StateCounts> countingByState() {
+        return Collector.of(
+                () -> new long[3],
+                (counts, value) -> counts[rank(value, true)]++,
+                (left, right) -> {
+                    for (int i = 0; i < left.length; i++) {
+                        left[i] += right[i];
+                    }
+                    return left;
+                },
+                counts -> new StateCounts(counts[0], counts[1], counts[2]),
+                UNORDERED);
+    }
+
+    /**
+     * Merge patches in encounter order with {@link JsonNullableMerger}: later present values override earlier ones.
+     * DTOs, patch models, {@link PatchDocument}s and maps of <code>JsonNullable</code> values are merged like the
+     * corresponding merger methods. The patches are not modified, but if the stream holds a single patch that patch
+     * itself is returned.
+     *
+     * @param <P> the type of the patches
+     * @return a collector that returns the merged patch, or an empty optional for an empty stream
+     */
+    public static <P> Collector<P, ?, Optional<P>> merging() {
+        return Collector.<P, MergeBox<P>, Optional<P>>of(
+                MergeBox::new,
+                MergeBox::add,
+                MergeBox::combine,
+                box -> Optional.ofNullable(box.patch));
+    }
+
+    /**
+     * undefined ranks 0 and present values 1, or with <code>nonNull</code> undefined 0, null 1 and non-null 2.
+     */
+    private static int rank(JsonNullable<?> value, boolean nonNull) {
+        if (value == null || !value.isPresent()) {
+            return 0;
+        }
+        return nonNull && value.get() != null ? 2 : 1;
+    }
+
+    private static <T> Collector<JsonNullable<T>, ?, JsonNullable<T>> ordered(boolean nonNull, boolean last) {
+        return Collector.<JsonNullable<T>, Box<T>, JsonNullable<T>>of(
+                Box::new,
+                (box, value) -> {
+                    int rank = rank(value, nonNull);
+                    if (rank > box.rank || last && rank > 0 && rank == box.rank) {
+                        box.value = value;
+                        box.rank = rank;
+                    }
+                },
+                (left, right) -> right.rank > left.rank || last && right.rank > 0 && right.rank == left.rank ? right : left,
+                box -> box.value);
+    }
+
+    private static <T> Collector<JsonNullable<T>, ?, JsonNullable<T>> concurrent(boolean nonNull) {
+        return Collector.<JsonNullable<T>, AtomicReference<JsonNullable<T>>, JsonNullable<T>>of(
+                () -> new AtomicReference<>(JsonNullable.undefined()),
+                (result, value) -> {
+                    int rank = rank(value, nonNull);
+                    JsonNullable<T> current;
+                    do {
+                        current = result.get();
+                        if (rank <= rank(current, nonNull)) {
+                            return;
+                        }
+                    } while (!result.compareAndSet(current, value));
+                },
+                (left, right) -> rank(right.get(), nonNull) > rank(left.get(), nonNull) ? right : left,
+                AtomicReference::get,
+                CONCURRENT);
+    }
+
+    private static final class Box<T> {
+
+        private JsonNullable<T> value = JsonNullable.undefined();
+
+        private int rank;
+    }
+
+    private static final class MergeBox<P> {
+
+        private P patch;
+
+        /**
+         * Whether {@link #patch} was created by this box and may be modified.
+         */
+        private boolean owned;
+
+        void add(P newer) {
+            if (newer == null) {
+                return;
+            }
+            if (patch == null) {
+                patch = newer;
+            } else if (owned) {
+                MERGER.mergeInto(patch, newer);
+            } else {
+                patch = MERGER.merge(patch, newer);
+                owned = true;
+            }
+        }
+
+        MergeBox<P> combine(MergeBox<P> right) {
+            if (patch == null) {
+                return right;
+            }
+            add(right.patch);
+            return this;
+        }
+    }
+
+    /**
+     * The result of {@link #countingByState()}.
+     */
+    public static final class StateCounts {
+
+        private final long undefined;
+
+        private final long nulls;
+
+        private final long values;
+
+        StateCounts(long undefined, long nulls, long values) {
+            this.undefined = undefined;
+            this.nulls = nulls;
+            this.values = values;
+        }
+
+        /**
+         * @return the number of undefined values
+         */
+        public long undefined() {
+            return undefined;
+        }
+
+        /**
+         * @return the number of explicit nulls
+         */
+        public long nulls() {
+            return nulls;
+        }
+
+        /**
+         * @return the number of non-null values
+         */
+        public long values() {
+            return values;
+        }
+
+        /**
+         * @return the number of present values, explicit nulls included
+         */
+        public long present() {
+            return nulls + values;
+        }
+
+        /**
+         * @return the number of values counted
+         */
+        public long total() {
+            return undefined + nulls + values;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StateCounts)) {
+                return false;
+            }
+            StateCounts other = (StateCounts) obj;
+            return undefined == other.undefined && nulls == other.nulls && values == other.values;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(undefined) * 961 + Long.hashCode(nulls) * 31 + Long.hashCode(values);
+        }
+
+        @Override
+        public String toString() {
+            return "StateCounts[undefined=" + undefined + ", nulls=" + nulls + ", values=" + values + "]";
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package org.openapitools.jackson.nullable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Base class of the columnar containers {@link JsonNullableArray}, {@link JsonNullableDoubleArray} and
+ * {@link JsonNullableLongArray}: a dense array of values plus two bitmaps that record, per element, whether it is
+ * defined and whether it holds a non-null value. A million nullable doubles take about 8 MB instead of the
+ * 40 MB or more of a <code>List&lt;JsonNullable&lt;Double&gt;&gt;</code>.
+ * <p>
+ * Columns only grow at the end. They are not safe for concurrent modification.
+ *
+ * @since 0.2.12
+ */
+public abstract class JsonNullableColumn implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    private long[] defined;
+
+    private long[] nonNull;
+
+    int size;
+
+    JsonNullableColumn(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        int words = words(capacity);
+        defined = new long[words];
+        nonNull = new long[words];
+    }
+
+    /**
+     * @return the number of elements
+     */
+    public final int size() {
+        return size;
+    }
+
+    public final boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index the index of the element
+     * @return true if the element is defined, as null or as a value
+     */
+    public final boolean isDefined(int index) {
+        checkIndex(index);
+        return (defined[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @param index the index of the element
+     * @return true if the element is an explicit null
+     */
+    public final boolean isNull(int index) {
+        checkIndex(index);
+        long bit = 1L << index;
+        return (defined[index >>> 6] & bit) != 0 && (nonNull[index >>> 6] & bit) == 0;
+    }
+
+    /**
+     * @param index the index of the element
+     * @return true if the element holds a non-null value
+     */
+    public final boolean hasValue(int index) {
+        checkIndex(index);
+        return (nonNull[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @return the number of defined elements, explicit nulls included
+     */
+    public final int definedCount() {
+        return bitCount(defined);
+    }
+
+    /**
+     * @return the number of elements that hold a non-null value
+     */
+    public final int valueCount() {
+        return bitCount(nonNull);
+    }
+
+    /**
+     * @return the number of explicit nulls
+     */
+    public final int nullCount() {
+        return definedCount() - valueCount();
+    }
+
+    /**
+     * @param fromIndex the index to start at
+     * @return the index of the first defined element at or after <code>fromIndex</code>, or -1 if there is none
+     */
+    public final int nextDefined(int fromIndex) {
+        return nextSetBit(defined, fromIndex);
+    }
+
+    /**
+     * @param fromIndex the index to start at
+     * @return the index of the first element with a non-null value at or after <code>fromIndex</code>, or -1 if
+     * there is none
+     */
+    public final int nextValue(int fromIndex) {
+        return nextSetBit(nonNull, fromIndex);
+    }
+
+    /**
+     * Append an undefined element.
+     */
+    public final void addUndefined() {
+        clearValue(append(false, false));
+    }
+
+    /**
+     * Append an explicit null.
+     */
+    public final void addNull() {
+        clearValue(append(true, false));
+    }
+
+    /**
+     * @param index the index of the element
+     * @return the element as a <code>JsonNullable</code>
+     */
+    public abstract JsonNullable<?> getNullable(int index);
+
+    /**
+     * Remove all elements, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.fill(defined, 0, words(size), 0L);
+        Arrays.fill(nonNull, 0, words(size), 0L);
+        size = 0;
+    }
+
+    /**
+     * Append an element in the state of the given <code>JsonNullable</code>; a null reference counts as undefined.
+     *
+     * @throws ClassCastException if the value does not fit the column
+     */
+    final void addRaw(JsonNullable<?> value) {
+        int index = size;
+        expandTo(index + 1);
+        setRawAt(index, value);
+    }
+
+    /**
+     * @return the number of elements the value array can hold
+     */
+    abstract int capacity();
+
+    abstract void resize(int capacity);
+
+    /**
+     * Store the neutral value (zero or null) for an element that has no value, so that scans over the whole value
+     * array need no bitmap checks.
+     */
+    abstract void clearValue(int index);
+
+    /**
+     * Reserve the next element and set its bits.
+     *
+     * @return the index of the new element
+     */
+    final int append(boolean isDefined, boolean hasValue) {
+        int index = size;
+        expandTo(index + 1);
+        setBits(index, isDefined, hasValue);
+        return index;
+    }
+
+    /**
+     * Grow the column to the given size; the new elements are undefined until set with the <code>...At</code>
+     * methods. Elements in different 64-element blocks may then be set from different threads.
+     */
+    final void expandTo(int newSize) {
+        if (newSize > capacity()) {
+            int capacity = Math.max(newSize, Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+            resize(capacity);
+            int words = words(capacity);
+            defined = Arrays.copyOf(defined, words);
+            nonNull = Arrays.copyOf(nonNull, words);
+        }
+        size = newSize;
+    }
+
+    final void setUndefinedAt(int index) {
+        setBits(index, false, false);
+        clearValue(index);
+    }
+
+    final void setNullAt(int index) {
+        setBits(index, true, false);
+        clearValue(index);
+    }
+
+    /**
+     * Set an element in the state of the given <code>JsonNullable</code>; a null reference counts as undefined.
+     */
+    final void setRawAt(int index, JsonNullable<?> value) {
+        if (value == null || !value.isPresent()) {
+            setUndefinedAt(index);
+        } else if (value.get() == null) {
+            setNullAt(index);
+        } else {
+            setValueAt(index, value.get());
+        }
+    }
+
+    /**
+     * Set an element to a non-null value given as an object.
+     */
+    abstract void setValueAt(int index, Object value);
+
+    final void setBits(int index, boolean isDefined, boolean hasValue) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        defined[word] = isDefined ? defined[word] | bit : defined[word] & ~bit;
+        nonNull[word] = hasValue ? nonNull[word] | bit : nonNull[word] & ~bit;
+    }
+
+    final void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    /**
+     * @return the bitmap of elements with a non-null value; the bits at and after {@link #size()} are clear
+     */
+    final long[] nonNullBits() {
+        return nonNull;
+    }
+
+    private int bitCount(long[] bits) {
+        int count = 0;
+        for (int i = 0, words = words(size); i < words; i++) {
+            count += Long.bitCount(bits[i]);
+        }
+        return count;
+    }
+
+    private int nextSetBit(long[] bits, int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+        }
+        if (fromIndex >= size) {
+            return -1;
+        }
+        int word = fromIndex >>> 6;
+        long current = bits[word] & (-1L << fromIndex);
+        int words = words(size);
+        while (current == 0) {
+            if (++word == words) {
+                return -1;
+            }
+            current = bits[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(current);
+    }
+
+    static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || obj.getClass() != getClass()) {
+            return false;
+        }
+        JsonNullableColumn other = (JsonNullableColumn) obj;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0, words = words(size); i < words; i++) {
+            if (defined[i] != other.defined[i] || nonNull[i] != other.nonNull[i]) {
+                return false;
+            }
+        }
+        return valuesEqual(other);
+    }
+
+    /**
+     * @return true if the values of the elements with a non-null value are equal; the bitmaps are already equal
+     */
+    abstract boolean valuesEqual(JsonNullableColumn other);
+
+    @Override
+    public int hashCode() {
+        int result = size;
+        for (int i = nextDefined(0); i >= 0; i = nextDefined(i + 1)) {
+            result = 31 * result + i;
+            result = 31 * result + getNullable(i).hashCode();
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            JsonNullable<?> value = getNullable(i);
+            sb.append(value.isPresent() ? String.valueOf(value.get()) : "undefined");
+        }
+        return sb.append(']').toString();
+    }
+}
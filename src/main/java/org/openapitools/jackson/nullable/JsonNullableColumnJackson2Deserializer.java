@@ -0,0 +1,107 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson 2 deserializer for the {@link JsonNullableColumn}s: streams a JSON array straight into the column. A JSON
+ * null becomes an explicit null; in number columns a blank string becomes an undefined element, like it does for
+ * {@link JsonNullableDouble} and {@link JsonNullableLong}. Numbers are read without boxing.
+ */
+public class JsonNullableColumnJackson2Deserializer extends StdDeserializer<JsonNullableColumn> implements ResolvableDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The element type of a {@link JsonNullableArray}, null for the number columns.
+     */
+    private final JavaType elementType;
+
+    private JsonDeserializer<Object> elementDeserializer;
+
+    public JsonNullableColumnJackson2Deserializer(JavaType columnType) {
+        super(columnType);
+        elementType = columnType.hasRawClass(JsonNullableArray.class) ? columnType.containedTypeOrUnknown(0) : null;
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        if (elementType != null) {
+            elementDeserializer = ctxt.findRootValueDeserializer(elementType);
+        }
+    }
+
+    @Override
+    public JsonNullableColumn deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return deserialize(p, ctxt, newColumn());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonNullableColumn deserialize(JsonParser p, DeserializationContext ctxt, JsonNullableColumn intoValue) throws IOException {
+        if (!p.isExpectedStartArrayToken()) {
+            return (JsonNullableColumn) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        if (intoValue instanceof JsonNullableDoubleArray) {
+            JsonNullableDoubleArray column = (JsonNullableDoubleArray) intoValue;
+            for (JsonToken t = p.nextToken(); t != JsonToken.END_ARRAY; t = p.nextToken()) {
+                if (t == JsonToken.VALUE_NUMBER_FLOAT || t == JsonToken.VALUE_NUMBER_INT) {
+                    column.add(p.getDoubleValue());
+                } else if (!addNullOrUndefined(p, t, column)) {
+                    column.add(_parseDoublePrimitive(p, ctxt));
+                }
+            }
+        } else if (intoValue instanceof JsonNullableLongArray) {
+            JsonNullableLongArray column = (JsonNullableLongArray) intoValue;
+            for (JsonToken t = p.nextToken(); t != JsonToken.END_ARRAY; t = p.nextToken()) {
+                if (t == JsonToken.VALUE_NUMBER_INT) {
+                    column.add(p.getLongValue());
+                } else if (!addNullOrUndefined(p, t, column)) {
+                    column.add(_parseLongPrimitive(p, ctxt));
+                }
+            }
+        } else {
+            JsonNullableArray<Object> column = (JsonNullableArray<Object>) intoValue;
+            for (JsonToken t = p.nextToken(); t != JsonToken.END_ARRAY; t = p.nextToken()) {
+                column.add(t == JsonToken.VALUE_NULL ? null : elementDeserializer.deserialize(p, ctxt));
+            }
+        }
+        return intoValue;
+    }
+
+    private static boolean addNullOrUndefined(JsonParser p, JsonToken t, JsonNullableColumn column) throws IOException {
+        if (t == JsonToken.VALUE_NULL) {
+            column.addNull();
+            return true;
+        }
+        if (t == JsonToken.VALUE_STRING && JsonNullableJackson2Deserializer.isBlank(p)) {
+            column.addUndefined();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Object getEmptyValue(DeserializationContext ctxt) {
+        return newColumn();
+    }
+
+    private JsonNullableColumn newColumn() {
+        Class<?> raw = handledType();
+        if (raw == JsonNullableDoubleArray.class) {
+            return new JsonNullableDoubleArray();
+        }
+        if (raw == JsonNullableLongArray.class) {
+            return new JsonNullableLongArray();
+        }
+        return new JsonNullableArray<>();
+    }
+}
@@ -0,0 +1,75 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson 2 serializer for the {@link JsonNullableColumn}s: writes a JSON array. A JSON array has no room for an
+ * undefined element, so undefined elements are written as null.
+ */
+public class JsonNullableColumnJackson2Serializer extends StdSerializer<JsonNullableColumn> {
+
+    private static final long serialVersionUID = 1L;
+
+    public JsonNullableColumnJackson2Serializer() {
+        super(JsonNullableColumn.class);
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, JsonNullableColumn value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public void serialize(JsonNullableColumn value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartArray(value, value.size());
+        serializeElements(value, gen, provider);
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(JsonNullableColumn value, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_ARRAY));
+        serializeElements(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeIdDef);
+    }
+
+    private void serializeElements(JsonNullableColumn value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value instanceof JsonNullableDoubleArray) {
+            JsonNullableDoubleArray column = (JsonNullableDoubleArray) value;
+            for (int i = 0, size = column.size(); i < size; i++) {
+                if (column.hasValue(i)) {
+                    gen.writeNumber(column.getAsDouble(i));
+                } else {
+                    gen.writeNull();
+                }
+            }
+        } else if (value instanceof JsonNullableLongArray) {
+            JsonNullableLongArray column = (JsonNullableLongArray) value;
+            for (int i = 0, size = column.size(); i < size; i++) {
+                if (column.hasValue(i)) {
+                    gen.writeNumber(column.getAsLong(i));
+                } else {
+                    gen.writeNull();
+                }
+            }
+        } else {
+            JsonNullableArray<?> column = (JsonNullableArray<?>) value;
+            for (int i = 0, size = column.size(); i < size; i++) {
+                if (column.hasValue(i)) {
+                    Object element = column.get(i);
+                    provider.findValueSerializer(element.getClass(), null).serialize(element, gen, provider);
+                } else {
+                    provider.defaultSerializeNull(gen);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson 3 deserializer for the {@link JsonNullableColumn}s: streams a JSON array straight into the column. A JSON
+ * null becomes an explicit null; in number columns a blank string becomes an undefined element, like it does for
+ * {@link JsonNullableDouble} and {@link JsonNullableLong}. Numbers are read without boxing.
+ */
+public class JsonNullableColumnJackson3Deserializer extends StdDeserializer<JsonNullableColumn> {
+
+    /**
+     * The element type of a {@link JsonNullableArray}, null for the number columns.
+     */
+    private final JavaType elementType;
+
+    private ValueDeserializer<Object> elementDeserializer;
+
+    public JsonNullableColumnJackson3Deserializer(JavaType columnType) {
+        super(columnType);
+        elementType = columnType.hasRawClass(JsonNullableArray.class) ? columnType.containedTypeOrUnknown(0) : null;
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) {
+        if (elementType != null) {
+            elementDeserializer = ctxt.findRootValueDeserializer(elementType);
+        }
+    }
+
+    @Override
+    public JsonNullableColumn deserialize(JsonParser p, DeserializationContext ctxt) {
+        return deserialize(p, ctxt, newColumn());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonNullableColumn deserialize(JsonParser p, DeserializationContext ctxt, JsonNullableColumn intoValue) {
+        if (!p.isExpectedStartArrayToken()) {
+            return (JsonNullableColumn) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        if (intoValue instanceof JsonNullableDoubleArray) {
+            JsonNullableDoubleArray column = (JsonNullableDoubleArray) intoValue;
+            for (JsonToken t = p.nextToken(); t != JsonToken.END_ARRAY; t = p.nextToken()) {
+                if (t == JsonToken.VALUE_NUMBER_FLOAT || t == JsonToken.VALUE_NUMBER_INT) {
+                    column.add(p.getDoubleValue());
+                } else if (!addNullOrUndefined(p, t, column)) {
+                    column.add(_parseDoublePrimitive(p, ctxt));
+                }
+            }
+        } else if (intoValue instanceof JsonNullableLongArray) {
+            JsonNullableLongArray column = (JsonNullableLongArray) intoValue;
+            for (JsonToken t = p.nextToken(); t != JsonToken.END_ARRAY; t = p.nextToken()) {
+                if (t == JsonToken.VALUE_NUMBER_INT) {
+                    column.add(p.getLongValue());
+                } else if (!addNullOrUndefined(p, t, column)) {
+                    column.add(_parseLongPrimitive(p, ctxt));
+                }
+            }
+        } else {
+            JsonNullableArray<Object> column = (JsonNullableArray<Object>) intoValue;
+            for (JsonToken t = p.nextToken(); t != JsonToken.END_ARRAY; t = p.nextToken()) {
+                column.add(t == JsonToken.VALUE_NULL ? null : elementDeserializer.deserialize(p, ctxt));
+            }
+        }
+        return intoValue;
+    }
+
+    private static boolean addNullOrUndefined(JsonParser p, JsonToken t, JsonNullableColumn column) {
+        if (t == JsonToken.VALUE_NULL) {
+            column.addNull();
+            return true;
+        }
+        if (t == JsonToken.VALUE_STRING && JsonNullableJackson3Deserializer.isBlank(p)) {
+            column.addUndefined();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Object getEmptyValue(DeserializationContext ctxt) {
+        return newColumn();
+    }
+
+    private JsonNullableColumn newColumn() {
+        Class<?> raw = handledType();
+        if (raw == JsonNullableDoubleArray.class) {
+            return new JsonNullableDoubleArray();
+        }
+        if (raw == JsonNullableLongArray.class) {
+            return new JsonNullableLongArray();
+        }
+        return new JsonNullableArray<>();
+    }
+}
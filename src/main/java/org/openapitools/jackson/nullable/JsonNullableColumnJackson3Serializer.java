@@ -0,0 +1,71 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson 3 serializer for the {@link JsonNullableColumn}s: writes a JSON array. A JSON array has no room for an
+ * undefined element, so undefined elements are written as null.
+ */
+public class JsonNullableColumnJackson3Serializer extends StdSerializer<JsonNullableColumn> {
+
+    public JsonNullableColumnJackson3Serializer() {
+        super(JsonNullableColumn.class);
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, JsonNullableColumn value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public void serialize(JsonNullableColumn value, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeStartArray(value, value.size());
+        serializeElements(value, gen, ctxt);
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(JsonNullableColumn value, JsonGenerator gen, SerializationContext ctxt,
+                                  TypeSerializer typeSer) {
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_ARRAY));
+        serializeElements(value, gen, ctxt);
+        typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+    }
+
+    private void serializeElements(JsonNullableColumn value, JsonGenerator gen, SerializationContext ctxt) {
+        if (value instanceof JsonNullableDoubleArray) {
+            JsonNullableDoubleArray column = (JsonNullableDoubleArray) value;
+            for (int i = 0, size = column.size(); i < size; i++) {
+                if (column.hasValue(i)) {
+                    gen.writeNumber(column.getAsDouble(i));
+                } else {
+                    gen.writeNull();
+                }
+            }
+        } else if (value instanceof JsonNullableLongArray) {
+            JsonNullableLongArray column = (JsonNullableLongArray) value;
+            for (int i = 0, size = column.size(); i < size; i++) {
+                if (column.hasValue(i)) {
+                    gen.writeNumber(column.getAsLong(i));
+                } else {
+                    gen.writeNull();
+                }
+            }
+        } else {
+            JsonNullableArray<?> column = (JsonNullableArray<?>) value;
+            for (int i = 0, size = column.size(); i < size; i++) {
+                if (column.hasValue(i)) {
+                    Object element = column.get(i);
+                    ctxt.findValueSerializer(element.getClass()).serialize(element, gen, ctxt);
+                } else {
+                    ctxt.defaultSerializeNullValue(gen);
+                }
+            }
+        }
+    }
+}
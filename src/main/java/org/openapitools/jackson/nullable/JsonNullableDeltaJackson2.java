@@ -0,0 +1,130 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.AnyGetterWriter;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Writes, for Jackson 2, only the properties of an object that differ from a baseline of the same class, such as the
+ * previous snapshot sent to a client. Changed properties are written with their new value and properties that lost
+ * their value are written as <code>null</code>, so that the client reads the delta into <code>JsonNullable</code>
+ * properties as a patch. Unchanged properties are not written.
+ * <p>
+ * The properties are the ones the writer's serializer for the class writes, with their names, serializers, formats
+ * and inclusion rules, so the client can read the delta with the same configuration. <code>JsonNullable</code>
+ * values and its primitive specializations are compared unwrapped, an undefined one counting as no value. Values are
+ * compared by identity, then with {@link Objects#deepEquals(Object, Object)}; a changed nested object is written as
+ * a whole. A cleared unwrapped property or any-getter cannot be written as <code>null</code> and is left out.
+ * Instances are safe for concurrent use.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableDeltaJackson2 {
+
+    private final ObjectWriter writer;
+
+    /**
+     * @param writer writes the delta; its features apply to the changed values as well
+     */
+    public JsonNullableDeltaJackson2(ObjectWriter writer) {
+        this.writer = Objects.requireNonNull(writer, "writer").forType(Delta.class);
+    }
+
+    /**
+     * Write the delta as a JSON object to the generator.
+     *
+     * @param gen      the generator
+     * @param baseline the object the client already has, or null to write every defined property
+     * @param value    the current object
+     * @throws IOException if the delta cannot be written
+     */
+    public void writeDelta(JsonGenerator gen, Object baseline, Object value) throws IOException {
+        writer.writeValue(gen, delta(baseline, value));
+    }
+
+    /**
+     * @param baseline the object the client already has, or null to write every defined property
+     * @param value    the current object
+     * @return the delta as a JSON object
+     * @throws JsonProcessingException if the delta cannot be written
+     */
+    public String writeDeltaAsString(Object baseline, Object value) throws JsonProcessingException {
+        return writer.writeValueAsString(delta(baseline, value));
+    }
+
+    private static Delta delta(Object baseline, Object value) {
+        Objects.requireNonNull(value, "value");
+        if (baseline != null && baseline.getClass() != value.getClass()) {
+            throw new IllegalArgumentException("The baseline is a " + baseline.getClass().getName()
+                    + ", not a " + value.getClass().getName());
+        }
+        return new Delta(baseline, value);
+    }
+
+    @JsonSerialize(using = DeltaSerializer.class)
+    static final class Delta {
+
+        final Object baseline;
+
+        final Object value;
+
+        Delta(Object baseline, Object value) {
+            this.baseline = baseline;
+            this.value = value;
+        }
+    }
+
+    static final class DeltaSerializer extends StdSerializer<Delta> {
+
+        private static final long serialVersionUID = 1L;
+
+        DeltaSerializer() {
+            super(Delta.class);
+        }
+
+        @Override
+        public void serialize(Delta delta, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            final Object value = delta.value;
+            final JsonSerializer<Object> serializer = provider.findValueSerializer(value.getClass());
+            if (!(serializer instanceof BeanSerializerBase)) {
+                provider.reportBadDefinition(provider.constructType(value.getClass()),
+                        value.getClass().getName() + " is not serialized as a bean");
+            }
+            gen.writeStartObject(value);
+            Iterator<PropertyWriter> properties = ((BeanSerializerBase) serializer).properties();
+            while (properties.hasNext()) {
+                BeanPropertyWriter prop = (BeanPropertyWriter) properties.next();
+                try {
+                    Object before = delta.baseline == null ? JsonNullableDeltaValues.UNDEFINED
+                            : JsonNullableDeltaValues.valueOf(prop.get(delta.baseline));
+                    Object after = JsonNullableDeltaValues.valueOf(prop.get(value));
+                    if (!JsonNullableDeltaValues.changed(before, after)) {
+                        continue;
+                    }
+                    if (after != JsonNullableDeltaValues.UNDEFINED && after != null) {
+                        prop.serializeAsField(value, gen, provider);
+                    } else if (!prop.isUnwrapping() && !(prop instanceof AnyGetterWriter)) {
+                        gen.writeNullField(prop.getName());
+                    }
+                } catch (IOException e) {
+                    throw e;
+                } catch (Exception e) {
+                    wrapAndThrow(provider, e, value, prop.getName());
+                }
+            }
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.openapitools.jackson.nullable;
+
+import java.util.Objects;
+
+/**
+ * How {@link JsonNullableDeltaJackson2} and {@link JsonNullableDeltaJackson3} compare the values of a property:
+ * <code>JsonNullable</code> values and its primitive specializations unwrapped, an undefined one counting as no
+ * value, then by identity and with {@link Objects#deepEquals(Object, Object)}.
+ */
+final class JsonNullableDeltaValues {
+
+    /**
+     * Stands for an undefined <code>JsonNullable</code>, or primitive specialization, in {@link #valueOf(Object)}.
+     */
+    static final Object UNDEFINED = new Object();
+
+    private JsonNullableDeltaValues() {
+    }
+
+    /**
+     * @return the value of a property, unwrapped from a <code>JsonNullable</code> or a primitive specialization,
+     * or {@link #UNDEFINED}
+     */
+    static Object valueOf(Object value) {
+        if (value == null || !JsonNullableTypes.isJsonNullableType(value.getClass())) {
+            return value;
+        }
+        return JsonNullableTypes.isUndefined(value) ? UNDEFINED : JsonNullableTypes.valueOf(value);
+    }
+
+    /**
+     * @return true if a property that was <code>before</code> has to be written as <code>after</code>
+     */
+    static boolean changed(Object before, Object after) {
+        if (after == UNDEFINED || after == null) {
+            // a property that is cleared becomes null on the other side, one that is already empty stays as it is
+            return (before != null && before != UNDEFINED) || (after == null && before == UNDEFINED);
+        }
+        return before == null || before == UNDEFINED || (before != after && !Objects.deepEquals(before, after));
+    }
+}
@@ -0,0 +1,279 @@
+package org.openapitools.jackson.nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Computes a patch DTO from two snapshots of a model: every <code>JsonNullable</code> property of the patch is
+ * present where the model property of the same name changed, and undefined everywhere else. This is the reverse
+ * of {@link JsonNullablePatcher}.
+ * <p>
+ * Patch properties are public <code>JsonNullable</code> fields, public <code>setX(JsonNullable)</code> setters, or
+ * the properties of a {@link JsonNullablePatchModel}. Model properties are public <code>getX()</code> and
+ * <code>isX()</code> getters and public fields.
+ * <p>
+ * Model properties of a <code>JsonNullable</code> type, including the primitive specializations, are compared by
+ * their values: an undefined new value leaves the patch property undefined, and an undefined old value counts as
+ * null. Other values are compared by identity first, then as unchanged when both are null, and only then with
+ * {@link Objects#deepEquals(Object, Object)}. When the value type of a patch property is itself a patch type, the
+ * model values are diffed recursively and the property is present only if the nested patch has changes, or if
+ * the old model value was null.
+ * <p>
+ * The comparator plans are built once per (model class, patch class) pair; instances are safe for concurrent use.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableDiffer {
+
+    private final ClassValue<Map<Class<?>, Plan>> plans = new ClassValue<Map<Class<?>, Plan>>() {
+        @Override
+        protected Map<Class<?>, Plan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Create the patch that turns the old snapshot into the new one.
+     *
+     * @param oldValue  the old snapshot, or null to put every non-null property of the new snapshot in the patch
+     * @param newValue  the new snapshot
+     * @param patchType the type of the patch DTO; needs a no-argument constructor unless it is a patch model
+     * @param <P>       the type of the patch
+     * @return the patch, with every property undefined if nothing changed
+     * @throws IllegalArgumentException if the old snapshot is not an instance of the class of the new one
+     */
+    public <P> P diff(Object oldValue, Object newValue, Class<P> patchType) {
+        Objects.requireNonNull(newValue, "newValue");
+        Objects.requireNonNull(patchType, "patchType");
+        checkSameType(oldValue, newValue);
+        Plan plan = plan(newValue.getClass(), patchType);
+        Object patch = plan.newPatch();
+        plan.diff(this, oldValue, newValue, patch);
+        return patchType.cast(patch);
+    }
+
+    /**
+     * @return the nested patch, or null if nothing changed; a nested value replacing null always gives a patch,
+     * even one without present properties, since the nested object itself is new
+     */
+    private Object diffNested(Object oldValue, Object newValue, Class<?> patchType) {
+        checkSameType(oldValue, newValue);
+        Plan plan = plan(newValue.getClass(), patchType);
+        Object patch = plan.newPatch();
+        return plan.diff(this, oldValue, newValue, patch) || oldValue == null ? patch : null;
+    }
+
+    /**
+     * The plan reads both snapshots with the accessors of the new one.
+     */
+    private static void checkSameType(Object oldValue, Object newValue) {
+        if (oldValue != null && !newValue.getClass().isInstance(oldValue)) {
+            throw new IllegalArgumentException("Cannot diff a " + oldValue.getClass().getName()
+                    + " against a " + newValue.getClass().getName());
+        }
+    }
+
+    private Plan plan(Class<?> modelType, Class<?> patchType) {
+        Map<Class<?>, Plan> byPatch = plans.get(modelType);
+        Plan plan = byPatch.get(patchType);
+        if (plan == null) {
+            plan = Plan.create(modelType, patchType);
+            Plan existing = byPatch.putIfAbsent(patchType, plan);
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+        return plan;
+    }
+
+    private static final class Plan {
+
+        private final Supplier<Object> patchFactory;
+
+        private final Function<Object, Object>[] readers;
+
+        /**
+         * Write the plain value into the patch, wrapping it in a <code>JsonNullable</code> where needed.
+         */
+        private final BiConsumer<Object, Object>[] writers;
+
+        /**
+         * The patch type of nested patch properties, null for plain values.
+         */
+        private final Class<?>[] nestedPatchTypes;
+
+        @SuppressWarnings("unchecked")
+        private Plan(Supplier<Object> patchFactory, List<Function<Object, Object>> readers,
+                     List<BiConsumer<Object, Object>> writers, List<Class<?>> nestedPatchTypes) {
+            this.patchFactory = patchFactory;
+            this.readers = readers.toArray(new Function[0]);
+            this.writers = writers.toArray(new BiConsumer[0]);
+            this.nestedPatchTypes = nestedPatchTypes.toArray(new Class<?>[0]);
+        }
+
+        Object newPatch() {
+            return patchFactory.get();
+        }
+
+        boolean diff(JsonNullableDiffer differ, Object oldValue, Object newValue, Object patch) {
+            boolean changed = false;
+            for (int i = 0; i < readers.length; i++) {
+                Object after = readers[i].apply(newValue);
+                if (after != null && JsonNullableTypes.isJsonNullableType(after.getClass())) {
+                    if (JsonNullableTypes.isUndefined(after)) {
+                        continue;
+                    }
+                    after = JsonNullableTypes.valueOf(after);
+                }
+                Object before = oldValue == null ? null : readers[i].apply(oldValue);
+                if (before != null && JsonNullableTypes.isJsonNullableType(before.getClass())) {
+                    before = JsonNullableTypes.valueOf(before);
+                }
+                if (before == after) {
+                    continue;
+                }
+                Object value = after;
+                if (nestedPatchTypes[i] != null && after != null) {
+                    value = differ.diffNested(before, after, nestedPatchTypes[i]);
+                    if (value == null) {
+                        continue;
+                    }
+                } else if (before != null && after != null && Objects.deepEquals(before, after)) {
+                    continue;
+                }
+                writers[i].accept(patch, value);
+                changed = true;
+            }
+            return changed;
+        }
+
+        static Plan create(Class<?> modelType, Class<?> patchType) {
+            Map<String, Function<Object, Object>> modelProperties = modelProperties(modelType);
+            List<Function<Object, Object>> readers = new ArrayList<>();
+            List<BiConsumer<Object, Object>> writers = new ArrayList<>();
+            List<Class<?>> nestedPatchTypes = new ArrayList<>();
+
+            JsonNullablePatchModelDescriptor descriptor = isPatchModel(patchType)
+                    ? JsonNullablePatchModelDescriptor.forType(patchType) : null;
+            Supplier<Object> patchFactory;
+            if (descriptor != null) {
+                patchFactory = descriptor::newInstance;
+                for (int i = 0; i < descriptor.propertyCount(); i++) {
+                    Function<Object, Object> reader = modelProperties.get(descriptor.propertyName(i));
+                    if (reader != null) {
+                        int index = i;
+                        readers.add(reader);
+                        writers.add((patch, value) -> ((JsonNullablePatchModelAccess) patch).setRaw(index, value));
+                        nestedPatchTypes.add(nestedPatchType(descriptor.valueType(i)));
+                    }
+                }
+            } else {
+                patchFactory = JsonNullableAccessors.constructor(patchType);
+                for (Map.Entry<String, PatchProperty> entry : patchProperties(patchType).entrySet()) {
+                    Function<Object, Object> reader = modelProperties.get(entry.getKey());
+                    if (reader != null) {
+                        BiConsumer<Object, Object> setter = entry.getValue().writer();
+                        readers.add(reader);
+                        writers.add((patch, value) -> setter.accept(patch, JsonNullable.of(value)));
+                        nestedPatchTypes.add(nestedPatchType(entry.getValue().valueType));
+                    }
+                }
+            }
+            return new Plan(patchFactory, readers, writers, nestedPatchTypes);
+        }
+
+        private static boolean isPatchModel(Class<?> type) {
+            return JsonNullablePatchModelAccess.class.isAssignableFrom(type) || type.isAnnotationPresent(JsonNullablePatchModel.class);
+        }
+
+        private static Class<?> nestedPatchType(Type valueType) {
+            Class<?> raw = JsonNullableAccessors.rawClass(valueType);
+            if (raw == Object.class || raw.isPrimitive() || raw.isArray() || raw.getName().startsWith("java.")) {
+                return null;
+            }
+            return isPatchModel(raw) || !patchProperties(raw).isEmpty() ? raw : null;
+        }
+
+        private static Map<String, Function<Object, Object>> modelProperties(Class<?> modelType) {
+            Map<String, Function<Object, Object>> properties = new LinkedHashMap<>();
+            for (Method method : modelType.getMethods()) {
+                String name = method.getName();
+                if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0
+                        || method.getReturnType() == void.class || method.getDeclaringClass() == Object.class) {
+                    continue;
+                }
+                String suffix;
+                if (name.startsWith("get") && name.length() > 3) {
+                    suffix = name.substring(3);
+                } else if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+                    suffix = name.substring(2);
+                } else {
+                    continue;
+                }
+                properties.putIfAbsent(JsonNullableAccessors.propertyName(suffix), JsonNullableAccessors.getter(method));
+            }
+            for (Field field : modelType.getFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    properties.putIfAbsent(field.getName(), JsonNullableAccessors.getter(field));
+                }
+            }
+            return properties;
+        }
+
+        private static Map<String, PatchProperty> patchProperties(Class<?> patchType) {
+            Map<String, PatchProperty> properties = new LinkedHashMap<>();
+            for (Method method : patchType.getMethods()) {
+                String name = method.getName();
+                if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getParameterCount() != 1
+                        || !name.startsWith("set") || name.length() == 3
+                        || method.getParameterTypes()[0] != JsonNullable.class) {
+                    continue;
+                }
+                properties.putIfAbsent(JsonNullableAccessors.propertyName(name.substring(3)), new PatchProperty(
+                        JsonNullableAccessors.valueType(method.getGenericParameterTypes()[0]), method, null));
+            }
+            for (Field field : patchType.getFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.getType() != JsonNullable.class) {
+                    continue;
+                }
+                properties.putIfAbsent(field.getName(),
+                        new PatchProperty(JsonNullableAccessors.valueType(field.getGenericType()), null, field));
+            }
+            return properties;
+        }
+    }
+
+    /**
+     * A writable <code>JsonNullable</code> property of a patch; the writer is only built when a plan needs it.
+     */
+    private static final class PatchProperty {
+
+        private final Type valueType;
+
+        private final Method setter;
+
+        private final Field field;
+
+        private PatchProperty(Type valueType, Method setter, Field field) {
+            this.valueType = valueType;
+            this.setter = setter;
+            this.field = field;
+        }
+
+        BiConsumer<Object, Object> writer() {
+            return setter != null ? JsonNullableAccessors.setter(setter) : JsonNullableAccessors.setter(field);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package org.openapitools.jackson.nullable;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A primitive specialization of <code>JsonNullable&lt;Double&gt;</code>, in the style of
+ * {@link java.util.OptionalDouble}. Like {@link JsonNullable} it distinguishes an undefined value
+ * from an explicit <code>null</code> and from a present <code>double</code>, without boxing the value.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableDouble implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final JsonNullableDouble UNDEFINED = new JsonNullableDouble(0d, false, false);
+
+    private static final JsonNullableDouble NULL = new JsonNullableDouble(0d, true, true);
+
+    private final double value;
+
+    private final boolean isPresent;
+
+    private final boolean isNull;
+
+    private JsonNullableDouble(double value, boolean isPresent, boolean isNull) {
+        this.value = value;
+        this.isPresent = isPresent;
+        this.isNull = isNull;
+    }
+
+    /**
+     * Create a <code>JsonNullableDouble</code> representing an undefined value (not present).
+     *
+     * @return the shared undefined <code>JsonNullableDouble</code>
+     */
+    public static JsonNullableDouble undefined() {
+        return UNDEFINED;
+    }
+
+    /**
+     * Create a <code>JsonNullableDouble</code> representing an explicit <code>null</code>.
+     *
+     * @return the shared <code>JsonNullableDouble</code> with a present <code>null</code> value
+     */
+    public static JsonNullableDouble ofNull() {
+        return NULL;
+    }
+
+    /**
+     * Create a <code>JsonNullableDouble</code> from the submitted value.
+     *
+     * @param value the value
+     * @return the <code>JsonNullableDouble</code> with the submitted value present
+     */
+    public static JsonNullableDouble of(double value) {
+        return new JsonNullableDouble(value, true, false);
+    }
+
+    /**
+     * Create a <code>JsonNullableDouble</code> from the submitted boxed value.
+     *
+     * @param value the value, may be null
+     * @return the <code>JsonNullableDouble</code> with the submitted value present
+     */
+    public static JsonNullableDouble of(Double value) {
+        return value == null ? NULL : of(value.doubleValue());
+    }
+
+    /**
+     * Obtain the value of this <code>JsonNullableDouble</code>.
+     *
+     * @return the value, if present and not null
+     * @throws NoSuchElementException if no value is present or the value is null
+     */
+    public double getAsDouble() {
+        if (!isPresent) {
+            throw new NoSuchElementException("Value is undefined");
+        }
+        if (isNull) {
+            throw new NoSuchElementException("Value is null");
+        }
+        return value;
+    }
+
+    /**
+     * Obtain the value of this <code>JsonNullableDouble</code>.
+     *
+     * @param other the value to be returned if no value is present or the value is null
+     * @return the value of this <code>JsonNullableDouble</code> if present and not null, the submitted value otherwise
+     */
+    public double orElse(double other) {
+        return isPresent && !isNull ? value : other;
+    }
+
+    /**
+     * If a value is present, returns true, otherwise false. A present value may be null.
+     *
+     * @return true if a value is present, otherwise false
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * If a value is not present, returns true, otherwise false.
+     *
+     * @return true if a value is not present, otherwise false
+     */
+    public boolean isUndefined() {
+        return !isPresent;
+    }
+
+    /**
+     * If the value is present and null, returns true, otherwise false.
+     *
+     * @return true if an explicit null is present, otherwise false
+     */
+    public boolean isNull() {
+        return isNull;
+    }
+
+    /**
+     * If a non-null value is present, performs the given action with the value,
+     * otherwise does nothing.
+     *
+     * @param action the action to be performed, if a non-null value is present
+     */
+    public void ifPresent(DoubleConsumer action) {
+        if (isPresent && !isNull) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Convert to the boxing <code>JsonNullable</code> with the same state.
+     *
+     * @return the equivalent <code>JsonNullable</code>
+     */
+    public JsonNullable<Double> toJsonNullable() {
+        if (!isPresent) {
+            return JsonNullable.undefined();
+        }
+        return JsonNullable.of(isNull ? null : Double.valueOf(value));
+    }
+
+    private Object readResolve() {
+        if (!isPresent) {
+            return UNDEFINED;
+        }
+        return isNull ? NULL : this;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof JsonNullableDouble)) {
+            return false;
+        }
+        JsonNullableDouble other = (JsonNullableDouble) obj;
+        return isPresent == other.isPresent && isNull == other.isNull && Double.compare(value, other.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        if (!isPresent) {
+            return 0;
+        }
+        return isNull ? 1 : 31 + Double.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        if (!isPresent) {
+            return "JsonNullableDouble.undefined";
+        }
+        return isNull ? "JsonNullableDouble[null]" : "JsonNullableDouble[" + value + "]";
+    }
+}
@@ -0,0 +1,201 @@
+package org.openapitools.jackson.nullable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Columnar container of nullable <code>double</code> values, see {@link JsonNullableColumn}. Elements without a value
+ * hold zero in the value array, so {@link #sum()} is a plain loop over the values without bitmap checks.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableDoubleArray extends JsonNullableColumn {
+
+    private static final long serialVersionUID = 1L;
+
+    private double[] values;
+
+    public JsonNullableDoubleArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of elements to allocate room for
+     */
+    public JsonNullableDoubleArray(int capacity) {
+        super(capacity);
+        values = new double[capacity];
+    }
+
+    /**
+     * Append a value.
+     *
+     * @param value the value
+     */
+    public void add(double value) {
+        int index = append(true, true);
+        values[index] = value;
+    }
+
+    /**
+     * Append an element in the state of the given <code>JsonNullableDouble</code>.
+     *
+     * @param value the element
+     */
+    public void add(JsonNullableDouble value) {
+        if (value.isUndefined()) {
+            addUndefined();
+        } else if (value.isNull()) {
+            addNull();
+        } else {
+            add(value.getAsDouble());
+        }
+    }
+
+    /**
+     * @param index the index of the element
+     * @return the value of the element
+     * @throws NoSuchElementException if the element is undefined or null
+     */
+    public double getAsDouble(int index) {
+        if (!hasValue(index)) {
+            throw new NoSuchElementException(isDefined(index) ? "Value is null" : "Value is undefined");
+        }
+        return values[index];
+    }
+
+    /**
+     * @param index the index of the element
+     * @param other the value to return if the element is undefined or null
+     * @return the value of the element, or <code>other</code>
+     */
+    public double orElse(int index, double other) {
+        return hasValue(index) ? values[index] : other;
+    }
+
+    /**
+     * @param index the index of the element
+     * @return the element as a <code>JsonNullableDouble</code>; undefined and null elements return the shared instances
+     */
+    public JsonNullableDouble get(int index) {
+        if (hasValue(index)) {
+            return JsonNullableDouble.of(values[index]);
+        }
+        return isDefined(index) ? JsonNullableDouble.ofNull() : JsonNullableDouble.undefined();
+    }
+
+    @Override
+    public JsonNullable<Double> getNullable(int index) {
+        if (hasValue(index)) {
+            return JsonNullable.of(values[index]);
+        }
+        return isDefined(index) ? JsonNullable.of(null) : JsonNullable.undefined();
+    }
+
+    /**
+     * Call the action for every non-null value, in index order.
+     *
+     * @param action the action
+     */
+    public void forEachValue(DoubleConsumer action) {
+        for (int i = nextValue(0); i >= 0; i = nextValue(i + 1)) {
+            action.accept(values[i]);
+        }
+    }
+
+    /**
+     * @return the non-null values, in index order
+     */
+    public double[] toValueArray() {
+        double[] result = new double[valueCount()];
+        int n = 0;
+        for (int i = nextValue(0); i >= 0; i = nextValue(i + 1)) {
+            result[n++] = values[i];
+        }
+        return result;
+    }
+
+    /**
+     * @return the sum of the non-null values
+     */
+    public double sum() {
+        double[] values = this.values;
+        double sum = 0;
+        for (int i = 0, size = this.size; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @return the smallest non-null value, or empty if there is none
+     */
+    public OptionalDouble min() {
+        return extreme(true);
+    }
+
+    /**
+     * @return the largest non-null value, or empty if there is none
+     */
+    public OptionalDouble max() {
+        return extreme(false);
+    }
+
+    private OptionalDouble extreme(boolean min) {
+        long[] bits = nonNullBits();
+        double[] values = this.values;
+        boolean found = false;
+        double result = 0;
+        for (int word = 0, words = words(size); word < words; word++) {
+            long current = bits[word];
+            while (current != 0) {
+                int i = (word << 6) + Long.numberOfTrailingZeros(current);
+                current &= current - 1;
+                double value = values[i];
+                if (!found || (min ? Double.compare(value, result) < 0 : Double.compare(value, result) > 0)) {
+                    result = value;
+                    found = true;
+                }
+            }
+        }
+        return found ? OptionalDouble.of(result) : OptionalDouble.empty();
+    }
+
+    @Override
+    void setValueAt(int index, Object value) {
+        setAt(index, ((Number) value).doubleValue());
+    }
+
+    void setAt(int index, double value) {
+        setBits(index, true, true);
+        values[index] = value;
+    }
+
+    @Override
+    int capacity() {
+        return values.length;
+    }
+
+    @Override
+    void resize(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void clearValue(int index) {
+        values[index] = 0;
+    }
+
+    @Override
+    boolean valuesEqual(JsonNullableColumn other) {
+        double[] otherValues = ((JsonNullableDoubleArray) other).values;
+        for (int i = nextValue(0); i >= 0; i = nextValue(i + 1)) {
+            if (Double.compare(values[i], otherValues[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
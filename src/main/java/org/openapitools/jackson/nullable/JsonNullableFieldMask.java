@@ -0,0 +1,139 @@
+package org.openapitools.jackson.nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled sparse fieldset, as in <code>?fields=id,owner.name</code>, that limits which bean properties are
+ * serialized.
+ * <p>
+ * A mask is a comma-separated list of property paths, with dots between the names of nested properties. Selecting a
+ * property selects everything below it; the properties of a bean that is not selected are never read. A mask applies
+ * to the elements of arrays, collections and maps the same way as to a single value. Properties written by an
+ * any-getter are not masked.
+ * <p>
+ * Masks are immutable and safe to share. Pass one per request as the {@link #ATTRIBUTE} attribute of an
+ * <code>ObjectWriter</code>, with the module configured to apply masks:
+ * <pre>
+ * mapper.registerModule(new JsonNullableModule().configureFieldMasks(true));
+ * mapper.writer().withAttribute(JsonNullableFieldMask.ATTRIBUTE, JsonNullableFieldMask.compile(fields))
+ * </pre>
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableFieldMask {
+
+    /**
+     * The key of the serialization attribute that holds the mask.
+     */
+    public static final String ATTRIBUTE = JsonNullableFieldMask.class.getName();
+
+    /**
+     * Number of distinct mask expressions kept by {@link #compile(String)}; further expressions are compiled on
+     * every call, so that masks from client input cannot grow the cache without bound.
+     */
+    static final int MAXIMUM_CACHED = 1024;
+
+    /**
+     * The mask that selects every property.
+     */
+    public static final JsonNullableFieldMask ALL = new JsonNullableFieldMask(null);
+
+    private static final ConcurrentHashMap<String, JsonNullableFieldMask> CACHE = new ConcurrentHashMap<>();
+
+    // null for ALL
+    private final Map<String, JsonNullableFieldMask> children;
+
+    private JsonNullableFieldMask(Map<String, JsonNullableFieldMask> children) {
+        this.children = children;
+    }
+
+    /**
+     * @param fields a comma-separated list of dotted property paths, such as <code>id,owner.name</code>
+     * @return the compiled mask, shared with earlier calls for the same expression
+     * @throws IllegalArgumentException if a path has an empty property name
+     */
+    public static JsonNullableFieldMask compile(String fields) {
+        Objects.requireNonNull(fields, "fields");
+        JsonNullableFieldMask mask = CACHE.get(fields);
+        if (mask == null) {
+            mask = parse(fields);
+            if (CACHE.size() < MAXIMUM_CACHED) {
+                JsonNullableFieldMask raced = CACHE.putIfAbsent(fields, mask);
+                if (raced != null) {
+                    mask = raced;
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @param name the name of a property of the bean this mask applies to
+     * @return the mask for the value of the property, or null if the property is not selected
+     */
+    public JsonNullableFieldMask child(String name) {
+        return children == null ? this : children.get(name);
+    }
+
+    /**
+     * @return true if this mask selects every property
+     */
+    public boolean isAll() {
+        return children == null;
+    }
+
+    private static JsonNullableFieldMask parse(String fields) {
+        Node root = new Node();
+        for (String path : fields.split(",", -1)) {
+            Node node = root;
+            String[] names = path.split("\\.", -1);
+            for (int i = 0; i < names.length && node.children != null; i++) {
+                String name = names[i].trim();
+                if (name.isEmpty()) {
+                    throw new IllegalArgumentException("Empty property name in field mask '" + fields + "'");
+                }
+                node = node.children.computeIfAbsent(name, key -> new Node());
+            }
+            // a selected property includes everything below it, also paths listed before it
+            node.children = null;
+        }
+        return root.freeze();
+    }
+
+    private static final class Node {
+
+        // null once the node is selected as a whole
+        Map<String, Node> children = new HashMap<>();
+
+        JsonNullableFieldMask freeze() {
+            if (children == null) {
+                return ALL;
+            }
+            Map<String, JsonNullableFieldMask> frozen = new HashMap<>();
+            children.forEach((name, child) -> frozen.put(name, child.freeze()));
+            return new JsonNullableFieldMask(Collections.unmodifiableMap(frozen));
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (children == null) {
+            return "*";
+        }
+        StringBuilder sb = new StringBuilder();
+        children.forEach((name, child) -> {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(name);
+            if (!child.isAll()) {
+                sb.append('(').append(child).append(')');
+            }
+        });
+        return sb.toString();
+    }
+}
@@ -0,0 +1,146 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.AnyGetterWriter;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.ObjectIdWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Jackson 2 bean serializer that applies the {@link JsonNullableFieldMask} of the current serialization, if any:
+ * properties outside the mask are skipped without reading them, and selected properties are written with the mask
+ * for their value in place.
+ */
+public class JsonNullableFieldMaskJackson2BeanSerializer extends BeanSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    protected JsonNullableFieldMaskJackson2BeanSerializer(BeanSerializerBase src) {
+        super(src);
+    }
+
+    protected JsonNullableFieldMaskJackson2BeanSerializer(BeanSerializerBase src, ObjectIdWriter objectIdWriter) {
+        super(src, objectIdWriter);
+    }
+
+    protected JsonNullableFieldMaskJackson2BeanSerializer(BeanSerializerBase src, ObjectIdWriter objectIdWriter,
+                                                          Object filterId) {
+        super(src, objectIdWriter, filterId);
+    }
+
+    protected JsonNullableFieldMaskJackson2BeanSerializer(BeanSerializerBase src, Set<String> toIgnore,
+                                                          Set<String> toInclude) {
+        super(src, toIgnore, toInclude);
+    }
+
+    protected JsonNullableFieldMaskJackson2BeanSerializer(BeanSerializerBase src, BeanPropertyWriter[] properties,
+                                                          BeanPropertyWriter[] filteredProperties) {
+        super(src, properties, filteredProperties);
+    }
+
+    @Override
+    public JsonSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+        return new JsonNullableFieldMaskJackson2UnwrappingBeanSerializer(this, unwrapper);
+    }
+
+    @Override
+    public BeanSerializerBase withObjectIdWriter(ObjectIdWriter objectIdWriter) {
+        return new JsonNullableFieldMaskJackson2BeanSerializer(this, objectIdWriter, _propertyFilterId);
+    }
+
+    @Override
+    public BeanSerializerBase withFilterId(Object filterId) {
+        return new JsonNullableFieldMaskJackson2BeanSerializer(this, _objectIdWriter, filterId);
+    }
+
+    @Override
+    protected BeanSerializerBase withByNameInclusion(Set<String> toIgnore, Set<String> toInclude) {
+        return new JsonNullableFieldMaskJackson2BeanSerializer(this, toIgnore, toInclude);
+    }
+
+    @Override
+    protected BeanSerializerBase withProperties(BeanPropertyWriter[] properties,
+                                                BeanPropertyWriter[] filteredProperties) {
+        return new JsonNullableFieldMaskJackson2BeanSerializer(this, properties, filteredProperties);
+    }
+
+    @Override
+    protected void serializeFields(Object bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        final BeanPropertyWriter[] props = (_filteredProps != null && provider.getActiveView() != null)
+                ? _filteredProps : _props;
+        if (!serializeMasked(this, props, null, null, bean, gen, provider)) {
+            super.serializeFields(bean, gen, provider);
+        }
+    }
+
+    @Override
+    protected void serializeFieldsFiltered(Object bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        final BeanPropertyWriter[] props = (_filteredProps != null && provider.getActiveView() != null)
+                ? _filteredProps : _props;
+        final PropertyFilter filter = findPropertyFilter(provider, _propertyFilterId, bean);
+        // without a filter, the superclass writes the fields with serializeFields
+        if (filter == null || !serializeMasked(this, props, null, filter, bean, gen, provider)) {
+            super.serializeFieldsFiltered(bean, gen, provider);
+        }
+    }
+
+    /**
+     * Write the properties of a bean that the field mask of the current serialization selects.
+     *
+     * @param props     the properties of the serializer for the active view, if any
+     * @param unwrapper the renaming of the properties of an unwrapped bean, to match them by their own names
+     * @param filter    the <code>@JsonFilter</code> of the bean, which decides on the selected properties, or null
+     * @return false if there is no mask to apply, in which case nothing has been written
+     */
+    static boolean serializeMasked(BeanSerializerBase serializer, BeanPropertyWriter[] props,
+                                   NameTransformer unwrapper, PropertyFilter filter, Object bean, JsonGenerator gen,
+                                   SerializerProvider provider) throws IOException {
+        final Object attribute = provider.getAttribute(JsonNullableFieldMask.ATTRIBUTE);
+        if (!(attribute instanceof JsonNullableFieldMask) || ((JsonNullableFieldMask) attribute).isAll()) {
+            return false;
+        }
+        final JsonNullableFieldMask mask = (JsonNullableFieldMask) attribute;
+        int i = 0;
+        try {
+            for (; i < props.length; ++i) {
+                BeanPropertyWriter prop = props[i];
+                if (prop == null) { // excluded by the active view
+                    continue;
+                }
+                // the entries of an any-getter are not properties of the mask
+                JsonNullableFieldMask child = (prop instanceof AnyGetterWriter)
+                        ? JsonNullableFieldMask.ALL : mask.child(maskedName(prop.getName(), unwrapper));
+                if (child == null) {
+                    continue;
+                }
+                provider.setAttribute(JsonNullableFieldMask.ATTRIBUTE, child);
+                if (filter == null) {
+                    prop.serializeAsField(bean, gen, provider);
+                } else {
+                    filter.serializeAsField(bean, gen, provider, prop);
+                }
+            }
+        } catch (Exception e) {
+            serializer.wrapAndThrow(provider, e, bean, props[i].getName());
+        } finally {
+            provider.setAttribute(JsonNullableFieldMask.ATTRIBUTE, mask);
+        }
+        return true;
+    }
+
+    private static String maskedName(String name, NameTransformer unwrapper) {
+        if (unwrapper == null) {
+            return name;
+        }
+        String original = unwrapper.reverse(name);
+        return original == null ? name : original;
+    }
+}
@@ -0,0 +1,91 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.ObjectIdWriter;
+import com.fasterxml.jackson.databind.ser.impl.UnwrappingBeanSerializer;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * The {@link JsonNullableFieldMaskJackson2BeanSerializer} of a bean that is written as the
+ * <code>@JsonUnwrapped</code> property of another bean.
+ */
+public class JsonNullableFieldMaskJackson2UnwrappingBeanSerializer extends UnwrappingBeanSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    public JsonNullableFieldMaskJackson2UnwrappingBeanSerializer(BeanSerializerBase src, NameTransformer unwrapper) {
+        super(src, unwrapper);
+    }
+
+    protected JsonNullableFieldMaskJackson2UnwrappingBeanSerializer(UnwrappingBeanSerializer src,
+                                                                    ObjectIdWriter objectIdWriter, Object filterId) {
+        super(src, objectIdWriter, filterId);
+    }
+
+    protected JsonNullableFieldMaskJackson2UnwrappingBeanSerializer(UnwrappingBeanSerializer src,
+                                                                    Set<String> toIgnore, Set<String> toInclude) {
+        super(src, toIgnore, toInclude);
+    }
+
+    protected JsonNullableFieldMaskJackson2UnwrappingBeanSerializer(UnwrappingBeanSerializer src,
+                                                                    BeanPropertyWriter[] properties,
+                                                                    BeanPropertyWriter[] filteredProperties) {
+        super(src, properties, filteredProperties);
+    }
+
+    @Override
+    public JsonSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+        return new JsonNullableFieldMaskJackson2UnwrappingBeanSerializer(this, unwrapper);
+    }
+
+    @Override
+    public BeanSerializerBase withObjectIdWriter(ObjectIdWriter objectIdWriter) {
+        return new JsonNullableFieldMaskJackson2UnwrappingBeanSerializer(this, objectIdWriter, _propertyFilterId);
+    }
+
+    @Override
+    public BeanSerializerBase withFilterId(Object filterId) {
+        return new JsonNullableFieldMaskJackson2UnwrappingBeanSerializer(this, _objectIdWriter, filterId);
+    }
+
+    @Override
+    protected BeanSerializerBase withByNameInclusion(Set<String> toIgnore, Set<String> toInclude) {
+        return new JsonNullableFieldMaskJackson2UnwrappingBeanSerializer(this, toIgnore, toInclude);
+    }
+
+    @Override
+    protected BeanSerializerBase withProperties(BeanPropertyWriter[] properties,
+                                                BeanPropertyWriter[] filteredProperties) {
+        return new JsonNullableFieldMaskJackson2UnwrappingBeanSerializer(this, properties, filteredProperties);
+    }
+
+    @Override
+    protected void serializeFields(Object bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        final BeanPropertyWriter[] props = (_filteredProps != null && provider.getActiveView() != null)
+                ? _filteredProps : _props;
+        if (!JsonNullableFieldMaskJackson2BeanSerializer.serializeMasked(this, props, _nameTransformer, null,
+                bean, gen, provider)) {
+            super.serializeFields(bean, gen, provider);
+        }
+    }
+
+    @Override
+    protected void serializeFieldsFiltered(Object bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        final BeanPropertyWriter[] props = (_filteredProps != null && provider.getActiveView() != null)
+                ? _filteredProps : _props;
+        final PropertyFilter filter = findPropertyFilter(provider, _propertyFilterId, bean);
+        // without a filter, the superclass writes the fields with serializeFields
+        if (filter == null || !JsonNullableFieldMaskJackson2BeanSerializer.serializeMasked(this, props,
+                _nameTransformer, filter, bean, gen, provider)) {
+            super.serializeFieldsFiltered(bean, gen, provider);
+        }
+    }
+}
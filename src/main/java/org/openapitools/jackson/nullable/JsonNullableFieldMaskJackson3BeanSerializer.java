@@ -0,0 +1,151 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.ser.AnyGetterWriter;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.BeanSerializer;
+import tools.jackson.databind.ser.PropertyFilter;
+import tools.jackson.databind.ser.bean.BeanSerializerBase;
+import tools.jackson.databind.ser.impl.ObjectIdWriter;
+import tools.jackson.databind.util.NameTransformer;
+
+import java.util.Set;
+
+/**
+ * Jackson 3 bean serializer that applies the {@link JsonNullableFieldMask} of the current serialization, if any:
+ * properties outside the mask are skipped without reading them, and selected properties are written with the mask
+ * for their value in place.
+ */
+public class JsonNullableFieldMaskJackson3BeanSerializer extends BeanSerializer {
+
+    protected JsonNullableFieldMaskJackson3BeanSerializer(BeanSerializerBase src) {
+        super(src);
+    }
+
+    protected JsonNullableFieldMaskJackson3BeanSerializer(BeanSerializerBase src, ObjectIdWriter objectIdWriter) {
+        super(src, objectIdWriter);
+    }
+
+    protected JsonNullableFieldMaskJackson3BeanSerializer(BeanSerializerBase src, ObjectIdWriter objectIdWriter,
+                                                          Object filterId) {
+        super(src, objectIdWriter, filterId);
+    }
+
+    protected JsonNullableFieldMaskJackson3BeanSerializer(BeanSerializerBase src, Set<String> toIgnore,
+                                                          Set<String> toInclude) {
+        super(src, toIgnore, toInclude);
+    }
+
+    protected JsonNullableFieldMaskJackson3BeanSerializer(BeanSerializerBase src, BeanPropertyWriter[] properties,
+                                                          BeanPropertyWriter[] filteredProperties) {
+        super(src, properties, filteredProperties);
+    }
+
+    @Override
+    public ValueSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+        return new JsonNullableFieldMaskJackson3UnwrappingBeanSerializer(this, unwrapper);
+    }
+
+    @Override
+    public BeanSerializerBase withObjectIdWriter(ObjectIdWriter objectIdWriter) {
+        return new JsonNullableFieldMaskJackson3BeanSerializer(this, objectIdWriter, _propertyFilterId);
+    }
+
+    @Override
+    public BeanSerializerBase withFilterId(Object filterId) {
+        return new JsonNullableFieldMaskJackson3BeanSerializer(this, _objectIdWriter, filterId);
+    }
+
+    @Override
+    protected BeanSerializerBase withByNameInclusion(Set<String> toIgnore, Set<String> toInclude) {
+        return new JsonNullableFieldMaskJackson3BeanSerializer(this, toIgnore, toInclude);
+    }
+
+    @Override
+    protected BeanSerializerBase withProperties(BeanPropertyWriter[] properties,
+                                                BeanPropertyWriter[] filteredProperties) {
+        return new JsonNullableFieldMaskJackson3BeanSerializer(this, properties, filteredProperties);
+    }
+
+    @Override
+    protected void _serializePropertiesNoView(Object bean, JsonGenerator gen, SerializationContext ctxt,
+                                              BeanPropertyWriter[] props) {
+        if (!serializeMasked(this, props, null, null, bean, gen, ctxt)) {
+            super._serializePropertiesNoView(bean, gen, ctxt, props);
+        }
+    }
+
+    @Override
+    protected void _serializePropertiesMaybeView(Object bean, JsonGenerator gen, SerializationContext ctxt,
+                                                 BeanPropertyWriter[] props) {
+        if (!serializeMasked(this, props, null, null, bean, gen, ctxt)) {
+            super._serializePropertiesMaybeView(bean, gen, ctxt, props);
+        }
+    }
+
+    @Override
+    protected void _serializePropertiesFiltered(Object bean, JsonGenerator gen, SerializationContext ctxt,
+                                                Object filterId) {
+        final BeanPropertyWriter[] props = (_filteredProps != null && ctxt.getActiveView() != null)
+                ? _filteredProps : _props;
+        final PropertyFilter filter = findPropertyFilter(ctxt, filterId, bean);
+        // without a filter, the superclass writes the properties with the methods above
+        if (filter == null || !serializeMasked(this, props, null, filter, bean, gen, ctxt)) {
+            super._serializePropertiesFiltered(bean, gen, ctxt, filterId);
+        }
+    }
+
+    /**
+     * Write the properties of a bean that the field mask of the current serialization selects.
+     *
+     * @param props     the properties of the serializer for the active view, if any
+     * @param unwrapper the renaming of the properties of an unwrapped bean, to match them by their own names
+     * @param filter    the <code>@JsonFilter</code> of the bean, which decides on the selected properties, or null
+     * @return false if there is no mask to apply, in which case nothing has been written
+     */
+    static boolean serializeMasked(BeanSerializerBase serializer, BeanPropertyWriter[] props,
+                                   NameTransformer unwrapper, PropertyFilter filter, Object bean, JsonGenerator gen,
+                                   SerializationContext ctxt) {
+        final Object attribute = ctxt.getAttribute(JsonNullableFieldMask.ATTRIBUTE);
+        if (!(attribute instanceof JsonNullableFieldMask) || ((JsonNullableFieldMask) attribute).isAll()) {
+            return false;
+        }
+        final JsonNullableFieldMask mask = (JsonNullableFieldMask) attribute;
+        int i = 0;
+        try {
+            for (; i < props.length; ++i) {
+                BeanPropertyWriter prop = props[i];
+                if (prop == null) { // excluded by the active view
+                    continue;
+                }
+                // the entries of an any-getter are not properties of the mask
+                JsonNullableFieldMask child = (prop instanceof AnyGetterWriter)
+                        ? JsonNullableFieldMask.ALL : mask.child(maskedName(prop.getName(), unwrapper));
+                if (child == null) {
+                    continue;
+                }
+                ctxt.setAttribute(JsonNullableFieldMask.ATTRIBUTE, child);
+                if (filter == null) {
+                    prop.serializeAsProperty(bean, gen, ctxt);
+                } else {
+                    filter.serializeAsProperty(bean, gen, ctxt, prop);
+                }
+            }
+        } catch (Exception e) {
+            serializer.wrapAndThrow(ctxt, e, bean, props[i].getName());
+        } finally {
+            ctxt.setAttribute(JsonNullableFieldMask.ATTRIBUTE, mask);
+        }
+        return true;
+    }
+
+    private static String maskedName(String name, NameTransformer unwrapper) {
+        if (unwrapper == null) {
+            return name;
+        }
+        String original = unwrapper.reverse(name);
+        return original == null ? name : original;
+    }
+}
@@ -0,0 +1,97 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.PropertyFilter;
+import tools.jackson.databind.ser.bean.BeanSerializerBase;
+import tools.jackson.databind.ser.bean.UnwrappingBeanSerializer;
+import tools.jackson.databind.ser.impl.ObjectIdWriter;
+import tools.jackson.databind.util.NameTransformer;
+
+import java.util.Set;
+
+/**
+ * The {@link JsonNullableFieldMaskJackson3BeanSerializer} of a bean that is written as the
+ * <code>@JsonUnwrapped</code> property of another bean.
+ */
+public class JsonNullableFieldMaskJackson3UnwrappingBeanSerializer extends UnwrappingBeanSerializer {
+
+    public JsonNullableFieldMaskJackson3UnwrappingBeanSerializer(BeanSerializerBase src, NameTransformer unwrapper) {
+        super(src, unwrapper);
+    }
+
+    protected JsonNullableFieldMaskJackson3UnwrappingBeanSerializer(UnwrappingBeanSerializer src,
+                                                                    ObjectIdWriter objectIdWriter, Object filterId) {
+        super(src, objectIdWriter, filterId);
+    }
+
+    protected JsonNullableFieldMaskJackson3UnwrappingBeanSerializer(UnwrappingBeanSerializer src,
+                                                                    Set<String> toIgnore, Set<String> toInclude) {
+        super(src, toIgnore, toInclude);
+    }
+
+    protected JsonNullableFieldMaskJackson3UnwrappingBeanSerializer(UnwrappingBeanSerializer src,
+                                                                    BeanPropertyWriter[] properties,
+                                                                    BeanPropertyWriter[] filteredProperties) {
+        super(src, properties, filteredProperties);
+    }
+
+    @Override
+    public ValueSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+        return new JsonNullableFieldMaskJackson3UnwrappingBeanSerializer(this, unwrapper);
+    }
+
+    @Override
+    public BeanSerializerBase withObjectIdWriter(ObjectIdWriter objectIdWriter) {
+        return new JsonNullableFieldMaskJackson3UnwrappingBeanSerializer(this, objectIdWriter, _propertyFilterId);
+    }
+
+    @Override
+    public BeanSerializerBase withFilterId(Object filterId) {
+        return new JsonNullableFieldMaskJackson3UnwrappingBeanSerializer(this, _objectIdWriter, filterId);
+    }
+
+    @Override
+    protected BeanSerializerBase withByNameInclusion(Set<String> toIgnore, Set<String> toInclude) {
+        return new JsonNullableFieldMaskJackson3UnwrappingBeanSerializer(this, toIgnore, toInclude);
+    }
+
+    @Override
+    protected BeanSerializerBase withProperties(BeanPropertyWriter[] properties,
+                                                BeanPropertyWriter[] filteredProperties) {
+        return new JsonNullableFieldMaskJackson3UnwrappingBeanSerializer(this, properties, filteredProperties);
+    }
+
+    @Override
+    protected void _serializePropertiesNoView(Object bean, JsonGenerator gen, SerializationContext ctxt,
+                                              BeanPropertyWriter[] props) {
+        if (!JsonNullableFieldMaskJackson3BeanSerializer.serializeMasked(this, props, _nameTransformer, null,
+                bean, gen, ctxt)) {
+            super._serializePropertiesNoView(bean, gen, ctxt, props);
+        }
+    }
+
+    @Override
+    protected void _serializePropertiesMaybeView(Object bean, JsonGenerator gen, SerializationContext ctxt,
+                                                 BeanPropertyWriter[] props) {
+        if (!JsonNullableFieldMaskJackson3BeanSerializer.serializeMasked(this, props, _nameTransformer, null,
+                bean, gen, ctxt)) {
+            super._serializePropertiesMaybeView(bean, gen, ctxt, props);
+        }
+    }
+
+    @Override
+    protected void _serializePropertiesFiltered(Object bean, JsonGenerator gen, SerializationContext ctxt,
+                                                Object filterId) {
+        final BeanPropertyWriter[] props = (_filteredProps != null && ctxt.getActiveView() != null)
+                ? _filteredProps : _props;
+        final PropertyFilter filter = findPropertyFilter(ctxt, filterId, bean);
+        // without a filter, the superclass writes the properties with the methods above
+        if (filter == null || !JsonNullableFieldMaskJackson3BeanSerializer.serializeMasked(this, props,
+                _nameTransformer, filter, bean, gen, ctxt)) {
+            super._serializePropertiesFiltered(bean, gen, ctxt, filterId);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package org.openapitools.jackson.nullable;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * A primitive specialization of <code>JsonNullable&lt;Integer&gt;</code>, in the style of
+ * {@link java.util.OptionalInt}. Like {@link JsonNullable} it distinguishes an undefined value
+ * from an explicit <code>null</code> and from a present <code>int</code>, without boxing the value.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableInt implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final JsonNullableInt UNDEFINED = new JsonNullableInt(0, false, false);
+
+    private static final JsonNullableInt NULL = new JsonNullableInt(0, true, true);
+
+    private final int value;
+
+    private final boolean isPresent;
+
+    private final boolean isNull;
+
+    private JsonNullableInt(int value, boolean isPresent, boolean isNull) {
+        this.value = value;
+        this.isPresent = isPresent;
+        this.isNull = isNull;
+    }
+
+    /**
+     * Create a <code>JsonNullableInt</code> representing an undefined value (not present).
+     *
+     * @return the shared undefined <code>JsonNullableInt</code>
+     */
+    public static JsonNullableInt undefined() {
+        return UNDEFINED;
+    }
+
+    /**
+     * Create a <code>JsonNullableInt</code> representing an explicit <code>null</code>.
+     *
+     * @return the shared <code>JsonNullableInt</code> with a present <code>null</code> value
+     */
+    public static JsonNullableInt ofNull() {
+        return NULL;
+    }
+
+    /**
+     * Create a <code>JsonNullableInt</code> from the submitted value.
+     *
+     * @param value the value
+     * @return the <code>JsonNullableInt</code> with the submitted value present
+     */
+    public static JsonNullableInt of(int value) {
+        return new JsonNullableInt(value, true, false);
+    }
+
+    /**
+     * Create a <code>JsonNullableInt</code> from the submitted boxed value.
+     *
+     * @param value the value, may be null
+     * @return the <code>JsonNullableInt</code> with the submitted value present
+     */
+    public static JsonNullableInt of(Integer value) {
+        return value == null ? NULL : of(value.intValue());
+    }
+
+    /**
+     * Obtain the value of this <code>JsonNullableInt</code>.
+     *
+     * @return the value, if present and not null
+     * @throws NoSuchElementException if no value is present or the value is null
+     */
+    public int getAsInt() {
+        if (!isPresent) {
+            throw new NoSuchElementException("Value is undefined");
+        }
+        if (isNull) {
+            throw new NoSuchElementException("Value is null");
+        }
+        return value;
+    }
+
+    /**
+     * Obtain the value of this <code>JsonNullableInt</code>.
+     *
+     * @param other the value to be returned if no value is present or the value is null
+     * @return the value of this <code>JsonNullableInt</code> if present and not null, the submitted value otherwise
+     */
+    public int orElse(int other) {
+        return isPresent && !isNull ? value : other;
+    }
+
+    /**
+     * If a value is present, returns true, otherwise false. A present value may be null.
+     *
+     * @return true if a value is present, otherwise false
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * If a value is not present, returns true, otherwise false.
+     *
+     * @return true if a value is not present, otherwise false
+     */
+    public boolean isUndefined() {
+        return !isPresent;
+    }
+
+    /**
+     * If the value is present and null, returns true, otherwise false.
+     *
+     * @return true if an explicit null is present, otherwise false
+     */
+    public boolean isNull() {
+        return isNull;
+    }
+
+    /**
+     * If a non-null value is present, performs the given action with the value,
+     * otherwise does nothing.
+     *
+     * @param action the action to be performed, if a non-null value is present
+     */
+    public void ifPresent(IntConsumer action) {
+        if (isPresent && !isNull) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Convert to the boxing <code>JsonNullable</code> with the same state.
+     *
+     * @return the equivalent <code>JsonNullable</code>
+     */
+    public JsonNullable<Integer> toJsonNullable() {
+        if (!isPresent) {
+            return JsonNullable.undefined();
+        }
+        return JsonNullable.of(isNull ? null : Integer.valueOf(value));
+    }
+
+    private Object readResolve() {
+        if (!isPresent) {
+            return UNDEFINED;
+        }
+        return isNull ? NULL : this;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof JsonNullableInt)) {
+            return false;
+        }
+        JsonNullableInt other = (JsonNullableInt) obj;
+        return isPresent == other.isPresent && isNull == other.isNull && value == other.value;
+    }
+
+    @Override
+    public int hashCode() {
+        if (!isPresent) {
+            return 0;
+        }
+        return isNull ? 1 : 31 + Integer.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        if (!isPresent) {
+            return "JsonNullableInt.undefined";
+        }
+        return isNull ? "JsonNullableInt[null]" : "JsonNullableInt[" + value + "]";
+    }
+}
@@ -0,0 +1,165 @@
+package org.openapitools.jackson.nullable;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * A primitive specialization of <code>JsonNullableCell&lt;Integer&gt;</code>, the mutable counterpart of
+ * {@link JsonNullableInt}: setting a value stores the <code>int</code> itself, so a cell reused for every record
+ * reads numbers without boxing them. Like <code>JsonNullableInt</code>, a cell is undefined, holds an explicit
+ * <code>null</code>, or holds a value.
+ * <p>
+ * {@link JsonNullableCellsJackson2} and {@link JsonNullableCellsJackson3} fill cells from a parser. Cells are not
+ * safe for concurrent use.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableIntCell {
+
+    private int value;
+
+    private boolean isPresent;
+
+    private boolean isNull;
+
+    /**
+     * Create an undefined cell.
+     */
+    public JsonNullableIntCell() {
+    }
+
+    /**
+     * Set a present value.
+     *
+     * @param value the value
+     * @return this cell
+     */
+    public JsonNullableIntCell set(int value) {
+        this.value = value;
+        this.isPresent = true;
+        this.isNull = false;
+        return this;
+    }
+
+    /**
+     * Set an explicit <code>null</code>.
+     *
+     * @return this cell
+     */
+    public JsonNullableIntCell markNull() {
+        this.value = 0;
+        this.isPresent = true;
+        this.isNull = true;
+        return this;
+    }
+
+    /**
+     * Make the cell undefined.
+     *
+     * @return this cell
+     */
+    public JsonNullableIntCell clear() {
+        this.value = 0;
+        this.isPresent = false;
+        this.isNull = false;
+        return this;
+    }
+
+    /**
+     * Take over the state of a <code>JsonNullableInt</code>; a null reference counts as undefined.
+     *
+     * @param nullable the state to copy
+     * @return this cell
+     */
+    public JsonNullableIntCell setFrom(JsonNullableInt nullable) {
+        if (nullable == null || !nullable.isPresent()) {
+            return clear();
+        }
+        return nullable.isNull() ? markNull() : set(nullable.getAsInt());
+    }
+
+    /**
+     * Obtain the value of this cell.
+     *
+     * @return the value, if present and not null
+     * @throws NoSuchElementException if no value is present or the value is null
+     */
+    public int getAsInt() {
+        if (!isPresent) {
+            throw new NoSuchElementException("Value is undefined");
+        }
+        if (isNull) {
+            throw new NoSuchElementException("Value is null");
+        }
+        return value;
+    }
+
+    /**
+     * Obtain the value of this cell.
+     *
+     * @param other the value to be returned if no value is present or the value is null
+     * @return the value of this cell if present and not null, the submitted value otherwise
+     */
+    public int orElse(int other) {
+        return isPresent && !isNull ? value : other;
+    }
+
+    /**
+     * If a value is present, returns true, otherwise false. A present value may be null.
+     *
+     * @return true if a value is present, otherwise false
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * If a value is not present, returns true, otherwise false.
+     *
+     * @return true if a value is not present, otherwise false
+     */
+    public boolean isUndefined() {
+        return !isPresent;
+    }
+
+    /**
+     * If the value is present and null, returns true, otherwise false.
+     *
+     * @return true if an explicit null is present, otherwise false
+     */
+    public boolean isNull() {
+        return isNull;
+    }
+
+    /**
+     * If a non-null value is present, performs the given action with the value, otherwise does nothing.
+     *
+     * @param action the action to be performed, if a non-null value is present
+     */
+    public void ifPresent(IntConsumer action) {
+        if (isPresent && !isNull) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Convert to an immutable <code>JsonNullableInt</code> with the same state. Undefined cells and explicit nulls
+     * convert without allocating.
+     *
+     * @return the equivalent <code>JsonNullableInt</code>
+     */
+    public JsonNullableInt toJsonNullableInt() {
+        if (!isPresent) {
+            return JsonNullableInt.undefined();
+        }
+        return isNull ? JsonNullableInt.ofNull() : JsonNullableInt.of(value);
+    }
+
+    @Override
+    public String toString() {
+        if (!isPresent) {
+            return "JsonNullableIntCell.undefined";
+        }
+        return isNull ? "JsonNullableIntCell[null]" : "JsonNullableIntCell[" + value + "]";
+    }
+}
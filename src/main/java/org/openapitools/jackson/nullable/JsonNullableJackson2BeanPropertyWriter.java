@@ -1,6 +1,7 @@
 package org.openapitools.jackson.nullable;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.PropertyName;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
@@ -31,11 +32,37 @@ public class JsonNullableJackson2BeanPropertyWriter extends BeanPropertyWriter
     @Override
     public void serializeAsField(Object bean, JsonGenerator jgen, SerializerProvider prov) throws Exception
     {
-        Object value = get(bean);
-        if (JsonNullable.undefined().equals(value) || (_nullSerializer == null && value == null)) {
+        // read the value only once: delegating to super would invoke the accessor a second time
+        final Object value = get(bean);
+        if (value == null) {
+            if (_nullSerializer == null
+                    || (_suppressableValue != null && prov.includeFilterSuppressNulls(_suppressableValue))) {
+                return;
+            }
+            jgen.writeFieldName(_name);
+            _nullSerializer.serialize(null, jgen, prov);
             return;
         }
-        super.serializeAsField(bean, jgen, prov);
+        if (JsonNullableTypes.isUndefined(value)) {
+            return;
+        }
+        serializePresentValue(value, jgen, prov);
+    }
+
+    /**
+     * Writes a value that is known to be non-null and not undefined, using the resolved serializer.
+     */
+    void serializePresentValue(Object value, JsonGenerator jgen, SerializerProvider prov) throws Exception
+    {
+        JsonSerializer<Object> ser = _serializer;
+        if (ser == null) {
+            Class<?> cls = value.getClass();
+            ser = _dynamicSerializers.serializerFor(cls);
+            if (ser == null) {
+                ser = _findAndAddDynamic(_dynamicSerializers, cls, prov);
+            }
+        }
+        JsonNullableJackson2PropertyWriters.serializePresentValue(this, ser, _suppressableValue, value, jgen, prov);
     }
 
 }
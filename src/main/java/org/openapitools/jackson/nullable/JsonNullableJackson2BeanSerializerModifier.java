@@ -2,14 +2,32 @@ package org.openapitools.jackson.nullable;
 
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 
 import java.util.List;
 
 public class JsonNullableJackson2BeanSerializerModifier extends BeanSerializerModifier
 {
+    private final boolean fieldMasks;
+
+    public JsonNullableJackson2BeanSerializerModifier()
+    {
+        this(false);
+    }
+
+    /**
+     * @param fieldMasks true to serialize beans with a serializer that applies {@link JsonNullableFieldMask}s
+     * @since 0.2.12
+     */
+    public JsonNullableJackson2BeanSerializerModifier(boolean fieldMasks)
+    {
+        this.fieldMasks = fieldMasks;
+    }
+
     @Override
     public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
                                                      BeanDescription beanDesc,
@@ -18,10 +36,26 @@ public class JsonNullableJackson2BeanSerializerModifier extends BeanSerializerMo
         for (int i = 0; i < beanProperties.size(); ++i) {
             final BeanPropertyWriter writer = beanProperties.get(i);
             JavaType type = writer.getType();
-            if (type.isTypeOrSubTypeOf(JsonNullable.class)) {
+            if (JsonNullableTypes.isJsonNullableType(type.getRawClass())) {
                 beanProperties.set(i, new JsonNullableJackson2BeanPropertyWriter(writer));
             }
         }
         return beanProperties;
     }
+
+    @Override
+    public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                              JsonSerializer<?> serializer)
+    {
+        if (serializer.getClass() != BeanSerializer.class) {
+            return serializer;
+        }
+        if (serializer.handledType().isAnnotationPresent(JsonNullableSparse.class)) {
+            return new JsonNullableSparseJackson2BeanSerializer((BeanSerializer) serializer);
+        }
+        if (fieldMasks) {
+            return new JsonNullableFieldMaskJackson2BeanSerializer((BeanSerializer) serializer);
+        }
+        return serializer;
+    }
 }
\ No newline at end of file
@@ -3,22 +3,38 @@ package org.openapitools.jackson.nullable;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.InjectableValues;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
 import com.fasterxml.jackson.databind.deser.ValueInstantiator;
 import com.fasterxml.jackson.databind.deser.std.ReferenceTypeDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.type.ReferenceType;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 public class JsonNullableJackson2Deserializer extends ReferenceTypeDeserializer<JsonNullable<Object>> {
 
     private static final long serialVersionUID = 1L;
 
-    private boolean isStringDeserializer = false;
+    // Whether blank strings are deserialized as undefined, resolved once per property
+    private final boolean blankAsUndefined;
+
+    // Whether deserialized values use the shared instances of JsonNullable.ofCanonical
+    private final boolean canonicalValues;
+
+    // Whether objects and arrays are buffered and decoded on first access, resolved once per property
+    private final boolean lazyValues;
 
     /*
     /**********************************************************
@@ -27,10 +43,53 @@ public class JsonNullableJackson2Deserializer extends ReferenceTypeDeserializer<
      */
     public JsonNullableJackson2Deserializer(JavaType fullType, ValueInstantiator inst,
                                             TypeDeserializer typeDeser, JsonDeserializer<?> deser) {
+        this(fullType, inst, typeDeser, deser, !isStringType(fullType), false, false);
+    }
+
+    protected JsonNullableJackson2Deserializer(JavaType fullType, ValueInstantiator inst,
+                                            TypeDeserializer typeDeser, JsonDeserializer<?> deser,
+                                            boolean blankAsUndefined, boolean canonicalValues, boolean lazyValues) {
         super(fullType, inst, typeDeser, deser);
-        if (fullType instanceof ReferenceType && ((ReferenceType) fullType).getReferencedType() != null) {
-            this.isStringDeserializer = ((ReferenceType) fullType).getReferencedType().isTypeOrSubTypeOf(String.class);
+        this.blankAsUndefined = blankAsUndefined;
+        this.canonicalValues = canonicalValues;
+        this.lazyValues = lazyValues;
+    }
+
+    private static boolean isStringType(JavaType fullType) {
+        return fullType instanceof ReferenceType && ((ReferenceType) fullType).getReferencedType() != null
+                && ((ReferenceType) fullType).getReferencedType().isTypeOrSubTypeOf(String.class);
+    }
+
+    JsonNullableJackson2Deserializer withCanonicalValues(boolean canonicalValues) {
+        if (canonicalValues == this.canonicalValues) {
+            return this;
         }
+        return new JsonNullableJackson2Deserializer(_fullType, _valueInstantiator,
+                _valueTypeDeserializer, _valueDeserializer, blankAsUndefined, canonicalValues, lazyValues);
+    }
+
+    JsonNullableJackson2Deserializer withLazyValues(boolean lazyValues) {
+        if (lazyValues == this.lazyValues) {
+            return this;
+        }
+        return new JsonNullableJackson2Deserializer(_fullType, _valueInstantiator,
+                _valueTypeDeserializer, _valueDeserializer, blankAsUndefined, canonicalValues, lazyValues);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        JsonNullableJackson2Deserializer deser = (JsonNullableJackson2Deserializer) super.createContextual(ctxt, property);
+        if (property != null) {
+            JsonNullableBlankAsUndefined blankPolicy = property.getAnnotation(JsonNullableBlankAsUndefined.class);
+            JsonNullableLazy lazyPolicy = property.getAnnotation(JsonNullableLazy.class);
+            boolean blank = blankPolicy == null ? deser.blankAsUndefined : blankPolicy.value();
+            boolean lazy = lazyPolicy == null ? deser.lazyValues : lazyPolicy.value();
+            if (blank != deser.blankAsUndefined || lazy != deser.lazyValues) {
+                return new JsonNullableJackson2Deserializer(deser._fullType, deser._valueInstantiator,
+                        deser._valueTypeDeserializer, deser._valueDeserializer, blank, deser.canonicalValues, lazy);
+            }
+        }
+        return deser;
     }
 
     /*
@@ -41,20 +100,80 @@ public class JsonNullableJackson2Deserializer extends ReferenceTypeDeserializer<
 
     @Override
     public JsonNullable<Object> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonToken t = p.getCurrentToken();
-        if (t == JsonToken.VALUE_STRING && !isStringDeserializer) {
-            String str = p.getText().trim();
-            if (str.isEmpty()) {
-                return JsonNullable.undefined();
-            }
+        if (blankAsUndefined && p.getCurrentToken() == JsonToken.VALUE_STRING && isBlank(p)) {
+            return JsonNullable.undefined();
+        }
+        if (lazyValues && _valueInstantiator == null
+                && (p.getCurrentToken() == JsonToken.START_OBJECT || p.getCurrentToken() == JsonToken.START_ARRAY)) {
+            return lazyValue(p, ctxt);
         }
         return super.deserialize(p, ctxt);
     }
 
+    @Override
+    public JsonNullable<Object> deserialize(JsonParser p, DeserializationContext ctxt,
+                                            JsonNullable<Object> reference) throws IOException {
+        if (blankAsUndefined && p.getCurrentToken() == JsonToken.VALUE_STRING && isBlank(p)) {
+            // undefined means absent, and an absent property leaves the existing value alone
+            return reference == null ? JsonNullable.undefined() : reference;
+        }
+        if (reference == null || !reference.isPresent() || reference.get() == null) {
+            return deserialize(p, ctxt);
+        }
+        // merges into the existing value if the value deserializer supports updates
+        return super.deserialize(p, ctxt, reference);
+    }
+
+    // Copies the tokens of the value, to be decoded with the value deserializer on first access. The context of
+    // this call is single-use, so each value is decoded with a fresh context built from a detached copy of it that
+    // only shares the configuration and the deserializer caches.
+    private JsonNullable<Object> lazyValue(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!(ctxt instanceof DefaultDeserializationContext)) {
+            return super.deserialize(p, ctxt);
+        }
+        final DeserializationConfig config = ctxt.getConfig();
+        final DefaultDeserializationContext blueprint = ((DefaultDeserializationContext) ctxt).createDummyInstance(config);
+        final InjectableValues injectables = injectableValues(p.getCodec());
+        final TokenBuffer buffer = new TokenBuffer(p, ctxt);
+        buffer.copyCurrentStructure(p);
+        final JsonDeserializer<Object> valueDeser = _valueDeserializer;
+        final TypeDeserializer typeDeser = _valueTypeDeserializer;
+        return JsonNullable.lazy(() -> {
+            try (JsonParser bufferParser = buffer.asParser()) {
+                DeserializationContext decodeCtxt = blueprint.createInstance(config, bufferParser, injectables);
+                bufferParser.nextToken();
+                return typeDeser == null ? valueDeser.deserialize(bufferParser, decodeCtxt)
+                        : valueDeser.deserializeWithType(bufferParser, decodeCtxt, typeDeser);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static InjectableValues injectableValues(ObjectCodec codec) {
+        if (codec instanceof ObjectReader) {
+            return ((ObjectReader) codec).getInjectableValues();
+        }
+        return codec instanceof ObjectMapper ? ((ObjectMapper) codec).getInjectableValues() : null;
+    }
+
+    // Checks the parser's character buffer directly, avoiding a String (and a trimmed copy of it)
+    static boolean isBlank(JsonParser p) throws IOException {
+        final char[] buffer = p.getTextCharacters();
+        final int start = p.getTextOffset();
+        final int end = start + p.getTextLength();
+        for (int i = start; i < end; ++i) {
+            if (buffer[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public JsonNullableJackson2Deserializer withResolved(TypeDeserializer typeDeser, JsonDeserializer<?> valueDeser) {
         return new JsonNullableJackson2Deserializer(_fullType, _valueInstantiator,
-                typeDeser, valueDeser);
+                typeDeser, valueDeser, blankAsUndefined, canonicalValues, lazyValues);
     }
 
     @Override
@@ -74,17 +193,21 @@ public class JsonNullableJackson2Deserializer extends ReferenceTypeDeserializer<
 
     @Override
     public JsonNullable<Object> referenceValue(Object contents) {
-        return JsonNullable.of(contents);
+        return canonicalValues ? JsonNullable.ofCanonical(contents) : JsonNullable.of(contents);
     }
 
     @Override
     public Object getReferenced(JsonNullable<Object> reference) {
-        return reference.get();
+        return reference.isPresent() ? reference.get() : null;
     }
 
     @Override
     public JsonNullable<Object> updateReference(JsonNullable<Object> reference, Object contents) {
-        return JsonNullable.of(contents);
+        // a value that was updated in place keeps its wrapper
+        if (reference != null && reference.isPresent() && reference.get() == contents) {
+            return reference;
+        }
+        return referenceValue(contents);
     }
 
     @Override
@@ -2,6 +2,7 @@ package org.openapitools.jackson.nullable;
 
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.deser.Deserializers;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
@@ -9,10 +10,65 @@ import com.fasterxml.jackson.databind.type.ReferenceType;
 
 public class JsonNullableJackson2Deserializers extends Deserializers.Base {
 
+    private final boolean canonicalValues;
+
+    private final boolean lazyValues;
+
+    public JsonNullableJackson2Deserializers() {
+        this(false);
+    }
+
+    /**
+     * @param canonicalValues whether deserialized values use the shared instances of {@link JsonNullable#ofCanonical(Object)}
+     */
+    public JsonNullableJackson2Deserializers(boolean canonicalValues) {
+        this(canonicalValues, false);
+    }
+
+    /**
+     * @param canonicalValues whether deserialized values use the shared instances of {@link JsonNullable#ofCanonical(Object)}
+     * @param lazyValues      whether objects and arrays are decoded on first access, see {@link JsonNullableLazy}
+     * @since 0.2.12
+     */
+    public JsonNullableJackson2Deserializers(boolean canonicalValues, boolean lazyValues) {
+        this.canonicalValues = canonicalValues;
+        this.lazyValues = lazyValues;
+    }
+
+    @Override
+    public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+        Class<?> raw = type.getRawClass();
+        if (raw == JsonNullableInt.class) {
+            return new JsonNullablePrimitiveJackson2Deserializers.JsonNullableIntDeserializer();
+        }
+        if (raw == JsonNullableLong.class) {
+            return new JsonNullablePrimitiveJackson2Deserializers.JsonNullableLongDeserializer();
+        }
+        if (raw == JsonNullableDouble.class) {
+            return new JsonNullablePrimitiveJackson2Deserializers.JsonNullableDoubleDeserializer();
+        }
+        if (raw == JsonNullableBoolean.class) {
+            return new JsonNullablePrimitiveJackson2Deserializers.JsonNullableBooleanDeserializer();
+        }
+        if (raw == PatchDocument.class) {
+            return new PatchDocumentJackson2Deserializer();
+        }
+        if (raw == RawJson.class) {
+            return new RawJsonJackson2Deserializer();
+        }
+        if (raw == JsonNullableArray.class || raw == JsonNullableDoubleArray.class || raw == JsonNullableLongArray.class) {
+            return new JsonNullableColumnJackson2Deserializer(type);
+        }
+        if (JsonNullablePatchModelAccess.class.isAssignableFrom(raw) || raw.isAnnotationPresent(JsonNullablePatchModel.class)) {
+            return new JsonNullablePatchModelJackson2Deserializer(JsonNullablePatchModelDescriptor.forType(raw));
+        }
+        return null;
+    }
+
     @Override
     public JsonDeserializer<?> findReferenceDeserializer(ReferenceType refType,
                                                          DeserializationConfig config, BeanDescription beanDesc,
                                                          TypeDeserializer contentTypeDeserializer, JsonDeserializer<?> contentDeserializer) {
-        return (refType.hasRawClass(JsonNullable.class)) ? new JsonNullableJackson2Deserializer(refType, null, contentTypeDeserializer,contentDeserializer) : null;
+        return (refType.hasRawClass(JsonNullable.class)) ? new JsonNullableJackson2Deserializer(refType, null, contentTypeDeserializer,contentDeserializer).withCanonicalValues(canonicalValues).withLazyValues(lazyValues) : null;
     }
 }
@@ -0,0 +1,44 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+
+/**
+ * The part of <code>BeanPropertyWriter.serializeAsField</code> that the Jackson 2 JsonNullable writers share once
+ * they have read a value that is neither null nor undefined.
+ */
+final class JsonNullableJackson2PropertyWriters {
+
+    private JsonNullableJackson2PropertyWriters() {
+    }
+
+    /**
+     * Write the value unless the inclusion rules suppress it. Unwrapping writers only write the property name if the
+     * serializer does not unwrap.
+     *
+     * @param ser               the serializer for the value, as resolved by the writer
+     * @param suppressableValue the value to suppress, <code>MARKER_FOR_EMPTY</code> or null
+     */
+    static void serializePresentValue(BeanPropertyWriter writer, JsonSerializer<Object> ser, Object suppressableValue,
+                                      Object value, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        if (suppressableValue != null) {
+            if (BeanPropertyWriter.MARKER_FOR_EMPTY == suppressableValue) {
+                if (ser.isEmpty(prov, value)) {
+                    return;
+                }
+            } else if (suppressableValue.equals(value)) {
+                return;
+            }
+        }
+        if (!writer.isUnwrapping() || !ser.isUnwrappingSerializer()) {
+            gen.writeFieldName(writer.getSerializedName());
+        }
+        if (writer.getTypeSerializer() == null) {
+            ser.serialize(value, gen, prov);
+        } else {
+            ser.serializeWithType(value, gen, prov, writer.getTypeSerializer());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.openapitools.jackson.nullable;
 
 import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.SerializationConfig;
@@ -10,6 +11,36 @@ import com.fasterxml.jackson.databind.type.ReferenceType;
 
 public class JsonNullableJackson2Serializers extends Serializers.Base {
 
+    @Override
+    public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+        Class<?> raw = type.getRawClass();
+        if (raw == JsonNullableInt.class) {
+            return new JsonNullablePrimitiveJackson2Serializers.JsonNullableIntSerializer();
+        }
+        if (raw == JsonNullableLong.class) {
+            return new JsonNullablePrimitiveJackson2Serializers.JsonNullableLongSerializer();
+        }
+        if (raw == JsonNullableDouble.class) {
+            return new JsonNullablePrimitiveJackson2Serializers.JsonNullableDoubleSerializer();
+        }
+        if (raw == JsonNullableBoolean.class) {
+            return new JsonNullablePrimitiveJackson2Serializers.JsonNullableBooleanSerializer();
+        }
+        if (raw == PatchDocument.class) {
+            return new PatchDocumentJackson2Serializer();
+        }
+        if (raw == RawJson.class) {
+            return new RawJsonJackson2Serializer();
+        }
+        if (JsonNullableColumn.class.isAssignableFrom(raw)) {
+            return new JsonNullableColumnJackson2Serializer();
+        }
+        if (JsonNullablePatchModelAccess.class.isAssignableFrom(raw) || raw.isAnnotationPresent(JsonNullablePatchModel.class)) {
+            return new JsonNullablePatchModelJackson2Serializer(JsonNullablePatchModelDescriptor.forType(raw));
+        }
+        return null;
+    }
+
     @Override
     public JsonSerializer<?> findReferenceSerializer(SerializationConfig config,
                                                      ReferenceType refType, BeanDescription beanDesc,
@@ -3,6 +3,7 @@ package org.openapitools.jackson.nullable;
 import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.PropertyName;
 import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
 import tools.jackson.databind.ser.BeanPropertyWriter;
 import tools.jackson.databind.util.NameTransformer;
 
@@ -28,11 +29,36 @@ public class JsonNullableJackson3BeanPropertyWriter extends BeanPropertyWriter {
 
     @Override
     public void serializeAsProperty(Object bean, JsonGenerator jgen, SerializationContext ctxt) throws Exception {
-        Object value = get(bean);
-        if (JsonNullable.undefined().equals(value) || (_nullSerializer == null && value == null)) {
+        // read the value only once: delegating to super would invoke the accessor a second time
+        final Object value = get(bean);
+        if (value == null) {
+            if (_nullSerializer == null
+                    || (_suppressableValue != null && ctxt.includeFilterSuppressNulls(_suppressableValue))) {
+                return;
+            }
+            jgen.writeName(_name);
+            _nullSerializer.serialize(null, jgen, ctxt);
             return;
         }
-        super.serializeAsProperty(bean, jgen, ctxt);
+        if (JsonNullableTypes.isUndefined(value)) {
+            return;
+        }
+        serializePresentValue(value, jgen, ctxt);
+    }
+
+    /**
+     * Writes a value that is known to be non-null and not undefined, using the resolved serializer.
+     */
+    void serializePresentValue(Object value, JsonGenerator jgen, SerializationContext ctxt) throws Exception {
+        ValueSerializer<Object> ser = _serializer;
+        if (ser == null) {
+            Class<?> cls = value.getClass();
+            ser = _dynamicSerializers.serializerFor(cls);
+            if (ser == null) {
+                ser = _findAndAddDynamic(_dynamicSerializers, cls, ctxt);
+            }
+        }
+        JsonNullableJackson3PropertyWriters.serializePresentValue(this, ser, _suppressableValue, value, jgen, ctxt);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.FormatSchema;
+import tools.jackson.core.TokenStreamFactory;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.InjectableValues;
+import tools.jackson.databind.cfg.DeserializationContexts;
+import tools.jackson.databind.deser.DeserializationContextExt;
+import tools.jackson.databind.deser.DeserializerCache;
+import tools.jackson.databind.deser.DeserializerFactory;
+
+/**
+ * The deserialization contexts of a Jackson 3 mapper with the {@link JsonNullableJackson3Module}: the default ones,
+ * except that each context can create a fresh copy of itself. Lazy <code>JsonNullable</code> values are decoded
+ * with such a copy, since the context of the call that read them is single-use and Jackson 3 does not otherwise
+ * expose what a new context needs.
+ */
+final class JsonNullableJackson3DeserializationContexts extends DeserializationContexts.DefaultImpl {
+
+    private static final long serialVersionUID = 1L;
+
+    JsonNullableJackson3DeserializationContexts() {
+    }
+
+    private JsonNullableJackson3DeserializationContexts(TokenStreamFactory streamFactory,
+                                                        DeserializerFactory factory, DeserializerCache cache) {
+        super(streamFactory, factory, cache);
+    }
+
+    @Override
+    public DeserializationContexts forMapper(Object mapper, TokenStreamFactory streamFactory,
+                                             DeserializerFactory factory, DeserializerCache cache) {
+        return new JsonNullableJackson3DeserializationContexts(streamFactory, factory, cache);
+    }
+
+    @Override
+    public DeserializationContextExt createContext(DeserializationConfig config, FormatSchema schema,
+                                                   InjectableValues injectables) {
+        return new Context(_streamFactory, _deserializerFactory, _cache, config, schema, injectables);
+    }
+
+    static final class Context extends DeserializationContextExt {
+
+        Context(TokenStreamFactory streamFactory, DeserializerFactory factory, DeserializerCache cache,
+                DeserializationConfig config, FormatSchema schema, InjectableValues injectables) {
+            super(streamFactory, factory, cache, config, schema, injectables);
+        }
+
+        /**
+         * @return an unused context with the configuration, deserializers and injectable values of this one
+         */
+        Context copy() {
+            return new Context(_streamFactory, _factory, _cache, _config, _schema, _injectableValues);
+        }
+    }
+}
@@ -4,19 +4,34 @@ package org.openapitools.jackson.nullable;
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonParser;
 import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.databind.BeanProperty;
 import tools.jackson.databind.DeserializationConfig;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.DeserializationContextExt;
 import tools.jackson.databind.deser.ValueInstantiator;
 import tools.jackson.databind.deser.std.ReferenceTypeDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.type.ReferenceType;
+import tools.jackson.databind.util.TokenBuffer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
 
 public class JsonNullableJackson3Deserializer extends ReferenceTypeDeserializer<JsonNullable<Object>> {
 
+    private static final AtomicBoolean LAZY_UNAVAILABLE_WARNED = new AtomicBoolean();
+
+    // Whether blank strings are deserialized as undefined, resolved once per property
+    private final boolean blankAsUndefined;
+
+    // Whether deserialized values use the shared instances of JsonNullable.ofCanonical
+    private final boolean canonicalValues;
 
-    private boolean isStringDeserializer = false;
+    // Whether objects and arrays are buffered and decoded on first access, resolved once per property
+    private final boolean lazyValues;
 
     /*
     /**********************************************************
@@ -25,10 +40,53 @@ public class JsonNullableJackson3Deserializer extends ReferenceTypeDeserializer<
      */
     public JsonNullableJackson3Deserializer(JavaType fullType, ValueInstantiator inst,
                                             TypeDeserializer typeDeser, ValueDeserializer<?> deser) {
+        this(fullType, inst, typeDeser, deser, !isStringType(fullType), false, false);
+    }
+
+    protected JsonNullableJackson3Deserializer(JavaType fullType, ValueInstantiator inst,
+                                            TypeDeserializer typeDeser, ValueDeserializer<?> deser,
+                                            boolean blankAsUndefined, boolean canonicalValues, boolean lazyValues) {
         super(fullType, inst, typeDeser, deser);
-        if (fullType instanceof ReferenceType && ((ReferenceType) fullType).getReferencedType() != null) {
-            this.isStringDeserializer = ((ReferenceType) fullType).getReferencedType().isTypeOrSubTypeOf(String.class);
+        this.blankAsUndefined = blankAsUndefined;
+        this.canonicalValues = canonicalValues;
+        this.lazyValues = lazyValues;
+    }
+
+    private static boolean isStringType(JavaType fullType) {
+        return fullType instanceof ReferenceType && ((ReferenceType) fullType).getReferencedType() != null
+                && ((ReferenceType) fullType).getReferencedType().isTypeOrSubTypeOf(String.class);
+    }
+
+    JsonNullableJackson3Deserializer withCanonicalValues(boolean canonicalValues) {
+        if (canonicalValues == this.canonicalValues) {
+            return this;
+        }
+        return new JsonNullableJackson3Deserializer(_fullType, _valueInstantiator,
+                _valueTypeDeserializer, _valueDeserializer, blankAsUndefined, canonicalValues, lazyValues);
+    }
+
+    JsonNullableJackson3Deserializer withLazyValues(boolean lazyValues) {
+        if (lazyValues == this.lazyValues) {
+            return this;
+        }
+        return new JsonNullableJackson3Deserializer(_fullType, _valueInstantiator,
+                _valueTypeDeserializer, _valueDeserializer, blankAsUndefined, canonicalValues, lazyValues);
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        JsonNullableJackson3Deserializer deser = (JsonNullableJackson3Deserializer) super.createContextual(ctxt, property);
+        if (property != null) {
+            JsonNullableBlankAsUndefined blankPolicy = property.getAnnotation(JsonNullableBlankAsUndefined.class);
+            JsonNullableLazy lazyPolicy = property.getAnnotation(JsonNullableLazy.class);
+            boolean blank = blankPolicy == null ? deser.blankAsUndefined : blankPolicy.value();
+            boolean lazy = lazyPolicy == null ? deser.lazyValues : lazyPolicy.value();
+            if (blank != deser.blankAsUndefined || lazy != deser.lazyValues) {
+                return new JsonNullableJackson3Deserializer(deser._fullType, deser._valueInstantiator,
+                        deser._valueTypeDeserializer, deser._valueDeserializer, blank, deser.canonicalValues, lazy);
+            }
         }
+        return deser;
     }
 
     /*
@@ -39,20 +97,79 @@ public class JsonNullableJackson3Deserializer extends ReferenceTypeDeserializer<
 
     @Override
     public JsonNullable<Object> deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
-        JsonToken t = p.currentToken();
-        if (t == JsonToken.VALUE_STRING && !isStringDeserializer) {
-            String str = p.getString().trim();
-            if (str.isEmpty()) {
-                return JsonNullable.undefined();
-            }
+        if (blankAsUndefined && p.currentToken() == JsonToken.VALUE_STRING && isBlank(p)) {
+            return JsonNullable.undefined();
+        }
+        if (lazyValues && _valueInstantiator == null
+                && (p.currentToken() == JsonToken.START_OBJECT || p.currentToken() == JsonToken.START_ARRAY)) {
+            return lazyValue(p, ctxt);
         }
         return super.deserialize(p, ctxt);
     }
 
+    @Override
+    public JsonNullable<Object> deserialize(JsonParser p, DeserializationContext ctxt,
+                                            JsonNullable<Object> reference) throws JacksonException {
+        if (blankAsUndefined && p.currentToken() == JsonToken.VALUE_STRING && isBlank(p)) {
+            // undefined means absent, and an absent property leaves the existing value alone
+            return reference == null ? JsonNullable.undefined() : reference;
+        }
+        if (reference == null || !reference.isPresent() || reference.get() == null) {
+            return deserialize(p, ctxt);
+        }
+        // merges into the existing value if the value deserializer supports updates
+        return super.deserialize(p, ctxt, reference);
+    }
+
+    // Copies the tokens of the value, to be decoded with the value deserializer on first access. The context of
+    // this call is single-use, so each value is decoded with a fresh copy of it, which only the contexts installed
+    // by the module can create; with other contexts the value is decoded right away.
+    private JsonNullable<Object> lazyValue(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        if (!(ctxt instanceof JsonNullableJackson3DeserializationContexts.Context)) {
+            warnLazyUnavailable(ctxt);
+            return super.deserialize(p, ctxt);
+        }
+        final JsonNullableJackson3DeserializationContexts.Context blueprint =
+                ((JsonNullableJackson3DeserializationContexts.Context) ctxt).copy();
+        final TokenBuffer buffer = TokenBuffer.forBuffering(p, ObjectReadContext.empty());
+        buffer.copyCurrentStructure(p);
+        final ValueDeserializer<Object> valueDeser = _valueDeserializer;
+        final TypeDeserializer typeDeser = _valueTypeDeserializer;
+        return JsonNullable.lazy(() -> {
+            DeserializationContextExt decodeCtxt = blueprint.copy();
+            try (JsonParser bufferParser = decodeCtxt.assignAndReturnParser(buffer.asParser(decodeCtxt))) {
+                bufferParser.nextToken();
+                return typeDeser == null ? valueDeser.deserialize(bufferParser, decodeCtxt)
+                        : valueDeser.deserializeWithType(bufferParser, decodeCtxt, typeDeser);
+            }
+        });
+    }
+
+    private static void warnLazyUnavailable(DeserializationContext ctxt) {
+        if (LAZY_UNAVAILABLE_WARNED.compareAndSet(false, true)) {
+            Logger.getLogger(JsonNullableJackson3Deserializer.class.getName()).warning("Lazy JsonNullable values"
+                    + " are decoded right away: the mapper uses " + ctxt.getClass().getName() + " contexts instead of"
+                    + " the ones installed by JsonNullableJackson3Module");
+        }
+    }
+
+    // Checks the parser's character buffer directly, avoiding a String (and a trimmed copy of it)
+    static boolean isBlank(JsonParser p) throws JacksonException {
+        final char[] buffer = p.getStringCharacters();
+        final int start = p.getStringOffset();
+        final int end = start + p.getStringLength();
+        for (int i = start; i < end; ++i) {
+            if (buffer[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     protected ReferenceTypeDeserializer<JsonNullable<Object>> withResolved(TypeDeserializer typeDeser, ValueDeserializer<?> valueDeser) {
         return new JsonNullableJackson3Deserializer(_fullType, _valueInstantiator,
-                typeDeser, valueDeser);
+                typeDeser, valueDeser, blankAsUndefined, canonicalValues, lazyValues);
     }
 
     @Override
@@ -72,17 +189,21 @@ public class JsonNullableJackson3Deserializer extends ReferenceTypeDeserializer<
 
     @Override
     public JsonNullable<Object> referenceValue(Object contents) {
-        return JsonNullable.of(contents);
+        return canonicalValues ? JsonNullable.ofCanonical(contents) : JsonNullable.of(contents);
     }
 
     @Override
     public Object getReferenced(JsonNullable<Object> reference) {
-        return reference.get();
+        return reference.isPresent() ? reference.get() : null;
     }
 
     @Override
     public JsonNullable<Object> updateReference(JsonNullable<Object> reference, Object contents) {
-        return JsonNullable.of(contents);
+        // a value that was updated in place keeps its wrapper
+        if (reference != null && reference.isPresent() && reference.get() == contents) {
+            return reference;
+        }
+        return referenceValue(contents);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package org.openapitools.jackson.nullable;
 
 import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.BeanDescription.Supplier;
 import tools.jackson.databind.deser.Deserializers;
@@ -9,15 +10,81 @@ import tools.jackson.databind.type.ReferenceType;
 
 public class JsonNullableJackson3Deserializers extends Deserializers.Base {
 
+    private final boolean canonicalValues;
+
+    private final boolean lazyValues;
+
+    public JsonNullableJackson3Deserializers() {
+        this(false);
+    }
+
+    /**
+     * @param canonicalValues whether deserialized values use the shared instances of {@link JsonNullable#ofCanonical(Object)}
+     */
+    public JsonNullableJackson3Deserializers(boolean canonicalValues) {
+        this(canonicalValues, false);
+    }
+
+    /**
+     * @param canonicalValues whether deserialized values use the shared instances of {@link JsonNullable#ofCanonical(Object)}
+     * @param lazyValues      whether objects and arrays are decoded on first access, see {@link JsonNullableLazy}
+     * @since 0.2.12
+     */
+    public JsonNullableJackson3Deserializers(boolean canonicalValues, boolean lazyValues) {
+        this.canonicalValues = canonicalValues;
+        this.lazyValues = lazyValues;
+    }
+
+    @Override
+    public ValueDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, Supplier beanDescRef) {
+        Class<?> raw = type.getRawClass();
+        if (raw == JsonNullableInt.class) {
+            return new JsonNullablePrimitiveJackson3Deserializers.JsonNullableIntDeserializer();
+        }
+        if (raw == JsonNullableLong.class) {
+            return new JsonNullablePrimitiveJackson3Deserializers.JsonNullableLongDeserializer();
+        }
+        if (raw == JsonNullableDouble.class) {
+            return new JsonNullablePrimitiveJackson3Deserializers.JsonNullableDoubleDeserializer();
+        }
+        if (raw == JsonNullableBoolean.class) {
+            return new JsonNullablePrimitiveJackson3Deserializers.JsonNullableBooleanDeserializer();
+        }
+        if (raw == PatchDocument.class) {
+            return new PatchDocumentJackson3Deserializer();
+        }
+        if (raw == RawJson.class) {
+            return new RawJsonJackson3Deserializer();
+        }
+        if (raw == JsonNullableArray.class || raw == JsonNullableDoubleArray.class || raw == JsonNullableLongArray.class) {
+            return new JsonNullableColumnJackson3Deserializer(type);
+        }
+        if (JsonNullablePatchModelAccess.class.isAssignableFrom(raw) || raw.isAnnotationPresent(JsonNullablePatchModel.class)) {
+            return new JsonNullablePatchModelJackson3Deserializer(JsonNullablePatchModelDescriptor.forType(raw));
+        }
+        return null;
+    }
+
     @Override
     public ValueDeserializer<?> findReferenceDeserializer(ReferenceType refType,
                                                           DeserializationConfig config, Supplier beanDescRef,
                                                           TypeDeserializer contentTypeDeserializer, ValueDeserializer<?> contentDeserializer) {
-        return (refType.hasRawClass(JsonNullable.class)) ? new JsonNullableJackson3Deserializer(refType, null, contentTypeDeserializer,contentDeserializer) : null;
+        return (refType.hasRawClass(JsonNullable.class)) ? new JsonNullableJackson3Deserializer(refType, null, contentTypeDeserializer,contentDeserializer).withCanonicalValues(canonicalValues).withLazyValues(lazyValues) : null;
     }
 
     @Override
     public boolean hasDeserializerFor(DeserializationConfig config, Class<?> valueType) {
-        return JsonNullable.class.equals(valueType);
+        return JsonNullable.class.equals(valueType)
+                || JsonNullableInt.class.equals(valueType)
+                || JsonNullableLong.class.equals(valueType)
+                || JsonNullableDouble.class.equals(valueType)
+                || JsonNullableBoolean.class.equals(valueType)
+                || PatchDocument.class.equals(valueType)
+                || RawJson.class.equals(valueType)
+                || JsonNullableArray.class.equals(valueType)
+                || JsonNullableDoubleArray.class.equals(valueType)
+                || JsonNullableLongArray.class.equals(valueType)
+                || JsonNullablePatchModelAccess.class.isAssignableFrom(valueType)
+                || valueType.isAnnotationPresent(JsonNullablePatchModel.class);
     }
 }
\ No newline at end of file
@@ -3,18 +3,75 @@ package org.openapitools.jackson.nullable;
 import tools.jackson.core.Version;
 import tools.jackson.core.json.PackageVersion;
 import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.cfg.DeserializationContexts;
+import tools.jackson.databind.cfg.MapperBuilder;
 
 public class JsonNullableJackson3Module extends JacksonModule {
 
     private final String NAME = "JsonNullableModule";
 
+    private boolean canonicalValues = false;
+
+    private boolean lazyValues = false;
+
+    private boolean fieldMasks = false;
+
     @Override
     public void setupModule(SetupContext context) {
         context.addSerializers(new JsonNullableJackson3Serializers());
-        context.addDeserializers(new JsonNullableJackson3Deserializers());
+        context.addDeserializers(new JsonNullableJackson3Deserializers(canonicalValues, lazyValues));
         // Modify type info for JsonNullable
         context.addTypeModifier(new JsonNullableJackson3TypeModifier());
-        context.addSerializerModifier(new JsonNullableJackson3ValueSerializerModifier());
+        context.addSerializerModifier(new JsonNullableJackson3ValueSerializerModifier(fieldMasks));
+        // Contexts that lazy values can copy, unless the mapper is configured with contexts of its own
+        if (context.getOwner() instanceof MapperBuilder) {
+            MapperBuilder<?, ?> builder = (MapperBuilder<?, ?>) context.getOwner();
+            if (builder.deserializationContexts().getClass() == DeserializationContexts.DefaultImpl.class) {
+                builder.deserializationContexts(new JsonNullableJackson3DeserializationContexts());
+            }
+        }
+    }
+
+    /**
+     * Configures whether deserialized <code>JsonNullable</code> values of <code>null</code>, booleans,
+     * small integers and longs and the empty string share the instances of {@link JsonNullable#ofCanonical(Object)}
+     * instead of allocating a new wrapper each. Disabled by default.
+     *
+     * @param state true to use shared instances
+     * @return this module
+     * @since 0.2.12
+     */
+    public JsonNullableJackson3Module configureCanonicalValues(boolean state) {
+        canonicalValues = state;
+        return this;
+    }
+
+    /**
+     * Configures whether JSON objects and arrays in <code>JsonNullable</code> properties are buffered and decoded
+     * on first access instead of right away. Properties annotated with {@link JsonNullableLazy} override this
+     * setting. Disabled by default.
+     *
+     * @param state true to decode objects and arrays on first access
+     * @return this module
+     * @since 0.2.12
+     */
+    public JsonNullableJackson3Module configureLazyValues(boolean state) {
+        lazyValues = state;
+        return this;
+    }
+
+    /**
+     * Configures whether beans are serialized with a serializer that applies the {@link JsonNullableFieldMask} passed
+     * as the {@link JsonNullableFieldMask#ATTRIBUTE} attribute of a writer. Beans are serialized as usual when no mask
+     * is passed. Disabled by default.
+     *
+     * @param state true to apply field masks
+     * @return this module
+     * @since 0.2.12
+     */
+    public JsonNullableJackson3Module configureFieldMasks(boolean state) {
+        fieldMasks = state;
+        return this;
     }
 
     @Override
@@ -0,0 +1,44 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+
+/**
+ * The part of <code>BeanPropertyWriter.serializeAsProperty</code> that the Jackson 3 JsonNullable writers share once
+ * they have read a value that is neither null nor undefined.
+ */
+final class JsonNullableJackson3PropertyWriters {
+
+    private JsonNullableJackson3PropertyWriters() {
+    }
+
+    /**
+     * Write the value unless the inclusion rules suppress it. Unwrapping writers only write the property name if the
+     * serializer does not unwrap.
+     *
+     * @param ser               the serializer for the value, as resolved by the writer
+     * @param suppressableValue the value to suppress, <code>MARKER_FOR_EMPTY</code> or null
+     */
+    static void serializePresentValue(BeanPropertyWriter writer, ValueSerializer<Object> ser, Object suppressableValue,
+                                      Object value, JsonGenerator gen, SerializationContext ctxt) throws Exception {
+        if (suppressableValue != null) {
+            if (BeanPropertyWriter.MARKER_FOR_EMPTY == suppressableValue) {
+                if (ser.isEmpty(ctxt, value)) {
+                    return;
+                }
+            } else if (suppressableValue.equals(value)) {
+                return;
+            }
+        }
+        if (!writer.isUnwrapping() || !ser.isUnwrappingSerializer()) {
+            gen.writeName(writer.getSerializedName());
+        }
+        if (writer.getTypeSerializer() == null) {
+            ser.serialize(value, gen, ctxt);
+        } else {
+            ser.serializeWithType(value, gen, ctxt, writer.getTypeSerializer());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.openapitools.jackson.nullable;
 
 import com.fasterxml.jackson.annotation.JsonFormat.Value;
 
+import tools.jackson.databind.JavaType;
 import tools.jackson.databind.MapperFeature;
 import tools.jackson.databind.SerializationConfig;
 import tools.jackson.databind.ValueSerializer;
@@ -12,6 +13,37 @@ import tools.jackson.databind.ser.Serializers;
 import tools.jackson.databind.type.ReferenceType;
 
 public class JsonNullableJackson3Serializers extends Serializers.Base {
+    @Override
+    public ValueSerializer<?> findSerializer(SerializationConfig config, JavaType type,
+                                             Supplier beanDescRef, Value formatOverrides) {
+        Class<?> raw = type.getRawClass();
+        if (raw == JsonNullableInt.class) {
+            return new JsonNullablePrimitiveJackson3Serializers.JsonNullableIntSerializer();
+        }
+        if (raw == JsonNullableLong.class) {
+            return new JsonNullablePrimitiveJackson3Serializers.JsonNullableLongSerializer();
+        }
+        if (raw == JsonNullableDouble.class) {
+            return new JsonNullablePrimitiveJackson3Serializers.JsonNullableDoubleSerializer();
+        }
+        if (raw == JsonNullableBoolean.class) {
+            return new JsonNullablePrimitiveJackson3Serializers.JsonNullableBooleanSerializer();
+        }
+        if (raw == PatchDocument.class) {
+            return new PatchDocumentJackson3Serializer();
+        }
+        if (raw == RawJson.class) {
+            return new RawJsonJackson3Serializer();
+        }
+        if (JsonNullableColumn.class.isAssignableFrom(raw)) {
+            return new JsonNullableColumnJackson3Serializer();
+        }
+        if (JsonNullablePatchModelAccess.class.isAssignableFrom(raw) || raw.isAnnotationPresent(JsonNullablePatchModel.class)) {
+            return new JsonNullablePatchModelJackson3Serializer(JsonNullablePatchModelDescriptor.forType(raw));
+        }
+        return null;
+    }
+
     @Override
     public ValueSerializer<?> findReferenceSerializer(SerializationConfig config,
                                                       ReferenceType refType, Supplier beanDescRef, Value formatOverrides,
@@ -2,14 +2,34 @@ package org.openapitools.jackson.nullable;
 
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.ValueSerializer;
 import tools.jackson.databind.BeanDescription.Supplier;
 import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.BeanSerializer;
+import tools.jackson.databind.ser.UnrolledBeanSerializer;
+import tools.jackson.databind.ser.bean.BeanSerializerBase;
 import tools.jackson.databind.ser.ValueSerializerModifier;
 
 import java.util.List;
 
 public class JsonNullableJackson3ValueSerializerModifier extends ValueSerializerModifier
 {
+    private final boolean fieldMasks;
+
+    public JsonNullableJackson3ValueSerializerModifier()
+    {
+        this(false);
+    }
+
+    /**
+     * @param fieldMasks true to serialize beans with a serializer that applies {@link JsonNullableFieldMask}s
+     * @since 0.2.12
+     */
+    public JsonNullableJackson3ValueSerializerModifier(boolean fieldMasks)
+    {
+        this.fieldMasks = fieldMasks;
+    }
+
     @Override
     public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
                                                      Supplier beanDesc,
@@ -18,10 +38,27 @@ public class JsonNullableJackson3ValueSerializerModifier extends ValueSerializer
         for (int i = 0; i < beanProperties.size(); ++i) {
             final BeanPropertyWriter writer = beanProperties.get(i);
             JavaType type = writer.getType();
-            if (type.isTypeOrSubTypeOf(JsonNullable.class)) {
+            if (JsonNullableTypes.isJsonNullableType(type.getRawClass())) {
                 beanProperties.set(i, new JsonNullableJackson3BeanPropertyWriter(writer));
             }
         }
         return beanProperties;
     }
+
+    @Override
+    public ValueSerializer<?> modifySerializer(SerializationConfig config, Supplier beanDesc,
+                                               ValueSerializer<?> serializer)
+    {
+        // beans with few properties get an UnrolledBeanSerializer, which is replaced just the same
+        if (serializer.getClass() != BeanSerializer.class && serializer.getClass() != UnrolledBeanSerializer.class) {
+            return serializer;
+        }
+        if (serializer.handledType().isAnnotationPresent(JsonNullableSparse.class)) {
+            return new JsonNullableSparseJackson3BeanSerializer((BeanSerializerBase) serializer);
+        }
+        if (fieldMasks) {
+            return new JsonNullableFieldMaskJackson3BeanSerializer((BeanSerializerBase) serializer);
+        }
+        return serializer;
+    }
 }
\ No newline at end of file
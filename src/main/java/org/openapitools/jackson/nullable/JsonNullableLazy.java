@@ -0,0 +1,35 @@
+package org.openapitools.jackson.nullable;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Controls whether a JSON object or array is deserialized lazily for the annotated property: the tokens are
+ * buffered and decoded with the value deserializer on the first access to the value. Whether the property is
+ * undefined, null or present is still known right after deserialization, and scalar values are always decoded
+ * right away.
+ * <p>
+ * Until it is decoded, the value holds on to the buffered tokens and to the configuration of the mapper that read
+ * it, and each value is decoded with a deserialization context of its own. Decoding errors are thrown from the value
+ * accessors such as <code>get()</code>; <code>equals</code> and <code>hashCode</code> decode the value but treat one
+ * that fails to decode as equal only to itself, and <code>toString</code> does not decode it. Without this
+ * annotation the module setting applies, which is off by default. The policy is resolved once per property when the
+ * deserializer is contextualized.
+ * <p>
+ * With Jackson 3, lazy decoding needs the deserialization contexts that {@link JsonNullableJackson3Module} installs
+ * on the mapper. A mapper configured with other <code>DeserializationContexts</code> decodes values right away and
+ * logs a warning once.
+ *
+ * @since 0.2.12
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonNullableLazy {
+
+    /**
+     * @return true to decode objects and arrays on first access, false to decode them right away
+     */
+    boolean value() default true;
+}
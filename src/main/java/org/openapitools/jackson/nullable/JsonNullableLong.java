@@ -0,0 +1,183 @@
+package org.openapitools.jackson.nullable;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * A primitive specialization of <code>JsonNullable&lt;Long&gt;</code>, in the style of
+ * {@link java.util.OptionalLong}. Like {@link JsonNullable} it distinguishes an undefined value
+ * from an explicit <code>null</code> and from a present <code>long</code>, without boxing the value.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableLong implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final JsonNullableLong UNDEFINED = new JsonNullableLong(0L, false, false);
+
+    private static final JsonNullableLong NULL = new JsonNullableLong(0L, true, true);
+
+    private final long value;
+
+    private final boolean isPresent;
+
+    private final boolean isNull;
+
+    private JsonNullableLong(long value, boolean isPresent, boolean isNull) {
+        this.value = value;
+        this.isPresent = isPresent;
+        this.isNull = isNull;
+    }
+
+    /**
+     * Create a <code>JsonNullableLong</code> representing an undefined value (not present).
+     *
+     * @return the shared undefined <code>JsonNullableLong</code>
+     */
+    public static JsonNullableLong undefined() {
+        return UNDEFINED;
+    }
+
+    /**
+     * Create a <code>JsonNullableLong</code> representing an explicit <code>null</code>.
+     *
+     * @return the shared <code>JsonNullableLong</code> with a present <code>null</code> value
+     */
+    public static JsonNullableLong ofNull() {
+        return NULL;
+    }
+
+    /**
+     * Create a <code>JsonNullableLong</code> from the submitted value.
+     *
+     * @param value the value
+     * @return the <code>JsonNullableLong</code> with the submitted value present
+     */
+    public static JsonNullableLong of(long value) {
+        return new JsonNullableLong(value, true, false);
+    }
+
+    /**
+     * Create a <code>JsonNullableLong</code> from the submitted boxed value.
+     *
+     * @param value the value, may be null
+     * @return the <code>JsonNullableLong</code> with the submitted value present
+     */
+    public static JsonNullableLong of(Long value) {
+        return value == null ? NULL : of(value.longValue());
+    }
+
+    /**
+     * Obtain the value of this <code>JsonNullableLong</code>.
+     *
+     * @return the value, if present and not null
+     * @throws NoSuchElementException if no value is present or the value is null
+     */
+    public long getAsLong() {
+        if (!isPresent) {
+            throw new NoSuchElementException("Value is undefined");
+        }
+        if (isNull) {
+            throw new NoSuchElementException("Value is null");
+        }
+        return value;
+    }
+
+    /**
+     * Obtain the value of this <code>JsonNullableLong</code>.
+     *
+     * @param other the value to be returned if no value is present or the value is null
+     * @return the value of this <code>JsonNullableLong</code> if present and not null, the submitted value otherwise
+     */
+    public long orElse(long other) {
+        return isPresent && !isNull ? value : other;
+    }
+
+    /**
+     * If a value is present, returns true, otherwise false. A present value may be null.
+     *
+     * @return true if a value is present, otherwise false
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * If a value is not present, returns true, otherwise false.
+     *
+     * @return true if a value is not present, otherwise false
+     */
+    public boolean isUndefined() {
+        return !isPresent;
+    }
+
+    /**
+     * If the value is present and null, returns true, otherwise false.
+     *
+     * @return true if an explicit null is present, otherwise false
+     */
+    public boolean isNull() {
+        return isNull;
+    }
+
+    /**
+     * If a non-null value is present, performs the given action with the value,
+     * otherwise does nothing.
+     *
+     * @param action the action to be performed, if a non-null value is present
+     */
+    public void ifPresent(LongConsumer action) {
+        if (isPresent && !isNull) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Convert to the boxing <code>JsonNullable</code> with the same state.
+     *
+     * @return the equivalent <code>JsonNullable</code>
+     */
+    public JsonNullable<Long> toJsonNullable() {
+        if (!isPresent) {
+            return JsonNullable.undefined();
+        }
+        return JsonNullable.of(isNull ? null : Long.valueOf(value));
+    }
+
+    private Object readResolve() {
+        if (!isPresent) {
+            return UNDEFINED;
+        }
+        return isNull ? NULL : this;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof JsonNullableLong)) {
+            return false;
+        }
+        JsonNullableLong other = (JsonNullableLong) obj;
+        return isPresent == other.isPresent && isNull == other.isNull && value == other.value;
+    }
+
+    @Override
+    public int hashCode() {
+        if (!isPresent) {
+            return 0;
+        }
+        return isNull ? 1 : 31 + Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        if (!isPresent) {
+            return "JsonNullableLong.undefined";
+        }
+        return isNull ? "JsonNullableLong[null]" : "JsonNullableLong[" + value + "]";
+    }
+}
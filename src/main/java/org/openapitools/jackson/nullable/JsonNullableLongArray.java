@@ -0,0 +1,201 @@
+package org.openapitools.jackson.nullable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Columnar container of nullable <code>long</code> values, see {@link JsonNullableColumn}. Elements without a value
+ * hold zero in the value array, so {@link #sum()} is a plain loop over the values without bitmap checks.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableLongArray extends JsonNullableColumn {
+
+    private static final long serialVersionUID = 1L;
+
+    private long[] values;
+
+    public JsonNullableLongArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of elements to allocate room for
+     */
+    public JsonNullableLongArray(int capacity) {
+        super(capacity);
+        values = new long[capacity];
+    }
+
+    /**
+     * Append a value.
+     *
+     * @param value the value
+     */
+    public void add(long value) {
+        int index = append(true, true);
+        values[index] = value;
+    }
+
+    /**
+     * Append an element in the state of the given <code>JsonNullableLong</code>.
+     *
+     * @param value the element
+     */
+    public void add(JsonNullableLong value) {
+        if (value.isUndefined()) {
+            addUndefined();
+        } else if (value.isNull()) {
+            addNull();
+        } else {
+            add(value.getAsLong());
+        }
+    }
+
+    /**
+     * @param index the index of the element
+     * @return the value of the element
+     * @throws NoSuchElementException if the element is undefined or null
+     */
+    public long getAsLong(int index) {
+        if (!hasValue(index)) {
+            throw new NoSuchElementException(isDefined(index) ? "Value is null" : "Value is undefined");
+        }
+        return values[index];
+    }
+
+    /**
+     * @param index the index of the element
+     * @param other the value to return if the element is undefined or null
+     * @return the value of the element, or <code>other</code>
+     */
+    public long orElse(int index, long other) {
+        return hasValue(index) ? values[index] : other;
+    }
+
+    /**
+     * @param index the index of the element
+     * @return the element as a <code>JsonNullableLong</code>; undefined and null elements return the shared instances
+     */
+    public JsonNullableLong get(int index) {
+        if (hasValue(index)) {
+            return JsonNullableLong.of(values[index]);
+        }
+        return isDefined(index) ? JsonNullableLong.ofNull() : JsonNullableLong.undefined();
+    }
+
+    @Override
+    public JsonNullable<Long> getNullable(int index) {
+        if (hasValue(index)) {
+            return JsonNullable.of(values[index]);
+        }
+        return isDefined(index) ? JsonNullable.of(null) : JsonNullable.undefined();
+    }
+
+    /**
+     * Call the action for every non-null value, in index order.
+     *
+     * @param action the action
+     */
+    public void forEachValue(LongConsumer action) {
+        for (int i = nextValue(0); i >= 0; i = nextValue(i + 1)) {
+            action.accept(values[i]);
+        }
+    }
+
+    /**
+     * @return the non-null values, in index order
+     */
+    public long[] toValueArray() {
+        long[] result = new long[valueCount()];
+        int n = 0;
+        for (int i = nextValue(0); i >= 0; i = nextValue(i + 1)) {
+            result[n++] = values[i];
+        }
+        return result;
+    }
+
+    /**
+     * @return the sum of the non-null values
+     */
+    public long sum() {
+        long[] values = this.values;
+        long sum = 0;
+        for (int i = 0, size = this.size; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @return the smallest non-null value, or empty if there is none
+     */
+    public OptionalLong min() {
+        return extreme(true);
+    }
+
+    /**
+     * @return the largest non-null value, or empty if there is none
+     */
+    public OptionalLong max() {
+        return extreme(false);
+    }
+
+    private OptionalLong extreme(boolean min) {
+        long[] bits = nonNullBits();
+        long[] values = this.values;
+        boolean found = false;
+        long result = 0;
+        for (int word = 0, words = words(size); word < words; word++) {
+            long current = bits[word];
+            while (current != 0) {
+                int i = (word << 6) + Long.numberOfTrailingZeros(current);
+                current &= current - 1;
+                long value = values[i];
+                if (!found || (min ? value < result : value > result)) {
+                    result = value;
+                    found = true;
+                }
+            }
+        }
+        return found ? OptionalLong.of(result) : OptionalLong.empty();
+    }
+
+    @Override
+    void setValueAt(int index, Object value) {
+        setAt(index, ((Number) value).longValue());
+    }
+
+    void setAt(int index, long value) {
+        setBits(index, true, true);
+        values[index] = value;
+    }
+
+    @Override
+    int capacity() {
+        return values.length;
+    }
+
+    @Override
+    void resize(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void clearValue(int index) {
+        values[index] = 0;
+    }
+
+    @Override
+    boolean valuesEqual(JsonNullableColumn other) {
+        long[] otherValues = ((JsonNullableLongArray) other).values;
+        for (int i = nextValue(0); i >= 0; i = nextValue(i + 1)) {
+            if (Long.compare(values[i], otherValues[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,165 @@
+package org.openapitools.jackson.nullable;
+
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * A primitive specialization of <code>JsonNullableCell&lt;Long&gt;</code>, the mutable counterpart of
+ * {@link JsonNullableLong}: setting a value stores the <code>long</code> itself, so a cell reused for every record
+ * reads numbers without boxing them. Like <code>JsonNullableLong</code>, a cell is undefined, holds an explicit
+ * <code>null</code>, or holds a value.
+ * <p>
+ * {@link JsonNullableCellsJackson2} and {@link JsonNullableCellsJackson3} fill cells from a parser. Cells are not
+ * safe for concurrent use.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableLongCell {
+
+    private long value;
+
+    private boolean isPresent;
+
+    private boolean isNull;
+
+    /**
+     * Create an undefined cell.
+     */
+    public JsonNullableLongCell() {
+    }
+
+    /**
+     * Set a present value.
+     *
+     * @param value the value
+     * @return this cell
+     */
+    public JsonNullableLongCell set(long value) {
+        this.value = value;
+        this.isPresent = true;
+        this.isNull = false;
+        return this;
+    }
+
+    /**
+     * Set an explicit <code>null</code>.
+     *
+     * @return this cell
+     */
+    public JsonNullableLongCell markNull() {
+        this.value = 0;
+        this.isPresent = true;
+        this.isNull = true;
+        return this;
+    }
+
+    /**
+     * Make the cell undefined.
+     *
+     * @return this cell
+     */
+    public JsonNullableLongCell clear() {
+        this.value = 0;
+        this.isPresent = false;
+        this.isNull = false;
+        return this;
+    }
+
+    /**
+     * Take over the state of a <code>JsonNullableLong</code>; a null reference counts as undefined.
+     *
+     * @param nullable the state to copy
+     * @return this cell
+     */
+    public JsonNullableLongCell setFrom(JsonNullableLong nullable) {
+        if (nullable == null || !nullable.isPresent()) {
+            return clear();
+        }
+        return nullable.isNull() ? markNull() : set(nullable.getAsLong());
+    }
+
+    /**
+     * Obtain the value of this cell.
+     *
+     * @return the value, if present and not null
+     * @throws NoSuchElementException if no value is present or the value is null
+     */
+    public long getAsLong() {
+        if (!isPresent) {
+            throw new NoSuchElementException("Value is undefined");
+        }
+        if (isNull) {
+            throw new NoSuchElementException("Value is null");
+        }
+        return value;
+    }
+
+    /**
+     * Obtain the value of this cell.
+     *
+     * @param other the value to be returned if no value is present or the value is null
+     * @return the value of this cell if present and not null, the submitted value otherwise
+     */
+    public long orElse(long other) {
+        return isPresent && !isNull ? value : other;
+    }
+
+    /**
+     * If a value is present, returns true, otherwise false. A present value may be null.
+     *
+     * @return true if a value is present, otherwise false
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * If a value is not present, returns true, otherwise false.
+     *
+     * @return true if a value is not present, otherwise false
+     */
+    public boolean isUndefined() {
+        return !isPresent;
+    }
+
+    /**
+     * If the value is present and null, returns true, otherwise false.
+     *
+     * @return true if an explicit null is present, otherwise false
+     */
+    public boolean isNull() {
+        return isNull;
+    }
+
+    /**
+     * If a non-null value is present, performs the given action with the value, otherwise does nothing.
+     *
+     * @param action the action to be performed, if a non-null value is present
+     */
+    public void ifPresent(LongConsumer action) {
+        if (isPresent && !isNull) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Convert to an immutable <code>JsonNullableLong</code> with the same state. Undefined cells and explicit nulls
+     * convert without allocating.
+     *
+     * @return the equivalent <code>JsonNullableLong</code>
+     */
+    public JsonNullableLong toJsonNullableLong() {
+        if (!isPresent) {
+            return JsonNullableLong.undefined();
+        }
+        return isNull ? JsonNullableLong.ofNull() : JsonNullableLong.of(value);
+    }
+
+    @Override
+    public String toString() {
+        if (!isPresent) {
+            return "JsonNullableLongCell.undefined";
+        }
+        return isNull ? "JsonNullableLongCell[null]" : "JsonNullableLongCell[" + value + "]";
+    }
+}
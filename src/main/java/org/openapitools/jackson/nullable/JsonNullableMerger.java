@@ -0,0 +1,276 @@
+package org.openapitools.jackson.nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces patches: merging an older and a newer patch keeps, per property, the newer value if it is present
+ * (an explicit null included) and the older value otherwise. Merging a sequence of patches in order therefore
+ * yields the patch that has the same effect as applying all of them one after another.
+ * <p>
+ * DTOs are merged through their <code>JsonNullable</code> properties: public non-final fields and
+ * <code>getX()</code>/<code>setX(JsonNullable)</code> pairs, or the properties of a {@link JsonNullablePatchModel};
+ * a class without any of these is rejected. {@link PatchDocument}s and maps passed to the generic methods are
+ * merged like {@link #merge(PatchDocument, PatchDocument)} and {@link #merge(Map, Map)}, whatever the classes of
+ * the two maps. The accessors are built once per class; merging into an existing patch allocates nothing.
+ * <p>
+ * Instances are safe for concurrent use.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableMerger {
+
+    private final ClassValue<Plan> plans = new ClassValue<Plan>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return Plan.create(type);
+        }
+    };
+
+    /**
+     * Merge two patches of the same class into a new instance of that class.
+     *
+     * @param older the older patch
+     * @param newer the newer patch
+     * @param <T>   the type of the patches
+     * @return a new patch; neither argument is modified
+     * @throws IllegalArgumentException if the patches are of different classes, or of a class without mergeable
+     *                                  properties
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T merge(T older, T newer) {
+        Plan plan = plan(older, newer);
+        Object result = plan.newInstance();
+        plan.mergeInto(result, older);
+        plan.mergeInto(result, newer);
+        return (T) result;
+    }
+
+    /**
+     * Merge a newer patch into an existing one.
+     *
+     * @param target the older patch, modified in place
+     * @param newer  the newer patch
+     * @param <T>    the type of the patches
+     * @return the target
+     * @throws IllegalArgumentException if the patches are of different classes, or of a class without mergeable
+     *                                  properties
+     */
+    public <T> T mergeInto(T target, T newer) {
+        plan(target, newer).mergeInto(target, newer);
+        return target;
+    }
+
+    /**
+     * Merge a sequence of patches of the same class, oldest first, into a new instance.
+     *
+     * @param patches the patches, oldest first; must not be empty
+     * @param <T>     the type of the patches
+     * @return a new patch; none of the arguments is modified
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T coalesce(Iterable<? extends T> patches) {
+        Iterator<? extends T> it = patches.iterator();
+        if (!it.hasNext()) {
+            throw new IllegalArgumentException("No patches to coalesce");
+        }
+        T first = it.next();
+        Plan plan = plan(first, first);
+        Object result = plan.newInstance();
+        plan.mergeInto(result, first);
+        while (it.hasNext()) {
+            T next = it.next();
+            plan(first, next);
+            plan.mergeInto(result, next);
+        }
+        return (T) result;
+    }
+
+    /**
+     * Merge two patches held as maps into a new map. Undefined entries of the newer map do not override the older
+     * map; the order is the one of the older map followed by the keys only the newer map has.
+     *
+     * @param older the older patch
+     * @param newer the newer patch
+     * @param <V>   the type of the values
+     * @return a new map; neither argument is modified
+     */
+    public <V> Map<String, JsonNullable<V>> merge(Map<String, JsonNullable<V>> older, Map<String, JsonNullable<V>> newer) {
+        Map<String, JsonNullable<V>> result = new LinkedHashMap<>(older);
+        mergeMap(result, newer);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void mergeMap(Map<?, ?> target, Map<?, ?> newer) {
+        Map<Object, Object> to = (Map<Object, Object>) target;
+        for (Map.Entry<?, ?> entry : newer.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof JsonNullable && ((JsonNullable<?>) value).isPresent()) {
+                to.put(entry.getKey(), value);
+            } else {
+                to.putIfAbsent(entry.getKey(), value);
+            }
+        }
+    }
+
+    /**
+     * Merge two patch documents into a new document.
+     *
+     * @param older the older patch
+     * @param newer the newer patch
+     * @return a new document; neither argument is modified
+     */
+    public PatchDocument merge(PatchDocument older, PatchDocument newer) {
+        PatchDocument result = new PatchDocument(older.size() + newer.size());
+        older.forEach(result::set);
+        newer.forEach(result::set);
+        return result;
+    }
+
+    private Plan plan(Object older, Object newer) {
+        Objects.requireNonNull(older, "older");
+        Objects.requireNonNull(newer, "newer");
+        if (older instanceof Map && newer instanceof Map) {
+            return Plan.MAP;
+        }
+        if (older.getClass() != newer.getClass()) {
+            throw new IllegalArgumentException("Cannot merge " + newer.getClass().getName() + " into "
+                    + older.getClass().getName());
+        }
+        return plans.get(older.getClass());
+    }
+
+    private static final class Plan {
+
+        private enum Kind { BEAN, MODEL, DOCUMENT, MAP }
+
+        /**
+         * Merges maps of any class into a new {@link LinkedHashMap}.
+         */
+        static final Plan MAP = new Plan(LinkedHashMap::new, Kind.MAP, null,
+                new ArrayList<>(), new ArrayList<>());
+
+        private final Supplier<Object> factory;
+
+        private final Kind kind;
+
+        /**
+         * Property indexes of a {@link JsonNullablePatchModel}, null for other kinds.
+         */
+        private final int[] modelIndexes;
+
+        private final Function<Object, Object>[] readers;
+
+        private final BiConsumer<Object, Object>[] writers;
+
+        @SuppressWarnings("unchecked")
+        private Plan(Supplier<Object> factory, Kind kind, int[] modelIndexes,
+                     List<Function<Object, Object>> readers, List<BiConsumer<Object, Object>> writers) {
+            this.factory = factory;
+            this.kind = kind;
+            this.modelIndexes = modelIndexes;
+            this.readers = readers.toArray(new Function[0]);
+            this.writers = writers.toArray(new BiConsumer[0]);
+        }
+
+        Object newInstance() {
+            return factory.get();
+        }
+
+        void mergeInto(Object target, Object newer) {
+            switch (kind) {
+                case DOCUMENT:
+                    ((PatchDocument) newer).forEach(((PatchDocument) target)::set);
+                    return;
+                case MAP:
+                    mergeMap((Map<?, ?>) target, (Map<?, ?>) newer);
+                    return;
+                case MODEL:
+                    JsonNullablePatchModelAccess from = (JsonNullablePatchModelAccess) newer;
+                    JsonNullablePatchModelAccess to = (JsonNullablePatchModelAccess) target;
+                    for (int index : modelIndexes) {
+                        if (from.isDefined(index)) {
+                            to.setRaw(index, from.getRaw(index));
+                        }
+                    }
+                    return;
+                default:
+                    for (int i = 0; i < readers.length; i++) {
+                        JsonNullable<?> value = (JsonNullable<?>) readers[i].apply(newer);
+                        if (value != null && value.isPresent()) {
+                            writers[i].accept(target, value);
+                        }
+                    }
+            }
+        }
+
+        static Plan create(Class<?> type) {
+            List<Function<Object, Object>> readers = new ArrayList<>();
+            List<BiConsumer<Object, Object>> writers = new ArrayList<>();
+            if (type == PatchDocument.class) {
+                return new Plan(PatchDocument::new, Kind.DOCUMENT, null, readers, writers);
+            }
+            if (JsonNullablePatchModelAccess.class.isAssignableFrom(type)) {
+                JsonNullablePatchModelDescriptor descriptor = JsonNullablePatchModelDescriptor.forType(type);
+                int[] indexes = new int[descriptor.propertyCount()];
+                for (int i = 0; i < indexes.length; i++) {
+                    indexes[i] = i;
+                }
+                return new Plan(descriptor::newInstance, Kind.MODEL, indexes, readers, writers);
+            }
+            Map<String, Method> getters = new LinkedHashMap<>();
+            Map<String, Method> setters = new LinkedHashMap<>();
+            for (Method method : type.getMethods()) {
+                String name = method.getName();
+                if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || name.length() <= 3) {
+                    continue;
+                }
+                if (name.startsWith("get") && method.getParameterCount() == 0 && method.getReturnType() == JsonNullable.class) {
+                    getters.put(JsonNullableAccessors.propertyName(name.substring(3)), method);
+                } else if (name.startsWith("set") && method.getParameterCount() == 1
+                        && method.getParameterTypes()[0] == JsonNullable.class) {
+                    setters.put(JsonNullableAccessors.propertyName(name.substring(3)), method);
+                }
+            }
+            for (Map.Entry<String, Method> getter : getters.entrySet()) {
+                Method setter = setters.get(getter.getKey());
+                if (setter != null) {
+                    readers.add(JsonNullableAccessors.getter(getter.getValue()));
+                    writers.add(JsonNullableAccessors.setter(setter));
+                }
+            }
+            for (Field field : type.getFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && field.getType() == JsonNullable.class
+                        && !(getters.containsKey(field.getName()) && setters.containsKey(field.getName()))) {
+                    readers.add(JsonNullableAccessors.getter(field));
+                    writers.add(JsonNullableAccessors.setter(field));
+                }
+            }
+            if (readers.isEmpty()) {
+                throw new IllegalArgumentException(type.getName() + " has no JsonNullable properties to merge");
+            }
+            Supplier<Object> factory;
+            try {
+                factory = JsonNullableAccessors.constructor(type);
+            } catch (IllegalArgumentException e) {
+                // mergeInto still works without a no-argument constructor
+                factory = () -> {
+                    throw e;
+                };
+            }
+            return new Plan(factory, Kind.BEAN, null, readers, writers);
+        }
+    }
+}
@@ -8,13 +8,61 @@ public class JsonNullableModule extends Module {
 
     private final String NAME = "JsonNullableModule";
 
+    private boolean canonicalValues = false;
+
+    private boolean lazyValues = false;
+
+    private boolean fieldMasks = false;
+
     @Override
     public void setupModule(SetupContext context) {
         context.addSerializers(new JsonNullableJackson2Serializers());
-        context.addDeserializers(new JsonNullableJackson2Deserializers());
+        context.addDeserializers(new JsonNullableJackson2Deserializers(canonicalValues, lazyValues));
         // Modify type info for JsonNullable
         context.addTypeModifier(new JsonNullableJackson2TypeModifier());
-        context.addBeanSerializerModifier(new JsonNullableJackson2BeanSerializerModifier());
+        context.addBeanSerializerModifier(new JsonNullableJackson2BeanSerializerModifier(fieldMasks));
+    }
+
+    /**
+     * Configures whether deserialized <code>JsonNullable</code> values of <code>null</code>, booleans,
+     * small integers and longs and the empty string share the instances of {@link JsonNullable#ofCanonical(Object)}
+     * instead of allocating a new wrapper each. Disabled by default.
+     *
+     * @param state true to use shared instances
+     * @return this module
+     * @since 0.2.12
+     */
+    public JsonNullableModule configureCanonicalValues(boolean state) {
+        canonicalValues = state;
+        return this;
+    }
+
+    /**
+     * Configures whether JSON objects and arrays in <code>JsonNullable</code> properties are buffered and decoded
+     * on first access instead of right away. Properties annotated with {@link JsonNullableLazy} override this
+     * setting. Disabled by default.
+     *
+     * @param state true to decode objects and arrays on first access
+     * @return this module
+     * @since 0.2.12
+     */
+    public JsonNullableModule configureLazyValues(boolean state) {
+        lazyValues = state;
+        return this;
+    }
+
+    /**
+     * Configures whether beans are serialized with a serializer that applies the {@link JsonNullableFieldMask} passed
+     * as the {@link JsonNullableFieldMask#ATTRIBUTE} attribute of a writer. Beans are serialized as usual when no mask
+     * is passed. Disabled by default.
+     *
+     * @param state true to apply field masks
+     * @return this module
+     * @since 0.2.12
+     */
+    public JsonNullableModule configureFieldMasks(boolean state) {
+        fieldMasks = state;
+        return this;
     }
 
     @Override
@@ -0,0 +1,267 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only views of JSON objects for Jackson 2, as interfaces whose getters return <code>JsonNullable</code>.
+ * <p>
+ * Creating a view scans the top-level object once, skipping over the values, and records where the value of each
+ * property of the interface starts and ends. A getter decodes its value with the mapper on its first call and returns the
+ * same <code>JsonNullable</code> afterwards. A missing property is undefined and a JSON null is
+ * <code>JsonNullable.of(null)</code>, both known without decoding anything.
+ * <p>
+ * View interfaces may only declare getters without parameters that return <code>JsonNullable</code>. The property
+ * name is the getter name without its <code>get</code> prefix, or the value of <code>@JsonProperty</code>. A view
+ * reads the byte array it was created from, which must not change while the view is in use. Views are safe for
+ * concurrent use; their <code>equals</code> and <code>hashCode</code> are those of object identity.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableObjectViewJackson2 {
+
+    private static final int UNDEFINED = -1;
+
+    private static final int NULL = -2;
+
+    private final ObjectMapper mapper;
+
+    private final ConcurrentHashMap<Class<?>, Plan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * @param mapper decodes the property values; its configuration should not change once views are created
+     */
+    public JsonNullableObjectViewJackson2(ObjectMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper, "mapper");
+    }
+
+    /**
+     * @param json     a JSON object, encoded in UTF-8
+     * @param viewType the view interface
+     * @param <T>      the type of the view
+     * @return a view of the object
+     * @throws IOException if the input is not a well-formed JSON object
+     */
+    public <T> T view(byte[] json, Class<T> viewType) throws IOException {
+        return view(json, 0, json.length, viewType);
+    }
+
+    /**
+     * @param json     the bytes holding a JSON object, encoded in UTF-8
+     * @param offset   the offset of the object
+     * @param length   the length of the object
+     * @param viewType the view interface
+     * @param <T>      the type of the view
+     * @return a view of the object
+     * @throws IOException if the input is not a well-formed JSON object
+     */
+    public <T> T view(byte[] json, int offset, int length, Class<T> viewType) throws IOException {
+        Plan plan = plans.computeIfAbsent(viewType, type -> Plan.create(type, mapper));
+        int[] starts = new int[plan.names.length];
+        int[] ends = new int[plan.names.length];
+        Arrays.fill(starts, UNDEFINED);
+        try (JsonParser p = mapper.getFactory().createParser(json, offset, length)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw MismatchedInputException.from(p, viewType, "Expected a JSON object for a view");
+            }
+            for (JsonToken t = p.nextToken(); t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+                Integer index = plan.indexes.get(p.currentName());
+                JsonToken valueToken = p.nextToken();
+                if (index == null) {
+                    p.skipChildren();
+                } else if (valueToken == JsonToken.VALUE_NULL) {
+                    starts[index] = NULL;
+                } else {
+                    starts[index] = offset + (int) p.currentTokenLocation().getByteOffset();
+                    // the location is only past the value once its children are skipped and a scalar is complete
+                    p.skipChildren();
+                    p.finishToken();
+                    ends[index] = offset + (int) p.currentLocation().getByteOffset();
+                }
+            }
+        }
+        View view = new View(plan, json, starts, ends);
+        return viewType.cast(Proxy.newProxyInstance(viewType.getClassLoader(), new Class<?>[]{viewType}, view));
+    }
+
+    /**
+     * Create a view of the remaining bytes of the buffer; a buffer without an accessible array is copied first.
+     *
+     * @param json     a JSON object, encoded in UTF-8
+     * @param viewType the view interface
+     * @param <T>      the type of the view
+     * @return a view of the object
+     * @throws IOException if the input is not a well-formed JSON object
+     */
+    public <T> T view(ByteBuffer json, Class<T> viewType) throws IOException {
+        if (json.hasArray()) {
+            return view(json.array(), json.arrayOffset() + json.position(), json.remaining(), viewType);
+        }
+        byte[] copy = new byte[json.remaining()];
+        json.duplicate().get(copy);
+        return view(copy, viewType);
+    }
+
+    private final class View implements InvocationHandler {
+
+        private final Plan plan;
+
+        private final byte[] json;
+
+        /**
+         * Per property the offset of its value, or {@link #UNDEFINED} or {@link #NULL}.
+         */
+        private final int[] starts;
+
+        /**
+         * Per property the offset just past its value.
+         */
+        private final int[] ends;
+
+        /**
+         * The decoded values; a racing getter may decode a value twice, either result is kept.
+         */
+        private final JsonNullable<?>[] values;
+
+        View(Plan plan, byte[] json, int[] starts, int[] ends) {
+            this.plan = plan;
+            this.json = json;
+            this.starts = starts;
+            this.ends = ends;
+            this.values = new JsonNullable<?>[starts.length];
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            Integer index = plan.methods.get(method);
+            if (index != null) {
+                return get(index);
+            }
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return toString();
+            }
+        }
+
+        private JsonNullable<?> get(int index) {
+            JsonNullable<?> value = values[index];
+            if (value == null) {
+                value = decode(index);
+                values[index] = value;
+            }
+            return value;
+        }
+
+        private JsonNullable<?> decode(int index) {
+            int start = starts[index];
+            if (start == UNDEFINED) {
+                return JsonNullable.undefined();
+            }
+            if (start == NULL) {
+                return JsonNullable.of(null);
+            }
+            try (JsonParser p = mapper.getFactory().createParser(json, start, ends[index] - start)) {
+                return JsonNullable.of(plan.readers[index].readValue(p));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(plan.viewType.getSimpleName()).append('[');
+            for (int i = 0; i < starts.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(plan.names[i]).append('=')
+                        .append(starts[i] == UNDEFINED ? "undefined" : starts[i] == NULL ? "null" : "present");
+            }
+            return sb.append(']').toString();
+        }
+    }
+
+    private static final class Plan {
+
+        private final Class<?> viewType;
+
+        private final String[] names;
+
+        private final Map<String, Integer> indexes;
+
+        private final Map<Method, Integer> methods;
+
+        private final ObjectReader[] readers;
+
+        private Plan(Class<?> viewType, List<String> names, Map<Method, Integer> methods, List<ObjectReader> readers) {
+            this.viewType = viewType;
+            this.names = names.toArray(new String[0]);
+            this.indexes = new HashMap<>();
+            for (int i = 0; i < this.names.length; i++) {
+                indexes.put(this.names[i], i);
+            }
+            this.methods = methods;
+            this.readers = readers.toArray(new ObjectReader[0]);
+        }
+
+        static Plan create(Class<?> viewType, ObjectMapper mapper) {
+            if (!viewType.isInterface()) {
+                throw new IllegalArgumentException(viewType.getName() + " is not an interface");
+            }
+            List<String> names = new ArrayList<>();
+            Map<Method, Integer> methods = new HashMap<>();
+            List<ObjectReader> readers = new ArrayList<>();
+            for (Method method : viewType.getMethods()) {
+                if (Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                if (method.isDefault() || method.getParameterCount() != 0 || method.getReturnType() != JsonNullable.class) {
+                    throw new IllegalArgumentException(viewType.getName() + "." + method.getName()
+                            + " is not a getter returning JsonNullable");
+                }
+                String name = propertyName(method);
+                Integer index = names.indexOf(name);
+                if (index < 0) {
+                    index = names.size();
+                    names.add(name);
+                    readers.add(mapper.readerFor(mapper.getTypeFactory().constructType(
+                            JsonNullableAccessors.valueType(method.getGenericReturnType()))));
+                }
+                methods.put(method, index);
+            }
+            return new Plan(viewType, names, methods, readers);
+        }
+
+        private static String propertyName(Method getter) {
+            JsonProperty property = getter.getAnnotation(JsonProperty.class);
+            if (property != null && !property.value().isEmpty()) {
+                return property.value();
+            }
+            String name = getter.getName();
+            return name.length() > 3 && name.startsWith("get") ? JsonNullableAccessors.propertyName(name.substring(3)) : name;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package org.openapitools.jackson.nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind buffer for patches keyed by entity id. Patches submitted for the same entity are coalesced in memory
+ * with {@link JsonNullableMerger} semantics (a present value, an explicit null included, overrides what was there
+ * before; undefined properties keep it), so each flush hands the flusher one minimal patch per entity.
+ * <p>
+ * A flush is triggered when the number of pending entities reaches the flush threshold, when the oldest pending
+ * patch reaches the maximum delay, or by calling {@link #flush()} or {@link #close()}. Flushes run one at a time,
+ * in submission order per entity, on the given scheduler. The number of pending entities, including the batch the
+ * flusher is still working on, is bounded: {@link #submit(Object, Object)} blocks while the buffer is full, and
+ * {@link #offer(Object, Object, long, TimeUnit)} gives up after a timeout. Patches for an entity that is already
+ * pending are always accepted, since they do not take more room.
+ * <p>
+ * Exceptions thrown by the flusher are rethrown from {@link #flush()} and {@link #close()}; for flushes that run
+ * on the scheduler they are passed to the uncaught exception handler of the scheduler thread. The batch is
+ * dropped either way.
+ * <p>
+ * Instances are safe for concurrent use.
+ *
+ * @param <K> the type of the entity ids
+ * @param <P> the type of the patches
+ * @since 0.2.12
+ */
+public final class JsonNullablePatchBuffer<K, P> implements AutoCloseable {
+
+    private static final JsonNullableMerger MERGER = new JsonNullableMerger();
+
+    private final ConcurrentHashMap<K, P> pending = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    private final int flushThreshold;
+
+    private final long maxDelayNanos;
+
+    private final BinaryOperator<P> merge;
+
+    private final Consumer<? super Map<K, P>> flusher;
+
+    /**
+     * One permit per entity that is pending or in the batch being flushed.
+     */
+    private final Semaphore capacity;
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final AtomicBoolean deadlineArmed = new AtomicBoolean();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private volatile boolean closed;
+
+    /**
+     * Create a buffer that coalesces patches with {@link JsonNullableMerger}.
+     *
+     * @param scheduler      runs the flushes; not shut down by {@link #close()}
+     * @param flushThreshold the number of pending entities that triggers a flush
+     * @param maxPending     the number of entities the buffer holds before submitters have to wait; at least the
+     *                       flush threshold
+     * @param maxDelay       the time after which a pending patch is flushed at the latest
+     * @param unit           the unit of the maximum delay
+     * @param flusher        receives each batch, one coalesced patch per entity
+     */
+    public JsonNullablePatchBuffer(ScheduledExecutorService scheduler, int flushThreshold, int maxPending,
+                                   long maxDelay, TimeUnit unit, Consumer<? super Map<K, P>> flusher) {
+        this(scheduler, flushThreshold, maxPending, maxDelay, unit, MERGER::merge, flusher);
+    }
+
+    /**
+     * @param scheduler      runs the flushes; not shut down by {@link #close()}
+     * @param flushThreshold the number of pending entities that triggers a flush
+     * @param maxPending     the number of entities the buffer holds before submitters have to wait; at least the
+     *                       flush threshold
+     * @param maxDelay       the time after which a pending patch is flushed at the latest
+     * @param unit           the unit of the maximum delay
+     * @param merge          merges an older and a newer patch into a new patch without modifying either
+     * @param flusher        receives each batch, one coalesced patch per entity
+     */
+    public JsonNullablePatchBuffer(ScheduledExecutorService scheduler, int flushThreshold, int maxPending,
+                                   long maxDelay, TimeUnit unit, BinaryOperator<P> merge,
+                                   Consumer<? super Map<K, P>> flusher) {
+        if (flushThreshold < 1) {
+            throw new IllegalArgumentException("flushThreshold must be positive: " + flushThreshold);
+        }
+        if (maxPending < flushThreshold) {
+            throw new IllegalArgumentException("maxPending must be at least flushThreshold: " + maxPending);
+        }
+        if (maxDelay <= 0) {
+            throw new IllegalArgumentException("maxDelay must be positive: " + maxDelay);
+        }
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.flushThreshold = flushThreshold;
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+        this.merge = Objects.requireNonNull(merge, "merge");
+        this.flusher = Objects.requireNonNull(flusher, "flusher");
+        this.capacity = new Semaphore(maxPending);
+    }
+
+    /**
+     * Add a patch, waiting for room if the entity is not pending yet and the buffer is full.
+     *
+     * @param id    the entity id
+     * @param patch the patch; not modified by the buffer
+     * @throws InterruptedException  if interrupted while waiting for room
+     * @throws IllegalStateException if the buffer is closed
+     */
+    public void submit(K id, P patch) throws InterruptedException {
+        Objects.requireNonNull(id, "id");
+        Objects.requireNonNull(patch, "patch");
+        ensureOpen();
+        if (mergeIfPending(id, patch)) {
+            flushIfClosed();
+            return;
+        }
+        capacity.acquire();
+        addIfOpen(id, patch);
+    }
+
+    /**
+     * Add a patch, waiting at most the given time for room if the entity is not pending yet and the buffer is full.
+     *
+     * @param id      the entity id
+     * @param patch   the patch; not modified by the buffer
+     * @param timeout the time to wait for room
+     * @param unit    the unit of the timeout
+     * @return false if there was no room in time
+     * @throws InterruptedException  if interrupted while waiting for room
+     * @throws IllegalStateException if the buffer is closed
+     */
+    public boolean offer(K id, P patch, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(id, "id");
+        Objects.requireNonNull(patch, "patch");
+        ensureOpen();
+        if (mergeIfPending(id, patch)) {
+            flushIfClosed();
+            return true;
+        }
+        if (!capacity.tryAcquire(timeout, unit)) {
+            return false;
+        }
+        addIfOpen(id, patch);
+        return true;
+    }
+
+    /**
+     * @return the number of entities with a pending patch, not counting the batch being flushed
+     */
+    public int pendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Hand all pending patches to the flusher now, on the calling thread.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            deadlineArmed.set(false);
+            Map<K, P> batch = drain();
+            if (!pending.isEmpty()) {
+                armDeadline();
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                flusher.accept(Collections.unmodifiableMap(batch));
+            } finally {
+                capacity.release(batch.size());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Reject further patches and flush the pending ones. A patch whose submission overlaps with closing is either
+     * rejected or flushed by its submitter, never left behind.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flush();
+    }
+
+    private boolean mergeIfPending(K id, P patch) {
+        return pending.computeIfPresent(id, (key, older) -> merge.apply(older, patch)) != null;
+    }
+
+    /**
+     * Called with a permit. A submitter that waited for room while the buffer was closed gives the permit back and
+     * is rejected; one that got in while {@link #close()} was flushing flushes its own patch.
+     */
+    private void addIfOpen(K id, P patch) {
+        if (closed) {
+            capacity.release();
+            ensureOpen();
+        }
+        add(id, patch);
+        flushIfClosed();
+    }
+
+    // Re-checked after adding, since close() may have drained the buffer before the patch got in
+    private void flushIfClosed() {
+        if (closed) {
+            flush();
+        }
+    }
+
+    /**
+     * Called with a permit; gives it back if another thread made the entity pending in the meantime.
+     */
+    private void add(K id, P patch) {
+        boolean[] added = new boolean[1];
+        pending.compute(id, (key, older) -> {
+            if (older == null) {
+                added[0] = true;
+                return patch;
+            }
+            return merge.apply(older, patch);
+        });
+        if (!added[0]) {
+            capacity.release();
+            return;
+        }
+        if (pendingCount.incrementAndGet() >= flushThreshold) {
+            requestFlush();
+        } else {
+            armDeadline();
+        }
+    }
+
+    private Map<K, P> drain() {
+        Map<K, P> batch = new LinkedHashMap<>();
+        for (K id : pending.keySet()) {
+            P patch = pending.remove(id);
+            if (patch != null) {
+                pendingCount.decrementAndGet();
+                batch.put(id, patch);
+            }
+        }
+        return batch;
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flushInBackground);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void armDeadline() {
+        if (deadlineArmed.compareAndSet(false, true)) {
+            try {
+                scheduler.schedule(this::flushInBackground, maxDelayNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                deadlineArmed.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (RuntimeException | Error e) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The patch buffer is closed");
+        }
+    }
+}
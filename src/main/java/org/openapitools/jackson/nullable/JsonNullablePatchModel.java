@@ -0,0 +1,26 @@
+package org.openapitools.jackson.nullable;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface or abstract class as a patch model. The {@link JsonNullablePatchModelProcessor}
+ * generates an implementation named after the model with an <code>Impl</code> suffix (nested types are
+ * flattened with <code>_</code>, e.g. <code>Outer_PetPatchImpl</code>) in the same package.
+ * <p>
+ * Every abstract getter of the model has to return a <code>JsonNullable</code>, abstract setters have to
+ * take exactly one <code>JsonNullable</code> parameter; passing null to a setter makes the property undefined.
+ * The generated class stores the raw values in plain fields (primitives for boxed primitive value types) and
+ * tracks the defined and null states in <code>long</code> bitmasks, creating <code>JsonNullable</code> views
+ * only when a getter is called. Both Jackson modules read and write these bitmasks directly.
+ * <p>
+ * The processor has to be enabled explicitly, see {@link JsonNullablePatchModelProcessor}.
+ *
+ * @since 0.2.12
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonNullablePatchModel {
+}
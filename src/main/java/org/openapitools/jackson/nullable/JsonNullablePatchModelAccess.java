@@ -0,0 +1,52 @@
+package org.openapitools.jackson.nullable;
+
+/**
+ * Raw access to the state of a generated {@link JsonNullablePatchModel} implementation, used by the
+ * Jackson serializers and deserializers. Properties are addressed by their index in the
+ * {@link JsonNullablePatchModelDescriptor}.
+ *
+ * @since 0.2.12
+ */
+public interface JsonNullablePatchModelAccess {
+
+    /**
+     * @return the descriptor of the model
+     */
+    JsonNullablePatchModelDescriptor patchModelDescriptor();
+
+    /**
+     * Obtain a word of the defined bitmask: bit <code>i</code> of word <code>w</code> is set if the
+     * property with index <code>w * 64 + i</code> is defined (present or null).
+     *
+     * @param word the index of the word
+     * @return the bits of the requested word
+     */
+    long definedMask(int word);
+
+    /**
+     * @param index the index of the property
+     * @return true if the property is defined (present or null)
+     */
+    boolean isDefined(int index);
+
+    /**
+     * @param index the index of the property
+     * @return the value of the property, or null if it is null or undefined
+     */
+    Object getRaw(int index);
+
+    /**
+     * Defines the property with the given value.
+     *
+     * @param index the index of the property
+     * @param value the value, may be null
+     */
+    void setRaw(int index, Object value);
+
+    /**
+     * Resets the property to undefined.
+     *
+     * @param index the index of the property
+     */
+    void setUndefined(int index);
+}
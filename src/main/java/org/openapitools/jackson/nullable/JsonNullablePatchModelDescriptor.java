@@ -0,0 +1,191 @@
+package org.openapitools.jackson.nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Describes the properties of a {@link JsonNullablePatchModel}: their names, in declaration order,
+ * and the types of their values. Instances are created by the generated implementations.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullablePatchModelDescriptor {
+
+    /**
+     * Name of the static field holding the descriptor in every generated implementation.
+     */
+    public static final String DESCRIPTOR_FIELD = "DESCRIPTOR";
+
+    private static final ClassValue<JsonNullablePatchModelDescriptor> DESCRIPTORS = new ClassValue<JsonNullablePatchModelDescriptor>() {
+        @Override
+        protected JsonNullablePatchModelDescriptor computeValue(Class<?> type) {
+            return lookup(type);
+        }
+    };
+
+    private final Class<?> modelType;
+
+    private final Supplier<? extends JsonNullablePatchModelAccess> factory;
+
+    private final String[] names;
+
+    private final String[] getterNames;
+
+    private final Type[] valueTypes;
+
+    private final Map<String, Integer> indexes;
+
+    private JsonNullablePatchModelDescriptor(Class<?> modelType, Supplier<? extends JsonNullablePatchModelAccess> factory,
+                                             String[] names, String[] getterNames, Type[] valueTypes) {
+        this.modelType = modelType;
+        this.factory = factory;
+        this.names = names;
+        this.getterNames = getterNames;
+        this.valueTypes = valueTypes;
+        this.indexes = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            indexes.put(names[i], i);
+        }
+    }
+
+    /**
+     * Create the descriptor of a model. Called from the static initializer of generated implementations.
+     *
+     * @param modelType   the annotated model type
+     * @param factory     creates empty instances of the generated implementation
+     * @param names       the property names, in index order
+     * @param getterNames the names of the getters declaring the properties, in index order
+     * @return the descriptor
+     */
+    public static JsonNullablePatchModelDescriptor create(Class<?> modelType, Supplier<? extends JsonNullablePatchModelAccess> factory,
+                                                          String[] names, String[] getterNames) {
+        Type[] valueTypes = new Type[getterNames.length];
+        for (int i = 0; i < getterNames.length; i++) {
+            Type returnType;
+            try {
+                returnType = modelType.getMethod(getterNames[i]).getGenericReturnType();
+            } catch (NoSuchMethodException e) {
+                // abstract getters of abstract classes may be non-public
+                returnType = findDeclaredGetter(modelType, getterNames[i]).getGenericReturnType();
+            }
+            valueTypes[i] = returnType instanceof ParameterizedType
+                    ? ((ParameterizedType) returnType).getActualTypeArguments()[0]
+                    : Object.class;
+        }
+        return new JsonNullablePatchModelDescriptor(modelType, factory, names.clone(), getterNames.clone(), valueTypes);
+    }
+
+    private static Method findDeclaredGetter(Class<?> type, String name) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredMethod(name);
+            } catch (NoSuchMethodException e) {
+                // continue with the superclass
+            }
+        }
+        throw new IllegalStateException("Getter " + name + " not found on " + type.getName());
+    }
+
+    /**
+     * Find the descriptor for a patch model or one of its generated implementations.
+     *
+     * @param type the model type or the generated implementation
+     * @return the descriptor, or null if the type is not a patch model
+     */
+    public static JsonNullablePatchModelDescriptor forType(Class<?> type) {
+        return DESCRIPTORS.get(type);
+    }
+
+    private static JsonNullablePatchModelDescriptor lookup(Class<?> type) {
+        Class<?> implementation = null;
+        if (JsonNullablePatchModelAccess.class.isAssignableFrom(type)) {
+            implementation = type;
+        } else if (type.isAnnotationPresent(JsonNullablePatchModel.class)) {
+            try {
+                implementation = Class.forName(implementationName(type), true, type.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("No generated implementation found for patch model " + type.getName()
+                        + ", is the annotation processor enabled?", e);
+            }
+        }
+        if (implementation == null) {
+            return null;
+        }
+        try {
+            Field field = implementation.getField(DESCRIPTOR_FIELD);
+            return (JsonNullablePatchModelDescriptor) field.get(null);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException("Invalid patch model implementation " + implementation.getName(), e);
+        }
+    }
+
+    /**
+     * @param modelType the annotated model type
+     * @return the binary name of the generated implementation
+     */
+    static String implementationName(Class<?> modelType) {
+        String name = modelType.getName();
+        int packageEnd = name.lastIndexOf('.');
+        String packagePrefix = packageEnd < 0 ? "" : name.substring(0, packageEnd + 1);
+        return packagePrefix + name.substring(packageEnd + 1).replace('$', '_') + "Impl";
+    }
+
+    /**
+     * @return the annotated model type
+     */
+    public Class<?> modelType() {
+        return modelType;
+    }
+
+    /**
+     * @return a new instance of the generated implementation with every property undefined
+     */
+    public JsonNullablePatchModelAccess newInstance() {
+        return factory.get();
+    }
+
+    /**
+     * @return the number of properties
+     */
+    public int propertyCount() {
+        return names.length;
+    }
+
+    /**
+     * @param index the index of the property
+     * @return the name of the property
+     */
+    public String propertyName(int index) {
+        return names[index];
+    }
+
+    /**
+     * @param index the index of the property
+     * @return the name of the getter declaring the property
+     */
+    String getterName(int index) {
+        return getterNames[index];
+    }
+
+    /**
+     * @param index the index of the property
+     * @return the type of the value wrapped in the property's <code>JsonNullable</code>
+     */
+    public Type valueType(int index) {
+        return valueTypes[index];
+    }
+
+    /**
+     * @param name the name of the property
+     * @return the index of the property, or -1 if there is no property with that name
+     */
+    public int indexOf(String name) {
+        Integer index = indexes.get(name);
+        return index == null ? -1 : index;
+    }
+}
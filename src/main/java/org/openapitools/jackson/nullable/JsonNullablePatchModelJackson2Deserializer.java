@@ -0,0 +1,107 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.PropertyMetadata;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Jackson 2 deserializer for {@link JsonNullablePatchModel} types. Creates the generated
+ * implementation and sets the raw values and bitmasks directly; unknown properties go through
+ * the regular unknown property handling of the context. Values are read with the value
+ * deserializer contextualized for the getter, and blank strings follow the same policy as for
+ * a <code>JsonNullable</code> property, so property annotations apply as on a regular bean.
+ */
+public class JsonNullablePatchModelJackson2Deserializer extends StdDeserializer<Object> implements ResolvableDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final JsonNullablePatchModelDescriptor descriptor;
+
+    private static final Class<?>[] NO_PARAMETERS = new Class<?>[0];
+
+    private final JsonDeserializer<Object>[] deserializers;
+
+    private final TypeDeserializer[] typeDeserializers;
+
+    private final boolean[] blankAsUndefined;
+
+    private final Map<String, Integer> indexes;
+
+    @SuppressWarnings("unchecked")
+    public JsonNullablePatchModelJackson2Deserializer(JsonNullablePatchModelDescriptor descriptor) {
+        super(descriptor.modelType());
+        this.descriptor = descriptor;
+        this.deserializers = new JsonDeserializer[descriptor.propertyCount()];
+        this.typeDeserializers = new TypeDeserializer[deserializers.length];
+        this.blankAsUndefined = new boolean[deserializers.length];
+        this.indexes = new HashMap<>(deserializers.length * 2);
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        BeanDescription beanDesc = ctxt.getConfig().introspect(ctxt.constructType(descriptor.modelType()));
+        for (int i = 0; i < deserializers.length; i++) {
+            JavaType type = ctxt.constructType(descriptor.valueType(i));
+            BeanPropertyDefinition definition = JsonNullablePatchModelJackson2Serializer.findProperty(beanDesc,
+                    descriptor.getterName(i));
+            // the descriptor has the default names, the naming strategy or a mix-in may rename the properties
+            PropertyName name = definition == null ? PropertyName.construct(descriptor.propertyName(i))
+                    : definition.getFullName();
+            AnnotatedMethod getter = definition == null ? beanDesc.findMethod(descriptor.getterName(i), NO_PARAMETERS)
+                    : definition.getGetter();
+            BeanProperty property = new BeanProperty.Std(name, type, null, getter, PropertyMetadata.STD_OPTIONAL);
+            deserializers[i] = ctxt.findContextualValueDeserializer(type, property);
+            typeDeserializers[i] = ctxt.getFactory().findTypeDeserializer(ctxt.getConfig(), type);
+            JsonNullableBlankAsUndefined blankPolicy = property.getAnnotation(JsonNullableBlankAsUndefined.class);
+            blankAsUndefined[i] = blankPolicy == null ? !type.isTypeOrSubTypeOf(String.class) : blankPolicy.value();
+            indexes.put(name.getSimpleName(), i);
+        }
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        } else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {
+            return ctxt.handleUnexpectedToken(descriptor.modelType(), p);
+        }
+        JsonNullablePatchModelAccess result = descriptor.newInstance();
+        for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+            String name = p.currentName();
+            JsonToken valueToken = p.nextToken();
+            Integer index = indexes.get(name);
+            if (index == null) {
+                ctxt.handleUnknownProperty(p, this, result, name);
+                continue;
+            }
+            if (valueToken == JsonToken.VALUE_NULL) {
+                result.setRaw(index, null);
+            } else if (valueToken == JsonToken.VALUE_STRING && blankAsUndefined[index]
+                    && JsonNullableJackson2Deserializer.isBlank(p)) {
+                result.setUndefined(index);
+            } else {
+                TypeDeserializer typeDeser = typeDeserializers[index];
+                result.setRaw(index, typeDeser == null ? deserializers[index].deserialize(p, ctxt)
+                        : deserializers[index].deserializeWithType(p, ctxt, typeDeser));
+            }
+        }
+        return result;
+    }
+}
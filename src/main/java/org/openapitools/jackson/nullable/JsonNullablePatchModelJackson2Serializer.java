@@ -0,0 +1,161 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Jackson 2 serializer for generated {@link JsonNullablePatchModel} implementations. Walks the set
+ * bits of the defined bitmask and writes only the defined properties, without creating any
+ * <code>JsonNullable</code> instance. Property names, annotations and polymorphic type handling are
+ * resolved from the model type as for a regular bean.
+ */
+public class JsonNullablePatchModelJackson2Serializer extends StdSerializer<JsonNullablePatchModelAccess>
+        implements ResolvableSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final JsonNullablePatchModelDescriptor descriptor;
+
+    private final SerializedString[] names;
+
+    private final BeanProperty[] properties;
+
+    private final TypeSerializer[] typeSerializers;
+
+    /**
+     * Serializers of properties with a final (or container) value type; null entries are resolved
+     * for the runtime type of the value.
+     */
+    private final JsonSerializer<Object>[] serializers;
+
+    /**
+     * Serializers resolved so far for the runtime types of the values, per property.
+     */
+    private final PropertySerializerMap[] dynamicSerializers;
+
+    @SuppressWarnings("unchecked")
+    public JsonNullablePatchModelJackson2Serializer(JsonNullablePatchModelDescriptor descriptor) {
+        super(JsonNullablePatchModelAccess.class);
+        this.descriptor = descriptor;
+        this.names = new SerializedString[descriptor.propertyCount()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = new SerializedString(descriptor.propertyName(i));
+        }
+        this.properties = new BeanProperty[names.length];
+        this.typeSerializers = new TypeSerializer[names.length];
+        this.serializers = new JsonSerializer[names.length];
+        this.dynamicSerializers = new PropertySerializerMap[names.length];
+        Arrays.fill(dynamicSerializers, PropertySerializerMap.emptyForProperties());
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        BeanDescription beanDesc = provider.getConfig().introspect(provider.constructType(descriptor.modelType()));
+        for (int i = 0; i < names.length; i++) {
+            JavaType type = provider.constructType(descriptor.valueType(i));
+            BeanPropertyDefinition definition = findProperty(beanDesc, descriptor.getterName(i));
+            // the descriptor has the default names, the naming strategy or a mix-in may rename the properties
+            if (definition != null) {
+                names[i] = new SerializedString(definition.getName());
+                properties[i] = new BeanProperty.Std(definition.getFullName(), type, definition.getWrapperName(),
+                        definition.getGetter(), definition.getMetadata());
+            }
+            typeSerializers[i] = provider.findTypeSerializer(type);
+            if (type.isFinal() || type.isContainerType()) {
+                serializers[i] = provider.findPrimaryPropertySerializer(type, properties[i]);
+            }
+        }
+    }
+
+    /**
+     * @param beanDesc   the description of a patch model type
+     * @param getterName the name of the getter declaring a property
+     * @return the property Jackson resolved for the getter, or null if it is ignored
+     */
+    static BeanPropertyDefinition findProperty(BeanDescription beanDesc, String getterName) {
+        for (BeanPropertyDefinition definition : beanDesc.findProperties()) {
+            if (definition.hasGetter() && definition.getGetter().getName().equals(getterName)) {
+                return definition;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, JsonNullablePatchModelAccess value) {
+        for (int word = 0, base = 0; base < names.length; word++, base += 64) {
+            if (value.definedMask(word) != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void serialize(JsonNullablePatchModelAccess value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        serializeProperties(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonNullablePatchModelAccess value, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        serializeProperties(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeIdDef);
+    }
+
+    private void serializeProperties(JsonNullablePatchModelAccess value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        for (int word = 0, base = 0; base < names.length; word++, base += 64) {
+            long bits = value.definedMask(word);
+            while (bits != 0L) {
+                int index = base + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                gen.writeFieldName(names[index]);
+                Object raw = value.getRaw(index);
+                if (raw == null) {
+                    provider.defaultSerializeNull(gen);
+                    continue;
+                }
+                JsonSerializer<Object> serializer = serializers[index];
+                if (serializer == null) {
+                    serializer = dynamicSerializer(index, raw.getClass(), provider);
+                }
+                TypeSerializer typeSer = typeSerializers[index];
+                if (typeSer == null) {
+                    serializer.serialize(raw, gen, provider);
+                } else {
+                    serializer.serializeWithType(raw, gen, provider, typeSer);
+                }
+            }
+        }
+    }
+
+    private JsonSerializer<Object> dynamicSerializer(int index, Class<?> type, SerializerProvider provider) throws JsonMappingException {
+        PropertySerializerMap map = dynamicSerializers[index];
+        JsonSerializer<Object> serializer = map.serializerFor(type);
+        if (serializer == null) {
+            PropertySerializerMap.SerializerAndMapResult result = map.findAndAddSecondarySerializer(type, provider, properties[index]);
+            dynamicSerializers[index] = result.map;
+            serializer = result.serializer;
+        }
+        return serializer;
+    }
+}
@@ -0,0 +1,155 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.introspect.BeanPropertyDefinition;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.impl.PropertySerializerMap;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.Arrays;
+
+/**
+ * Jackson 3 serializer for generated {@link JsonNullablePatchModel} implementations. Walks the set
+ * bits of the defined bitmask and writes only the defined properties, without creating any
+ * <code>JsonNullable</code> instance. Property names, annotations and polymorphic type handling are
+ * resolved from the model type as for a regular bean.
+ */
+public class JsonNullablePatchModelJackson3Serializer extends StdSerializer<JsonNullablePatchModelAccess> {
+
+    private final JsonNullablePatchModelDescriptor descriptor;
+
+    private final SerializedString[] names;
+
+    private final BeanProperty[] properties;
+
+    private final TypeSerializer[] typeSerializers;
+
+    /**
+     * Serializers of properties with a final (or container) value type; null entries are resolved
+     * for the runtime type of the value.
+     */
+    private final ValueSerializer<Object>[] serializers;
+
+    /**
+     * Serializers resolved so far for the runtime types of the values, per property.
+     */
+    private final PropertySerializerMap[] dynamicSerializers;
+
+    @SuppressWarnings("unchecked")
+    public JsonNullablePatchModelJackson3Serializer(JsonNullablePatchModelDescriptor descriptor) {
+        super(JsonNullablePatchModelAccess.class);
+        this.descriptor = descriptor;
+        this.names = new SerializedString[descriptor.propertyCount()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = new SerializedString(descriptor.propertyName(i));
+        }
+        this.properties = new BeanProperty[names.length];
+        this.typeSerializers = new TypeSerializer[names.length];
+        this.serializers = new ValueSerializer[names.length];
+        this.dynamicSerializers = new PropertySerializerMap[names.length];
+        Arrays.fill(dynamicSerializers, PropertySerializerMap.emptyForProperties());
+    }
+
+    @Override
+    public void resolve(SerializationContext ctxt) {
+        BeanDescription beanDesc = ctxt.introspectBeanDescription(ctxt.constructType(descriptor.modelType()));
+        for (int i = 0; i < names.length; i++) {
+            JavaType type = ctxt.constructType(descriptor.valueType(i));
+            BeanPropertyDefinition definition = findProperty(beanDesc, descriptor.getterName(i));
+            // the descriptor has the default names, the naming strategy or a mix-in may rename the properties
+            if (definition != null) {
+                names[i] = new SerializedString(definition.getName());
+                properties[i] = new BeanProperty.Std(definition.getFullName(), type, definition.getWrapperName(),
+                        definition.getGetter(), definition.getMetadata());
+            }
+            typeSerializers[i] = ctxt.findTypeSerializer(type);
+            if (type.isFinal() || type.isContainerType()) {
+                serializers[i] = ctxt.findPrimaryPropertySerializer(type, properties[i]);
+            }
+        }
+    }
+
+    /**
+     * @param beanDesc   the description of a patch model type
+     * @param getterName the name of the getter declaring a property
+     * @return the property Jackson resolved for the getter, or null if it is ignored
+     */
+    static BeanPropertyDefinition findProperty(BeanDescription beanDesc, String getterName) {
+        for (BeanPropertyDefinition definition : beanDesc.findProperties()) {
+            if (definition.hasGetter() && definition.getGetter().getName().equals(getterName)) {
+                return definition;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, JsonNullablePatchModelAccess value) {
+        for (int word = 0, base = 0; base < names.length; word++, base += 64) {
+            if (value.definedMask(word) != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void serialize(JsonNullablePatchModelAccess value, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeStartObject(value);
+        serializeProperties(value, gen, ctxt);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonNullablePatchModelAccess value, JsonGenerator gen, SerializationContext ctxt,
+                                  TypeSerializer typeSer) {
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_OBJECT));
+        serializeProperties(value, gen, ctxt);
+        typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+    }
+
+    private void serializeProperties(JsonNullablePatchModelAccess value, JsonGenerator gen, SerializationContext ctxt) {
+        for (int word = 0, base = 0; base < names.length; word++, base += 64) {
+            long bits = value.definedMask(word);
+            while (bits != 0L) {
+                int index = base + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                gen.writeName(names[index]);
+                Object raw = value.getRaw(index);
+                if (raw == null) {
+                    ctxt.defaultSerializeNullValue(gen);
+                    continue;
+                }
+                ValueSerializer<Object> serializer = serializers[index];
+                if (serializer == null) {
+                    serializer = dynamicSerializer(index, raw.getClass(), ctxt);
+                }
+                TypeSerializer typeSer = typeSerializers[index];
+                if (typeSer == null) {
+                    serializer.serialize(raw, gen, ctxt);
+                } else {
+                    serializer.serializeWithType(raw, gen, ctxt, typeSer);
+                }
+            }
+        }
+    }
+
+    private ValueSerializer<Object> dynamicSerializer(int index, Class<?> type, SerializationContext ctxt) {
+        PropertySerializerMap map = dynamicSerializers[index];
+        ValueSerializer<Object> serializer = map.serializerFor(type);
+        if (serializer == null) {
+            PropertySerializerMap.SerializerAndMapResult result = map.findAndAddSecondarySerializer(type, ctxt, properties[index]);
+            dynamicSerializers[index] = result.map;
+            serializer = result.serializer;
+        }
+        return serializer;
+    }
+}
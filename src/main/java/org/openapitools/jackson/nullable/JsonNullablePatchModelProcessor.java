@@ -0,0 +1,492 @@
+package org.openapitools.jackson.nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the implementations of types annotated with {@link JsonNullablePatchModel}.
+ * <p>
+ * The processor is not registered as a service, so that compilations which merely have this library on
+ * their class path do not run it. Name it explicitly, with
+ * <code>-processor org.openapitools.jackson.nullable.JsonNullablePatchModelProcessor</code> or in the
+ * <code>annotationProcessors</code> of the Maven compiler plugin.
+ * <p>
+ * Property names follow Jackson's defaults: a name given with <code>@JsonProperty</code> on the getter or
+ * setter, otherwise the accessor name with its leading upper case letters lower cased. The serializers and
+ * deserializers of the modules replace them with the names Jackson resolves for the model type, so that
+ * naming strategies and mix-ins apply as for any other bean.
+ *
+ * @since 0.2.12
+ */
+public class JsonNullablePatchModelProcessor extends AbstractProcessor {
+
+    private static final String ANNOTATION = "org.openapitools.jackson.nullable.JsonNullablePatchModel";
+
+    private static final String JSON_NULLABLE = "org.openapitools.jackson.nullable.JsonNullable";
+
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+
+    private static final Map<String, String> PRIMITIVES = new HashMap<>();
+
+    static {
+        PRIMITIVES.put("java.lang.Integer", "int");
+        PRIMITIVES.put("java.lang.Long", "long");
+        PRIMITIVES.put("java.lang.Double", "double");
+        PRIMITIVES.put("java.lang.Float", "float");
+        PRIMITIVES.put("java.lang.Short", "short");
+        PRIMITIVES.put("java.lang.Byte", "byte");
+        PRIMITIVES.put("java.lang.Character", "char");
+        PRIMITIVES.put("java.lang.Boolean", "boolean");
+    }
+
+    private Elements elements;
+
+    private Types types;
+
+    private Filer filer;
+
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        filer = processingEnv.getFiler();
+        messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(ANNOTATION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = elements.getTypeElement(ANNOTATION);
+        if (annotation == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (!isSupportedModel(element)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "@JsonNullablePatchModel is only supported on interfaces and abstract classes", element);
+                continue;
+            }
+            TypeElement model = (TypeElement) element;
+            List<Property> properties = collectProperties(model);
+            if (properties == null) {
+                continue;
+            }
+            try {
+                write(model, properties);
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "Could not write the implementation of " + model + ": " + e.getMessage(), model);
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSupportedModel(Element element) {
+        if (element.getKind() == ElementKind.INTERFACE) {
+            return true;
+        }
+        return element.getKind() == ElementKind.CLASS && element.getModifiers().contains(Modifier.ABSTRACT);
+    }
+
+    private List<Property> collectProperties(TypeElement model) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        boolean valid = true;
+        DeclaredType modelType = (DeclaredType) model.asType();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(model))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            ExecutableType methodType = (ExecutableType) types.asMemberOf(modelType, method);
+            String name = method.getSimpleName().toString();
+            if (name.startsWith("get") && name.length() > 3 && method.getParameters().isEmpty()
+                    && isJsonNullable(methodType.getReturnType())) {
+                Property property = properties.computeIfAbsent(name.substring(3), Property::new);
+                property.getter = name;
+                property.valueType = valueType(methodType.getReturnType());
+                property.rename(explicitName(method));
+            } else if (name.startsWith("set") && name.length() > 3 && method.getParameters().size() == 1
+                    && isJsonNullable(methodType.getParameterTypes().get(0))) {
+                Property property = properties.computeIfAbsent(name.substring(3), Property::new);
+                property.setter = name;
+                property.setterReturnType = methodType.getReturnType();
+                property.rename(explicitName(method));
+            } else {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Abstract method " + name + " of a patch model has to be "
+                        + "a getter returning a JsonNullable or a setter taking a JsonNullable", method);
+                valid = false;
+            }
+        }
+        for (Property property : properties.values()) {
+            if (property.getter == null) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "Setter " + property.setter + " has no matching getter", model);
+                valid = false;
+            }
+        }
+        return valid ? new ArrayList<>(properties.values()) : null;
+    }
+
+    private boolean isJsonNullable(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        Element element = types.asElement(type);
+        return element instanceof TypeElement && ((TypeElement) element).getQualifiedName().contentEquals(JSON_NULLABLE);
+    }
+
+    private TypeMirror valueType(TypeMirror jsonNullableType) {
+        List<? extends TypeMirror> arguments = ((DeclaredType) jsonNullableType).getTypeArguments();
+        if (arguments.isEmpty() || arguments.get(0).getKind() == TypeKind.WILDCARD) {
+            return elements.getTypeElement("java.lang.Object").asType();
+        }
+        return arguments.get(0);
+    }
+
+    // The name given with @JsonProperty, or null
+    private static String explicitName(ExecutableElement method) {
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(JSON_PROPERTY)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : annotation.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    String value = String.valueOf(entry.getValue().getValue());
+                    return value.isEmpty() ? null : value;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Jackson's default mangling: the leading upper case letters are lower cased, so getURL is "url"
+    private static String propertyName(String suffix) {
+        int upper = 0;
+        while (upper < suffix.length() && Character.isUpperCase(suffix.charAt(upper))) {
+            upper++;
+        }
+        return suffix.substring(0, upper).toLowerCase(Locale.ROOT) + suffix.substring(upper);
+    }
+
+    private void write(TypeElement model, List<Property> properties) throws IOException {
+        PackageElement packageElement = elements.getPackageOf(model);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(model).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + "Impl";
+        String modelName = model.getQualifiedName().toString();
+        int words = Math.max(1, (properties.size() + 63) / 64);
+
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("/**\n * Implementation of {@link ").append(modelName).append("} generated by {@link ")
+                .append(JsonNullablePatchModelProcessor.class.getName()).append("}.\n */\n");
+        out.append("public final class ").append(simpleName)
+                .append(model.getKind() == ElementKind.INTERFACE ? " implements " : " extends ").append(modelName)
+                .append(model.getKind() == ElementKind.INTERFACE ? ", " : " implements ")
+                .append(JsonNullablePatchModelAccess.class.getName()).append(" {\n\n");
+
+        out.append("    public static final ").append(JsonNullablePatchModelDescriptor.class.getName())
+                .append(" DESCRIPTOR = ").append(JsonNullablePatchModelDescriptor.class.getName()).append(".create(\n")
+                .append("            ").append(types.erasure(model.asType())).append(".class, ")
+                .append(simpleName).append("::new,\n            new String[] {");
+        for (int i = 0; i < properties.size(); i++) {
+            out.append(i == 0 ? "" : ", ").append('"').append(properties.get(i).name).append('"');
+        }
+        out.append("},\n            new String[] {");
+        for (int i = 0; i < properties.size(); i++) {
+            out.append(i == 0 ? "" : ", ").append('"').append(properties.get(i).getter).append('"');
+        }
+        out.append("});\n\n");
+
+        for (int w = 0; w < words; w++) {
+            out.append("    private long $defined").append(w).append(";\n\n");
+            out.append("    private long $nulls").append(w).append(";\n\n");
+        }
+        for (Property property : properties) {
+            out.append("    private ").append(storageType(property)).append(' ').append(property.field).append(";\n\n");
+        }
+
+        for (int i = 0; i < properties.size(); i++) {
+            writeAccessors(out, properties.get(i), i);
+        }
+        writeRawAccess(out, properties, words);
+        writeObjectMethods(out, simpleName, properties, words);
+        out.append("}\n");
+
+        try (Writer writer = filer.createSourceFile(packageName.isEmpty() ? simpleName : packageName + "." + simpleName,
+                model).openWriter()) {
+            writer.write(out.toString());
+        }
+    }
+
+    private String storageType(Property property) {
+        String primitive = PRIMITIVES.get(property.valueType.toString());
+        return primitive != null ? primitive : property.valueType.toString();
+    }
+
+    private static String bit(int index) {
+        return "0x" + Long.toHexString(1L << (index & 63)) + "L";
+    }
+
+    private static String definedWord(int index) {
+        return "this.$defined" + (index >>> 6);
+    }
+
+    private static String nullsWord(int index) {
+        return "this.$nulls" + (index >>> 6);
+    }
+
+    private static String zero(String storageType) {
+        switch (storageType) {
+            case "boolean":
+                return "false";
+            case "char":
+                return "'\\0'";
+            case "int":
+            case "long":
+            case "double":
+            case "float":
+                return "0";
+            case "short":
+            case "byte":
+                return "(" + storageType + ") 0";
+            default:
+                return "null";
+        }
+    }
+
+    private void writeAccessors(StringBuilder out, Property property, int index) {
+        String valueType = property.valueType.toString();
+        String nullableType = JSON_NULLABLE + "<" + valueType + ">";
+        boolean primitive = PRIMITIVES.containsKey(valueType);
+
+        out.append("    @Override\n    public ").append(nullableType).append(' ').append(property.getter).append("() {\n");
+        out.append("        if ((").append(definedWord(index)).append(" & ").append(bit(index)).append(") == 0L) {\n");
+        out.append("            return ").append(JSON_NULLABLE).append(".undefined();\n        }\n");
+        if (primitive) {
+            out.append("        if ((").append(nullsWord(index)).append(" & ").append(bit(index)).append(") != 0L) {\n");
+            out.append("            return ").append(JSON_NULLABLE).append(".of(null);\n        }\n");
+            out.append("        return ").append(JSON_NULLABLE).append(".of(").append(valueType)
+                    .append(".valueOf(this.").append(property.field).append("));\n    }\n\n");
+        } else {
+            out.append("        return ").append(JSON_NULLABLE).append(".of(this.").append(property.field).append(");\n    }\n\n");
+        }
+
+        String setter = property.setter != null ? property.setter : "set" + property.suffix;
+        boolean fluent = property.setterReturnType != null && property.setterReturnType.getKind() != TypeKind.VOID;
+        if (property.setter != null) {
+            out.append("    @Override\n");
+        }
+        out.append("    public ").append(fluent ? property.setterReturnType.toString() : "void").append(' ').append(setter)
+                .append('(').append(nullableType).append(" value) {\n");
+        out.append("        if (value != null && value.isPresent()) {\n");
+        out.append("            setRaw(").append(index).append(", value.get());\n");
+        out.append("        } else {\n");
+        out.append("            setUndefined(").append(index).append(");\n        }\n");
+        if (fluent) {
+            out.append("        return this;\n");
+        }
+        out.append("    }\n\n");
+    }
+
+    private void writeRawAccess(StringBuilder out, List<Property> properties, int words) {
+        String outOfBounds = "            default:\n                throw new IndexOutOfBoundsException(String.valueOf(";
+
+        out.append("    @Override\n    public ").append(JsonNullablePatchModelDescriptor.class.getName())
+                .append(" patchModelDescriptor() {\n        return DESCRIPTOR;\n    }\n\n");
+
+        out.append("    @Override\n    public long definedMask(int word) {\n        switch (word) {\n");
+        for (int w = 0; w < words; w++) {
+            out.append("            case ").append(w).append(":\n                return this.$defined").append(w).append(";\n");
+        }
+        out.append(outOfBounds).append("word));\n        }\n    }\n\n");
+
+        out.append("    @Override\n    public boolean isDefined(int index) {\n");
+        out.append("        return (definedMask(index >>> 6) & (1L << index)) != 0L;\n    }\n\n");
+
+        out.append("    @Override\n    public Object getRaw(int index) {\n        switch (index) {\n");
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            String valueType = property.valueType.toString();
+            out.append("            case ").append(i).append(":\n");
+            if (PRIMITIVES.containsKey(valueType)) {
+                out.append("                return (").append(nullsWord(i)).append(" & ").append(bit(i))
+                        .append(") != 0L || (").append(definedWord(i)).append(" & ").append(bit(i))
+                        .append(") == 0L ? null : ").append(valueType).append(".valueOf(this.")
+                        .append(property.field).append(");\n");
+            } else {
+                out.append("                return this.").append(property.field).append(";\n");
+            }
+        }
+        out.append(outOfBounds).append("index));\n        }\n    }\n\n");
+
+        out.append("    @Override\n    @SuppressWarnings(\"unchecked\")\n    public void setRaw(int index, Object value) {\n        switch (index) {\n");
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            String valueType = property.valueType.toString();
+            String storage = storageType(property);
+            out.append("            case ").append(i).append(":\n");
+            out.append("                ").append(definedWord(i)).append(" |= ").append(bit(i)).append(";\n");
+            out.append("                if (value == null) {\n");
+            out.append("                    ").append(nullsWord(i)).append(" |= ").append(bit(i)).append(";\n");
+            out.append("                    this.").append(property.field).append(" = ").append(zero(storage)).append(";\n");
+            out.append("                } else {\n");
+            out.append("                    ").append(nullsWord(i)).append(" &= ~").append(bit(i)).append(";\n");
+            out.append("                    this.").append(property.field).append(" = ");
+            if (PRIMITIVES.containsKey(valueType)) {
+                out.append("((").append(valueType).append(") value).").append(storage).append("Value();\n");
+            } else {
+                out.append('(').append(types.erasure(property.valueType)).append(") value;\n");
+            }
+            out.append("                }\n                return;\n");
+        }
+        out.append(outOfBounds).append("index));\n        }\n    }\n\n");
+
+        out.append("    @Override\n    public void setUndefined(int index) {\n        switch (index) {\n");
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            out.append("            case ").append(i).append(":\n");
+            out.append("                ").append(definedWord(i)).append(" &= ~").append(bit(i)).append(";\n");
+            out.append("                ").append(nullsWord(i)).append(" &= ~").append(bit(i)).append(";\n");
+            out.append("                this.").append(property.field).append(" = ").append(zero(storageType(property)))
+                    .append(";\n                return;\n");
+        }
+        out.append(outOfBounds).append("index));\n        }\n    }\n\n");
+    }
+
+    private void writeObjectMethods(StringBuilder out, String simpleName, List<Property> properties, int words) {
+        out.append("    @Override\n    public boolean equals(Object obj) {\n");
+        out.append("        if (this == obj) {\n            return true;\n        }\n");
+        out.append("        if (!(obj instanceof ").append(simpleName).append(")) {\n            return false;\n        }\n");
+        out.append("        ").append(simpleName).append(" other = (").append(simpleName).append(") obj;\n");
+        out.append("        return ");
+        for (int w = 0; w < words; w++) {
+            out.append(w == 0 ? "" : "\n                && ").append("this.$defined").append(w).append(" == other.$defined")
+                    .append(w).append(" && this.$nulls").append(w).append(" == other.$nulls").append(w);
+        }
+        for (Property property : properties) {
+            String storage = storageType(property);
+            out.append("\n                && ");
+            if ("double".equals(storage)) {
+                out.append("Double.compare(this.").append(property.field).append(", other.").append(property.field).append(") == 0");
+            } else if ("float".equals(storage)) {
+                out.append("Float.compare(this.").append(property.field).append(", other.").append(property.field).append(") == 0");
+            } else if (PRIMITIVES.containsValue(storage)) {
+                out.append("this.").append(property.field).append(" == other.").append(property.field);
+            } else {
+                out.append("java.util.Objects.equals(this.").append(property.field).append(", other.")
+                        .append(property.field).append(')');
+            }
+        }
+        out.append(";\n    }\n\n");
+
+        out.append("    @Override\n    public int hashCode() {\n        int result = 1;\n");
+        for (int w = 0; w < words; w++) {
+            out.append("        result = 31 * result + Long.hashCode(this.$defined").append(w).append(");\n");
+            out.append("        result = 31 * result + Long.hashCode(this.$nulls").append(w).append(");\n");
+        }
+        for (Property property : properties) {
+            String storage = storageType(property);
+            String wrapper = PRIMITIVES.containsValue(storage) ? primitiveWrapper(storage) : null;
+            out.append("        result = 31 * result + ");
+            if (wrapper != null) {
+                out.append(wrapper).append(".hashCode(this.").append(property.field).append(");\n");
+            } else {
+                out.append("java.util.Objects.hashCode(this.").append(property.field).append(");\n");
+            }
+        }
+        out.append("        return result;\n    }\n\n");
+
+        out.append("    @Override\n    public String toString() {\n");
+        out.append("        StringBuilder sb = new StringBuilder(\"").append(simpleName).append("[\");\n");
+        out.append("        boolean first = true;\n");
+        out.append("        for (int i = 0; i < DESCRIPTOR.propertyCount(); i++) {\n");
+        out.append("            if (isDefined(i)) {\n");
+        out.append("                sb.append(first ? \"\" : \", \").append(DESCRIPTOR.propertyName(i)).append('=').append(getRaw(i));\n");
+        out.append("                first = false;\n            }\n        }\n");
+        out.append("        return sb.append(']').toString();\n    }\n");
+    }
+
+    private static String primitiveWrapper(String primitive) {
+        for (Map.Entry<String, String> entry : PRIMITIVES.entrySet()) {
+            if (entry.getValue().equals(primitive)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    private static final class Property {
+
+        private final String suffix;
+
+        private final String field;
+
+        private String name;
+
+        private String getter;
+
+        private String setter;
+
+        private TypeMirror setterReturnType;
+
+        private TypeMirror valueType;
+
+        private Property(String suffix) {
+            this.suffix = suffix;
+            this.name = propertyName(suffix);
+            this.field = SourceVersion.isKeyword(name) ? name + "_" : name;
+        }
+
+        private void rename(String explicitName) {
+            if (explicitName != null) {
+                this.name = explicitName;
+            }
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package org.openapitools.jackson.nullable;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Applies a patch DTO onto a target object: every <code>JsonNullable</code> property of the patch that is present
+ * is copied to the target property of the same name, an explicit null is assigned as null and undefined
+ * properties leave the target untouched.
+ * <p>
+ * Patch properties are public <code>getX()</code> getters and public fields of type <code>JsonNullable</code>,
+ * or the properties of a {@link JsonNullablePatchModel}. Target properties are public single-argument
+ * <code>setX</code> setters and public non-final fields that are not themselves <code>JsonNullable</code>. Patch
+ * properties without a target property are ignored.
+ * <p>
+ * Accessors are built once per (patch class, target class) pair with {@link java.lang.invoke.LambdaMetafactory}
+ * or method handles and kept in a bounded cache that is safe for concurrent use. Applying a patch allocates
+ * nothing besides what the getters and setters allocate themselves.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullablePatcher {
+
+    /**
+     * Number of (patch class, target class) pairs cached by {@link #JsonNullablePatcher()}.
+     */
+    public static final int DEFAULT_MAXIMUM_PLANS = 512;
+
+    private final int maximumPlans;
+
+    private final ClassValue<Map<Class<?>, Plan>> plans = new ClassValue<Map<Class<?>, Plan>>() {
+        @Override
+        protected Map<Class<?>, Plan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final ConcurrentLinkedQueue<CachedPair> cachedPairs = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger cachedPlans = new AtomicInteger();
+
+    public JsonNullablePatcher() {
+        this(DEFAULT_MAXIMUM_PLANS);
+    }
+
+    /**
+     * @param maximumPlans the number of (patch class, target class) pairs to cache; the oldest pair is evicted first
+     */
+    public JsonNullablePatcher(int maximumPlans) {
+        if (maximumPlans < 1) {
+            throw new IllegalArgumentException("maximumPlans must be positive: " + maximumPlans);
+        }
+        this.maximumPlans = maximumPlans;
+    }
+
+    /**
+     * Apply the patch onto the target.
+     *
+     * @param patch  the patch DTO
+     * @param target the object to modify
+     * @param <T>    the type of the target
+     * @return the target
+     * @throws IllegalArgumentException if an explicit null is assigned to a primitive property, or if a patch
+     *                                  property cannot be assigned to the target property of the same name
+     */
+    public <T> T apply(Object patch, T target) {
+        Objects.requireNonNull(patch, "patch");
+        Objects.requireNonNull(target, "target");
+        plan(patch.getClass(), target.getClass()).apply(patch, target);
+        return target;
+    }
+
+    Plan plan(Class<?> patchType, Class<?> targetType) {
+        Map<Class<?>, Plan> byTarget = plans.get(patchType);
+        Plan plan = byTarget.get(targetType);
+        if (plan != null) {
+            return plan;
+        }
+        plan = Plan.create(patchType, targetType);
+        Plan existing = byTarget.putIfAbsent(targetType, plan);
+        if (existing != null) {
+            return existing;
+        }
+        cachedPairs.add(new CachedPair(patchType, targetType));
+        if (cachedPlans.incrementAndGet() > maximumPlans) {
+            evictEldest();
+        }
+        return plan;
+    }
+
+    private void evictEldest() {
+        CachedPair eldest = cachedPairs.poll();
+        if (eldest == null) {
+            return;
+        }
+        Class<?> patchType = eldest.patchType.get();
+        Class<?> targetType = eldest.targetType.get();
+        if (patchType != null && targetType != null) {
+            plans.get(patchType).remove(targetType);
+        }
+        cachedPlans.decrementAndGet();
+    }
+
+    int cachedPlans() {
+        return cachedPlans.get();
+    }
+
+    private static final class CachedPair {
+
+        private final WeakReference<Class<?>> patchType;
+
+        private final WeakReference<Class<?>> targetType;
+
+        private CachedPair(Class<?> patchType, Class<?> targetType) {
+            this.patchType = new WeakReference<>(patchType);
+            this.targetType = new WeakReference<>(targetType);
+        }
+    }
+
+    static final class Plan {
+
+        private final String[] names;
+
+        /**
+         * Indexes into the descriptor when the patch is a {@link JsonNullablePatchModel}, null otherwise.
+         */
+        private final int[] modelIndexes;
+
+        private final Function<Object, Object>[] readers;
+
+        private final BiConsumer<Object, Object>[] writers;
+
+        private final boolean[] primitive;
+
+        @SuppressWarnings("unchecked")
+        private Plan(List<String> names, int[] modelIndexes, List<Function<Object, Object>> readers,
+                     List<BiConsumer<Object, Object>> writers, boolean[] primitive) {
+            this.names = names.toArray(new String[0]);
+            this.modelIndexes = modelIndexes;
+            this.readers = readers.toArray(new Function[0]);
+            this.writers = writers.toArray(new BiConsumer[0]);
+            this.primitive = primitive;
+        }
+
+        void apply(Object patch, Object target) {
+            if (modelIndexes != null) {
+                JsonNullablePatchModelAccess model = (JsonNullablePatchModelAccess) patch;
+                for (int i = 0; i < modelIndexes.length; i++) {
+                    if (model.isDefined(modelIndexes[i])) {
+                        write(i, target, model.getRaw(modelIndexes[i]));
+                    }
+                }
+                return;
+            }
+            for (int i = 0; i < readers.length; i++) {
+                JsonNullable<?> value = (JsonNullable<?>) readers[i].apply(patch);
+                if (value != null && value.isPresent()) {
+                    write(i, target, value.get());
+                }
+            }
+        }
+
+        private void write(int i, Object target, Object value) {
+            if (value == null && primitive[i]) {
+                throw new IllegalArgumentException("Cannot assign null to primitive property '" + names[i]
+                        + "' of " + target.getClass().getName());
+            }
+            writers[i].accept(target, value);
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        static Plan create(Class<?> patchType, Class<?> targetType) {
+            Map<String, Property> targetProperties = targetProperties(targetType);
+            List<String> names = new ArrayList<>();
+            List<Function<Object, Object>> readers = new ArrayList<>();
+            List<BiConsumer<Object, Object>> writers = new ArrayList<>();
+            List<Boolean> primitives = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+
+            JsonNullablePatchModelDescriptor descriptor = JsonNullablePatchModelAccess.class.isAssignableFrom(patchType)
+                    ? JsonNullablePatchModelDescriptor.forType(patchType) : null;
+            Map<String, Property> patchProperties = descriptor != null ? modelProperties(descriptor) : patchProperties(patchType);
+            for (Map.Entry<String, Property> entry : patchProperties.entrySet()) {
+                Property source = entry.getValue();
+                Property target = targetProperties.get(entry.getKey());
+                if (target == null) {
+                    continue;
+                }
+                Class<?> sourceType = JsonNullableAccessors.rawClass(source.type);
+                Class<?> targetClass = JsonNullableAccessors.wrap(JsonNullableAccessors.rawClass(target.type));
+                if (!targetClass.isAssignableFrom(sourceType) && !sourceType.isAssignableFrom(targetClass)) {
+                    throw new IllegalArgumentException("Property '" + entry.getKey() + "' of " + patchType.getName()
+                            + " holds " + sourceType.getName() + ", which cannot be assigned to "
+                            + targetClass.getName() + " of " + targetType.getName());
+                }
+                names.add(entry.getKey());
+                readers.add(source.reader);
+                writers.add(target.writer);
+                primitives.add(JsonNullableAccessors.rawClass(target.type).isPrimitive());
+                indexes.add(source.modelIndex);
+            }
+
+            boolean[] primitive = new boolean[primitives.size()];
+            int[] modelIndexes = descriptor != null ? new int[indexes.size()] : null;
+            for (int i = 0; i < primitive.length; i++) {
+                primitive[i] = primitives.get(i);
+                if (modelIndexes != null) {
+                    modelIndexes[i] = indexes.get(i);
+                }
+            }
+            return new Plan(names, modelIndexes, readers, writers, primitive);
+        }
+
+        private static Map<String, Property> modelProperties(JsonNullablePatchModelDescriptor descriptor) {
+            Map<String, Property> properties = new LinkedHashMap<>();
+            for (int i = 0; i < descriptor.propertyCount(); i++) {
+                properties.put(descriptor.propertyName(i), new Property(descriptor.valueType(i), null, null, i));
+            }
+            return properties;
+        }
+
+        private static Map<String, Property> patchProperties(Class<?> patchType) {
+            Map<String, Property> properties = new LinkedHashMap<>();
+            for (Method method : patchType.getMethods()) {
+                String name = method.getName();
+                if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getParameterCount() != 0
+                        || !name.startsWith("get") || name.length() == 3
+                        || !JsonNullable.class.isAssignableFrom(method.getReturnType())) {
+                    continue;
+                }
+                properties.put(JsonNullableAccessors.propertyName(name.substring(3)),
+                        new Property(JsonNullableAccessors.valueType(method.getGenericReturnType()), JsonNullableAccessors.getter(method), null, -1));
+            }
+            for (Field field : patchType.getFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || !JsonNullable.class.isAssignableFrom(field.getType())
+                        || properties.containsKey(field.getName())) {
+                    continue;
+                }
+                properties.put(field.getName(),
+                        new Property(JsonNullableAccessors.valueType(field.getGenericType()), JsonNullableAccessors.getter(field), null, -1));
+            }
+            return properties;
+        }
+
+        private static Map<String, Property> targetProperties(Class<?> targetType) {
+            Map<String, Property> properties = new LinkedHashMap<>();
+            for (Method method : targetType.getMethods()) {
+                String name = method.getName();
+                if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getParameterCount() != 1
+                        || !name.startsWith("set") || name.length() == 3
+                        || JsonNullable.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                    continue;
+                }
+                properties.putIfAbsent(JsonNullableAccessors.propertyName(name.substring(3)),
+                        new Property(method.getGenericParameterTypes()[0], null, JsonNullableAccessors.setter(method), -1));
+            }
+            for (Field field : targetType.getFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || properties.containsKey(field.getName())
+                        || JsonNullable.class.isAssignableFrom(field.getType())) {
+                    continue;
+                }
+                properties.put(field.getName(), new Property(field.getGenericType(), null, JsonNullableAccessors.setter(field), -1));
+            }
+            return properties;
+        }
+    }
+
+    private static final class Property {
+
+        private final Type type;
+
+        private final Function<Object, Object> reader;
+
+        private final BiConsumer<Object, Object> writer;
+
+        private final int modelIndex;
+
+        private Property(Type type, Function<Object, Object> reader, BiConsumer<Object, Object> writer, int modelIndex) {
+            this.type = type;
+            this.reader = reader;
+            this.writer = writer;
+            this.modelIndex = modelIndex;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.openapitools.jackson.nullable;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * A small, bounded pool of DTO instances to read messages into with {@link JsonNullableRefillReaderJackson2} or
+ * {@link JsonNullableRefillReaderJackson3}, which reset an instance before filling it.
+ * <p>
+ * The pool is a fixed array of slots updated with compare-and-set. It keeps no per-thread state and never blocks,
+ * so it suits platform and virtual threads alike. {@link #acquire()} creates a new instance when no pooled one is
+ * left, and {@link #release(Object)} drops the instance when the pool is full. Instances are handed out as they were
+ * released, without a reset.
+ *
+ * @param <T> the type of the pooled instances
+ * @since 0.2.12
+ */
+public final class JsonNullablePool<T> {
+
+    /**
+     * Number of instances kept by {@link #JsonNullablePool(Class)}.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final Class<T> type;
+
+    private final Supplier<Object> factory;
+
+    private final AtomicReferenceArray<T> slots;
+
+    /**
+     * @param type the class of the instances; needs a no-argument constructor
+     */
+    public JsonNullablePool(Class<T> type) {
+        this(type, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param type     the class of the instances; needs a no-argument constructor
+     * @param capacity the number of instances to keep
+     * @throws IllegalArgumentException if the class cannot be instantiated or reset, or the capacity is not positive
+     */
+    public JsonNullablePool(Class<T> type, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.type = Objects.requireNonNull(type, "type");
+        this.factory = JsonNullableAccessors.constructor(type);
+        // fail here rather than on the first read
+        JsonNullableResetPlan.forType(type);
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * @return a pooled instance, or a new one if the pool is empty
+     */
+    public T acquire() {
+        final int length = slots.length();
+        final int start = ThreadLocalRandom.current().nextInt(length);
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            T instance = slots.get(index);
+            if (instance != null && slots.compareAndSet(index, instance, null)) {
+                return instance;
+            }
+        }
+        return type.cast(factory.get());
+    }
+
+    /**
+     * Return an instance to the pool. The caller must not use it afterwards.
+     *
+     * @param instance the instance, of exactly the pooled class
+     */
+    public void release(T instance) {
+        if (instance.getClass() != type) {
+            throw new IllegalArgumentException("Cannot pool a " + instance.getClass().getName()
+                    + " with instances of " + type.getName());
+        }
+        final int length = slots.length();
+        final int start = ThreadLocalRandom.current().nextInt(length);
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, instance)) {
+                return;
+            }
+        }
+    }
+}
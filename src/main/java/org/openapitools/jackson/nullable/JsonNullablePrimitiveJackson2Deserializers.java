@@ -0,0 +1,244 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson 2 deserializers for the primitive specializations of <code>JsonNullable</code>.
+ * Numbers and booleans are read straight from the parser without boxing; a JSON null becomes
+ * the explicit null state, an absent property or a blank string the undefined state. Properties
+ * annotated with <code>@JsonNullableBlankAsUndefined(false)</code> pass blank strings to the
+ * deserializer of the boxed type instead, as <code>JsonNullable</code> properties do.
+ */
+public final class JsonNullablePrimitiveJackson2Deserializers {
+
+    private JsonNullablePrimitiveJackson2Deserializers() {
+    }
+
+    abstract static class PrimitiveDeserializer<T> extends StdDeserializer<T> implements ContextualDeserializer {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Class<?> boxedType;
+
+        // Reads blank strings if the property disables JsonNullableBlankAsUndefined, otherwise null
+        final JsonDeserializer<?> blankDeserializer;
+
+        PrimitiveDeserializer(Class<T> type, Class<?> boxedType, JsonDeserializer<?> blankDeserializer) {
+            super(type);
+            this.boxedType = boxedType;
+            this.blankDeserializer = blankDeserializer;
+        }
+
+        abstract PrimitiveDeserializer<T> withBlankDeserializer(JsonDeserializer<?> blankDeserializer);
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+                throws JsonMappingException {
+            JsonNullableBlankAsUndefined blankPolicy = property == null ? null
+                    : property.getAnnotation(JsonNullableBlankAsUndefined.class);
+            if (blankPolicy == null || blankPolicy.value()) {
+                return blankDeserializer == null ? this : withBlankDeserializer(null);
+            }
+            return withBlankDeserializer(ctxt.findContextualValueDeserializer(ctxt.constructType(boxedType), property));
+        }
+
+        /**
+         * @return true if the current token is a blank string, which {@link #blankDeserializer} reads if set
+         */
+        static boolean isBlankString(JsonParser p) throws IOException {
+            return p.hasToken(JsonToken.VALUE_STRING) && JsonNullableJackson2Deserializer.isBlank(p);
+        }
+    }
+
+    public static final class JsonNullableIntDeserializer extends PrimitiveDeserializer<JsonNullableInt> {
+
+        private static final long serialVersionUID = 1L;
+
+        public JsonNullableIntDeserializer() {
+            this(null);
+        }
+
+        private JsonNullableIntDeserializer(JsonDeserializer<?> blankDeserializer) {
+            super(JsonNullableInt.class, Integer.class, blankDeserializer);
+        }
+
+        @Override
+        JsonNullableIntDeserializer withBlankDeserializer(JsonDeserializer<?> blankDeserializer) {
+            return new JsonNullableIntDeserializer(blankDeserializer);
+        }
+
+        @Override
+        public JsonNullableInt deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return JsonNullableInt.of(p.getIntValue());
+            }
+            if (isBlankString(p)) {
+                return blankDeserializer == null ? JsonNullableInt.undefined()
+                        : JsonNullableInt.of((Integer) blankDeserializer.deserialize(p, ctxt));
+            }
+            return JsonNullableInt.of(_parseIntPrimitive(p, ctxt));
+        }
+
+        @Override
+        public JsonNullableInt getNullValue(DeserializationContext ctxt) {
+            return JsonNullableInt.ofNull();
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return JsonNullableInt.undefined();
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return JsonNullableInt.undefined();
+        }
+    }
+
+    public static final class JsonNullableLongDeserializer extends PrimitiveDeserializer<JsonNullableLong> {
+
+        private static final long serialVersionUID = 1L;
+
+        public JsonNullableLongDeserializer() {
+            this(null);
+        }
+
+        private JsonNullableLongDeserializer(JsonDeserializer<?> blankDeserializer) {
+            super(JsonNullableLong.class, Long.class, blankDeserializer);
+        }
+
+        @Override
+        JsonNullableLongDeserializer withBlankDeserializer(JsonDeserializer<?> blankDeserializer) {
+            return new JsonNullableLongDeserializer(blankDeserializer);
+        }
+
+        @Override
+        public JsonNullableLong deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return JsonNullableLong.of(p.getLongValue());
+            }
+            if (isBlankString(p)) {
+                return blankDeserializer == null ? JsonNullableLong.undefined()
+                        : JsonNullableLong.of((Long) blankDeserializer.deserialize(p, ctxt));
+            }
+            return JsonNullableLong.of(_parseLongPrimitive(p, ctxt));
+        }
+
+        @Override
+        public JsonNullableLong getNullValue(DeserializationContext ctxt) {
+            return JsonNullableLong.ofNull();
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return JsonNullableLong.undefined();
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return JsonNullableLong.undefined();
+        }
+    }
+
+    public static final class JsonNullableDoubleDeserializer extends PrimitiveDeserializer<JsonNullableDouble> {
+
+        private static final long serialVersionUID = 1L;
+
+        public JsonNullableDoubleDeserializer() {
+            this(null);
+        }
+
+        private JsonNullableDoubleDeserializer(JsonDeserializer<?> blankDeserializer) {
+            super(JsonNullableDouble.class, Double.class, blankDeserializer);
+        }
+
+        @Override
+        JsonNullableDoubleDeserializer withBlankDeserializer(JsonDeserializer<?> blankDeserializer) {
+            return new JsonNullableDoubleDeserializer(blankDeserializer);
+        }
+
+        @Override
+        public JsonNullableDouble deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_FLOAT) || p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return JsonNullableDouble.of(p.getDoubleValue());
+            }
+            if (isBlankString(p)) {
+                return blankDeserializer == null ? JsonNullableDouble.undefined()
+                        : JsonNullableDouble.of((Double) blankDeserializer.deserialize(p, ctxt));
+            }
+            return JsonNullableDouble.of(_parseDoublePrimitive(p, ctxt));
+        }
+
+        @Override
+        public JsonNullableDouble getNullValue(DeserializationContext ctxt) {
+            return JsonNullableDouble.ofNull();
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return JsonNullableDouble.undefined();
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return JsonNullableDouble.undefined();
+        }
+    }
+
+    public static final class JsonNullableBooleanDeserializer extends PrimitiveDeserializer<JsonNullableBoolean> {
+
+        private static final long serialVersionUID = 1L;
+
+        public JsonNullableBooleanDeserializer() {
+            this(null);
+        }
+
+        private JsonNullableBooleanDeserializer(JsonDeserializer<?> blankDeserializer) {
+            super(JsonNullableBoolean.class, Boolean.class, blankDeserializer);
+        }
+
+        @Override
+        JsonNullableBooleanDeserializer withBlankDeserializer(JsonDeserializer<?> blankDeserializer) {
+            return new JsonNullableBooleanDeserializer(blankDeserializer);
+        }
+
+        @Override
+        public JsonNullableBoolean deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_TRUE)) {
+                return JsonNullableBoolean.of(true);
+            }
+            if (p.hasToken(JsonToken.VALUE_FALSE)) {
+                return JsonNullableBoolean.of(false);
+            }
+            if (isBlankString(p)) {
+                return blankDeserializer == null ? JsonNullableBoolean.undefined()
+                        : JsonNullableBoolean.of((Boolean) blankDeserializer.deserialize(p, ctxt));
+            }
+            return JsonNullableBoolean.of(_parseBooleanPrimitive(p, ctxt));
+        }
+
+        @Override
+        public JsonNullableBoolean getNullValue(DeserializationContext ctxt) {
+            return JsonNullableBoolean.ofNull();
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return JsonNullableBoolean.undefined();
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return JsonNullableBoolean.undefined();
+        }
+    }
+}
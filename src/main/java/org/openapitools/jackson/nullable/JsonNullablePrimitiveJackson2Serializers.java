@@ -0,0 +1,110 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson 2 serializers for the primitive specializations of <code>JsonNullable</code>.
+ * Present values are written straight from the primitive, undefined values are omitted by
+ * the JsonNullable property writers and written as <code>null</code> anywhere else.
+ */
+public final class JsonNullablePrimitiveJackson2Serializers {
+
+    private JsonNullablePrimitiveJackson2Serializers() {
+    }
+
+    public static final class JsonNullableIntSerializer extends StdSerializer<JsonNullableInt> {
+
+        private static final long serialVersionUID = 1L;
+
+        public JsonNullableIntSerializer() {
+            super(JsonNullableInt.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, JsonNullableInt value) {
+            return value.isUndefined();
+        }
+
+        @Override
+        public void serialize(JsonNullableInt value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value.isPresent() && !value.isNull()) {
+                gen.writeNumber(value.getAsInt());
+            } else {
+                gen.writeNull();
+            }
+        }
+    }
+
+    public static final class JsonNullableLongSerializer extends StdSerializer<JsonNullableLong> {
+
+        private static final long serialVersionUID = 1L;
+
+        public JsonNullableLongSerializer() {
+            super(JsonNullableLong.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, JsonNullableLong value) {
+            return value.isUndefined();
+        }
+
+        @Override
+        public void serialize(JsonNullableLong value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value.isPresent() && !value.isNull()) {
+                gen.writeNumber(value.getAsLong());
+            } else {
+                gen.writeNull();
+            }
+        }
+    }
+
+    public static final class JsonNullableDoubleSerializer extends StdSerializer<JsonNullableDouble> {
+
+        private static final long serialVersionUID = 1L;
+
+        public JsonNullableDoubleSerializer() {
+            super(JsonNullableDouble.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, JsonNullableDouble value) {
+            return value.isUndefined();
+        }
+
+        @Override
+        public void serialize(JsonNullableDouble value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value.isPresent() && !value.isNull()) {
+                gen.writeNumber(value.getAsDouble());
+            } else {
+                gen.writeNull();
+            }
+        }
+    }
+
+    public static final class JsonNullableBooleanSerializer extends StdSerializer<JsonNullableBoolean> {
+
+        private static final long serialVersionUID = 1L;
+
+        public JsonNullableBooleanSerializer() {
+            super(JsonNullableBoolean.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, JsonNullableBoolean value) {
+            return value.isUndefined();
+        }
+
+        @Override
+        public void serialize(JsonNullableBoolean value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value.isPresent() && !value.isNull()) {
+                gen.writeBoolean(value.getAsBoolean());
+            } else {
+                gen.writeNull();
+            }
+        }
+    }
+}
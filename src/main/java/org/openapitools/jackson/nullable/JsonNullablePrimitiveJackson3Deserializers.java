@@ -0,0 +1,225 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson 3 deserializers for the primitive specializations of <code>JsonNullable</code>.
+ * Numbers and booleans are read straight from the parser without boxing; a JSON null becomes
+ * the explicit null state, an absent property or a blank string the undefined state. Properties
+ * annotated with <code>@JsonNullableBlankAsUndefined(false)</code> pass blank strings to the
+ * deserializer of the boxed type instead, as <code>JsonNullable</code> properties do.
+ */
+public final class JsonNullablePrimitiveJackson3Deserializers {
+
+    private JsonNullablePrimitiveJackson3Deserializers() {
+    }
+
+    abstract static class PrimitiveDeserializer<T> extends StdDeserializer<T> {
+
+        private final Class<?> boxedType;
+
+        // Reads blank strings if the property disables JsonNullableBlankAsUndefined, otherwise null
+        final ValueDeserializer<?> blankDeserializer;
+
+        PrimitiveDeserializer(Class<T> type, Class<?> boxedType, ValueDeserializer<?> blankDeserializer) {
+            super(type);
+            this.boxedType = boxedType;
+            this.blankDeserializer = blankDeserializer;
+        }
+
+        abstract PrimitiveDeserializer<T> withBlankDeserializer(ValueDeserializer<?> blankDeserializer);
+
+        @Override
+        public ValueDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+            JsonNullableBlankAsUndefined blankPolicy = property == null ? null
+                    : property.getAnnotation(JsonNullableBlankAsUndefined.class);
+            if (blankPolicy == null || blankPolicy.value()) {
+                return blankDeserializer == null ? this : withBlankDeserializer(null);
+            }
+            return withBlankDeserializer(ctxt.findContextualValueDeserializer(ctxt.constructType(boxedType), property));
+        }
+
+        /**
+         * @return true if the current token is a blank string, which {@link #blankDeserializer} reads if set
+         */
+        static boolean isBlankString(JsonParser p) {
+            return p.hasToken(JsonToken.VALUE_STRING) && JsonNullableJackson3Deserializer.isBlank(p);
+        }
+    }
+
+    public static final class JsonNullableIntDeserializer extends PrimitiveDeserializer<JsonNullableInt> {
+        public JsonNullableIntDeserializer() {
+            this(null);
+        }
+
+        private JsonNullableIntDeserializer(ValueDeserializer<?> blankDeserializer) {
+            super(JsonNullableInt.class, Integer.class, blankDeserializer);
+        }
+
+        @Override
+        JsonNullableIntDeserializer withBlankDeserializer(ValueDeserializer<?> blankDeserializer) {
+            return new JsonNullableIntDeserializer(blankDeserializer);
+        }
+
+        @Override
+        public JsonNullableInt deserialize(JsonParser p, DeserializationContext ctxt) {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return JsonNullableInt.of(p.getIntValue());
+            }
+            if (isBlankString(p)) {
+                return blankDeserializer == null ? JsonNullableInt.undefined()
+                        : JsonNullableInt.of((Integer) blankDeserializer.deserialize(p, ctxt));
+            }
+            return JsonNullableInt.of(_parseIntPrimitive(p, ctxt));
+        }
+
+        @Override
+        public JsonNullableInt getNullValue(DeserializationContext ctxt) {
+            return JsonNullableInt.ofNull();
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return JsonNullableInt.undefined();
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return JsonNullableInt.undefined();
+        }
+    }
+
+    public static final class JsonNullableLongDeserializer extends PrimitiveDeserializer<JsonNullableLong> {
+        public JsonNullableLongDeserializer() {
+            this(null);
+        }
+
+        private JsonNullableLongDeserializer(ValueDeserializer<?> blankDeserializer) {
+            super(JsonNullableLong.class, Long.class, blankDeserializer);
+        }
+
+        @Override
+        JsonNullableLongDeserializer withBlankDeserializer(ValueDeserializer<?> blankDeserializer) {
+            return new JsonNullableLongDeserializer(blankDeserializer);
+        }
+
+        @Override
+        public JsonNullableLong deserialize(JsonParser p, DeserializationContext ctxt) {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return JsonNullableLong.of(p.getLongValue());
+            }
+            if (isBlankString(p)) {
+                return blankDeserializer == null ? JsonNullableLong.undefined()
+                        : JsonNullableLong.of((Long) blankDeserializer.deserialize(p, ctxt));
+            }
+            return JsonNullableLong.of(_parseLongPrimitive(p, ctxt));
+        }
+
+        @Override
+        public JsonNullableLong getNullValue(DeserializationContext ctxt) {
+            return JsonNullableLong.ofNull();
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return JsonNullableLong.undefined();
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return JsonNullableLong.undefined();
+        }
+    }
+
+    public static final class JsonNullableDoubleDeserializer extends PrimitiveDeserializer<JsonNullableDouble> {
+        public JsonNullableDoubleDeserializer() {
+            this(null);
+        }
+
+        private JsonNullableDoubleDeserializer(ValueDeserializer<?> blankDeserializer) {
+            super(JsonNullableDouble.class, Double.class, blankDeserializer);
+        }
+
+        @Override
+        JsonNullableDoubleDeserializer withBlankDeserializer(ValueDeserializer<?> blankDeserializer) {
+            return new JsonNullableDoubleDeserializer(blankDeserializer);
+        }
+
+        @Override
+        public JsonNullableDouble deserialize(JsonParser p, DeserializationContext ctxt) {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_FLOAT) || p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return JsonNullableDouble.of(p.getDoubleValue());
+            }
+            if (isBlankString(p)) {
+                return blankDeserializer == null ? JsonNullableDouble.undefined()
+                        : JsonNullableDouble.of((Double) blankDeserializer.deserialize(p, ctxt));
+            }
+            return JsonNullableDouble.of(_parseDoublePrimitive(p, ctxt));
+        }
+
+        @Override
+        public JsonNullableDouble getNullValue(DeserializationContext ctxt) {
+            return JsonNullableDouble.ofNull();
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return JsonNullableDouble.undefined();
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return JsonNullableDouble.undefined();
+        }
+    }
+
+    public static final class JsonNullableBooleanDeserializer extends PrimitiveDeserializer<JsonNullableBoolean> {
+        public JsonNullableBooleanDeserializer() {
+            this(null);
+        }
+
+        private JsonNullableBooleanDeserializer(ValueDeserializer<?> blankDeserializer) {
+            super(JsonNullableBoolean.class, Boolean.class, blankDeserializer);
+        }
+
+        @Override
+        JsonNullableBooleanDeserializer withBlankDeserializer(ValueDeserializer<?> blankDeserializer) {
+            return new JsonNullableBooleanDeserializer(blankDeserializer);
+        }
+
+        @Override
+        public JsonNullableBoolean deserialize(JsonParser p, DeserializationContext ctxt) {
+            if (p.hasToken(JsonToken.VALUE_TRUE)) {
+                return JsonNullableBoolean.of(true);
+            }
+            if (p.hasToken(JsonToken.VALUE_FALSE)) {
+                return JsonNullableBoolean.of(false);
+            }
+            if (isBlankString(p)) {
+                return blankDeserializer == null ? JsonNullableBoolean.undefined()
+                        : JsonNullableBoolean.of((Boolean) blankDeserializer.deserialize(p, ctxt));
+            }
+            return JsonNullableBoolean.of(_parseBooleanPrimitive(p, ctxt));
+        }
+
+        @Override
+        public JsonNullableBoolean getNullValue(DeserializationContext ctxt) {
+            return JsonNullableBoolean.ofNull();
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext ctxt) {
+            return JsonNullableBoolean.undefined();
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return JsonNullableBoolean.undefined();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson 3 serializers for the primitive specializations of <code>JsonNullable</code>.
+ * Present values are written straight from the primitive, undefined values are omitted by
+ * the JsonNullable property writers and written as <code>null</code> anywhere else.
+ */
+public final class JsonNullablePrimitiveJackson3Serializers {
+
+    private JsonNullablePrimitiveJackson3Serializers() {
+    }
+
+    public static final class JsonNullableIntSerializer extends StdSerializer<JsonNullableInt> {
+        public JsonNullableIntSerializer() {
+            super(JsonNullableInt.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializationContext ctxt, JsonNullableInt value) {
+            return value.isUndefined();
+        }
+
+        @Override
+        public void serialize(JsonNullableInt value, JsonGenerator gen, SerializationContext ctxt) {
+            if (value.isPresent() && !value.isNull()) {
+                gen.writeNumber(value.getAsInt());
+            } else {
+                gen.writeNull();
+            }
+        }
+    }
+
+    public static final class JsonNullableLongSerializer extends StdSerializer<JsonNullableLong> {
+        public JsonNullableLongSerializer() {
+            super(JsonNullableLong.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializationContext ctxt, JsonNullableLong value) {
+            return value.isUndefined();
+        }
+
+        @Override
+        public void serialize(JsonNullableLong value, JsonGenerator gen, SerializationContext ctxt) {
+            if (value.isPresent() && !value.isNull()) {
+                gen.writeNumber(value.getAsLong());
+            } else {
+                gen.writeNull();
+            }
+        }
+    }
+
+    public static final class JsonNullableDoubleSerializer extends StdSerializer<JsonNullableDouble> {
+        public JsonNullableDoubleSerializer() {
+            super(JsonNullableDouble.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializationContext ctxt, JsonNullableDouble value) {
+            return value.isUndefined();
+        }
+
+        @Override
+        public void serialize(JsonNullableDouble value, JsonGenerator gen, SerializationContext ctxt) {
+            if (value.isPresent() && !value.isNull()) {
+                gen.writeNumber(value.getAsDouble());
+            } else {
+                gen.writeNull();
+            }
+        }
+    }
+
+    public static final class JsonNullableBooleanSerializer extends StdSerializer<JsonNullableBoolean> {
+        public JsonNullableBooleanSerializer() {
+            super(JsonNullableBoolean.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializationContext ctxt, JsonNullableBoolean value) {
+            return value.isUndefined();
+        }
+
+        @Override
+        public void serialize(JsonNullableBoolean value, JsonGenerator gen, SerializationContext ctxt) {
+            if (value.isPresent() && !value.isNull()) {
+                gen.writeBoolean(value.getAsBoolean());
+            } else {
+                gen.writeNull();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Reads JSON objects, with Jackson 2, into existing instances instead of new ones, for consumers that reuse their
+ * DTOs, for example from a {@link JsonNullablePool}.
+ * <p>
+ * Each read first puts the instance back into the state of a newly constructed one, which sets its
+ * <code>JsonNullable</code> fields to <code>undefined()</code>, and then updates it with the reader. The result is
+ * the same as reading into a new instance. The reset plan is built once per class; the class needs a no-argument
+ * constructor. Initial values that are immutable constants are assigned again; a class with a field initialized
+ * otherwise, with a collection or a timestamp for example, is reset from a newly constructed instance instead,
+ * which costs that allocation on every read.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableRefillReaderJackson2 {
+
+    private final ObjectReader reader;
+
+    /**
+     * @param reader reads the values; its features apply
+     */
+    public JsonNullableRefillReaderJackson2(ObjectReader reader) {
+        this.reader = Objects.requireNonNull(reader, "reader");
+    }
+
+    /**
+     * @param instance the instance to fill
+     * @param json     a JSON object
+     * @param <T>      the type of the instance
+     * @return the instance
+     * @throws IOException              if the input cannot be read into the instance
+     * @throws IllegalArgumentException if the class of the instance cannot be reset
+     */
+    public <T> T readInto(T instance, String json) throws IOException {
+        return reader.withValueToUpdate(reset(instance)).readValue(json);
+    }
+
+    /**
+     * @param instance the instance to fill
+     * @param json     a JSON object
+     * @param <T>      the type of the instance
+     * @return the instance
+     * @throws IOException if the input cannot be read into the instance
+     * @see #readInto(Object, String)
+     */
+    public <T> T readInto(T instance, byte[] json) throws IOException {
+        return reader.withValueToUpdate(reset(instance)).readValue(json);
+    }
+
+    /**
+     * @param instance the instance to fill
+     * @param p        a parser positioned before or at the start of a JSON object
+     * @param <T>      the type of the instance
+     * @return the instance
+     * @throws IOException if the input cannot be read into the instance
+     * @see #readInto(Object, String)
+     */
+    public <T> T readInto(T instance, JsonParser p) throws IOException {
+        return reader.withValueToUpdate(reset(instance)).readValue(p);
+    }
+
+    private static <T> T reset(T instance) {
+        JsonNullableResetPlan.forType(instance.getClass()).reset(instance);
+        return instance;
+    }
+}
@@ -0,0 +1,123 @@
+package org.openapitools.jackson.nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Puts an instance back into the state of a newly constructed one, for {@link JsonNullableRefillReaderJackson2} and
+ * {@link JsonNullableRefillReaderJackson3}.
+ * <p>
+ * The plan constructs two instances of the class and compares the initial values of every instance field, in the
+ * class and its superclasses. If all of them are immutable constants, equal in both instances, resetting assigns
+ * these values again without constructing anything: <code>JsonNullable</code> fields are back to
+ * <code>undefined()</code>, or whatever else they are initialized with. Otherwise, when a field is initialized with
+ * a mutable object such as a collection or with a value of its own per instance such as <code>Instant.now()</code>
+ * or <code>UUID.randomUUID()</code>, every reset constructs a new instance and copies its fields. Final fields are
+ * reset as well, since Jackson 2 assigns them like any other field unless <code>ALLOW_FINAL_FIELDS_AS_MUTATORS</code>
+ * is disabled.
+ */
+final class JsonNullableResetPlan {
+
+    private static final ClassValue<JsonNullableResetPlan> PLANS = new ClassValue<JsonNullableResetPlan>() {
+        @Override
+        protected JsonNullableResetPlan computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    /**
+     * Constructs the instance to copy the fields from, null if the initial values are constants.
+     */
+    private final Supplier<Object> factory;
+
+    private final Function<Object, Object>[] getters;
+
+    private final BiConsumer<Object, Object>[] setters;
+
+    private final Object[] values;
+
+    @SuppressWarnings("unchecked")
+    private JsonNullableResetPlan(Supplier<Object> factory, List<Function<Object, Object>> getters,
+                                  List<BiConsumer<Object, Object>> setters, List<Object> values) {
+        this.factory = factory;
+        this.getters = getters.toArray(new Function[0]);
+        this.setters = setters.toArray(new BiConsumer[0]);
+        this.values = values.toArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the type has no no-argument constructor or a final field that cannot be
+     *                                  written
+     */
+    static JsonNullableResetPlan forType(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    void reset(Object bean) {
+        final BiConsumer<Object, Object>[] setters = this.setters;
+        if (factory == null) {
+            for (int i = 0; i < setters.length; i++) {
+                setters[i].accept(bean, values[i]);
+            }
+            return;
+        }
+        final Object fresh = factory.get();
+        final Function<Object, Object>[] getters = this.getters;
+        for (int i = 0; i < setters.length; i++) {
+            setters[i].accept(bean, getters[i].apply(fresh));
+        }
+    }
+
+    private static JsonNullableResetPlan create(Class<?> type) {
+        Supplier<Object> factory = JsonNullableAccessors.constructor(type);
+        Object template = factory.get();
+        Object other = factory.get();
+        boolean constant = true;
+        List<Function<Object, Object>> getters = new ArrayList<>();
+        List<BiConsumer<Object, Object>> setters = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                Function<Object, Object> getter = JsonNullableAccessors.getter(field);
+                Object value = getter.apply(template);
+                constant &= isConstant(value) && Objects.equals(value, getter.apply(other));
+                getters.add(getter);
+                setters.add(JsonNullableAccessors.setter(field));
+                values.add(value);
+            }
+        }
+        return new JsonNullableResetPlan(constant ? null : factory, getters, setters, values);
+    }
+
+    /**
+     * Immutable values that can be shared by all instances. Identifiers and timestamps are left out, since they are
+     * usually created per instance and two of them may still compare equal.
+     */
+    private static boolean isConstant(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum || value instanceof RawJson
+                || value instanceof JsonNullableInt || value instanceof JsonNullableLong
+                || value instanceof JsonNullableDouble || value instanceof JsonNullableBoolean) {
+            return true;
+        }
+        if (value instanceof JsonNullable) {
+            JsonNullable<?> nullable = (JsonNullable<?>) value;
+            return !nullable.isPresent() || isConstant(nullable.get());
+        }
+        Class<?> type = value.getClass();
+        return type == Byte.class || type == Short.class || type == Integer.class || type == Long.class
+                || type == Float.class || type == Double.class || type == BigInteger.class || type == BigDecimal.class;
+    }
+}
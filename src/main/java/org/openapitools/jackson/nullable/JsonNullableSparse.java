@@ -0,0 +1,22 @@
+package org.openapitools.jackson.nullable;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Serializes the annotated bean class in sparse mode, for models with many <code>JsonNullable</code> properties of
+ * which only a few are usually defined, such as PATCH responses.
+ * <p>
+ * Sparse mode reads the <code>JsonNullable</code> properties with direct accessors and skips the undefined ones
+ * before any property writer is involved, so only the defined properties pay for writing. Other properties are
+ * written as usual, in the usual order. Serialization with an active view or a {@link JsonNullableFieldMask} falls
+ * back to the regular loop.
+ *
+ * @since 0.2.12
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonNullableSparse {
+}
@@ -0,0 +1,127 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.ObjectIdWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Jackson 2 bean serializer for classes annotated with {@link JsonNullableSparse}: reads the
+ * <code>JsonNullable</code> properties with direct accessors and hands only the defined ones to their writers.
+ * <p>
+ * Written as the <code>@JsonUnwrapped</code> property of another bean, it falls back to the unwrapping
+ * {@link JsonNullableFieldMaskJackson2BeanSerializer}, which writes the same output through the property writers.
+ */
+public class JsonNullableSparseJackson2BeanSerializer extends JsonNullableFieldMaskJackson2BeanSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    // Per property a direct reader of its JsonNullable value, or null for the other properties
+    private final transient Function<Object, Object>[] readers;
+
+    protected JsonNullableSparseJackson2BeanSerializer(BeanSerializerBase src) {
+        super(src);
+        this.readers = readers(_props);
+    }
+
+    protected JsonNullableSparseJackson2BeanSerializer(BeanSerializerBase src, ObjectIdWriter objectIdWriter,
+                                                       Object filterId) {
+        super(src, objectIdWriter, filterId);
+        this.readers = readers(_props);
+    }
+
+    protected JsonNullableSparseJackson2BeanSerializer(BeanSerializerBase src, Set<String> toIgnore,
+                                                       Set<String> toInclude) {
+        super(src, toIgnore, toInclude);
+        this.readers = readers(_props);
+    }
+
+    protected JsonNullableSparseJackson2BeanSerializer(BeanSerializerBase src, BeanPropertyWriter[] properties,
+                                                       BeanPropertyWriter[] filteredProperties) {
+        super(src, properties, filteredProperties);
+        this.readers = readers(_props);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object>[] readers(BeanPropertyWriter[] props) {
+        Function<Object, Object>[] readers = new Function[props.length];
+        for (int i = 0; i < props.length; i++) {
+            if (!(props[i] instanceof JsonNullableJackson2BeanPropertyWriter)) {
+                continue;
+            }
+            AnnotatedMember accessor = props[i].getMember();
+            Member member = accessor == null ? null : accessor.getMember();
+            if (member instanceof Method) {
+                readers[i] = JsonNullableAccessors.getter((Method) member);
+            } else if (member instanceof Field) {
+                readers[i] = JsonNullableAccessors.getter((Field) member);
+            }
+        }
+        return readers;
+    }
+
+    @Override
+    public BeanSerializerBase withObjectIdWriter(ObjectIdWriter objectIdWriter) {
+        return new JsonNullableSparseJackson2BeanSerializer(this, objectIdWriter, _propertyFilterId);
+    }
+
+    @Override
+    public BeanSerializerBase withFilterId(Object filterId) {
+        return new JsonNullableSparseJackson2BeanSerializer(this, _objectIdWriter, filterId);
+    }
+
+    @Override
+    protected BeanSerializerBase withByNameInclusion(Set<String> toIgnore, Set<String> toInclude) {
+        return new JsonNullableSparseJackson2BeanSerializer(this, toIgnore, toInclude);
+    }
+
+    @Override
+    protected BeanSerializerBase withProperties(BeanPropertyWriter[] properties,
+                                                BeanPropertyWriter[] filteredProperties) {
+        return new JsonNullableSparseJackson2BeanSerializer(this, properties, filteredProperties);
+    }
+
+    @Override
+    protected void serializeFields(Object bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        final Function<Object, Object>[] readers = this.readers;
+        if (readers == null || (_filteredProps != null && provider.getActiveView() != null)
+                || provider.getAttribute(JsonNullableFieldMask.ATTRIBUTE) != null) {
+            super.serializeFields(bean, gen, provider);
+            return;
+        }
+        final BeanPropertyWriter[] props = _props;
+        int i = 0;
+        try {
+            for (; i < props.length; ++i) {
+                BeanPropertyWriter prop = props[i];
+                Function<Object, Object> reader = readers[i];
+                if (reader == null) {
+                    prop.serializeAsField(bean, gen, provider);
+                    continue;
+                }
+                Object value = reader.apply(bean);
+                if (value == null) {
+                    prop.serializeAsField(bean, gen, provider);
+                } else if (JsonNullableTypes.isUndefined(value)) {
+                    continue;
+                } else if (prop instanceof JsonNullableJackson2BeanPropertyWriter) {
+                    ((JsonNullableJackson2BeanPropertyWriter) prop).serializePresentValue(value, gen, provider);
+                } else {
+                    // replaced while resolving, e.g. by an unwrapping writer
+                    prop.serializeAsField(bean, gen, provider);
+                }
+            }
+        } catch (Exception e) {
+            wrapAndThrow(provider, e, bean, props[i].getName());
+        }
+    }
+}
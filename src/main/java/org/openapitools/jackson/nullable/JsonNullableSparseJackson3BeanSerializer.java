@@ -0,0 +1,123 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.introspect.AnnotatedMember;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.bean.BeanSerializerBase;
+import tools.jackson.databind.ser.impl.ObjectIdWriter;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Jackson 3 bean serializer for classes annotated with {@link JsonNullableSparse}: reads the
+ * <code>JsonNullable</code> properties with direct accessors and hands only the defined ones to their writers.
+ * <p>
+ * Written as the <code>@JsonUnwrapped</code> property of another bean, it falls back to the unwrapping
+ * {@link JsonNullableFieldMaskJackson3BeanSerializer}, which writes the same output through the property writers.
+ */
+public class JsonNullableSparseJackson3BeanSerializer extends JsonNullableFieldMaskJackson3BeanSerializer {
+
+    // Per property a direct reader of its JsonNullable value, or null for the other properties
+    private final transient Function<Object, Object>[] readers;
+
+    protected JsonNullableSparseJackson3BeanSerializer(BeanSerializerBase src) {
+        super(src);
+        this.readers = readers(_props);
+    }
+
+    protected JsonNullableSparseJackson3BeanSerializer(BeanSerializerBase src, ObjectIdWriter objectIdWriter,
+                                                       Object filterId) {
+        super(src, objectIdWriter, filterId);
+        this.readers = readers(_props);
+    }
+
+    protected JsonNullableSparseJackson3BeanSerializer(BeanSerializerBase src, Set<String> toIgnore,
+                                                       Set<String> toInclude) {
+        super(src, toIgnore, toInclude);
+        this.readers = readers(_props);
+    }
+
+    protected JsonNullableSparseJackson3BeanSerializer(BeanSerializerBase src, BeanPropertyWriter[] properties,
+                                                       BeanPropertyWriter[] filteredProperties) {
+        super(src, properties, filteredProperties);
+        this.readers = readers(_props);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object>[] readers(BeanPropertyWriter[] props) {
+        Function<Object, Object>[] readers = new Function[props.length];
+        for (int i = 0; i < props.length; i++) {
+            if (!(props[i] instanceof JsonNullableJackson3BeanPropertyWriter)) {
+                continue;
+            }
+            AnnotatedMember accessor = props[i].getMember();
+            Member member = accessor == null ? null : accessor.getMember();
+            if (member instanceof Method) {
+                readers[i] = JsonNullableAccessors.getter((Method) member);
+            } else if (member instanceof Field) {
+                readers[i] = JsonNullableAccessors.getter((Field) member);
+            }
+        }
+        return readers;
+    }
+
+    @Override
+    public BeanSerializerBase withObjectIdWriter(ObjectIdWriter objectIdWriter) {
+        return new JsonNullableSparseJackson3BeanSerializer(this, objectIdWriter, _propertyFilterId);
+    }
+
+    @Override
+    public BeanSerializerBase withFilterId(Object filterId) {
+        return new JsonNullableSparseJackson3BeanSerializer(this, _objectIdWriter, filterId);
+    }
+
+    @Override
+    protected BeanSerializerBase withByNameInclusion(Set<String> toIgnore, Set<String> toInclude) {
+        return new JsonNullableSparseJackson3BeanSerializer(this, toIgnore, toInclude);
+    }
+
+    @Override
+    protected BeanSerializerBase withProperties(BeanPropertyWriter[] properties,
+                                                BeanPropertyWriter[] filteredProperties) {
+        return new JsonNullableSparseJackson3BeanSerializer(this, properties, filteredProperties);
+    }
+
+    @Override
+    protected void _serializePropertiesNoView(Object bean, JsonGenerator gen, SerializationContext ctxt,
+                                              BeanPropertyWriter[] props) {
+        final Function<Object, Object>[] readers = this.readers;
+        if (readers == null || props != _props || ctxt.getAttribute(JsonNullableFieldMask.ATTRIBUTE) != null) {
+            super._serializePropertiesNoView(bean, gen, ctxt, props);
+            return;
+        }
+        int i = 0;
+        try {
+            for (; i < props.length; ++i) {
+                BeanPropertyWriter prop = props[i];
+                Function<Object, Object> reader = readers[i];
+                if (reader == null) {
+                    prop.serializeAsProperty(bean, gen, ctxt);
+                    continue;
+                }
+                Object value = reader.apply(bean);
+                if (value == null) {
+                    prop.serializeAsProperty(bean, gen, ctxt);
+                } else if (JsonNullableTypes.isUndefined(value)) {
+                    continue;
+                } else if (prop instanceof JsonNullableJackson3BeanPropertyWriter) {
+                    ((JsonNullableJackson3BeanPropertyWriter) prop).serializePresentValue(value, gen, ctxt);
+                } else {
+                    // replaced while resolving, e.g. by an unwrapping writer
+                    prop.serializeAsProperty(bean, gen, ctxt);
+                }
+            }
+        } catch (Exception e) {
+            wrapAndThrow(ctxt, e, bean, props[i].getName());
+        }
+    }
+}
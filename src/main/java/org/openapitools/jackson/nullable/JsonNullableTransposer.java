@@ -0,0 +1,361 @@
+package org.openapitools.jackson.nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Turns rows of DTOs into columns: one {@link JsonNullableColumn} per <code>JsonNullable</code> property, filled in a
+ * single pass over the rows. Properties holding <code>Double</code> or <code>Float</code> values, and
+ * {@link JsonNullableDouble} properties, become {@link JsonNullableDoubleArray}s; properties holding
+ * <code>Long</code>, <code>Integer</code>, <code>Short</code> or <code>Byte</code> values, and {@link JsonNullableLong}
+ * and {@link JsonNullableInt} properties, become {@link JsonNullableLongArray}s; everything else becomes a
+ * {@link JsonNullableArray}.
+ * <p>
+ * Row properties are public <code>getX()</code> getters and public fields of a <code>JsonNullable</code> type, or the
+ * properties of a {@link JsonNullablePatchModel}. A null row counts as a row with every property undefined.
+ * <p>
+ * Rows can come from any {@link Iterator}, such as Jackson's <code>MappingIterator</code>, or from a random access
+ * {@link List}, which is split into blocks that are transposed in parallel on a {@link ForkJoinPool}. Accessor plans
+ * are built once per row class; instances are safe for concurrent use.
+ *
+ * @since 0.2.12
+ */
+public final class JsonNullableTransposer {
+
+    /**
+     * Number of rows below which a list is not split any further by {@link #transpose(List, Class, ForkJoinPool)}.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 8192;
+
+    private final int blockSize;
+
+    private final ClassValue<Plan> plans = new ClassValue<Plan>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return Plan.create(type);
+        }
+    };
+
+    public JsonNullableTransposer() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param blockSize the number of rows below which a list is not split any further; rounded up to a multiple of 64
+     */
+    public JsonNullableTransposer(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        }
+        this.blockSize = (blockSize + 63) & ~63;
+    }
+
+    /**
+     * Transpose rows on the calling thread.
+     *
+     * @param rows    the rows
+     * @param rowType the type of the rows
+     * @return the columns by property name, in property order
+     */
+    public Map<String, JsonNullableColumn> transpose(Iterator<?> rows, Class<?> rowType) {
+        Plan plan = plans.get(Objects.requireNonNull(rowType, "rowType"));
+        JsonNullableColumn[] columns = plan.newColumns(JsonNullableColumn.DEFAULT_CAPACITY);
+        int index = 0;
+        while (rows.hasNext()) {
+            Object row = rows.next();
+            for (JsonNullableColumn column : columns) {
+                column.expandTo(index + 1);
+            }
+            plan.fill(rowType.cast(row), columns, index++);
+        }
+        return plan.toMap(columns);
+    }
+
+    /**
+     * Transpose rows, in parallel on the common fork-join pool for large lists.
+     *
+     * @param rows    the rows
+     * @param rowType the type of the rows
+     * @return the columns by property name, in property order
+     */
+    public Map<String, JsonNullableColumn> transpose(List<?> rows, Class<?> rowType) {
+        return transpose(rows, rowType, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Transpose rows, in parallel on the given pool for large lists. The columns are sized up front and every task
+     * fills its own range of 64-row blocks, so the results need no merging.
+     *
+     * @param rows    the rows; lists without {@link RandomAccess} are transposed on the calling thread
+     * @param rowType the type of the rows
+     * @param pool    the pool to run on
+     * @return the columns by property name, in property order
+     */
+    public Map<String, JsonNullableColumn> transpose(List<?> rows, Class<?> rowType, ForkJoinPool pool) {
+        if (!(rows instanceof RandomAccess) || rows.size() <= blockSize) {
+            return transpose(rows.iterator(), rowType);
+        }
+        Plan plan = plans.get(Objects.requireNonNull(rowType, "rowType"));
+        JsonNullableColumn[] columns = plan.newColumns(rows.size());
+        for (JsonNullableColumn column : columns) {
+            column.expandTo(rows.size());
+        }
+        pool.invoke(new Block(plan, rows, rowType, columns, 0, rows.size()));
+        return plan.toMap(columns);
+    }
+
+    private final class Block extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Plan plan;
+
+        private final List<?> rows;
+
+        private final Class<?> rowType;
+
+        private final JsonNullableColumn[] columns;
+
+        private final int from;
+
+        private final int to;
+
+        Block(Plan plan, List<?> rows, Class<?> rowType, JsonNullableColumn[] columns, int from, int to) {
+            this.plan = plan;
+            this.rows = rows;
+            this.rowType = rowType;
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= blockSize) {
+                for (int i = from; i < to; i++) {
+                    plan.fill(rowType.cast(rows.get(i)), columns, i);
+                }
+                return;
+            }
+            // split on a 64-row boundary so that no two tasks write the same bitmap word; from is on such a
+            // boundary and to - from > blockSize >= 64, so from + 64 keeps both halves non-empty
+            int middle = Math.max(from + 64, (from + (to - from) / 2) & ~63);
+            invokeAll(new Block(plan, rows, rowType, columns, from, middle),
+                    new Block(plan, rows, rowType, columns, middle, to));
+        }
+    }
+
+    /**
+     * Writes the value a row holds for one property into the column at the given index.
+     */
+    @FunctionalInterface
+    private interface Filler {
+
+        void fill(Object row, JsonNullableColumn column, int index);
+    }
+
+    private static final class Plan {
+
+        private final String[] names;
+
+        private final IntFunction<JsonNullableColumn>[] columnFactories;
+
+        private final Filler[] fillers;
+
+        @SuppressWarnings("unchecked")
+        private Plan(List<String> names, List<IntFunction<JsonNullableColumn>> columnFactories, List<Filler> fillers) {
+            this.names = names.toArray(new String[0]);
+            this.columnFactories = columnFactories.toArray(new IntFunction[0]);
+            this.fillers = fillers.toArray(new Filler[0]);
+        }
+
+        JsonNullableColumn[] newColumns(int capacity) {
+            JsonNullableColumn[] columns = new JsonNullableColumn[names.length];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = columnFactories[i].apply(capacity);
+            }
+            return columns;
+        }
+
+        void fill(Object row, JsonNullableColumn[] columns, int index) {
+            if (row == null) {
+                for (JsonNullableColumn column : columns) {
+                    column.setUndefinedAt(index);
+                }
+                return;
+            }
+            for (int i = 0; i < fillers.length; i++) {
+                fillers[i].fill(row, columns[i], index);
+            }
+        }
+
+        Map<String, JsonNullableColumn> toMap(JsonNullableColumn[] columns) {
+            Map<String, JsonNullableColumn> result = new LinkedHashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                result.put(names[i], columns[i]);
+            }
+            return result;
+        }
+
+        static Plan create(Class<?> rowType) {
+            List<String> names = new ArrayList<>();
+            List<IntFunction<JsonNullableColumn>> columnFactories = new ArrayList<>();
+            List<Filler> fillers = new ArrayList<>();
+            if (JsonNullablePatchModelAccess.class.isAssignableFrom(rowType) || rowType.isAnnotationPresent(JsonNullablePatchModel.class)) {
+                JsonNullablePatchModelDescriptor descriptor = JsonNullablePatchModelDescriptor.forType(rowType);
+                for (int i = 0; i < descriptor.propertyCount(); i++) {
+                    int property = i;
+                    names.add(descriptor.propertyName(i));
+                    columnFactories.add(columnFactory(JsonNullableAccessors.rawClass(descriptor.valueType(i))));
+                    fillers.add((row, column, index) -> {
+                        JsonNullablePatchModelAccess model = (JsonNullablePatchModelAccess) row;
+                        if (!model.isDefined(property)) {
+                            column.setUndefinedAt(index);
+                        } else {
+                            Object value = model.getRaw(property);
+                            if (value == null) {
+                                column.setNullAt(index);
+                            } else {
+                                column.setValueAt(index, value);
+                            }
+                        }
+                    });
+                }
+                return new Plan(names, columnFactories, fillers);
+            }
+            Map<String, Property> properties = new LinkedHashMap<>();
+            for (Method method : rowType.getMethods()) {
+                String name = method.getName();
+                if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getParameterCount() != 0
+                        || !name.startsWith("get") || name.length() == 3
+                        || !JsonNullableTypes.isJsonNullableType(method.getReturnType())) {
+                    continue;
+                }
+                properties.putIfAbsent(JsonNullableAccessors.propertyName(name.substring(3)), new Property(
+                        method.getReturnType(), method.getGenericReturnType(), JsonNullableAccessors.getter(method)));
+            }
+            for (Field field : rowType.getFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || !JsonNullableTypes.isJsonNullableType(field.getType())) {
+                    continue;
+                }
+                properties.putIfAbsent(field.getName(),
+                        new Property(field.getType(), field.getGenericType(), JsonNullableAccessors.getter(field)));
+            }
+            for (Map.Entry<String, Property> entry : properties.entrySet()) {
+                Property property = entry.getValue();
+                names.add(entry.getKey());
+                columnFactories.add(columnFactory(property.valueClass()));
+                fillers.add(filler(property));
+            }
+            return new Plan(names, columnFactories, fillers);
+        }
+
+        private static IntFunction<JsonNullableColumn> columnFactory(Class<?> valueClass) {
+            Class<?> type = JsonNullableAccessors.wrap(valueClass);
+            if (type == Double.class || type == Float.class) {
+                return JsonNullableDoubleArray::new;
+            }
+            if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class) {
+                return JsonNullableLongArray::new;
+            }
+            return JsonNullableArray::new;
+        }
+
+        private static Filler filler(Property property) {
+            Function<Object, Object> reader = property.reader;
+            if (property.type == JsonNullableDouble.class) {
+                return (row, column, index) -> {
+                    JsonNullableDouble value = (JsonNullableDouble) reader.apply(row);
+                    if (value == null || value.isUndefined()) {
+                        column.setUndefinedAt(index);
+                    } else if (value.isNull()) {
+                        column.setNullAt(index);
+                    } else {
+                        ((JsonNullableDoubleArray) column).setAt(index, value.getAsDouble());
+                    }
+                };
+            }
+            if (property.type == JsonNullableLong.class) {
+                return (row, column, index) -> {
+                    JsonNullableLong value = (JsonNullableLong) reader.apply(row);
+                    if (value == null || value.isUndefined()) {
+                        column.setUndefinedAt(index);
+                    } else if (value.isNull()) {
+                        column.setNullAt(index);
+                    } else {
+                        ((JsonNullableLongArray) column).setAt(index, value.getAsLong());
+                    }
+                };
+            }
+            if (property.type == JsonNullableInt.class) {
+                return (row, column, index) -> {
+                    JsonNullableInt value = (JsonNullableInt) reader.apply(row);
+                    if (value == null || value.isUndefined()) {
+                        column.setUndefinedAt(index);
+                    } else if (value.isNull()) {
+                        column.setNullAt(index);
+                    } else {
+                        ((JsonNullableLongArray) column).setAt(index, value.getAsInt());
+                    }
+                };
+            }
+            if (property.type == JsonNullableBoolean.class) {
+                return (row, column, index) -> {
+                    JsonNullableBoolean value = (JsonNullableBoolean) reader.apply(row);
+                    if (value == null || value.isUndefined()) {
+                        column.setUndefinedAt(index);
+                    } else if (value.isNull()) {
+                        column.setNullAt(index);
+                    } else {
+                        column.setValueAt(index, value.getAsBoolean());
+                    }
+                };
+            }
+            return (row, column, index) -> column.setRawAt(index, (JsonNullable<?>) reader.apply(row));
+        }
+    }
+
+    private static final class Property {
+
+        /**
+         * The raw type of the property: <code>JsonNullable</code> or one of its primitive specializations.
+         */
+        private final Class<?> type;
+
+        private final Type genericType;
+
+        private final Function<Object, Object> reader;
+
+        private Property(Class<?> type, Type genericType, Function<Object, Object> reader) {
+            this.type = type;
+            this.genericType = genericType;
+            this.reader = reader;
+        }
+
+        Class<?> valueClass() {
+            if (type == JsonNullableDouble.class) {
+                return Double.class;
+            }
+            if (type == JsonNullableLong.class || type == JsonNullableInt.class) {
+                return Long.class;
+            }
+            if (type == JsonNullableBoolean.class) {
+                return Boolean.class;
+            }
+            return JsonNullableAccessors.rawClass(JsonNullableAccessors.valueType(genericType));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.openapitools.jackson.nullable;
+
+/**
+ * Shared checks for <code>JsonNullable</code> and its primitive specializations.
+ */
+final class JsonNullableTypes {
+
+    private JsonNullableTypes() {
+    }
+
+    /**
+     * @return true if values of the given class are written as JsonNullable properties, i.e. omitted when undefined
+     */
+    static boolean isJsonNullableType(Class<?> rawClass) {
+        return JsonNullable.class.isAssignableFrom(rawClass)
+                || rawClass == JsonNullableInt.class
+                || rawClass == JsonNullableLong.class
+                || rawClass == JsonNullableDouble.class
+                || rawClass == JsonNullableBoolean.class;
+    }
+
+    /**
+     * @return true if the given (non-null) value of a JsonNullable type is undefined
+     */
+    static boolean isUndefined(Object value) {
+        if (value instanceof JsonNullable) {
+            return ((JsonNullable<?>) value).isUndefined();
+        }
+        if (value instanceof JsonNullableInt) {
+            return ((JsonNullableInt) value).isUndefined();
+        }
+        if (value instanceof JsonNullableLong) {
+            return ((JsonNullableLong) value).isUndefined();
+        }
+        if (value instanceof JsonNullableDouble) {
+            return ((JsonNullableDouble) value).isUndefined();
+        }
+        return value == JsonNullableBoolean.undefined();
+    }
+
+    /**
+     * @return the value of the given (non-null) value of a JsonNullable type, boxed for the primitive
+     * specializations, or null if it is undefined or an explicit null
+     */
+    static Object valueOf(Object value) {
+        if (value instanceof JsonNullable) {
+            return ((JsonNullable<?>) value).orElse(null);
+        }
+        if (value instanceof JsonNullableInt) {
+            JsonNullableInt nullable = (JsonNullableInt) value;
+            return nullable.isPresent() && !nullable.isNull() ? Integer.valueOf(nullable.getAsInt()) : null;
+        }
+        if (value instanceof JsonNullableLong) {
+            JsonNullableLong nullable = (JsonNullableLong) value;
+            return nullable.isPresent() && !nullable.isNull() ? Long.valueOf(nullable.getAsLong()) : null;
+        }
+        if (value instanceof JsonNullableDouble) {
+            JsonNullableDouble nullable = (JsonNullableDouble) value;
+            return nullable.isPresent() && !nullable.isNull() ? Double.valueOf(nullable.getAsDouble()) : null;
+        }
+        JsonNullableBoolean nullable = (JsonNullableBoolean) value;
+        return nullable.isPresent() && !nullable.isNull() ? Boolean.valueOf(nullable.getAsBoolean()) : null;
+    }
+}
@@ -0,0 +1,364 @@
+package org.openapitools.jackson.nullable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * A schemaless patch body: a set of named fields, each of which is undefined, null or present with a value.
+ * <p>
+ * Names and values are kept in parallel arrays in insertion order, looked up through an open-addressing
+ * index; the defined and null states are recorded in bitsets. Compared to a
+ * <code>Map&lt;String, JsonNullable&lt;Object&gt;&gt;</code> no entry or wrapper is allocated per field.
+ * Undefining a field only clears its bit, so a field that is defined again keeps its original position, until
+ * the arrays are full: then the slots of undefined fields are reclaimed before the arrays grow, so a long-lived
+ * document that keeps defining and undefining new fields stays bounded by the number of fields defined at a time.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @since 0.2.12
+ */
+public final class PatchDocument implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private String[] names;
+
+    private Object[] values;
+
+    private long[] defined;
+
+    private long[] nulls;
+
+    /**
+     * Open-addressing index: slot number + 1 of the field with that hash, 0 for free buckets.
+     */
+    private int[] index;
+
+    private int slots;
+
+    private int size;
+
+    public PatchDocument() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedFields the number of fields the document is expected to hold
+     */
+    public PatchDocument(int expectedFields) {
+        if (expectedFields < 0) {
+            throw new IllegalArgumentException("expectedFields must not be negative: " + expectedFields);
+        }
+        allocate(Math.max(expectedFields, 1));
+    }
+
+    private void allocate(int capacity) {
+        names = new String[capacity];
+        values = new Object[capacity];
+        defined = new long[(capacity + 63) >>> 6];
+        nulls = new long[defined.length];
+        index = new int[indexSize(capacity)];
+    }
+
+    private static int indexSize(int capacity) {
+        // keep the load factor at or below one half
+        return Integer.highestOneBit(Math.max(capacity, 2) * 4 - 1);
+    }
+
+    private static int hash(String name) {
+        int h = name.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int slotOf(String name) {
+        int mask = index.length - 1;
+        for (int bucket = hash(name) & mask; ; bucket = (bucket + 1) & mask) {
+            int entry = index[bucket];
+            if (entry == 0) {
+                return -1;
+            }
+            if (names[entry - 1].equals(name)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private int slotFor(String name) {
+        int mask = index.length - 1;
+        int bucket = hash(name) & mask;
+        for (; ; bucket = (bucket + 1) & mask) {
+            int entry = index[bucket];
+            if (entry == 0) {
+                break;
+            }
+            if (names[entry - 1].equals(name)) {
+                return entry - 1;
+            }
+        }
+        if (slots == names.length) {
+            rehash();
+            return slotFor(name);
+        }
+        int slot = slots++;
+        names[slot] = name;
+        index[bucket] = slot + 1;
+        return slot;
+    }
+
+    // Called when every slot is taken: drops the slots of undefined fields, keeping the order of the others,
+    // and doubles the capacity unless that frees at least half of the slots
+    private void rehash() {
+        final String[] oldNames = names;
+        final Object[] oldValues = values;
+        final long[] oldDefined = defined;
+        final long[] oldNulls = nulls;
+        final int oldSlots = slots;
+        allocate(size > oldNames.length / 2 ? oldNames.length * 2 : oldNames.length);
+        slots = 0;
+        int mask = index.length - 1;
+        for (int oldSlot = 0; oldSlot < oldSlots; oldSlot++) {
+            if (!bit(oldDefined, oldSlot)) {
+                continue;
+            }
+            int slot = slots++;
+            names[slot] = oldNames[oldSlot];
+            values[slot] = oldValues[oldSlot];
+            defined[slot >>> 6] |= 1L << slot;
+            if (bit(oldNulls, oldSlot)) {
+                nulls[slot >>> 6] |= 1L << slot;
+            }
+            int bucket = hash(names[slot]) & mask;
+            while (index[bucket] != 0) {
+                bucket = (bucket + 1) & mask;
+            }
+            index[bucket] = slot + 1;
+        }
+    }
+
+    private static boolean bit(long[] bits, int slot) {
+        return (bits[slot >>> 6] & (1L << slot)) != 0L;
+    }
+
+    /**
+     * Set the field to the given value, or to null.
+     *
+     * @param name  the name of the field
+     * @param value the value, may be null
+     * @return this document
+     */
+    public PatchDocument set(String name, Object value) {
+        Objects.requireNonNull(name, "name");
+        int slot = slotFor(name);
+        int word = slot >>> 6;
+        long mask = 1L << slot;
+        if ((defined[word] & mask) == 0L) {
+            defined[word] |= mask;
+            size++;
+        }
+        if (value == null) {
+            nulls[word] |= mask;
+        } else {
+            nulls[word] &= ~mask;
+        }
+        values[slot] = value;
+        return this;
+    }
+
+    /**
+     * Set the field from a <code>JsonNullable</code>: undefined removes the field.
+     *
+     * @param name  the name of the field
+     * @param value the value
+     * @return this document
+     */
+    public PatchDocument setNullable(String name, JsonNullable<?> value) {
+        if (value.isPresent()) {
+            return set(name, (Object) value.get());
+        }
+        remove(name);
+        return this;
+    }
+
+    /**
+     * Make the field undefined.
+     *
+     * @param name the name of the field
+     * @return true if the field was defined
+     */
+    public boolean remove(String name) {
+        int slot = slotOf(name);
+        if (slot < 0 || !bit(defined, slot)) {
+            return false;
+        }
+        defined[slot >>> 6] &= ~(1L << slot);
+        nulls[slot >>> 6] &= ~(1L << slot);
+        values[slot] = null;
+        size--;
+        return true;
+    }
+
+    /**
+     * @param name the name of the field
+     * @return true if the field is defined, as a value or as null
+     */
+    public boolean contains(String name) {
+        int slot = slotOf(name);
+        return slot >= 0 && bit(defined, slot);
+    }
+
+    /**
+     * @param name the name of the field
+     * @return true if the field is defined as null
+     */
+    public boolean isNull(String name) {
+        int slot = slotOf(name);
+        return slot >= 0 && bit(nulls, slot);
+    }
+
+    /**
+     * @param name the name of the field
+     * @return the value of the field, or null if the field is null or undefined
+     */
+    public Object get(String name) {
+        int slot = slotOf(name);
+        return slot < 0 ? null : values[slot];
+    }
+
+    /**
+     * @param name the name of the field
+     * @return the field as <code>JsonNullable</code>
+     */
+    public JsonNullable<Object> getNullable(String name) {
+        int slot = slotOf(name);
+        if (slot < 0 || !bit(defined, slot)) {
+            return JsonNullable.undefined();
+        }
+        return JsonNullable.of(values[slot]);
+    }
+
+    /**
+     * @return the number of defined fields
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if no field is defined
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Undefine all fields.
+     */
+    public void clear() {
+        Arrays.fill(names, 0, slots, null);
+        Arrays.fill(values, 0, slots, null);
+        Arrays.fill(defined, 0L);
+        Arrays.fill(nulls, 0L);
+        Arrays.fill(index, 0);
+        slots = 0;
+        size = 0;
+    }
+
+    /**
+     * Call the action for every defined field in insertion order; null fields are passed a null value.
+     *
+     * @param action the action
+     */
+    public void forEach(BiConsumer<? super String, Object> action) {
+        for (int slot = 0; slot < slots; slot++) {
+            if (bit(defined, slot)) {
+                action.accept(names[slot], values[slot]);
+            }
+        }
+    }
+
+    /**
+     * @return the defined fields in insertion order
+     */
+    public Map<String, JsonNullable<Object>> toMap() {
+        Map<String, JsonNullable<Object>> map = new LinkedHashMap<>(size * 2);
+        forEach((name, value) -> map.put(name, JsonNullable.of(value)));
+        return map;
+    }
+
+    // Positional access for the serializers
+
+    int slotIndex(String name) {
+        int slot = slotOf(name);
+        return slot >= 0 && bit(defined, slot) ? slot : -1;
+    }
+
+    int slotCount() {
+        return slots;
+    }
+
+    boolean isDefinedSlot(int slot) {
+        return bit(defined, slot);
+    }
+
+    String slotName(int slot) {
+        return names[slot];
+    }
+
+    Object slotValue(int slot) {
+        return values[slot];
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PatchDocument)) {
+            return false;
+        }
+        PatchDocument other = (PatchDocument) obj;
+        if (size != other.size) {
+            return false;
+        }
+        for (int slot = 0; slot < slots; slot++) {
+            if (bit(defined, slot)) {
+                int otherSlot = other.slotOf(names[slot]);
+                if (otherSlot < 0 || !bit(other.defined, otherSlot)
+                        || !Objects.equals(values[slot], other.values[otherSlot])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            if (bit(defined, slot)) {
+                result += names[slot].hashCode() ^ Objects.hashCode(values[slot]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PatchDocument{");
+        boolean first = true;
+        for (int slot = 0; slot < slots; slot++) {
+            if (bit(defined, slot)) {
+                sb.append(first ? "" : ", ").append(names[slot]).append('=').append(values[slot]);
+                first = false;
+            }
+        }
+        return sb.append('}').toString();
+    }
+}
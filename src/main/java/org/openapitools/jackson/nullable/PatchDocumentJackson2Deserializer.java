@@ -0,0 +1,57 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson 2 deserializer for {@link PatchDocument}. Field values are read as untyped values
+ * (maps, lists, strings, numbers and booleans), a JSON null defines the field as null.
+ */
+public class PatchDocumentJackson2Deserializer extends StdDeserializer<PatchDocument> implements ResolvableDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private JsonDeserializer<Object> valueDeserializer;
+
+    public PatchDocumentJackson2Deserializer() {
+        super(PatchDocument.class);
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        valueDeserializer = ctxt.findRootValueDeserializer(ctxt.constructType(Object.class));
+    }
+
+    @Override
+    public PatchDocument deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return deserialize(p, ctxt, new PatchDocument());
+    }
+
+    @Override
+    public PatchDocument deserialize(JsonParser p, DeserializationContext ctxt, PatchDocument intoValue) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        } else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {
+            return (PatchDocument) ctxt.handleUnexpectedToken(PatchDocument.class, p);
+        }
+        for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+            String name = p.currentName();
+            JsonToken valueToken = p.nextToken();
+            intoValue.set(name, valueToken == JsonToken.VALUE_NULL ? null : valueDeserializer.deserialize(p, ctxt));
+        }
+        return intoValue;
+    }
+
+    @Override
+    public Object getEmptyValue(DeserializationContext ctxt) {
+        return new PatchDocument();
+    }
+}
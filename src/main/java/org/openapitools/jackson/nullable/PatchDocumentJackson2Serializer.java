@@ -0,0 +1,57 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson 2 serializer for {@link PatchDocument}: writes the defined fields in insertion order.
+ */
+public class PatchDocumentJackson2Serializer extends StdSerializer<PatchDocument> {
+
+    private static final long serialVersionUID = 1L;
+
+    public PatchDocumentJackson2Serializer() {
+        super(PatchDocument.class);
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, PatchDocument value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public void serialize(PatchDocument value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        serializeFields(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(PatchDocument value, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        serializeFields(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeIdDef);
+    }
+
+    private void serializeFields(PatchDocument value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        for (int slot = 0, slots = value.slotCount(); slot < slots; slot++) {
+            if (!value.isDefinedSlot(slot)) {
+                continue;
+            }
+            gen.writeFieldName(value.slotName(slot));
+            Object fieldValue = value.slotValue(slot);
+            if (fieldValue == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                provider.findValueSerializer(fieldValue.getClass(), null).serialize(fieldValue, gen, provider);
+            }
+        }
+    }
+}
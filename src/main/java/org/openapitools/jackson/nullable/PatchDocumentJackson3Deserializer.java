@@ -0,0 +1,51 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson 3 deserializer for {@link PatchDocument}. Field values are read as untyped values
+ * (maps, lists, strings, numbers and booleans), a JSON null defines the field as null.
+ */
+public class PatchDocumentJackson3Deserializer extends StdDeserializer<PatchDocument> {
+
+    private ValueDeserializer<Object> valueDeserializer;
+
+    public PatchDocumentJackson3Deserializer() {
+        super(PatchDocument.class);
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) {
+        valueDeserializer = ctxt.findRootValueDeserializer(ctxt.constructType(Object.class));
+    }
+
+    @Override
+    public PatchDocument deserialize(JsonParser p, DeserializationContext ctxt) {
+        return deserialize(p, ctxt, new PatchDocument());
+    }
+
+    @Override
+    public PatchDocument deserialize(JsonParser p, DeserializationContext ctxt, PatchDocument intoValue) {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        } else if (t != JsonToken.PROPERTY_NAME && t != JsonToken.END_OBJECT) {
+            return (PatchDocument) ctxt.handleUnexpectedToken(PatchDocument.class, p);
+        }
+        for (; t == JsonToken.PROPERTY_NAME; t = p.nextToken()) {
+            String name = p.currentName();
+            JsonToken valueToken = p.nextToken();
+            intoValue.set(name, valueToken == JsonToken.VALUE_NULL ? null : valueDeserializer.deserialize(p, ctxt));
+        }
+        return intoValue;
+    }
+
+    @Override
+    public Object getEmptyValue(DeserializationContext ctxt) {
+        return new PatchDocument();
+    }
+}
@@ -0,0 +1,53 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson 3 serializer for {@link PatchDocument}: writes the defined fields in insertion order.
+ */
+public class PatchDocumentJackson3Serializer extends StdSerializer<PatchDocument> {
+
+    public PatchDocumentJackson3Serializer() {
+        super(PatchDocument.class);
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, PatchDocument value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public void serialize(PatchDocument value, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeStartObject(value);
+        serializeFields(value, gen, ctxt);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(PatchDocument value, JsonGenerator gen, SerializationContext ctxt,
+                                  TypeSerializer typeSer) {
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_OBJECT));
+        serializeFields(value, gen, ctxt);
+        typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+    }
+
+    private void serializeFields(PatchDocument value, JsonGenerator gen, SerializationContext ctxt) {
+        for (int slot = 0, slots = value.slotCount(); slot < slots; slot++) {
+            if (!value.isDefinedSlot(slot)) {
+                continue;
+            }
+            gen.writeName(value.slotName(slot));
+            Object fieldValue = value.slotValue(slot);
+            if (fieldValue == null) {
+                ctxt.defaultSerializeNullValue(gen);
+            } else {
+                ctxt.findValueSerializer(fieldValue.getClass()).serialize(fieldValue, gen, ctxt);
+            }
+        }
+    }
+}
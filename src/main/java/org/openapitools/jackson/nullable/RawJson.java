@@ -0,0 +1,56 @@
+package org.openapitools.jackson.nullable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A JSON value kept as text. With the module registered, a <code>JsonNullable&lt;RawJson&gt;</code> property reads
+ * a present value as its JSON text instead of decoding it, and writes that text back with
+ * <code>JsonGenerator.writeRawValue</code>, so opaque subtrees pass through a service without being mapped to objects
+ * and back. Undefined and null keep their usual meaning.
+ * <p>
+ * The text is read in compact form: whitespace between tokens is dropped, while property names, strings and the
+ * literal text of numbers are kept. Writing a <code>RawJson</code> needs a JSON generator; the text is not checked.
+ *
+ * @since 0.2.12
+ */
+public final class RawJson implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String json;
+
+    private RawJson(String json) {
+        this.json = json;
+    }
+
+    /**
+     * @param json the JSON text of one value
+     * @return the raw value
+     */
+    public static RawJson of(String json) {
+        return new RawJson(Objects.requireNonNull(json, "json"));
+    }
+
+    /**
+     * @return the JSON text
+     */
+    public String json() {
+        return json;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof RawJson && json.equals(((RawJson) obj).json);
+    }
+
+    @Override
+    public int hashCode() {
+        return json.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+}
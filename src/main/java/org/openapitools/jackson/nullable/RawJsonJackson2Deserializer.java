@@ -0,0 +1,80 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Jackson 2 deserializer for {@link RawJson}: copies the tokens of the current value to JSON text without building
+ * any objects. Numbers keep their literal text.
+ */
+public class RawJsonJackson2Deserializer extends StdDeserializer<RawJson> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    public RawJsonJackson2Deserializer() {
+        super(RawJson.class);
+    }
+
+    @Override
+    public RawJson deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator gen = JSON.createGenerator(writer)) {
+            copyValue(p, ctxt, gen);
+        }
+        return RawJson.of(writer.toString());
+    }
+
+    // Like JsonGenerator.copyCurrentStructure, but numbers are written from their text so that none is rounded
+    private void copyValue(JsonParser p, DeserializationContext ctxt, JsonGenerator gen) throws IOException {
+        int depth = 0;
+        JsonToken t = p.currentToken();
+        while (true) {
+            switch (t) {
+                case START_OBJECT:
+                    gen.writeStartObject();
+                    depth++;
+                    break;
+                case START_ARRAY:
+                    gen.writeStartArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    gen.writeEndObject();
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    gen.writeEndArray();
+                    depth--;
+                    break;
+                case FIELD_NAME:
+                    gen.writeFieldName(p.currentName());
+                    break;
+                case VALUE_STRING:
+                    gen.writeString(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+                    break;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    gen.writeNumber(p.getText());
+                    break;
+                default:
+                    gen.copyCurrentEvent(p);
+            }
+            if (depth == 0) {
+                return;
+            }
+            t = p.nextToken();
+            if (t == null) {
+                ctxt.reportInputMismatch(this, "Unexpected end of input in a raw JSON value");
+            }
+        }
+    }
+}
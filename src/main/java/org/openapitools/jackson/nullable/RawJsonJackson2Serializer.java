@@ -0,0 +1,35 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson 2 serializer for {@link RawJson}: writes the text as it is.
+ */
+public class RawJsonJackson2Serializer extends StdSerializer<RawJson> {
+
+    private static final long serialVersionUID = 1L;
+
+    public RawJsonJackson2Serializer() {
+        super(RawJson.class);
+    }
+
+    @Override
+    public void serialize(RawJson value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeRawValue(value.json());
+    }
+
+    @Override
+    public void serializeWithType(RawJson value, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.VALUE_EMBEDDED_OBJECT));
+        serialize(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeIdDef);
+    }
+}
@@ -0,0 +1,78 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectWriteContext;
+import tools.jackson.core.json.JsonFactory;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.StringWriter;
+
+/**
+ * Jackson 3 deserializer for {@link RawJson}: copies the tokens of the current value to JSON text without building
+ * any objects. Numbers keep their literal text.
+ */
+public class RawJsonJackson3Deserializer extends StdDeserializer<RawJson> {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    public RawJsonJackson3Deserializer() {
+        super(RawJson.class);
+    }
+
+    @Override
+    public RawJson deserialize(JsonParser p, DeserializationContext ctxt) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator gen = JSON.createGenerator(ObjectWriteContext.empty(), writer)) {
+            copyValue(p, ctxt, gen);
+        }
+        return RawJson.of(writer.toString());
+    }
+
+    // Like JsonGenerator.copyCurrentStructure, but numbers are written from their text so that none is rounded
+    private void copyValue(JsonParser p, DeserializationContext ctxt, JsonGenerator gen) {
+        int depth = 0;
+        JsonToken t = p.currentToken();
+        while (true) {
+            switch (t) {
+                case START_OBJECT:
+                    gen.writeStartObject();
+                    depth++;
+                    break;
+                case START_ARRAY:
+                    gen.writeStartArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    gen.writeEndObject();
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    gen.writeEndArray();
+                    depth--;
+                    break;
+                case PROPERTY_NAME:
+                    gen.writeName(p.currentName());
+                    break;
+                case VALUE_STRING:
+                    gen.writeString(p.getStringCharacters(), p.getStringOffset(), p.getStringLength());
+                    break;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    gen.writeNumber(p.getString());
+                    break;
+                default:
+                    gen.copyCurrentEvent(p);
+            }
+            if (depth == 0) {
+                return;
+            }
+            t = p.nextToken();
+            if (t == null) {
+                ctxt.reportInputMismatch(this, "Unexpected end of input in a raw JSON value");
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.openapitools.jackson.nullable;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson 3 serializer for {@link RawJson}: writes the text as it is.
+ */
+public class RawJsonJackson3Serializer extends StdSerializer<RawJson> {
+
+    public RawJsonJackson3Serializer() {
+        super(RawJson.class);
+    }
+
+    @Override
+    public void serialize(RawJson value, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeRawValue(value.json());
+    }
+
+    @Override
+    public void serializeWithType(RawJson value, JsonGenerator gen, SerializationContext ctxt,
+                                  TypeSerializer typeSer) {
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.VALUE_EMBEDDED_OBJECT));
+        serialize(value, gen, ctxt);
+        typeSer.writeTypeSuffix(gen, ctxt, typeIdDef);
+    }
+}
@@ -2,6 +2,7 @@ package org.openapitools.jackson.nullable;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.impl.UnwrappingBeanPropertyWriter;
@@ -30,10 +31,20 @@ public class UnwrappingJsonNullableJackson2BeanPropertyWriter extends Unwrapping
     @Override
     public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception
     {
-        Object value = get(bean);
-        if (JsonNullable.undefined().equals(value) || (_nullSerializer == null && value == null)) {
+        // read the value only once: delegating to super would invoke the accessor a second time
+        final Object value = get(bean);
+        // nulls can not be unwrapped, so they are suppressed just like undefined values
+        if (value == null || JsonNullableTypes.isUndefined(value)) {
             return;
         }
-        super.serializeAsField(bean, gen, prov);
+        JsonSerializer<Object> ser = _serializer;
+        if (ser == null) {
+            Class<?> cls = value.getClass();
+            ser = _dynamicSerializers.serializerFor(cls);
+            if (ser == null) {
+                ser = _findAndAddDynamic(_dynamicSerializers, cls, prov);
+            }
+        }
+        JsonNullableJackson2PropertyWriters.serializePresentValue(this, ser, _suppressableValue, value, gen, prov);
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package org.openapitools.jackson.nullable;
 import tools.jackson.core.JsonGenerator;
 import tools.jackson.core.io.SerializedString;
 import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
 import tools.jackson.databind.ser.BeanPropertyWriter;
 import tools.jackson.databind.ser.bean.UnwrappingBeanPropertyWriter;
 import tools.jackson.databind.util.NameTransformer;
@@ -27,10 +28,20 @@ public class UnwrappingJsonNullableJackson3BeanPropertyWriter extends Unwrapping
 
     @Override
     public void serializeAsProperty(Object bean, JsonGenerator gen, SerializationContext prov) throws Exception {
-        Object value = get(bean);
-        if (JsonNullable.undefined().equals(value) || (_nullSerializer == null && value == null)) {
+        // read the value only once: delegating to super would invoke the accessor a second time
+        final Object value = get(bean);
+        // nulls can not be unwrapped, so they are suppressed just like undefined values
+        if (value == null || JsonNullableTypes.isUndefined(value)) {
             return;
         }
-        super.serializeAsProperty(bean, gen, prov);
+        ValueSerializer<Object> ser = _serializer;
+        if (ser == null) {
+            Class<?> cls = value.getClass();
+            ser = _dynamicSerializers.serializerFor(cls);
+            if (ser == null) {
+                ser = _findAndAddDynamic(_dynamicSerializers, cls, prov);
+            }
+        }
+        JsonNullableJackson3PropertyWriters.serializePresentValue(this, ser, _suppressableValue, value, gen, prov);
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ module org.openapitools.jackson.nullable {
     requires static tools.jackson.databind;
     requires static jakarta.validation;
     requires static java.validation;
+    requires static java.compiler;
 
     exports org.openapitools.jackson.nullable;
 
@@ -2,6 +2,7 @@ module org.openapitools.jackson.nullable {
     requires com.fasterxml.jackson.databind;
     requires static jakarta.validation;
     requires static java.validation;
+    requires static java.compiler;
 
     exports org.openapitools.jackson.nullable;
 
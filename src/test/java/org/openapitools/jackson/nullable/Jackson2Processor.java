@@ -71,6 +71,11 @@ public class Jackson2Processor implements JsonProcessor {
         return mapper.readValue(string, (TypeReference<T>) typeReference);
     }
 
+    @Override
+    public <T> T updateValue(T valueToUpdate, String string) throws Exception {
+        return mapper.readerForUpdating(valueToUpdate).readValue(string);
+    }
+
     public static class Jackson2TypeDescriptor implements TypeDescriptor {
 
         private final JavaType javaType;
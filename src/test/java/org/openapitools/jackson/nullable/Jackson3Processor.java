@@ -75,6 +75,12 @@ public class Jackson3Processor implements JsonProcessor {
         return mapper.readValue(string, (TypeReference<T>) typeReference);
     }
 
+    @Override
+    public <T> T updateValue(T valueToUpdate, String string) throws Exception {
+        mapper = builder.build();
+        return mapper.readerForUpdating(valueToUpdate).readValue(string);
+    }
+
     public static class Jackson3TypeDescriptor implements TypeDescriptor {
 
         private final JavaType javaType;
@@ -0,0 +1,64 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonMergePatchTest extends ModuleTestBase {
+
+    private static final ObjectMapper JACKSON2 = new ObjectMapper();
+
+    private static final JsonMapper JACKSON3 = new JsonMapper();
+
+    private static String mergeJackson2(String source, String patch) throws Exception {
+        StringWriter out = new StringWriter();
+        try (com.fasterxml.jackson.core.JsonParser sourceParser = JACKSON2.createParser(source);
+             com.fasterxml.jackson.core.JsonParser patchParser = JACKSON2.createParser(patch);
+             com.fasterxml.jackson.core.JsonGenerator gen = JACKSON2.createGenerator(out)) {
+            JsonMergePatchJackson2.apply(sourceParser, patchParser, gen);
+        }
+        return out.toString();
+    }
+
+    private static String mergeJackson3(String source, String patch) {
+        StringWriter out = new StringWriter();
+        try (tools.jackson.core.JsonParser sourceParser = JACKSON3.createParser(source);
+             tools.jackson.core.JsonParser patchParser = JACKSON3.createParser(patch);
+             tools.jackson.core.JsonGenerator gen = JACKSON3.createGenerator(out)) {
+            JsonMergePatchJackson3.apply(sourceParser, patchParser, gen);
+        }
+        return out.toString();
+    }
+
+    /**
+     * The examples of RFC 7396, Appendix A, plus nested and type-changing cases.
+     */
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '"', value = {
+            "{'a':'b'}                    | {'a':'c'}                       | {'a':'c'}",
+            "{'a':'b'}                    | {'b':'c'}                       | {'a':'b','b':'c'}",
+            "{'a':'b'}                    | {'a':null}                      | {}",
+            "{'a':'b','b':'c'}            | {'a':null}                      | {'b':'c'}",
+            "{'a':['b']}                  | {'a':'c'}                       | {'a':'c'}",
+            "{'a':'c'}                    | {'a':['b']}                     | {'a':['b']}",
+            "{'a':{'b':'c'}}              | {'a':{'b':'d','c':null}}        | {'a':{'b':'d'}}",
+            "{'a':[{'b':'c'}]}            | {'a':[1]}                       | {'a':[1]}",
+            "['a','b']                    | ['c','d']                       | ['c','d']",
+            "{'a':'b'}                    | ['c']                           | ['c']",
+            "{'a':'foo'}                  | null                            | null",
+            "{'a':'foo'}                  | 'bar'                           | 'bar'",
+            "{'e':null}                   | {'a':1}                         | {'e':null,'a':1}",
+            "[1,2]                        | {'a':'b','c':null}              | {'a':'b'}",
+            "{}                           | {'a':{'bb':{'ccc':null}}}       | {'a':{'bb':{}}}",
+            "{'x':{'d':[1,{'k':2}]},'a':5} | {'a':{'n':null,'m':1},'x':{'d':null,'y':true}} | {'x':{'y':true},'a':{'m':1}}"
+    })
+    void testMergePatch(String source, String patch, String expected) throws Exception {
+        assertEquals(aposToQuotes(expected), mergeJackson2(aposToQuotes(source), aposToQuotes(patch)));
+        assertEquals(aposToQuotes(expected), mergeJackson3(aposToQuotes(source), aposToQuotes(patch)));
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.params.Parameter;
 import org.junit.jupiter.params.ParameterizedClass;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -28,6 +29,13 @@ class JsonNullWithEmptyTest extends ModuleTestBase {
         }
     }
 
+    static class BlankPolicyBean {
+        public JsonNullable<Integer> number = JsonNullable.undefined();
+        public JsonNullable<String> text = JsonNullable.undefined();
+        @JsonNullableBlankAsUndefined
+        public JsonNullable<String> blankAsUndefinedText = JsonNullable.undefined();
+    }
+
     @BeforeEach
     void setup() {
         jsonProcessor.mapperWithModule();
@@ -50,6 +58,27 @@ class JsonNullWithEmptyTest extends ModuleTestBase {
         assertFalse(b.value.isPresent());
     }
 
+    @Test
+    void testWhitespaceOnlyStringIsUndefined() throws Exception {
+        JsonNullable<?> value = jsonProcessor.readValue(quote(" \\t "), TypeReferences.INTEGER.getType(jsonProcessor));
+        assertFalse(value.isPresent());
+    }
+
+    @Test
+    void testPaddedStringIsNotBlank() throws Exception {
+        JsonNullable<?> value = jsonProcessor.readValue(quote(" 42 "), TypeReferences.INTEGER.getType(jsonProcessor));
+        assertEquals(JsonNullable.of(42), value);
+    }
+
+    @Test
+    void testBlankPolicyPerProperty() throws Exception {
+        BlankPolicyBean bean = jsonProcessor.readValue(
+                aposToQuotes("{'number':'  ','text':'  ','blankAsUndefinedText':'  '}"), BlankPolicyBean.class);
+        assertEquals(JsonNullable.undefined(), bean.number);
+        assertEquals(JsonNullable.of("  "), bean.text);
+        assertEquals(JsonNullable.undefined(), bean.blankAsUndefinedText);
+    }
+
     private enum TypeReferences {
         INTEGER {
             @Override
@@ -0,0 +1,141 @@
+package org.openapitools.jackson.nullable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNullableAccumulatorTest {
+
+    public static class AggregatePatch {
+        public JsonNullable<Integer> first = JsonNullable.undefined();
+        public JsonNullable<Integer> second = JsonNullable.undefined();
+        private JsonNullable<String> name = JsonNullable.undefined();
+
+        public JsonNullable<String> getName() {
+            return name;
+        }
+
+        public void setName(JsonNullable<String> name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    void testSetAndSnapshot() {
+        JsonNullableAccumulator<AggregatePatch> accumulator = new JsonNullableAccumulator<>(AggregatePatch.class);
+        accumulator.set("name", JsonNullable.of("Rex"));
+        accumulator.set("first", JsonNullable.of(1));
+        accumulator.set("first", JsonNullable.undefined());
+        accumulator.set("second", JsonNullable.of(null));
+
+        AggregatePatch patch = accumulator.snapshot();
+        assertEquals(JsonNullable.of("Rex"), patch.getName());
+        assertEquals(JsonNullable.of(1), patch.first);
+        assertEquals(JsonNullable.of(null), patch.second);
+        assertEquals(new PatchDocument().set("name", "Rex").set("first", 1).set("second", null),
+                accumulator.snapshotAsDocument());
+        assertThrows(IllegalArgumentException.class, () -> accumulator.set("unknown", JsonNullable.of(1)));
+    }
+
+    @Test
+    void testAccumulateAndDrain() {
+        JsonNullableAccumulator<AggregatePatch> accumulator = new JsonNullableAccumulator<>(AggregatePatch.class);
+        AggregatePatch update = new AggregatePatch();
+        update.first = JsonNullable.of(1);
+        update.setName(JsonNullable.of(null));
+        accumulator.accumulate(update);
+
+        AggregatePatch drained = accumulator.drain();
+        assertEquals(JsonNullable.of(1), drained.first);
+        assertEquals(JsonNullable.of(null), drained.getName());
+        assertFalse(drained.second.isPresent());
+        assertTrue(accumulator.drainAsDocument().isEmpty());
+    }
+
+    /**
+     * A producer always updates <code>first</code> before <code>second</code> with the same counter, so a
+     * linearizable snapshot never sees <code>second</code> ahead of <code>first</code>.
+     */
+    @Test
+    void testSnapshotsAreNotTorn() throws Exception {
+        JsonNullableAccumulator<AggregatePatch> accumulator = new JsonNullableAccumulator<>(AggregatePatch.class);
+        int first = accumulator.indexOf("first");
+        int second = accumulator.indexOf("second");
+        AtomicBoolean stop = new AtomicBoolean();
+        Thread producer = new Thread(() -> {
+            for (int i = 0; !stop.get(); i++) {
+                accumulator.set(first, JsonNullable.of(i));
+                accumulator.set(second, JsonNullable.of(i));
+            }
+        });
+        producer.start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+            while (System.nanoTime() < deadline) {
+                AggregatePatch patch = accumulator.snapshot();
+                if (patch.second.isPresent()) {
+                    assertTrue(patch.first.isPresent());
+                    assertTrue(patch.first.get() >= patch.second.get(), "torn snapshot");
+                }
+            }
+        } finally {
+            stop.set(true);
+            producer.join();
+        }
+    }
+
+    /**
+     * Every producer owns a property and counts it up; the drained values of a property must be increasing and
+     * the last one must be the final count.
+     */
+    @Test
+    void testDrainLosesNoUpdates() throws Exception {
+        JsonNullableAccumulator<AggregatePatch> accumulator = new JsonNullableAccumulator<>(AggregatePatch.class);
+        int updates = 200_000;
+        ExecutorService producers = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (String property : new String[]{"first", "second"}) {
+            int index = accumulator.indexOf(property);
+            futures.add(producers.submit(() -> {
+                start.await();
+                for (int i = 1; i <= updates; i++) {
+                    accumulator.set(index, JsonNullable.of(i));
+                }
+                return null;
+            }));
+        }
+        int[] last = new int[2];
+        start.countDown();
+        boolean done = false;
+        while (!done) {
+            done = futures.stream().allMatch(Future::isDone);
+            AggregatePatch drained = accumulator.drain();
+            last[0] = checkIncreasing(drained.first, last[0]);
+            last[1] = checkIncreasing(drained.second, last[1]);
+        }
+        producers.shutdown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        assertEquals(updates, last[0]);
+        assertEquals(updates, last[1]);
+    }
+
+    private static int checkIncreasing(JsonNullable<Integer> drained, int last) {
+        if (!drained.isPresent()) {
+            return last;
+        }
+        assertTrue(drained.get() > last, "drained " + drained.get() + " after " + last);
+        return drained.get();
+    }
+}
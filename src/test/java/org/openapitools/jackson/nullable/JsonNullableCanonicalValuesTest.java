@@ -0,0 +1,90 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNullableCanonicalValuesTest extends ModuleTestBase {
+
+    static class Bean {
+        public JsonNullable<String> nullValue;
+        public JsonNullable<Boolean> flag;
+        public JsonNullable<Integer> small;
+        public JsonNullable<Integer> large;
+        public JsonNullable<String> empty;
+    }
+
+    private static final String JSON = "{\"nullValue\":null,\"flag\":true,\"small\":1,\"large\":1000,\"empty\":\"\"}";
+
+    @Test
+    void testOfNullIsShared() {
+        assertSame(JsonNullable.of(null), JsonNullable.of(null));
+        assertSame(JsonNullable.of(null), JsonNullable.of("x").map(x -> null));
+    }
+
+    @Test
+    void testOfCanonical() {
+        assertSame(JsonNullable.ofCanonical(true), JsonNullable.ofCanonical(Boolean.valueOf("true")));
+        assertSame(JsonNullable.ofCanonical(-128), JsonNullable.ofCanonical(-128));
+        assertSame(JsonNullable.ofCanonical(127L), JsonNullable.ofCanonical(127L));
+        assertSame(JsonNullable.ofCanonical(""), JsonNullable.ofCanonical(new String()));
+        assertSame(JsonNullable.of(null), JsonNullable.ofCanonical(null));
+        assertNotSame(JsonNullable.ofCanonical(128), JsonNullable.ofCanonical(128));
+        assertEquals(JsonNullable.of(5), JsonNullable.ofCanonical(5));
+        assertEquals(JsonNullable.of(5L), JsonNullable.ofCanonical(5L));
+        assertNotEquals(JsonNullable.ofCanonical(5), JsonNullable.ofCanonical(5L));
+    }
+
+    @Test
+    void testJavaSerializationKeepsSharedInstances() throws Exception {
+        List<JsonNullable<Object>> values = Arrays.asList(JsonNullable.undefined(), JsonNullable.of(null));
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream out = new java.io.ObjectOutputStream(bytes)) {
+            out.writeObject(values);
+        }
+        try (java.io.ObjectInputStream in = new java.io.ObjectInputStream(new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+            List<?> read = (List<?>) in.readObject();
+            assertSame(JsonNullable.undefined(), read.get(0));
+            assertSame(JsonNullable.of(null), read.get(1));
+        }
+    }
+
+    @Test
+    void testJackson2CanonicalValues() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JsonNullableModule().configureCanonicalValues(true));
+        assertCanonical(mapper.readValue(JSON, Bean.class), mapper.readValue(JSON, Bean.class));
+    }
+
+    @Test
+    void testJackson3CanonicalValues() throws Exception {
+        tools.jackson.databind.ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JsonNullableJackson3Module().configureCanonicalValues(true))
+                .build();
+        assertCanonical(mapper.readValue(JSON, Bean.class), mapper.readValue(JSON, Bean.class));
+    }
+
+    @Test
+    void testCanonicalValuesAreOptIn() throws Exception {
+        ObjectMapper mapper = mapperWithJackson2Module();
+        Bean first = mapper.readValue(JSON, Bean.class);
+        Bean second = mapper.readValue(JSON, Bean.class);
+        assertSame(first.nullValue, second.nullValue);
+        assertNotSame(first.flag, second.flag);
+        assertEquals(first.flag, second.flag);
+    }
+
+    private static void assertCanonical(Bean first, Bean second) {
+        assertSame(first.nullValue, second.nullValue);
+        assertSame(first.flag, second.flag);
+        assertSame(first.small, second.small);
+        assertSame(first.empty, second.empty);
+        assertNotSame(first.large, second.large);
+        assertEquals(first.large, second.large);
+        assertEquals(JsonNullable.of(1), first.small);
+    }
+}
@@ -0,0 +1,252 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNullableCellTest extends ModuleTestBase {
+
+    private static final String NDJSON = "{\"name\":\"Rex\",\"age\":3,\"score\":2,\"active\":true,\"id\":5,\"tag\":{\"key\":\"x\"}}\n"
+            + "{\"name\":null,\"score\":1.5,\"other\":[1]}\n";
+
+    static class Tag {
+        public String key;
+    }
+
+    private final JsonNullableCell<String> name = new JsonNullableCell<>();
+    private final JsonNullableCell<Integer> age = new JsonNullableCell<>();
+    private final JsonNullableCell<Double> score = new JsonNullableCell<>();
+    private final JsonNullableCell<Boolean> active = new JsonNullableCell<>();
+    private final JsonNullableCell<Long> id = new JsonNullableCell<>();
+    private final JsonNullableCell<Tag> tag = new JsonNullableCell<>();
+    private final JsonNullableIntCell intAge = new JsonNullableIntCell();
+    private final JsonNullableDoubleCell doubleScore = new JsonNullableDoubleCell();
+    private final JsonNullableLongCell longId = new JsonNullableLongCell();
+
+    @Test
+    void testStates() {
+        JsonNullableCell<String> cell = new JsonNullableCell<>();
+        assertTrue(cell.isUndefined());
+        assertEquals("other", cell.orElse("other"));
+        assertThrows(NoSuchElementException.class, cell::get);
+        assertSame(JsonNullable.<String>undefined(), cell.toJsonNullable());
+
+        assertTrue(cell.markNull().isNull());
+        assertTrue(cell.isPresent());
+        assertNull(cell.orElse("other"));
+        assertEquals(JsonNullable.of(null), cell.toJsonNullable());
+
+        assertEquals("Rex", cell.set("Rex").get());
+        assertFalse(cell.isNull());
+        assertEquals(JsonNullable.of("Rex"), cell.toJsonNullable());
+        List<String> seen = new ArrayList<>();
+        cell.ifPresent(seen::add);
+        assertEquals(1, seen.size());
+
+        assertTrue(cell.clear().isUndefined());
+        assertEquals("a", cell.setFrom(JsonNullable.of("a")).get());
+        assertTrue(cell.setFrom(JsonNullable.undefined()).isUndefined());
+        assertTrue(cell.setFrom(null).isUndefined());
+    }
+
+    @Test
+    void testPrimitiveStates() {
+        JsonNullableIntCell cell = new JsonNullableIntCell();
+        assertTrue(cell.isUndefined());
+        assertEquals(7, cell.orElse(7));
+        assertThrows(NoSuchElementException.class, cell::getAsInt);
+        assertSame(JsonNullableInt.undefined(), cell.toJsonNullableInt());
+
+        assertTrue(cell.markNull().isNull());
+        assertTrue(cell.isPresent());
+        assertEquals(7, cell.orElse(7));
+        assertThrows(NoSuchElementException.class, cell::getAsInt);
+        assertSame(JsonNullableInt.ofNull(), cell.toJsonNullableInt());
+
+        assertEquals(3, cell.set(3).getAsInt());
+        assertFalse(cell.isNull());
+        assertEquals(JsonNullableInt.of(3), cell.toJsonNullableInt());
+        List<Integer> seen = new ArrayList<>();
+        cell.ifPresent(seen::add);
+        assertEquals(1, seen.size());
+
+        assertTrue(cell.clear().isUndefined());
+        assertEquals(4, cell.setFrom(JsonNullableInt.of(4)).getAsInt());
+        assertTrue(cell.setFrom(JsonNullableInt.ofNull()).isNull());
+        assertTrue(cell.setFrom(null).isUndefined());
+
+        assertEquals(JsonNullableLong.of(5L), new JsonNullableLongCell().set(5L).toJsonNullableLong());
+        assertEquals(JsonNullableDouble.ofNull(), new JsonNullableDoubleCell().markNull().toJsonNullableDouble());
+    }
+
+    @Test
+    void testJackson2PrimitiveCells() throws Exception {
+        try (JsonParser p = mapperWithJackson2Module().getFactory().createParser(NDJSON)) {
+            assertEquals(JsonToken.START_OBJECT, p.nextToken());
+            readJackson2Primitives(p);
+            assertFirstPrimitives();
+            assertEquals(JsonToken.START_OBJECT, p.nextToken());
+            readJackson2Primitives(p);
+            assertSecondPrimitives();
+        }
+    }
+
+    @Test
+    void testJackson3PrimitiveCells() {
+        try (tools.jackson.core.JsonParser p = mapperWithJackson3Module().createParser(NDJSON)) {
+            assertEquals(tools.jackson.core.JsonToken.START_OBJECT, p.nextToken());
+            readJackson3Primitives(p);
+            assertFirstPrimitives();
+            assertEquals(tools.jackson.core.JsonToken.START_OBJECT, p.nextToken());
+            readJackson3Primitives(p);
+            assertSecondPrimitives();
+        }
+    }
+
+    @Test
+    void testJackson2Cells() throws Exception {
+        try (JsonParser p = mapperWithJackson2Module().getFactory().createParser(NDJSON)) {
+            assertEquals(JsonToken.START_OBJECT, p.nextToken());
+            readJackson2Record(p);
+            assertFirstRecord();
+            assertEquals(JsonToken.START_OBJECT, p.nextToken());
+            readJackson2Record(p);
+            assertSecondRecord();
+        }
+        try (JsonParser p = mapperWithJackson2Module().getFactory().createParser("\"old\"")) {
+            p.nextToken();
+            assertThrows(com.fasterxml.jackson.databind.exc.MismatchedInputException.class,
+                    () -> JsonNullableCellsJackson2.readInt(p, age));
+        }
+    }
+
+    @Test
+    void testJackson3Cells() {
+        try (tools.jackson.core.JsonParser p = mapperWithJackson3Module().createParser(NDJSON)) {
+            assertEquals(tools.jackson.core.JsonToken.START_OBJECT, p.nextToken());
+            readJackson3Record(p);
+            assertFirstRecord();
+            assertEquals(tools.jackson.core.JsonToken.START_OBJECT, p.nextToken());
+            readJackson3Record(p);
+            assertSecondRecord();
+        }
+        try (tools.jackson.core.JsonParser p = mapperWithJackson3Module().createParser("\"old\"")) {
+            p.nextToken();
+            assertThrows(tools.jackson.databind.exc.MismatchedInputException.class,
+                    () -> JsonNullableCellsJackson3.readInt(p, age));
+        }
+    }
+
+    private void readJackson2Record(JsonParser p) throws Exception {
+        clearCells();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "name": JsonNullableCellsJackson2.readString(p, name); break;
+                case "age": JsonNullableCellsJackson2.readInt(p, age); break;
+                case "score": JsonNullableCellsJackson2.readDouble(p, score); break;
+                case "active": JsonNullableCellsJackson2.readBoolean(p, active); break;
+                case "id": JsonNullableCellsJackson2.readLong(p, id); break;
+                case "tag": JsonNullableCellsJackson2.read(p, Tag.class, tag); break;
+                default: p.skipChildren();
+            }
+        }
+    }
+
+    private void readJackson3Record(tools.jackson.core.JsonParser p) {
+        clearCells();
+        while (p.nextToken() == tools.jackson.core.JsonToken.PROPERTY_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "name": JsonNullableCellsJackson3.readString(p, name); break;
+                case "age": JsonNullableCellsJackson3.readInt(p, age); break;
+                case "score": JsonNullableCellsJackson3.readDouble(p, score); break;
+                case "active": JsonNullableCellsJackson3.readBoolean(p, active); break;
+                case "id": JsonNullableCellsJackson3.readLong(p, id); break;
+                case "tag": JsonNullableCellsJackson3.read(p, Tag.class, tag); break;
+                default: p.skipChildren();
+            }
+        }
+    }
+
+    private void readJackson2Primitives(JsonParser p) throws Exception {
+        clearPrimitives();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "age": JsonNullableCellsJackson2.readInt(p, intAge); break;
+                case "score": JsonNullableCellsJackson2.readDouble(p, doubleScore); break;
+                case "id": JsonNullableCellsJackson2.readLong(p, longId); break;
+                default: p.skipChildren();
+            }
+        }
+    }
+
+    private void readJackson3Primitives(tools.jackson.core.JsonParser p) {
+        clearPrimitives();
+        while (p.nextToken() == tools.jackson.core.JsonToken.PROPERTY_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "age": JsonNullableCellsJackson3.readInt(p, intAge); break;
+                case "score": JsonNullableCellsJackson3.readDouble(p, doubleScore); break;
+                case "id": JsonNullableCellsJackson3.readLong(p, longId); break;
+                default: p.skipChildren();
+            }
+        }
+    }
+
+    private void clearPrimitives() {
+        intAge.clear();
+        doubleScore.clear();
+        longId.clear();
+    }
+
+    private void assertFirstPrimitives() {
+        assertEquals(3, intAge.getAsInt());
+        assertEquals(2d, doubleScore.getAsDouble());
+        assertEquals(5L, longId.getAsLong());
+    }
+
+    private void assertSecondPrimitives() {
+        assertTrue(intAge.isUndefined());
+        assertEquals(1.5d, doubleScore.getAsDouble());
+        assertTrue(longId.isUndefined());
+    }
+
+    private void clearCells() {
+        name.clear();
+        age.clear();
+        score.clear();
+        active.clear();
+        id.clear();
+        tag.clear();
+    }
+
+    private void assertFirstRecord() {
+        assertEquals("Rex", name.get());
+        assertEquals(Integer.valueOf(3), age.get());
+        assertEquals(Double.valueOf(2), score.get());
+        assertEquals(Boolean.TRUE, active.get());
+        assertEquals(Long.valueOf(5), id.get());
+        assertEquals("x", tag.get().key);
+    }
+
+    private void assertSecondRecord() {
+        assertTrue(name.isNull());
+        assertTrue(age.isUndefined());
+        assertEquals(Double.valueOf(1.5), score.get());
+        assertTrue(active.isUndefined());
+        assertTrue(id.isUndefined());
+        assertTrue(tag.isUndefined());
+    }
+}
@@ -0,0 +1,110 @@
+package org.openapitools.jackson.nullable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNullableCollectorsTest {
+
+    /**
+     * undefined, null, 2, undefined, null, 5, ... up to 29_999
+     */
+    private static List<JsonNullable<Integer>> values() {
+        return IntStream.range(0, 30_000)
+                .mapToObj(i -> i % 3 == 0 ? JsonNullable.<Integer>undefined()
+                        : i % 3 == 1 ? JsonNullable.<Integer>of(null) : JsonNullable.of(i))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testFirstAndLastPresent() {
+        List<JsonNullable<Integer>> values = values();
+        assertEquals(JsonNullable.of(null), values.parallelStream().collect(JsonNullableCollectors.firstPresent()));
+        assertEquals(JsonNullable.of(29_999), values.parallelStream().collect(JsonNullableCollectors.lastPresent()));
+        assertEquals(JsonNullable.of(29_999), values.stream().collect(JsonNullableCollectors.lastPresent()));
+        assertEquals(JsonNullable.of(null), Stream.of(JsonNullable.of(1), JsonNullable.<Integer>of(null), null)
+                .collect(JsonNullableCollectors.lastPresent()));
+        assertEquals(JsonNullable.undefined(), Stream.<JsonNullable<Integer>>of(JsonNullable.undefined(), null)
+                .collect(JsonNullableCollectors.firstPresent()));
+    }
+
+    @Test
+    void testCoalesce() {
+        assertEquals(JsonNullable.of(2), values().parallelStream().collect(JsonNullableCollectors.coalesce()));
+        assertEquals(JsonNullable.of(null), Stream.of(JsonNullable.undefined(), JsonNullable.of(null))
+                .collect(JsonNullableCollectors.coalesce()));
+        assertEquals(JsonNullable.undefined(), Stream.<JsonNullable<Integer>>empty()
+                .collect(JsonNullableCollectors.coalesce()));
+    }
+
+    @Test
+    void testUnordered() {
+        JsonNullable<Integer> any = values().parallelStream().unordered().collect(JsonNullableCollectors.anyPresent());
+        assertTrue(any.isPresent());
+        JsonNullable<Integer> nonNull = values().parallelStream().unordered().collect(JsonNullableCollectors.coalesceAny());
+        assertNotNull(nonNull.get());
+        assertEquals(2, nonNull.get() % 3);
+        assertEquals(JsonNullable.of(null), Stream.<JsonNullable<Integer>>of(JsonNullable.of(null), JsonNullable.undefined())
+                .collect(JsonNullableCollectors.coalesceAny()));
+    }
+
+    @Test
+    void testCountingByState() {
+        JsonNullableCollectors.StateCounts counts = values().parallelStream()
+                .collect(JsonNullableCollectors.countingByState());
+        assertEquals(10_000, counts.undefined());
+        assertEquals(10_000, counts.nulls());
+        assertEquals(10_000, counts.values());
+        assertEquals(20_000, counts.present());
+        assertEquals(30_000, counts.total());
+    }
+
+    @Test
+    void testMerging() {
+        Optional<PatchDocument> merged = IntStream.range(0, 1_000).parallel()
+                .mapToObj(i -> new PatchDocument().set("field" + i % 4, i % 7 == 5 ? null : i))
+                .collect(JsonNullableCollectors.merging());
+        assertEquals(new PatchDocument().set("field0", 996).set("field1", 997).set("field2", 998).set("field3", null),
+                merged.orElse(null));
+        assertFalse(Stream.<PatchDocument>empty().collect(JsonNullableCollectors.merging()).isPresent());
+    }
+
+    @Test
+    void testMergingDtosDoesNotModifyInputs() {
+        JsonNullableMergerTest.PetPatch first = JsonNullableMergerTest.PetPatch.of(JsonNullable.of("Rex"), JsonNullable.of(1));
+        JsonNullableMergerTest.PetPatch second = JsonNullableMergerTest.PetPatch.of(JsonNullable.undefined(), JsonNullable.of(2));
+        JsonNullableMergerTest.PetPatch merged = Arrays.asList(first, second).stream()
+                .collect(JsonNullableCollectors.merging()).get();
+        assertEquals(JsonNullable.of("Rex"), merged.name);
+        assertEquals(JsonNullable.of(2), merged.getAge());
+        assertEquals(JsonNullable.of(1), first.getAge());
+    }
+
+    @Test
+    void testMergingMaps() {
+        Map<String, JsonNullable<Object>> first = new HashMap<>();
+        first.put("name", JsonNullable.of("Rex"));
+        first.put("age", JsonNullable.of(1));
+        Map<String, JsonNullable<Object>> second = new HashMap<>();
+        second.put("age", JsonNullable.of(null));
+        Map<String, JsonNullable<Object>> third = new HashMap<>();
+        third.put("name", JsonNullable.undefined());
+        third.put("owner", JsonNullable.of("Alice"));
+
+        Map<String, JsonNullable<Object>> expected = new HashMap<>();
+        expected.put("name", JsonNullable.of("Rex"));
+        expected.put("age", JsonNullable.of(null));
+        expected.put("owner", JsonNullable.of("Alice"));
+        assertEquals(Optional.of(expected), Stream.of(first, second, third).collect(JsonNullableCollectors.merging()));
+        assertEquals(JsonNullable.of(1), first.get("age"));
+    }
+}
@@ -0,0 +1,153 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.Parameter;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ParameterizedClass
+@MethodSource("jsonProcessors")
+class JsonNullableColumnTest extends ModuleTestBase {
+
+    @Parameter
+    JsonProcessor jsonProcessor;
+
+    @JsonPropertyOrder({"scores", "counts", "amounts"})
+    static class Columns {
+        public JsonNullableDoubleArray scores;
+        public JsonNullableLongArray counts;
+        public JsonNullableArray<BigDecimal> amounts;
+    }
+
+    @BeforeEach
+    void setup() {
+        jsonProcessor.mapperWithModule();
+    }
+
+    @Test
+    void testStatesAndBitmaps() {
+        JsonNullableDoubleArray column = new JsonNullableDoubleArray(0);
+        for (int i = 0; i < 200; i++) {
+            if (i % 3 == 0) {
+                column.addNull();
+            } else if (i % 5 == 0) {
+                column.addUndefined();
+            } else {
+                column.add(i);
+            }
+        }
+        assertEquals(200, column.size());
+        assertEquals(67, column.nullCount());
+        assertEquals(107, column.valueCount());
+        assertEquals(174, column.definedCount());
+        assertTrue(column.isNull(0));
+        assertTrue(column.hasValue(1));
+        assertFalse(column.isDefined(5));
+        assertEquals(1, column.nextValue(0));
+        assertEquals(6, column.nextDefined(5));
+        assertEquals(-1, column.nextValue(200));
+
+        assertEquals(JsonNullableDouble.ofNull(), column.get(3));
+        assertEquals(JsonNullableDouble.undefined(), column.get(5));
+        assertEquals(JsonNullableDouble.of(7), column.get(7));
+        assertEquals(JsonNullable.of(7d), column.getNullable(7));
+        assertEquals(-1d, column.orElse(5, -1d));
+        assertThrows(NoSuchElementException.class, () -> column.getAsDouble(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.isDefined(200));
+    }
+
+    @Test
+    void testScans() {
+        JsonNullableLongArray column = new JsonNullableLongArray();
+        assertEquals(OptionalLong.empty(), column.max());
+        for (long i = 1; i <= 1000; i++) {
+            if (i % 10 == 0) {
+                column.addNull();
+            } else {
+                column.add(i);
+            }
+        }
+        assertEquals(500500 - 50500, column.sum());
+        assertEquals(OptionalLong.of(1), column.min());
+        assertEquals(OptionalLong.of(999), column.max());
+        assertEquals(900, column.toValueArray().length);
+        long[] sum = new long[1];
+        column.forEachValue(value -> sum[0] += value);
+        assertEquals(column.sum(), sum[0]);
+
+        column.clear();
+        assertTrue(column.isEmpty());
+        column.addUndefined();
+        assertEquals(0, column.sum());
+
+        JsonNullableDoubleArray doubles = new JsonNullableDoubleArray();
+        doubles.add(2.5);
+        doubles.addNull();
+        doubles.add(-1);
+        assertEquals(1.5, doubles.sum());
+        assertEquals(OptionalDouble.of(-1), doubles.min());
+    }
+
+    @Test
+    void testObjectColumn() {
+        JsonNullableArray<String> column = new JsonNullableArray<>();
+        column.add("a");
+        column.add(null);
+        column.addNullable(JsonNullable.undefined());
+        column.addNullable(JsonNullable.of("d"));
+        assertEquals("a", column.get(0));
+        assertTrue(column.isNull(1));
+        assertEquals(JsonNullable.undefined(), column.getNullable(2));
+        List<String> values = new ArrayList<>();
+        column.forEachValue(values::add);
+        assertEquals(2, values.size());
+        assertEquals("JsonNullableArray[a, null, undefined, d]", column.toString());
+    }
+
+    @Test
+    void testSerialize() throws Exception {
+        Columns columns = new Columns();
+        columns.scores = new JsonNullableDoubleArray();
+        columns.scores.add(1.5);
+        columns.scores.addNull();
+        columns.scores.addUndefined();
+        columns.counts = new JsonNullableLongArray();
+        columns.counts.add(3);
+        columns.amounts = new JsonNullableArray<>();
+        columns.amounts.add(new BigDecimal("1.10"));
+        columns.amounts.add(null);
+        assertEquals(aposToQuotes("{'scores':[1.5,null,null],'counts':[3],'amounts':[1.10,null]}"),
+                jsonProcessor.writeValueAsString(columns));
+    }
+
+    @Test
+    void testDeserialize() throws Exception {
+        Columns columns = jsonProcessor.readValue(
+                aposToQuotes("{'scores':[1,null,2.5,' ','4'],'counts':[1,null,'2'],'amounts':[1.10,null]}"),
+                Columns.class);
+        assertEquals(5, columns.scores.size());
+        assertEquals(1d, columns.scores.getAsDouble(0));
+        assertTrue(columns.scores.isNull(1));
+        assertFalse(columns.scores.isDefined(3));
+        assertEquals(4d, columns.scores.getAsDouble(4));
+        assertEquals(3, columns.counts.sum());
+        assertTrue(columns.counts.isNull(1));
+        assertEquals(new BigDecimal("1.10"), columns.amounts.get(0));
+        assertTrue(columns.amounts.isNull(1));
+
+        JsonNullableLongArray roundTrip = jsonProcessor.readValue(jsonProcessor.writeValueAsString(columns.counts),
+                JsonNullableLongArray.class);
+        assertEquals(columns.counts, roundTrip);
+    }
+}
@@ -0,0 +1,196 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNullableDeltaTest extends ModuleTestBase {
+
+    @JsonPropertyOrder({"name", "age", "tags", "note", "c"})
+    public static class Snapshot {
+        public String name;
+        public int age;
+        public List<String> tags;
+        public JsonNullable<String> note = JsonNullable.undefined();
+        private final String code;
+
+        Snapshot(String name, int age, List<String> tags, String code) {
+            this.name = name;
+            this.age = age;
+            this.tags = tags;
+            this.code = code;
+        }
+
+        @JsonProperty("c")
+        public String getCode() {
+            return code;
+        }
+
+        @JsonIgnore
+        public String getSecret() {
+            return "secret";
+        }
+    }
+
+    static class Patch {
+        public JsonNullable<String> name = JsonNullable.undefined();
+        public JsonNullable<Integer> age = JsonNullable.undefined();
+        public JsonNullable<List<String>> tags = JsonNullable.undefined();
+        public JsonNullable<String> note = JsonNullable.undefined();
+        public JsonNullable<String> c = JsonNullable.undefined();
+    }
+
+    @JsonPropertyOrder({"count", "active"})
+    public static class Counter {
+        public JsonNullableInt count = JsonNullableInt.undefined();
+        public JsonNullableBoolean active = JsonNullableBoolean.undefined();
+
+        Counter(JsonNullableInt count, JsonNullableBoolean active) {
+            this.count = count;
+            this.active = active;
+        }
+    }
+
+    @JsonPropertyOrder({"ownerName", "url", "since"})
+    public static class Link {
+        public String ownerName;
+        private final String url;
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        public int since;
+
+        Link(String ownerName, String url, int since) {
+            this.ownerName = ownerName;
+            this.url = url;
+            this.since = since;
+        }
+
+        public String getURL() {
+            return url;
+        }
+    }
+
+    private static Snapshot first() {
+        return new Snapshot("Rex", 3, Arrays.asList("dog"), "a");
+    }
+
+    private static Snapshot second() {
+        Snapshot snapshot = new Snapshot(null, 3, Arrays.asList("dog"), "b");
+        snapshot.note = JsonNullable.of("new");
+        return snapshot;
+    }
+
+    @Test
+    void testJackson2Delta() throws Exception {
+        ObjectMapper mapper = mapperWithJackson2Module();
+        JsonNullableDeltaJackson2 delta = new JsonNullableDeltaJackson2(mapper.writer());
+
+        assertEquals("{\"name\":\"Rex\",\"age\":3,\"tags\":[\"dog\"],\"c\":\"a\"}", delta.writeDeltaAsString(null, first()));
+        assertEquals("{}", delta.writeDeltaAsString(first(), first()));
+        assertEquals("{\"name\":null,\"note\":\"new\",\"c\":\"b\"}", delta.writeDeltaAsString(first(), second()));
+        String cleared = delta.writeDeltaAsString(second(), first());
+        assertEquals("{\"name\":\"Rex\",\"note\":null,\"c\":\"a\"}", cleared);
+        assertPatch(mapper.readValue(cleared, Patch.class));
+
+        StringWriter out = new StringWriter();
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(out)) {
+            delta.writeDelta(gen, first(), second());
+        }
+        assertEquals("{\"name\":null,\"note\":\"new\",\"c\":\"b\"}", out.toString());
+        assertThrows(IllegalArgumentException.class, () -> delta.writeDeltaAsString("Rex", first()));
+    }
+
+    @Test
+    void testJackson2PrimitiveNullables() throws Exception {
+        JsonNullableDeltaJackson2 delta = new JsonNullableDeltaJackson2(mapperWithJackson2Module().writer());
+        assertPrimitiveDeltas(delta::writeDeltaAsString);
+    }
+
+    @Test
+    void testJackson3PrimitiveNullables() {
+        JsonNullableDeltaJackson3 delta = new JsonNullableDeltaJackson3(mapperWithJackson3Module().writer());
+        assertPrimitiveDeltas(delta::writeDeltaAsString);
+    }
+
+    @Test
+    void testJackson2FollowsTheWriterConfiguration() throws Exception {
+        ObjectMapper mapper = mapperWithJackson2Module().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        JsonNullableDeltaJackson2 delta = new JsonNullableDeltaJackson2(mapper.writer());
+        Link link = new Link("x", "u", 2020);
+        assertEquals(mapper.writeValueAsString(link), delta.writeDeltaAsString(null, link));
+        assertEquals("{\"owner_name\":null,\"url\":\"v\"}",
+                delta.writeDeltaAsString(link, new Link(null, "v", 2020)));
+        assertEquals("{\"url\":\"u\"}", new JsonNullableDeltaJackson2(mapperWithJackson2Module().writer())
+                .writeDeltaAsString(new Link("x", "v", 2020), link));
+    }
+
+    @Test
+    void testJackson3FollowsTheWriterConfiguration() {
+        tools.jackson.databind.ObjectMapper mapper = tools.jackson.databind.json.JsonMapper.builder()
+                .addModule(new JsonNullableJackson3Module())
+                .propertyNamingStrategy(tools.jackson.databind.PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+        JsonNullableDeltaJackson3 delta = new JsonNullableDeltaJackson3(mapper.writer());
+        Link link = new Link("x", "u", 2020);
+        assertEquals(mapper.writeValueAsString(link), delta.writeDeltaAsString(null, link));
+        assertEquals("{\"owner_name\":null,\"url\":\"v\"}",
+                delta.writeDeltaAsString(link, new Link(null, "v", 2020)));
+        // unlike Jackson 2, Jackson 3 keeps the case of the acronym by default
+        assertEquals("{\"URL\":\"u\"}", new JsonNullableDeltaJackson3(mapperWithJackson3Module().writer())
+                .writeDeltaAsString(new Link("x", "v", 2020), link));
+    }
+
+    @Test
+    void testJackson3Delta() {
+        tools.jackson.databind.ObjectMapper mapper = mapperWithJackson3Module();
+        JsonNullableDeltaJackson3 delta = new JsonNullableDeltaJackson3(mapper.writer());
+
+        assertEquals("{\"name\":\"Rex\",\"age\":3,\"tags\":[\"dog\"],\"c\":\"a\"}", delta.writeDeltaAsString(null, first()));
+        assertEquals("{}", delta.writeDeltaAsString(first(), first()));
+        assertEquals("{\"name\":null,\"note\":\"new\",\"c\":\"b\"}", delta.writeDeltaAsString(first(), second()));
+        String cleared = delta.writeDeltaAsString(second(), first());
+        assertEquals("{\"name\":\"Rex\",\"note\":null,\"c\":\"a\"}", cleared);
+        assertPatch(mapper.readValue(cleared, Patch.class));
+
+        StringWriter out = new StringWriter();
+        try (tools.jackson.core.JsonGenerator gen = mapper.createGenerator(out)) {
+            delta.writeDelta(gen, first(), second());
+        }
+        assertEquals("{\"name\":null,\"note\":\"new\",\"c\":\"b\"}", out.toString());
+        assertThrows(IllegalArgumentException.class, () -> delta.writeDeltaAsString("Rex", first()));
+    }
+
+    interface DeltaWriter {
+        String write(Object baseline, Object value) throws Exception;
+    }
+
+    private static void assertPrimitiveDeltas(DeltaWriter delta) {
+        Counter undefined = new Counter(JsonNullableInt.undefined(), JsonNullableBoolean.undefined());
+        Counter present = new Counter(JsonNullableInt.of(3), JsonNullableBoolean.of(true));
+        Counter cleared = new Counter(JsonNullableInt.ofNull(), JsonNullableBoolean.undefined());
+        assertAll(
+                () -> assertEquals("{}", delta.write(null, undefined)),
+                () -> assertEquals("{\"count\":3,\"active\":true}", delta.write(null, present)),
+                () -> assertEquals("{}", delta.write(present, new Counter(JsonNullableInt.of(3), JsonNullableBoolean.of(true)))),
+                () -> assertEquals("{\"count\":null,\"active\":null}", delta.write(present, cleared)),
+                () -> assertEquals("{\"count\":3}", delta.write(cleared, new Counter(JsonNullableInt.of(3), JsonNullableBoolean.undefined()))));
+    }
+
+    private static void assertPatch(Patch patch) {
+        assertEquals(JsonNullable.of("Rex"), patch.name);
+        assertEquals(JsonNullable.undefined(), patch.age);
+        assertEquals(JsonNullable.undefined(), patch.tags);
+        assertEquals(JsonNullable.of(null), patch.note);
+        assertEquals(JsonNullable.of("a"), patch.c);
+    }
+}
@@ -0,0 +1,204 @@
+package org.openapitools.jackson.nullable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNullableDifferTest {
+
+    public static class Address {
+        private final String city;
+        private final String zip;
+
+        public Address(String city, String zip) {
+            this.city = city;
+            this.zip = zip;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public String getZip() {
+            return zip;
+        }
+    }
+
+    public static class Pet {
+        public String name;
+        public int age;
+        public List<String> tags;
+        public Address address;
+        private boolean active;
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    public static class AddressPatch {
+        public JsonNullable<String> city = JsonNullable.undefined();
+        public JsonNullable<String> zip = JsonNullable.undefined();
+    }
+
+    public static class PetPatch {
+        public JsonNullable<String> name = JsonNullable.undefined();
+        public JsonNullable<Integer> age = JsonNullable.undefined();
+        public JsonNullable<List<String>> tags = JsonNullable.undefined();
+        public JsonNullable<AddressPatch> address = JsonNullable.undefined();
+        private JsonNullable<Boolean> active = JsonNullable.undefined();
+
+        public void setActive(JsonNullable<Boolean> active) {
+            this.active = active;
+        }
+    }
+
+    public static class PetDto {
+        public JsonNullable<String> name = JsonNullable.undefined();
+        public JsonNullableInt age = JsonNullableInt.undefined();
+        public JsonNullable<Address> address = JsonNullable.undefined();
+        public JsonNullable<List<String>> tags = JsonNullable.undefined();
+    }
+
+    public static class TaggedPet extends Pet {
+    }
+
+    @JsonNullablePatchModel
+    public interface PetModelPatch {
+        JsonNullable<String> getName();
+
+        JsonNullable<Integer> getAge();
+    }
+
+    private final JsonNullableDiffer differ = new JsonNullableDiffer();
+
+    private static Pet pet() {
+        Pet pet = new Pet();
+        pet.name = "Rex";
+        pet.age = 3;
+        pet.tags = Arrays.asList("dog");
+        pet.address = new Address("Springfield", "12345");
+        return pet;
+    }
+
+    @Test
+    void testUnchangedIsUndefined() {
+        Pet pet = pet();
+        PetPatch patch = differ.diff(pet, pet, PetPatch.class);
+        assertFalse(patch.name.isPresent());
+        assertFalse(patch.age.isPresent());
+        assertFalse(patch.tags.isPresent());
+        assertFalse(patch.address.isPresent());
+        assertFalse(patch.active.isPresent());
+    }
+
+    @Test
+    void testEqualValuesAreUnchanged() {
+        Pet newPet = pet();
+        newPet.tags = new ArrayList<>(newPet.tags);
+        PetPatch patch = differ.diff(pet(), newPet, PetPatch.class);
+        assertFalse(patch.tags.isPresent());
+        assertFalse(patch.address.isPresent());
+    }
+
+    @Test
+    void testChangesAndNulls() {
+        Pet newPet = pet();
+        newPet.name = null;
+        newPet.age = 4;
+        newPet.active = true;
+        PetPatch patch = differ.diff(pet(), newPet, PetPatch.class);
+        assertEquals(JsonNullable.of(null), patch.name);
+        assertEquals(JsonNullable.of(4), patch.age);
+        assertEquals(JsonNullable.of(true), patch.active);
+        assertFalse(patch.tags.isPresent());
+    }
+
+    @Test
+    void testNestedPatch() {
+        Pet newPet = pet();
+        newPet.address = new Address("Springfield", "54321");
+        PetPatch patch = differ.diff(pet(), newPet, PetPatch.class);
+        AddressPatch address = patch.address.get();
+        assertFalse(address.city.isPresent());
+        assertEquals(JsonNullable.of("54321"), address.zip);
+
+        newPet.address = null;
+        assertEquals(JsonNullable.of(null), differ.diff(pet(), newPet, PetPatch.class).address);
+    }
+
+    @Test
+    void testNestedObjectReplacingNull() {
+        Pet oldPet = pet();
+        oldPet.address = null;
+        Pet newPet = pet();
+        newPet.address = new Address(null, null);
+        PetPatch patch = differ.diff(oldPet, newPet, PetPatch.class);
+        assertTrue(patch.address.isPresent());
+        assertFalse(patch.address.get().city.isPresent());
+        assertFalse(patch.address.get().zip.isPresent());
+
+        assertTrue(differ.diff(null, newPet, PetPatch.class).address.isPresent());
+    }
+
+    @Test
+    void testWithoutOldSnapshot() {
+        Pet newPet = new Pet();
+        newPet.name = "Rex";
+        PetPatch patch = differ.diff(null, newPet, PetPatch.class);
+        assertEquals(JsonNullable.of("Rex"), patch.name);
+        assertEquals(JsonNullable.of(0), patch.age);
+        assertFalse(patch.tags.isPresent());
+    }
+
+    @Test
+    void testPatchModel() {
+        Pet newPet = pet();
+        newPet.age = 5;
+        PetModelPatch patch = differ.diff(pet(), newPet, PetModelPatch.class);
+        assertFalse(patch.getName().isPresent());
+        assertEquals(JsonNullable.of(5), patch.getAge());
+    }
+
+    @Test
+    void testJsonNullableModels() {
+        PetDto oldDto = new PetDto();
+        oldDto.name = JsonNullable.of("Rex");
+        oldDto.age = JsonNullableInt.of(3);
+        oldDto.address = JsonNullable.of(new Address("Springfield", "12345"));
+        PetDto newDto = new PetDto();
+        newDto.name = JsonNullable.of("Rex");
+        newDto.age = JsonNullableInt.of(4);
+        newDto.address = JsonNullable.of(new Address("Springfield", "54321"));
+        newDto.tags = JsonNullable.of(null);
+
+        PetPatch patch = differ.diff(oldDto, newDto, PetPatch.class);
+        assertFalse(patch.name.isPresent());
+        assertEquals(JsonNullable.of(4), patch.age);
+        assertEquals(JsonNullable.of("54321"), patch.address.get().zip);
+        assertFalse(patch.tags.isPresent());
+
+        // undefined in the new snapshot leaves the patch property undefined
+        newDto.name = JsonNullable.undefined();
+        newDto.age = JsonNullableInt.undefined();
+        patch = differ.diff(oldDto, newDto, PetPatch.class);
+        assertFalse(patch.name.isPresent());
+        assertFalse(patch.age.isPresent());
+
+        newDto.age = JsonNullableInt.ofNull();
+        assertEquals(JsonNullable.of(null), differ.diff(oldDto, newDto, PetPatch.class).age);
+    }
+
+    @Test
+    void testMismatchedSnapshots() {
+        assertThrows(IllegalArgumentException.class, () -> differ.diff(new PetDto(), pet(), PetPatch.class));
+        TaggedPet newPet = new TaggedPet();
+        assertThrows(IllegalArgumentException.class, () -> differ.diff(pet(), newPet, PetPatch.class));
+        // an old snapshot of a subclass is read with the accessors of the new one
+        assertEquals(JsonNullable.of(3), differ.diff(newPet, pet(), PetPatch.class).age);
+    }
+}
@@ -0,0 +1,169 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNullableFieldMaskTest extends ModuleTestBase {
+
+    static class Owner {
+        public String name = "Ann";
+        public JsonNullable<String> email = JsonNullable.of("ann@example.com");
+
+        public String getUnreadable() {
+            throw new IllegalStateException("not selected, must not be read");
+        }
+    }
+
+    static class Pet {
+        public JsonNullable<Long> id = JsonNullable.of(1L);
+        public String name = "Rex";
+        public JsonNullable<Owner> owner = JsonNullable.of(new Owner());
+        public List<Owner> sitters = Arrays.asList(new Owner(), new Owner());
+        public JsonNullable<String> note = JsonNullable.undefined();
+    }
+
+    @JsonNullableSparse
+    static class SparsePet extends Pet {
+    }
+
+    @JsonIdentityInfo(generator = ObjectIdGenerators.IntSequenceGenerator.class, property = "@id")
+    static class IdentifiedPet extends Pet {
+    }
+
+    @JsonNullableSparse
+    @JsonIdentityInfo(generator = ObjectIdGenerators.IntSequenceGenerator.class, property = "@id")
+    static class IdentifiedSparsePet extends Pet {
+    }
+
+    @JsonPropertyOrder({"pet", "sparsePet", "owner"})
+    static class Household {
+        @JsonIgnoreProperties("sitters")
+        public Pet pet = new Pet();
+        @JsonIgnoreProperties("sitters")
+        public SparsePet sparsePet = new SparsePet();
+        @JsonUnwrapped(prefix = "owner.")
+        public Owner owner = new Owner();
+    }
+
+    @JsonFilter("pets")
+    static class FilteredPet extends Pet {
+    }
+
+    @JsonFilter("owners")
+    static class FilteredOwner extends Owner {
+    }
+
+    @JsonPropertyOrder({"pet", "owner"})
+    static class FilteredHousehold {
+        public FilteredPet pet = new FilteredPet();
+        @JsonUnwrapped(prefix = "owner.")
+        public FilteredOwner owner = new FilteredOwner();
+    }
+
+    private static final String FILTERED_FIELDS = "pet.id,pet.name,pet.owner.name,owner.name";
+
+    // the filter drops the selected name of the pet, the mask keeps the filter from reading unselected properties
+    private static final String FILTERED_JSON = "{\"pet\":{\"id\":1,\"owner\":{\"name\":\"Ann\"}},\"owner.name\":\"Ann\"}";
+
+    private static final String HOUSEHOLD_FIELDS = "pet.id,sparsePet.name,owner.name";
+
+    private static final String HOUSEHOLD_JSON = "{\"pet\":{\"id\":1},\"sparsePet\":{\"name\":\"Rex\"},\"owner.name\":\"Ann\"}";
+
+    @Test
+    void testCompile() {
+        assertSame(JsonNullableFieldMask.compile("id,owner.name"), JsonNullableFieldMask.compile("id,owner.name"));
+        JsonNullableFieldMask mask = JsonNullableFieldMask.compile(" id , owner.name,owner.email");
+        assertTrue(mask.child("id").isAll());
+        assertNull(mask.child("name"));
+        assertFalse(mask.child("owner").isAll());
+        assertTrue(mask.child("owner").child("email").isAll());
+        assertTrue(JsonNullableFieldMask.compile("owner.name,owner").child("owner").isAll());
+        assertSame(JsonNullableFieldMask.ALL, JsonNullableFieldMask.ALL.child("anything"));
+        assertThrows(IllegalArgumentException.class, () -> JsonNullableFieldMask.compile("id,,name"));
+        assertThrows(IllegalArgumentException.class, () -> JsonNullableFieldMask.compile("owner."));
+    }
+
+    @Test
+    void testJackson2Masks() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JsonNullableModule().configureFieldMasks(true));
+        for (Pet pet : Arrays.asList(new Pet(), new SparsePet())) {
+            assertEquals("{\"id\":1,\"owner\":{\"name\":\"Ann\"}}", jackson2Writer(mapper, "id,owner.name").writeValueAsString(pet));
+            assertEquals("{\"sitters\":[{\"email\":\"ann@example.com\"},{\"email\":\"ann@example.com\"}]}",
+                    jackson2Writer(mapper, "sitters.email,note").writeValueAsString(pet));
+            assertEquals("[{\"name\":\"Rex\"}]", jackson2Writer(mapper, "name").writeValueAsString(Arrays.asList(pet)));
+        }
+        for (Pet pet : Arrays.asList(new IdentifiedPet(), new IdentifiedSparsePet())) {
+            assertEquals("{\"@id\":1,\"id\":1,\"owner\":{\"name\":\"Ann\"}}",
+                    jackson2Writer(mapper, "id,owner.name").writeValueAsString(pet));
+        }
+        assertEquals(HOUSEHOLD_JSON, jackson2Writer(mapper, HOUSEHOLD_FIELDS).writeValueAsString(new Household()));
+        assertInstanceOf(JsonNullableSparseJackson2BeanSerializer.class,
+                mapper.getSerializerProviderInstance().findValueSerializer(IdentifiedSparsePet.class, null));
+        // without a mask every property is read
+        assertThrows(com.fasterxml.jackson.databind.JsonMappingException.class, () -> mapper.writeValueAsString(new Pet()));
+    }
+
+    @Test
+    void testJackson2MasksWithFilters() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JsonNullableModule().configureFieldMasks(true));
+        SimpleFilterProvider filters = new SimpleFilterProvider()
+                .addFilter("pets", SimpleBeanPropertyFilter.serializeAllExcept("name"))
+                .addFilter("owners", SimpleBeanPropertyFilter.serializeAll());
+        assertEquals(FILTERED_JSON,
+                jackson2Writer(mapper, FILTERED_FIELDS).with(filters).writeValueAsString(new FilteredHousehold()));
+    }
+
+    @Test
+    void testJackson3Masks() {
+        tools.jackson.databind.ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JsonNullableJackson3Module().configureFieldMasks(true))
+                .build();
+        for (Pet pet : Arrays.asList(new Pet(), new SparsePet())) {
+            assertEquals("{\"id\":1,\"owner\":{\"name\":\"Ann\"}}", jackson3Writer(mapper, "id,owner.name").writeValueAsString(pet));
+            assertEquals("{\"sitters\":[{\"email\":\"ann@example.com\"},{\"email\":\"ann@example.com\"}]}",
+                    jackson3Writer(mapper, "sitters.email,note").writeValueAsString(pet));
+            assertEquals("[{\"name\":\"Rex\"}]", jackson3Writer(mapper, "name").writeValueAsString(Arrays.asList(pet)));
+        }
+        for (Pet pet : Arrays.asList(new IdentifiedPet(), new IdentifiedSparsePet())) {
+            assertEquals("{\"@id\":1,\"id\":1,\"owner\":{\"name\":\"Ann\"}}",
+                    jackson3Writer(mapper, "id,owner.name").writeValueAsString(pet));
+        }
+        assertEquals(HOUSEHOLD_JSON, jackson3Writer(mapper, HOUSEHOLD_FIELDS).writeValueAsString(new Household()));
+        assertThrows(tools.jackson.databind.DatabindException.class, () -> mapper.writeValueAsString(new Pet()));
+    }
+
+    @Test
+    void testJackson3MasksWithFilters() {
+        tools.jackson.databind.ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JsonNullableJackson3Module().configureFieldMasks(true))
+                .build();
+        tools.jackson.databind.ser.std.SimpleFilterProvider filters = new tools.jackson.databind.ser.std.SimpleFilterProvider()
+                .addFilter("pets", tools.jackson.databind.ser.std.SimpleBeanPropertyFilter.serializeAllExcept("name"))
+                .addFilter("owners", tools.jackson.databind.ser.std.SimpleBeanPropertyFilter.serializeAll());
+        assertEquals(FILTERED_JSON,
+                jackson3Writer(mapper, FILTERED_FIELDS).with(filters).writeValueAsString(new FilteredHousehold()));
+    }
+
+    private static ObjectWriter jackson2Writer(ObjectMapper mapper, String fields) {
+        return mapper.writer().withAttribute(JsonNullableFieldMask.ATTRIBUTE, JsonNullableFieldMask.compile(fields));
+    }
+
+    private static tools.jackson.databind.ObjectWriter jackson3Writer(tools.jackson.databind.ObjectMapper mapper, String fields) {
+        return mapper.writer().withAttribute(JsonNullableFieldMask.ATTRIBUTE, JsonNullableFieldMask.compile(fields));
+    }
+}
@@ -0,0 +1,193 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.Parameter;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+import tools.jackson.databind.cfg.DeserializationContexts;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ParameterizedClass
+@MethodSource("jsonProcessors")
+class JsonNullableLazyTest extends ModuleTestBase {
+
+    private static final AtomicInteger CREATED = new AtomicInteger();
+
+    private static final String JSON = "{\"item\":{\"name\":\"a\",\"size\":1},\"items\":[{\"name\":\"b\",\"size\":2}],"
+            + "\"missing\":null,\"label\":\"x\",\"eager\":{\"name\":\"c\",\"size\":3}}";
+
+    private static final String MODULE_JSON = "{\"item\":{\"name\":\"a\",\"size\":1},\"eager\":{\"name\":\"c\",\"size\":3}}";
+
+    @Parameter
+    JsonProcessor jsonProcessor;
+
+    static class Item implements java.io.Serializable {
+        public String name;
+        public int size;
+
+        public Item() {
+            CREATED.incrementAndGet();
+        }
+
+        Item(String name, int size) {
+            this.name = name;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Item && ((Item) obj).name.equals(name) && ((Item) obj).size == size;
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode() * 31 + size;
+        }
+    }
+
+    @JsonPropertyOrder({"item", "items", "missing", "absent", "label", "eager"})
+    static class Bean {
+        @JsonNullableLazy
+        public JsonNullable<Item> item = JsonNullable.undefined();
+        @JsonNullableLazy
+        public JsonNullable<List<Item>> items = JsonNullable.undefined();
+        @JsonNullableLazy
+        public JsonNullable<Item> missing = JsonNullable.undefined();
+        @JsonNullableLazy
+        public JsonNullable<Item> absent = JsonNullable.undefined();
+        @JsonNullableLazy
+        public JsonNullable<String> label = JsonNullable.undefined();
+        public JsonNullable<Item> eager = JsonNullable.undefined();
+    }
+
+    static class ModuleBean {
+        public JsonNullable<Item> item = JsonNullable.undefined();
+        @JsonNullableLazy(false)
+        public JsonNullable<Item> eager = JsonNullable.undefined();
+    }
+
+    @BeforeEach
+    void setup() {
+        jsonProcessor.mapperWithModule();
+        CREATED.set(0);
+    }
+
+    @Test
+    void testObjectsAreDecodedOnFirstAccess() throws Exception {
+        Bean bean = jsonProcessor.readValue(JSON, Bean.class);
+        assertEquals(1, CREATED.get(), "only the eager property is decoded");
+        assertTrue(bean.item.isPresent());
+        assertTrue(bean.items.isPresent());
+        assertEquals(1, CREATED.get());
+
+        assertEquals(new Item("a", 1), bean.item.get());
+        assertEquals(2, CREATED.get());
+        assertSame(bean.item.get(), bean.item.get());
+        assertEquals(2, CREATED.get());
+
+        assertEquals(Arrays.asList(new Item("b", 2)), bean.items.get());
+        assertEquals(3, CREATED.get());
+    }
+
+    @Test
+    void testPresenceAndNullAreEager() throws Exception {
+        Bean bean = jsonProcessor.readValue(JSON, Bean.class);
+        assertEquals(JsonNullable.of(null), bean.missing);
+        assertEquals(JsonNullable.undefined(), bean.absent);
+        assertEquals(JsonNullable.of("x"), bean.label);
+        assertEquals(JsonNullable.of(new Item("c", 3)), bean.eager);
+    }
+
+    @Test
+    void testLazyValuesBehaveLikeEagerValues() throws Exception {
+        Bean bean = jsonProcessor.readValue(JSON, Bean.class);
+        assertEquals(JsonNullable.of(new Item("a", 1)), bean.item);
+        assertEquals(JsonNullable.of(new Item("a", 1)).hashCode(), bean.item.hashCode());
+        assertEquals(JsonNullable.of(1), bean.item.map(item -> item.size));
+        assertEquals(JSON, jsonProcessor.writeValueAsString(bean));
+    }
+
+    @Test
+    void testJavaSerializationDecodesTheValue() throws Exception {
+        Bean bean = jsonProcessor.readValue(JSON, Bean.class);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(bean.item);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(JsonNullable.of(new Item("a", 1)), in.readObject());
+        }
+    }
+
+    @Test
+    void testDecodingErrorsAreThrownOnAccess() throws Exception {
+        Bean bean = jsonProcessor.readValue("{\"item\":{\"size\":\"many\"}}", Bean.class);
+        assertTrue(bean.item.isPresent());
+        assertThrows(RuntimeException.class, bean.item::get);
+        assertThrows(RuntimeException.class, bean.item::get);
+        assertEquals(bean.item, bean.item);
+        assertNotEquals(JsonNullable.of(null), bean.item);
+        assertEquals(bean.item.hashCode(), bean.item.hashCode());
+        assertEquals("JsonNullable[<not decoded>]", bean.item.toString());
+    }
+
+    @Test
+    void testValuesDecodeIndependentlyOfTheCall() throws Exception {
+        List<Bean> beans = new ArrayList<>();
+        for (int i = 0; i < 8; ++i) {
+            beans.add(jsonProcessor.readValue(JSON, Bean.class));
+        }
+        assertEquals("JsonNullable[<not decoded>]", beans.get(0).item.toString());
+        beans.parallelStream().forEach(bean -> {
+            assertEquals(new Item("a", 1), bean.item.get());
+            assertEquals(Arrays.asList(new Item("b", 2)), bean.items.get());
+        });
+        assertEquals("JsonNullable[" + beans.get(0).item.get() + "]", beans.get(0).item.toString());
+    }
+
+    @Test
+    void testJackson2ModuleSetting() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JsonNullableModule().configureLazyValues(true));
+        assertModuleSetting(mapper.readValue(MODULE_JSON, ModuleBean.class));
+    }
+
+    @Test
+    void testJackson3ModuleSetting() {
+        tools.jackson.databind.ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JsonNullableJackson3Module().configureLazyValues(true))
+                .build();
+        assertModuleSetting(mapper.readValue(MODULE_JSON, ModuleBean.class));
+    }
+
+    @Test
+    void testJackson3CustomContextsDecodeRightAway() {
+        tools.jackson.databind.ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JsonNullableJackson3Module().configureLazyValues(true))
+                .deserializationContexts(new DeserializationContexts.DefaultImpl() {
+                })
+                .build();
+        ModuleBean bean = mapper.readValue(MODULE_JSON, ModuleBean.class);
+        assertEquals(2, CREATED.get());
+        assertEquals(new Item("a", 1), bean.item.get());
+    }
+
+    private static void assertModuleSetting(ModuleBean bean) {
+        assertEquals(1, CREATED.get(), "only the property that opts out is decoded");
+        assertEquals(new Item("a", 1), bean.item.get());
+        assertEquals(2, CREATED.get());
+    }
+}
@@ -0,0 +1,153 @@
+package org.openapitools.jackson.nullable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNullableMergerTest {
+
+    public static class PetPatch {
+        public JsonNullable<String> name = JsonNullable.undefined();
+        private JsonNullable<Integer> age = JsonNullable.undefined();
+
+        public JsonNullable<Integer> getAge() {
+            return age;
+        }
+
+        public void setAge(JsonNullable<Integer> age) {
+            this.age = age;
+        }
+
+        static PetPatch of(JsonNullable<String> name, JsonNullable<Integer> age) {
+            PetPatch patch = new PetPatch();
+            patch.name = name;
+            patch.age = age;
+            return patch;
+        }
+    }
+
+    @JsonNullablePatchModel
+    public interface PetModelPatch {
+        JsonNullable<String> getName();
+
+        JsonNullable<Integer> getAge();
+
+        void setName(JsonNullable<String> name);
+
+        void setAge(JsonNullable<Integer> age);
+    }
+
+    private final JsonNullableMerger merger = new JsonNullableMerger();
+
+    @Test
+    void testNewerPresentWins() {
+        PetPatch older = PetPatch.of(JsonNullable.of("Rex"), JsonNullable.of(3));
+        PetPatch newer = PetPatch.of(JsonNullable.of("Max"), JsonNullable.undefined());
+        PetPatch merged = merger.merge(older, newer);
+        assertEquals(JsonNullable.of("Max"), merged.name);
+        assertEquals(JsonNullable.of(3), merged.getAge());
+        assertEquals(JsonNullable.of("Rex"), older.name);
+    }
+
+    @Test
+    void testExplicitNullIsKept() {
+        PetPatch older = PetPatch.of(JsonNullable.of("Rex"), JsonNullable.undefined());
+        PetPatch newer = PetPatch.of(JsonNullable.of(null), JsonNullable.undefined());
+        PetPatch merged = merger.mergeInto(older, newer);
+        assertSame(older, merged);
+        assertEquals(JsonNullable.of(null), merged.name);
+        assertFalse(merged.getAge().isPresent());
+    }
+
+    @Test
+    void testCoalesce() {
+        PetPatch merged = merger.coalesce(Arrays.asList(
+                PetPatch.of(JsonNullable.of("Rex"), JsonNullable.of(1)),
+                PetPatch.of(JsonNullable.undefined(), JsonNullable.of(2)),
+                PetPatch.of(JsonNullable.of(null), JsonNullable.undefined()),
+                new PetPatch()));
+        assertEquals(JsonNullable.of(null), merged.name);
+        assertEquals(JsonNullable.of(2), merged.getAge());
+    }
+
+    @Test
+    void testPatchModels() {
+        JsonNullablePatchModelDescriptor descriptor = JsonNullablePatchModelDescriptor.forType(PetModelPatch.class);
+        PetModelPatch older = (PetModelPatch) descriptor.newInstance();
+        older.setName(JsonNullable.of("Rex"));
+        older.setAge(JsonNullable.of(3));
+        PetModelPatch newer = (PetModelPatch) descriptor.newInstance();
+        newer.setAge(JsonNullable.of(null));
+        PetModelPatch merged = merger.merge(older, newer);
+        assertEquals(JsonNullable.of("Rex"), merged.getName());
+        assertEquals(JsonNullable.of(null), merged.getAge());
+    }
+
+    @Test
+    void testMaps() {
+        Map<String, JsonNullable<Object>> older = new LinkedHashMap<>();
+        older.put("name", JsonNullable.of("Rex"));
+        older.put("age", JsonNullable.of(3));
+        Map<String, JsonNullable<Object>> newer = new LinkedHashMap<>();
+        newer.put("name", JsonNullable.undefined());
+        newer.put("age", JsonNullable.of(null));
+        newer.put("owner", JsonNullable.of("Alice"));
+
+        Map<String, JsonNullable<Object>> merged = merger.merge(older, newer);
+        assertEquals(JsonNullable.of("Rex"), merged.get("name"));
+        assertEquals(JsonNullable.of(null), merged.get("age"));
+        assertEquals(JsonNullable.of("Alice"), merged.get("owner"));
+        assertEquals(Arrays.asList("name", "age", "owner"), Arrays.asList(merged.keySet().toArray()));
+    }
+
+    @Test
+    void testMapsThroughTheGenericMethods() {
+        Map<String, JsonNullable<Object>> older = new HashMap<>();
+        older.put("a", JsonNullable.of(1));
+        older.put("b", JsonNullable.of(2));
+        Map<String, JsonNullable<Object>> newer = new LinkedHashMap<>();
+        newer.put("a", JsonNullable.undefined());
+        newer.put("b", JsonNullable.of(null));
+
+        Map<String, JsonNullable<Object>> expected = new HashMap<>();
+        expected.put("a", JsonNullable.of(1));
+        expected.put("b", JsonNullable.of(null));
+        assertEquals(expected, merger.merge((Object) older, (Object) newer));
+        assertEquals(expected, merger.coalesce(Arrays.<Object>asList(older, newer)));
+        assertSame(older, merger.mergeInto((Object) older, (Object) newer));
+        assertEquals(expected, older);
+    }
+
+    @Test
+    void testPatchDocumentsThroughTheGenericMethods() {
+        PatchDocument older = new PatchDocument().set("name", "Rex").set("age", 3);
+        PatchDocument newer = new PatchDocument().set("age", null);
+        PatchDocument expected = new PatchDocument().set("name", "Rex").set("age", null);
+        assertEquals(expected, merger.merge((Object) older, (Object) newer));
+        assertSame(older, merger.mergeInto((Object) older, (Object) newer));
+        assertEquals(expected, older);
+    }
+
+    @Test
+    void testClassesWithoutPropertiesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> merger.merge("a", "b"));
+        assertThrows(IllegalArgumentException.class, () -> merger.mergeInto(new Object(), new Object()));
+    }
+
+    @Test
+    void testPatchDocuments() {
+        PatchDocument merged = merger.merge(new PatchDocument().set("name", "Rex").set("age", 3),
+                new PatchDocument().set("age", null).set("owner", "Alice"));
+        assertEquals(new PatchDocument().set("name", "Rex").set("age", null).set("owner", "Alice"), merged);
+    }
+
+    @Test
+    void testDifferentClassesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> merger.merge((Object) new PetPatch(), (Object) "other"));
+    }
+}
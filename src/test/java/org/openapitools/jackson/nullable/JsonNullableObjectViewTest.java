@@ -0,0 +1,83 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNullableObjectViewTest extends ModuleTestBase {
+
+    private static final String JSON = "{\"payload\":{\"x\":[1,2,{\"y\":\"\\\"}\"}]},\"name\":\"Rex\",\"age\":null,"
+            + "\"tags\":[\"a\",\"b\"],\"owner_id\":42}";
+
+    public interface PetView {
+        JsonNullable<String> getName();
+
+        JsonNullable<Integer> getAge();
+
+        JsonNullable<List<String>> getTags();
+
+        @JsonProperty("owner_id")
+        JsonNullable<Long> ownerId();
+
+        JsonNullable<Map<String, Object>> getExtra();
+    }
+
+    public interface InvalidView {
+        String getName();
+    }
+
+    @Test
+    void testJackson2View() throws Exception {
+        JsonNullableObjectViewJackson2 views = new JsonNullableObjectViewJackson2(mapperWithJackson2Module());
+        byte[] framed = ("[[" + JSON + "]]").getBytes(StandardCharsets.UTF_8);
+        assertView(views.view(framed, 2, framed.length - 4, PetView.class));
+        assertView(views.view(ByteBuffer.wrap(JSON.getBytes(StandardCharsets.UTF_8)), PetView.class));
+        assertView(views.view(direct(JSON), PetView.class));
+
+        assertThrows(com.fasterxml.jackson.databind.exc.MismatchedInputException.class,
+                () -> views.view("[1]".getBytes(StandardCharsets.UTF_8), PetView.class));
+        assertThrows(IllegalArgumentException.class, () -> views.view(JSON.getBytes(StandardCharsets.UTF_8), InvalidView.class));
+        PetView invalidAge = views.view("{\"age\":\"old\"}".getBytes(StandardCharsets.UTF_8), PetView.class);
+        assertThrows(RuntimeException.class, invalidAge::getAge);
+    }
+
+    @Test
+    void testJackson3View() {
+        JsonNullableObjectViewJackson3 views = new JsonNullableObjectViewJackson3(mapperWithJackson3Module());
+        byte[] framed = ("[[" + JSON + "]]").getBytes(StandardCharsets.UTF_8);
+        assertView(views.view(framed, 2, framed.length - 4, PetView.class));
+        assertView(views.view(ByteBuffer.wrap(JSON.getBytes(StandardCharsets.UTF_8)), PetView.class));
+        assertView(views.view(direct(JSON), PetView.class));
+
+        assertThrows(tools.jackson.databind.exc.MismatchedInputException.class,
+                () -> views.view("[1]".getBytes(StandardCharsets.UTF_8), PetView.class));
+        assertThrows(IllegalArgumentException.class, () -> views.view(JSON.getBytes(StandardCharsets.UTF_8), InvalidView.class));
+        PetView invalidAge = views.view("{\"age\":\"old\"}".getBytes(StandardCharsets.UTF_8), PetView.class);
+        assertThrows(RuntimeException.class, invalidAge::getAge);
+    }
+
+    private static ByteBuffer direct(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer;
+    }
+
+    private static void assertView(PetView view) {
+        assertEquals(JsonNullable.of("Rex"), view.getName());
+        assertSame(view.getName(), view.getName());
+        assertEquals(JsonNullable.of(null), view.getAge());
+        assertEquals(JsonNullable.of(Arrays.asList("a", "b")), view.getTags());
+        assertEquals(JsonNullable.of(42L), view.ownerId());
+        assertEquals(JsonNullable.undefined(), view.getExtra());
+        assertEquals(view, view);
+        assertTrue(view.toString().contains("owner_id=present"));
+    }
+}
@@ -0,0 +1,192 @@
+package org.openapitools.jackson.nullable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNullablePatchBufferTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private final BlockingQueue<Map<String, PatchDocument>> batches = new LinkedBlockingQueue<>();
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private JsonNullablePatchBuffer<String, PatchDocument> buffer(int flushThreshold, long maxDelayMillis) {
+        return new JsonNullablePatchBuffer<>(scheduler, flushThreshold, 100, maxDelayMillis, TimeUnit.MILLISECONDS,
+                batch -> batches.add(new HashMap<>(batch)));
+    }
+
+    @Test
+    void testCoalescesPerEntity() throws Exception {
+        JsonNullablePatchBuffer<String, PatchDocument> buffer = buffer(10, 60_000);
+        buffer.submit("pet-1", new PatchDocument().set("name", "Rex").set("age", 3));
+        buffer.submit("pet-2", new PatchDocument().set("name", "Max"));
+        buffer.submit("pet-1", new PatchDocument().set("age", null));
+        assertEquals(2, buffer.pendingCount());
+
+        buffer.flush();
+        Map<String, PatchDocument> batch = batches.poll();
+        assertNotNull(batch);
+        assertEquals(new PatchDocument().set("name", "Rex").set("age", null), batch.get("pet-1"));
+        assertEquals(new PatchDocument().set("name", "Max"), batch.get("pet-2"));
+        assertEquals(0, buffer.pendingCount());
+
+        buffer.flush();
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void testFlushesAtThreshold() throws Exception {
+        JsonNullablePatchBuffer<String, PatchDocument> buffer = buffer(2, 60_000);
+        buffer.submit("pet-1", new PatchDocument().set("name", "Rex"));
+        buffer.submit("pet-1", new PatchDocument().set("age", 3));
+        assertTrue(batches.isEmpty());
+        buffer.submit("pet-2", new PatchDocument().set("name", "Max"));
+
+        Map<String, PatchDocument> batch = batches.poll(5, TimeUnit.SECONDS);
+        assertNotNull(batch);
+        assertEquals(2, batch.size());
+    }
+
+    @Test
+    void testFlushesAfterDelay() throws Exception {
+        JsonNullablePatchBuffer<String, PatchDocument> buffer = buffer(10, 20);
+        buffer.submit("pet-1", new PatchDocument().set("name", "Rex"));
+
+        Map<String, PatchDocument> batch = batches.poll(5, TimeUnit.SECONDS);
+        assertNotNull(batch);
+        assertEquals(new PatchDocument().set("name", "Rex"), batch.get("pet-1"));
+    }
+
+    @Test
+    void testBackpressure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        JsonNullablePatchBuffer<Integer, PatchDocument> buffer = new JsonNullablePatchBuffer<>(scheduler, 1, 2,
+                60, TimeUnit.SECONDS, batch -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(buffer.offer(1, new PatchDocument(), 1, TimeUnit.SECONDS));
+        assertTrue(buffer.offer(2, new PatchDocument(), 1, TimeUnit.SECONDS));
+        assertTrue(buffer.offer(2, new PatchDocument().set("a", 1), 0, TimeUnit.SECONDS));
+        assertFalse(buffer.offer(3, new PatchDocument(), 20, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        assertTrue(buffer.offer(3, new PatchDocument(), 5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCloseFlushesAndRejects() throws Exception {
+        JsonNullablePatchBuffer<String, PatchDocument> buffer = buffer(10, 60_000);
+        buffer.submit("pet-1", new PatchDocument().set("name", "Rex"));
+        buffer.close();
+        assertEquals(1, batches.size());
+        assertThrows(IllegalStateException.class, () -> buffer.submit("pet-1", new PatchDocument()));
+    }
+
+    @Test
+    void testCloseRejectsWaitingSubmitters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        JsonNullablePatchBuffer<String, PatchDocument> buffer = new JsonNullablePatchBuffer<>(scheduler, 1, 1,
+                60, TimeUnit.SECONDS, batch -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batches.add(new HashMap<>(batch));
+        });
+        buffer.submit("pet-1", new PatchDocument().set("name", "Rex"));
+        ExecutorService producers = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> waiting = producers.submit(() -> {
+                buffer.submit("pet-2", new PatchDocument().set("name", "Max"));
+                return null;
+            });
+            Future<?> closing = producers.submit(buffer::close);
+            awaitClosed(buffer);
+            release.countDown();
+            closing.get(5, TimeUnit.SECONDS);
+
+            boolean rejected;
+            try {
+                waiting.get(5, TimeUnit.SECONDS);
+                rejected = false;
+            } catch (ExecutionException e) {
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+                rejected = true;
+            }
+            Map<String, PatchDocument> flushed = new HashMap<>();
+            batches.forEach(flushed::putAll);
+            assertEquals(rejected, !flushed.containsKey("pet-2"));
+            assertEquals(0, buffer.pendingCount());
+        } finally {
+            producers.shutdownNow();
+        }
+    }
+
+    // Probes with an offer that cannot take room, since the batch being flushed holds the only permit
+    private static void awaitClosed(JsonNullablePatchBuffer<String, PatchDocument> buffer) throws Exception {
+        while (true) {
+            try {
+                assertFalse(buffer.offer("probe", new PatchDocument(), 1, TimeUnit.MILLISECONDS));
+            } catch (IllegalStateException e) {
+                return;
+            }
+        }
+    }
+
+    @Test
+    void testMergesMaps() throws Exception {
+        BlockingQueue<Map<String, Map<String, JsonNullable<Object>>>> flushed = new LinkedBlockingQueue<>();
+        JsonNullablePatchBuffer<String, Map<String, JsonNullable<Object>>> buffer = new JsonNullablePatchBuffer<>(
+                scheduler, 10, 10, 60, TimeUnit.SECONDS, flushed::add);
+        Map<String, JsonNullable<Object>> first = new HashMap<>();
+        first.put("name", JsonNullable.of("Rex"));
+        first.put("age", JsonNullable.of(3));
+        Map<String, JsonNullable<Object>> second = new HashMap<>();
+        second.put("age", JsonNullable.of(null));
+        buffer.submit("pet-1", first);
+        buffer.submit("pet-1", second);
+        buffer.flush();
+
+        Map<String, JsonNullable<Object>> expected = new HashMap<>();
+        expected.put("name", JsonNullable.of("Rex"));
+        expected.put("age", JsonNullable.of(null));
+        assertEquals(expected, flushed.poll().get("pet-1"));
+    }
+
+    @Test
+    void testMergesDtos() throws Exception {
+        BlockingQueue<Map<String, JsonNullableMergerTest.PetPatch>> flushed = new LinkedBlockingQueue<>();
+        JsonNullablePatchBuffer<String, JsonNullableMergerTest.PetPatch> buffer = new JsonNullablePatchBuffer<>(
+                scheduler, 10, 10, 60, TimeUnit.SECONDS, flushed::add);
+        buffer.submit("pet-1", JsonNullableMergerTest.PetPatch.of(JsonNullable.of("Rex"), JsonNullable.of(3)));
+        buffer.submit("pet-1", JsonNullableMergerTest.PetPatch.of(JsonNullable.undefined(), JsonNullable.of(null)));
+        buffer.flush();
+
+        JsonNullableMergerTest.PetPatch patch = flushed.poll().get("pet-1");
+        assertEquals(JsonNullable.of("Rex"), patch.name);
+        assertEquals(JsonNullable.of(null), patch.getAge());
+    }
+}
@@ -0,0 +1,231 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.Parameter;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ParameterizedClass
+@MethodSource("jsonProcessors")
+class JsonNullablePatchModelTest extends ModuleTestBase {
+
+    @Parameter
+    JsonProcessor jsonProcessor;
+
+    @JsonNullablePatchModel
+    public interface PetPatch {
+        JsonNullable<String> getName();
+
+        JsonNullable<Integer> getAge();
+
+        JsonNullable<List<String>> getTags();
+
+        void setName(JsonNullable<String> name);
+
+        void setAge(JsonNullable<Integer> age);
+
+        void setTags(JsonNullable<List<String>> tags);
+    }
+
+    @JsonNullablePatchModel
+    public abstract static class ScorePatch {
+        public abstract JsonNullable<Double> getScore();
+
+        public abstract JsonNullable<Boolean> getActive();
+    }
+
+    @JsonNullablePatchModel
+    public interface NotePatch {
+        JsonNullable<String> getText();
+
+        @JsonNullableBlankAsUndefined
+        JsonNullable<String> getTitle();
+
+        JsonNullable<Integer> getRank();
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+    @JsonSubTypes(@JsonSubTypes.Type(value = Circle.class, name = "circle"))
+    public abstract static class Shape {
+    }
+
+    public static class Circle extends Shape {
+        public int radius;
+
+        public Circle() {
+        }
+
+        Circle(int radius) {
+            this.radius = radius;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Circle && ((Circle) o).radius == radius;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(radius);
+        }
+    }
+
+    @JsonNullablePatchModel
+    public interface LinkPatch {
+        JsonNullable<String> getURL();
+
+        @JsonProperty("nick")
+        JsonNullable<String> getNickname();
+
+        JsonNullable<String> getOwnerName();
+
+        JsonNullable<Shape> getShape();
+    }
+
+    @BeforeEach
+    void setup() {
+        jsonProcessor.mapperWithModule();
+    }
+
+    private static PetPatch newPetPatch() {
+        return (PetPatch) JsonNullablePatchModelDescriptor.forType(PetPatch.class).newInstance();
+    }
+
+    @Test
+    void testNewInstanceIsUndefined() {
+        PetPatch patch = newPetPatch();
+        assertFalse(patch.getName().isPresent());
+        assertFalse(patch.getAge().isPresent());
+        assertFalse(patch.getTags().isPresent());
+    }
+
+    @Test
+    void testSerializeOnlyDefinedProperties() throws Exception {
+        PetPatch patch = newPetPatch();
+        assertEquals("{}", jsonProcessor.writeValueAsString(patch));
+
+        patch.setName(JsonNullable.of("Rex"));
+        patch.setAge(JsonNullable.of(null));
+        assertEquals(aposToQuotes("{'name':'Rex','age':null}"), jsonProcessor.writeValueAsString(patch));
+
+        patch.setName(JsonNullable.undefined());
+        patch.setTags(JsonNullable.of(Arrays.asList("a", "b")));
+        assertEquals(aposToQuotes("{'age':null,'tags':['a','b']}"), jsonProcessor.writeValueAsString(patch));
+    }
+
+    @Test
+    void testDeserializeAbsentNullAndPresent() throws Exception {
+        PetPatch patch = jsonProcessor.readValue(aposToQuotes("{'name':null,'age':3}"), PetPatch.class);
+        assertEquals(JsonNullable.of(null), patch.getName());
+        assertEquals(JsonNullable.of(3), patch.getAge());
+        assertEquals(JsonNullable.undefined(), patch.getTags());
+    }
+
+    @Test
+    void testDeserializeBlankStringsAsRegularBeans() throws Exception {
+        NotePatch patch = jsonProcessor.readValue(aposToQuotes("{'text':' ','title':' ','rank':''}"), NotePatch.class);
+        assertEquals(JsonNullable.of(" "), patch.getText());
+        assertEquals(JsonNullable.undefined(), patch.getTitle());
+        assertEquals(JsonNullable.undefined(), patch.getRank());
+    }
+
+    @Test
+    void testSetNullIsUndefined() {
+        PetPatch patch = newPetPatch();
+        patch.setName(JsonNullable.of("Rex"));
+        patch.setName(null);
+        assertEquals(JsonNullable.undefined(), patch.getName());
+    }
+
+    @Test
+    void testRoundTrip() throws Exception {
+        PetPatch patch = newPetPatch();
+        patch.setAge(JsonNullable.of(7));
+        patch.setTags(JsonNullable.of(Arrays.asList("dog")));
+        String json = jsonProcessor.writeValueAsString(patch);
+        assertEquals(patch, jsonProcessor.readValue(json, PetPatch.class));
+    }
+
+    @Test
+    void testPrimitiveValueTypesTrackNull() throws Exception {
+        ScorePatch patch = jsonProcessor.readValue(aposToQuotes("{'score':null,'active':false}"), ScorePatch.class);
+        assertEquals(JsonNullable.of(null), patch.getScore());
+        assertEquals(JsonNullable.of(false), patch.getActive());
+        assertEquals(aposToQuotes("{'score':null,'active':false}"), jsonProcessor.writeValueAsString(patch));
+    }
+
+    @Test
+    void testRawAccess() {
+        JsonNullablePatchModelDescriptor descriptor = JsonNullablePatchModelDescriptor.forType(PetPatch.class);
+        assertEquals(3, descriptor.propertyCount());
+        assertEquals(1, descriptor.indexOf("age"));
+        assertEquals(-1, descriptor.indexOf("unknown"));
+        assertEquals(Integer.class, descriptor.valueType(1));
+
+        JsonNullablePatchModelAccess access = descriptor.newInstance();
+        access.setRaw(1, 5);
+        assertTrue(access.isDefined(1));
+        assertEquals(0b10L, access.definedMask(0));
+        assertEquals(JsonNullable.of(5), ((PetPatch) access).getAge());
+        access.setUndefined(1);
+        assertFalse(access.isDefined(1));
+        assertNull(access.getRaw(1));
+    }
+
+    @Test
+    void testNamesFollowJackson() {
+        JsonNullablePatchModelDescriptor descriptor = JsonNullablePatchModelDescriptor.forType(LinkPatch.class);
+        assertEquals("url", descriptor.propertyName(0));
+        assertEquals("nick", descriptor.propertyName(1));
+        assertEquals("ownerName", descriptor.propertyName(2));
+    }
+
+    @Test
+    void testRoundTripRenamedAndPolymorphicProperties() throws Exception {
+        LinkPatch patch = (LinkPatch) JsonNullablePatchModelDescriptor.forType(LinkPatch.class).newInstance();
+        ((JsonNullablePatchModelAccess) patch).setRaw(0, "u");
+        ((JsonNullablePatchModelAccess) patch).setRaw(1, "n");
+        ((JsonNullablePatchModelAccess) patch).setRaw(3, new Circle(2));
+        String json = jsonProcessor.writeValueAsString(patch);
+        assertTrue(json.contains(aposToQuotes("'nick':'n'")), json);
+        assertTrue(json.contains(aposToQuotes("'shape':{'kind':'circle','radius':2}")), json);
+        assertEquals(patch, jsonProcessor.readValue(json, LinkPatch.class));
+    }
+
+    @Test
+    void testJackson2NamingStrategy() throws Exception {
+        ObjectMapper mapper = mapperWithJackson2Module().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        LinkPatch patch = mapper.readValue(aposToQuotes("{'url':'u','nick':'n','owner_name':'o'}"), LinkPatch.class);
+        assertEquals(JsonNullable.of("u"), patch.getURL());
+        assertEquals(JsonNullable.of("o"), patch.getOwnerName());
+        assertEquals(aposToQuotes("{'url':'u','nick':'n','owner_name':'o'}"), mapper.writeValueAsString(patch));
+        assertEquals(aposToQuotes("{'url':'u','nick':'n','ownerName':'o'}"),
+                mapperWithJackson2Module().writeValueAsString(patch));
+    }
+
+    @Test
+    void testJackson3NamingStrategy() {
+        tools.jackson.databind.ObjectMapper mapper = mapperBuilderWithJackson3Module()
+                .propertyNamingStrategy(tools.jackson.databind.PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+        LinkPatch patch = mapper.readValue(aposToQuotes("{'url':'u','nick':'n','owner_name':'o'}"), LinkPatch.class);
+        assertEquals(JsonNullable.of("u"), patch.getURL());
+        assertEquals(JsonNullable.of("o"), patch.getOwnerName());
+        assertEquals(aposToQuotes("{'url':'u','nick':'n','owner_name':'o'}"), mapper.writeValueAsString(patch));
+        // unlike Jackson 2, Jackson 3 keeps the case of the acronym by default
+        assertEquals(aposToQuotes("{'URL':'u','nick':'n','ownerName':'o'}"),
+                mapperWithJackson3Module().writeValueAsString(patch));
+    }
+}
@@ -0,0 +1,117 @@
+package org.openapitools.jackson.nullable;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNullablePatcherTest {
+
+    public static class PetPatch {
+        public JsonNullable<String> name = JsonNullable.undefined();
+        public JsonNullable<String> owner = JsonNullable.undefined();
+        private JsonNullable<Integer> age = JsonNullable.undefined();
+        public JsonNullable<String> unknown = JsonNullable.of("ignored");
+
+        public JsonNullable<Integer> getAge() {
+            return age;
+        }
+
+        public PetPatch age(JsonNullable<Integer> age) {
+            this.age = age;
+            return this;
+        }
+    }
+
+    public static class Pet {
+        private String name = "Rex";
+        private int age = 3;
+        public String owner = "Alice";
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+    static class PackagePrivatePatch {
+        public JsonNullable<String> owner = JsonNullable.of("Bob");
+    }
+
+    public static class WrongTypePatch {
+        public JsonNullable<Boolean> name = JsonNullable.of(true);
+    }
+
+    @JsonNullablePatchModel
+    public interface PetModelPatch {
+        JsonNullable<String> getName();
+
+        JsonNullable<Integer> getAge();
+    }
+
+    private final JsonNullablePatcher patcher = new JsonNullablePatcher();
+
+    @Test
+    void testUndefinedKeepsTarget() {
+        Pet pet = patcher.apply(new PetPatch(), new Pet());
+        assertEquals("Rex", pet.getName());
+        assertEquals(3, pet.getAge());
+        assertEquals("Alice", pet.owner);
+    }
+
+    @Test
+    void testPresentAndNullAreCopied() {
+        PetPatch patch = new PetPatch().age(JsonNullable.of(4));
+        patch.name = JsonNullable.of("Max");
+        patch.owner = JsonNullable.of(null);
+        Pet pet = patcher.apply(patch, new Pet());
+        assertEquals("Max", pet.getName());
+        assertEquals(4, pet.getAge());
+        assertNull(pet.owner);
+    }
+
+    @Test
+    void testNullForPrimitiveIsRejected() {
+        PetPatch patch = new PetPatch().age(JsonNullable.of(null));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> patcher.apply(patch, new Pet()));
+        assertTrue(e.getMessage().contains("'age'"));
+    }
+
+    @Test
+    void testNonPublicPatchClass() {
+        assertEquals("Bob", patcher.apply(new PackagePrivatePatch(), new Pet()).owner);
+    }
+
+    @Test
+    void testIncompatibleTypesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> patcher.apply(new WrongTypePatch(), new Pet()));
+    }
+
+    @Test
+    void testPatchModel() {
+        JsonNullablePatchModelAccess model = JsonNullablePatchModelDescriptor.forType(PetModelPatch.class).newInstance();
+        model.setRaw(1, 7);
+        Pet pet = patcher.apply(model, new Pet());
+        assertEquals("Rex", pet.getName());
+        assertEquals(7, pet.getAge());
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        JsonNullablePatcher bounded = new JsonNullablePatcher(1);
+        bounded.apply(new PetPatch(), new Pet());
+        bounded.apply(new PackagePrivatePatch(), new Pet());
+        assertEquals(1, bounded.cachedPlans());
+        assertEquals("Bob", bounded.apply(new PackagePrivatePatch(), new Pet()).owner);
+    }
+}
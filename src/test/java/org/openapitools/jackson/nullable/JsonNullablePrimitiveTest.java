@@ -0,0 +1,106 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.Parameter;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ParameterizedClass
+@MethodSource("jsonProcessors")
+class JsonNullablePrimitiveTest extends ModuleTestBase {
+
+    @Parameter
+    JsonProcessor jsonProcessor;
+
+    @JsonPropertyOrder({"count", "id", "ratio", "active"})
+    static class PrimitiveBean {
+        public JsonNullableInt count = JsonNullableInt.undefined();
+        public JsonNullableLong id = JsonNullableLong.undefined();
+        public JsonNullableDouble ratio = JsonNullableDouble.undefined();
+        public JsonNullableBoolean active = JsonNullableBoolean.undefined();
+    }
+
+    static class KeepBlankBean {
+        @JsonNullableBlankAsUndefined(false)
+        public JsonNullableInt count = JsonNullableInt.undefined();
+        @JsonNullableBlankAsUndefined(false)
+        public JsonNullableBoolean active = JsonNullableBoolean.undefined();
+        public JsonNullableDouble ratio = JsonNullableDouble.undefined();
+    }
+
+    @BeforeEach
+    void setup() {
+        jsonProcessor.mapperWithModule();
+    }
+
+    @Test
+    void testSerializeUndefinedIsOmitted() throws Exception {
+        assertEquals("{}", jsonProcessor.writeValueAsString(new PrimitiveBean()));
+    }
+
+    @Test
+    void testSerializeNullAndPresent() throws Exception {
+        PrimitiveBean bean = new PrimitiveBean();
+        bean.count = JsonNullableInt.of(3);
+        bean.id = JsonNullableLong.ofNull();
+        bean.ratio = JsonNullableDouble.of(0.5d);
+        bean.active = JsonNullableBoolean.of(false);
+        assertEquals(aposToQuotes("{'count':3,'id':null,'ratio':0.5,'active':false}"),
+                jsonProcessor.writeValueAsString(bean));
+    }
+
+    @Test
+    void testDeserializeAbsentNullAndPresent() throws Exception {
+        PrimitiveBean bean = jsonProcessor.readValue(aposToQuotes("{'count':null,'id':9007199254740993,'active':true}"),
+                PrimitiveBean.class);
+        assertEquals(JsonNullableInt.ofNull(), bean.count);
+        assertEquals(JsonNullableLong.of(9007199254740993L), bean.id);
+        assertSame(JsonNullableDouble.undefined(), bean.ratio);
+        assertSame(JsonNullableBoolean.of(true), bean.active);
+    }
+
+    @Test
+    void testDeserializeBlankStringIsUndefined() throws Exception {
+        PrimitiveBean bean = jsonProcessor.readValue(aposToQuotes("{'count':' ','ratio':'','active':''}"),
+                PrimitiveBean.class);
+        assertTrue(bean.count.isUndefined());
+        assertTrue(bean.ratio.isUndefined());
+        assertTrue(bean.active.isUndefined());
+    }
+
+    @Test
+    void testDeserializeBlankStringWithPolicy() throws Exception {
+        KeepBlankBean bean = jsonProcessor.readValue(aposToQuotes("{'count':' ','active':'','ratio':''}"),
+                KeepBlankBean.class);
+        assertEquals(JsonNullableInt.ofNull(), bean.count);
+        assertEquals(JsonNullableBoolean.ofNull(), bean.active);
+        assertTrue(bean.ratio.isUndefined());
+    }
+
+    @Test
+    void testDeserializeCoercedString() throws Exception {
+        PrimitiveBean bean = jsonProcessor.readValue(aposToQuotes("{'count':'12','ratio':'1.25'}"),
+                PrimitiveBean.class);
+        assertEquals(12, bean.count.getAsInt());
+        assertEquals(1.25d, bean.ratio.getAsDouble());
+    }
+
+    @Test
+    void testStates() {
+        assertThrows(NoSuchElementException.class, () -> JsonNullableInt.undefined().getAsInt());
+        assertThrows(NoSuchElementException.class, () -> JsonNullableLong.ofNull().getAsLong());
+        assertEquals(7, JsonNullableInt.ofNull().orElse(7));
+        assertTrue(JsonNullableDouble.ofNull().isPresent());
+        assertEquals(JsonNullable.of(null), JsonNullableBoolean.ofNull().toJsonNullable());
+        assertEquals(JsonNullable.of(5L), JsonNullableLong.of(5L).toJsonNullable());
+        assertEquals(JsonNullable.undefined(), JsonNullableInt.undefined().toJsonNullable());
+        assertSame(JsonNullableBoolean.of(true), JsonNullableBoolean.of(Boolean.TRUE));
+        assertSame(JsonNullableInt.ofNull(), JsonNullableInt.of((Integer) null));
+    }
+}
@@ -0,0 +1,119 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNullableRefillTest extends ModuleTestBase {
+
+    private static final String FULL = "{\"id\":\"a\",\"name\":null,\"limit\":1,\"count\":7,\"tags\":[\"x\"],\"size\":3,\"code\":\"c\"}";
+
+    private static final String PARTIAL = "{\"name\":\"Rex\"}";
+
+    static class Base {
+        public JsonNullable<String> id = JsonNullable.undefined();
+    }
+
+    static class Dto extends Base {
+        public JsonNullable<String> name = JsonNullable.undefined();
+        public JsonNullable<Integer> limit = JsonNullable.of(10);
+        public int count = 5;
+        public List<String> tags;
+        public final JsonNullable<String> code = JsonNullable.undefined();
+        private JsonNullableInt size = JsonNullableInt.undefined();
+
+        public JsonNullableInt getSize() {
+            return size;
+        }
+
+        public void setSize(JsonNullableInt size) {
+            this.size = size;
+        }
+    }
+
+    static class FreshDefaults {
+        public JsonNullable<String> name = JsonNullable.undefined();
+        public List<String> tags = new ArrayList<>();
+        public UUID id = UUID.randomUUID();
+    }
+
+    @Test
+    void testJackson2Refill() throws Exception {
+        ObjectMapper mapper = mapperWithJackson2Module();
+        JsonNullableRefillReaderJackson2 reader = new JsonNullableRefillReaderJackson2(mapper.reader());
+        Dto dto = new Dto();
+        assertSame(dto, reader.readInto(dto, FULL));
+        assertEquals(JsonNullable.of("a"), dto.id);
+        assertEquals(JsonNullableInt.of(3), dto.getSize());
+        assertEquals(JsonNullable.of("c"), dto.code);
+
+        assertSame(dto, reader.readInto(dto, PARTIAL.getBytes(StandardCharsets.UTF_8)));
+        assertSameState(mapper.readValue(PARTIAL, Dto.class), dto);
+        assertEquals(JsonNullable.undefined(), dto.code);
+
+        assertFreshDefaults(instance -> reader.readInto(instance, PARTIAL));
+    }
+
+    @Test
+    void testJackson3Refill() throws Exception {
+        tools.jackson.databind.ObjectMapper mapper = mapperWithJackson3Module();
+        JsonNullableRefillReaderJackson3 reader = new JsonNullableRefillReaderJackson3(mapper.reader());
+        Dto dto = new Dto();
+        assertSame(dto, reader.readInto(dto, FULL));
+        assertEquals(JsonNullable.of("a"), dto.id);
+        assertEquals(JsonNullableInt.of(3), dto.getSize());
+
+        assertSame(dto, reader.readInto(dto, PARTIAL.getBytes(StandardCharsets.UTF_8)));
+        assertSameState(mapper.readValue(PARTIAL, Dto.class), dto);
+
+        assertFreshDefaults(instance -> reader.readInto(instance, PARTIAL));
+    }
+
+    @Test
+    void testPool() {
+        JsonNullablePool<Dto> pool = new JsonNullablePool<>(Dto.class, 1);
+        Dto first = pool.acquire();
+        Dto second = pool.acquire();
+        assertNotSame(first, second);
+        pool.release(first);
+        pool.release(second); // dropped, the pool is full
+        assertSame(first, pool.acquire());
+        assertNotSame(second, pool.acquire());
+
+        assertThrows(IllegalArgumentException.class, () -> new JsonNullablePool<>(Dto.class, 0));
+        assertNotNull(new JsonNullablePool<>(FreshDefaults.class).acquire());
+    }
+
+    private interface Refill {
+        FreshDefaults readInto(FreshDefaults instance) throws Exception;
+    }
+
+    // collections and per-instance values are not shared between resets
+    private static void assertFreshDefaults(Refill refill) throws Exception {
+        FreshDefaults instance = new FreshDefaults();
+        List<String> tags = instance.tags;
+        tags.add("x");
+        UUID id = instance.id;
+        assertSame(instance, refill.readInto(instance));
+        assertEquals(JsonNullable.of("Rex"), instance.name);
+        assertTrue(instance.tags.isEmpty());
+        assertNotSame(tags, instance.tags);
+        assertNotEquals(id, instance.id);
+    }
+
+    private static void assertSameState(Dto expected, Dto actual) {
+        assertEquals(expected.id, actual.id);
+        assertEquals(expected.name, actual.name);
+        assertEquals(expected.limit, actual.limit);
+        assertEquals(expected.count, actual.count);
+        assertEquals(expected.tags, actual.tags);
+        assertEquals(expected.code, actual.code);
+        assertEquals(expected.getSize(), actual.getSize());
+    }
+}
@@ -0,0 +1,76 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.Parameter;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ParameterizedClass
+@MethodSource("jsonProcessors")
+class JsonNullableSparseTest extends ModuleTestBase {
+
+    @Parameter
+    JsonProcessor jsonProcessor;
+
+    // Jackson 3 sorts properties alphabetically by default
+    @JsonPropertyOrder({"undefinedValue", "plain", "nullValue", "nullReference", "tags", "count", "undefinedCount"})
+    static class Dto {
+        public JsonNullable<String> undefinedValue = JsonNullable.undefined();
+        public String plain = "p";
+        public JsonNullable<Integer> nullValue = JsonNullable.of(null);
+        public JsonNullable<String> nullReference;
+        private JsonNullable<List<String>> tags = JsonNullable.of(Collections.singletonList("x"));
+        public JsonNullableInt count = JsonNullableInt.of(3);
+        public JsonNullableInt undefinedCount = JsonNullableInt.undefined();
+
+        public JsonNullable<List<String>> getTags() {
+            return tags;
+        }
+
+        @JsonAnyGetter
+        public Map<String, Object> getExtra() {
+            return Collections.singletonMap("extra", 1);
+        }
+    }
+
+    @JsonNullableSparse
+    static class SparseDto extends Dto {
+    }
+
+    @JsonNullableSparse
+    static class Wide {
+        public JsonNullable<String> f0 = JsonNullable.undefined(), f1 = JsonNullable.undefined(),
+                f2 = JsonNullable.undefined(), f3 = JsonNullable.undefined(), f4 = JsonNullable.undefined(),
+                f5 = JsonNullable.undefined(), f6 = JsonNullable.undefined(), f7 = JsonNullable.undefined();
+    }
+
+    @BeforeEach
+    void setup() {
+        jsonProcessor.mapperWithModule();
+    }
+
+    @Test
+    void testSameOutputAsRegularSerializer() throws Exception {
+        String expected = "{\"plain\":\"p\",\"nullValue\":null,\"nullReference\":null,\"tags\":[\"x\"],\"count\":3,\"extra\":1}";
+        assertEquals(expected, jsonProcessor.writeValueAsString(new Dto()));
+        assertEquals(expected, jsonProcessor.writeValueAsString(new SparseDto()));
+    }
+
+    @Test
+    void testOnlyDefinedProperties() throws Exception {
+        Wide wide = new Wide();
+        assertEquals("{}", jsonProcessor.writeValueAsString(wide));
+        wide.f2 = JsonNullable.of("a");
+        wide.f7 = JsonNullable.of(null);
+        assertEquals("{\"f2\":\"a\",\"f7\":null}", jsonProcessor.writeValueAsString(wide));
+    }
+}
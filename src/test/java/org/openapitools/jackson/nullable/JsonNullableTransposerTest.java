@@ -0,0 +1,122 @@
+package org.openapitools.jackson.nullable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNullableTransposerTest {
+
+    public static class Row {
+        public JsonNullable<Double> price = JsonNullable.undefined();
+        public JsonNullable<String> name = JsonNullable.undefined();
+        public JsonNullableInt quantity = JsonNullableInt.undefined();
+        private JsonNullable<Integer> rank = JsonNullable.undefined();
+
+        public JsonNullable<Integer> getRank() {
+            return rank;
+        }
+
+        static Row of(int i) {
+            Row row = new Row();
+            if (i % 2 == 0) {
+                row.price = JsonNullable.of((double) i);
+            } else if (i % 3 == 0) {
+                row.price = JsonNullable.of(null);
+            }
+            if (i % 7 == 0) {
+                row.name = JsonNullable.of("row" + i);
+            }
+            row.quantity = i % 5 == 0 ? JsonNullableInt.ofNull() : JsonNullableInt.of(1);
+            row.rank = JsonNullable.of(i);
+            return row;
+        }
+    }
+
+    @JsonNullablePatchModel
+    public interface RowModel {
+        JsonNullable<Long> getId();
+
+        JsonNullable<String> getName();
+
+        void setId(JsonNullable<Long> id);
+
+        void setName(JsonNullable<String> name);
+    }
+
+    private final JsonNullableTransposer transposer = new JsonNullableTransposer(256);
+
+    @Test
+    void testColumnTypes() {
+        Map<String, JsonNullableColumn> columns = transposer.transpose(
+                Arrays.asList(Row.of(0), null, Row.of(3)).iterator(), Row.class);
+        assertEquals(new HashSet<>(Arrays.asList("rank", "price", "name", "quantity")), columns.keySet());
+
+        JsonNullableDoubleArray price = (JsonNullableDoubleArray) columns.get("price");
+        assertEquals(3, price.size());
+        assertEquals(0d, price.getAsDouble(0));
+        assertFalse(price.isDefined(1));
+        assertTrue(price.isNull(2));
+
+        JsonNullableLongArray quantity = (JsonNullableLongArray) columns.get("quantity");
+        assertTrue(quantity.isNull(0));
+        assertEquals(1, quantity.getAsLong(2));
+
+        JsonNullableLongArray rank = (JsonNullableLongArray) columns.get("rank");
+        assertEquals(3, rank.sum());
+
+        @SuppressWarnings("unchecked")
+        JsonNullableArray<String> name = (JsonNullableArray<String>) columns.get("name");
+        assertEquals("row0", name.get(0));
+        assertFalse(name.isDefined(2));
+    }
+
+    @Test
+    void testParallelMatchesSequential() {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            rows.add(i == 4711 ? null : Row.of(i));
+        }
+        Map<String, JsonNullableColumn> sequential = transposer.transpose(rows.iterator(), Row.class);
+        Map<String, JsonNullableColumn> parallel = transposer.transpose(rows, Row.class, new ForkJoinPool(4));
+        assertEquals(sequential, parallel);
+
+        JsonNullableDoubleArray price = (JsonNullableDoubleArray) parallel.get("price");
+        assertEquals(10_000, price.size());
+        assertEquals(5_000, price.valueCount());
+        assertEquals(1_667, price.nullCount());
+        assertEquals(24_995_000d, price.sum());
+    }
+
+    @Test
+    void testSmallestBlocks() {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(Row.of(i));
+        }
+        JsonNullableTransposer smallBlocks = new JsonNullableTransposer(64);
+        assertEquals(smallBlocks.transpose(rows.iterator(), Row.class),
+                smallBlocks.transpose(rows, Row.class, new ForkJoinPool(4)));
+    }
+
+    @Test
+    void testPatchModels() {
+        JsonNullablePatchModelDescriptor descriptor = JsonNullablePatchModelDescriptor.forType(RowModel.class);
+        RowModel first = (RowModel) descriptor.newInstance();
+        first.setId(JsonNullable.of(1L));
+        RowModel second = (RowModel) descriptor.newInstance();
+        second.setName(JsonNullable.of(null));
+
+        Map<String, JsonNullableColumn> columns = transposer.transpose(Arrays.asList(first, second).iterator(), RowModel.class);
+        JsonNullableLongArray id = (JsonNullableLongArray) columns.get("id");
+        assertEquals(1, id.getAsLong(0));
+        assertFalse(id.isDefined(1));
+        assertTrue(columns.get("name").isNull(1));
+    }
+}
@@ -0,0 +1,98 @@
+package org.openapitools.jackson.nullable;
+
+import com.fasterxml.jackson.annotation.JsonMerge;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.Parameter;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ParameterizedClass
+@MethodSource("jsonProcessors")
+class JsonNullableUpdateTest extends ModuleTestBase {
+
+    @Parameter
+    JsonProcessor jsonProcessor;
+
+    static class Address {
+        public String street;
+        public String city;
+    }
+
+    static class Entity {
+        @JsonMerge
+        public JsonNullable<Address> address = JsonNullable.undefined();
+        @JsonMerge
+        public JsonNullable<List<String>> tags = JsonNullable.undefined();
+        @JsonMerge
+        public JsonNullable<Integer> count = JsonNullable.undefined();
+        @JsonMerge
+        public JsonNullable<Integer> limit = JsonNullable.of(10);
+        public JsonNullable<Address> replaced = JsonNullable.undefined();
+    }
+
+    @BeforeEach
+    void setup() {
+        jsonProcessor.mapperWithModule();
+    }
+
+    @Test
+    void testMergeIntoPresentValue() throws Exception {
+        Entity entity = jsonProcessor.readValue("{\"address\":{\"street\":\"Main\",\"city\":\"Rome\"}}", Entity.class);
+        JsonNullable<Address> reference = entity.address;
+        Address address = reference.get();
+
+        jsonProcessor.updateValue(entity, "{\"address\":{\"city\":\"Milan\"}}");
+        assertSame(reference, entity.address);
+        assertSame(address, entity.address.get());
+        assertEquals("Main", address.street);
+        assertEquals("Milan", address.city);
+    }
+
+    @Test
+    void testMergeIntoUndefinedOrNull() throws Exception {
+        Entity entity = new Entity();
+        jsonProcessor.updateValue(entity, "{\"address\":{\"city\":\"Rome\"},\"count\":1}");
+        assertEquals("Rome", entity.address.get().city);
+        assertEquals(JsonNullable.of(1), entity.count);
+
+        entity.address = JsonNullable.of(null);
+        jsonProcessor.updateValue(entity, "{\"address\":{\"street\":\"Main\"}}");
+        assertEquals("Main", entity.address.get().street);
+        assertNull(entity.address.get().city);
+    }
+
+    @Test
+    void testMergeCollectionsAndScalars() throws Exception {
+        Entity entity = new Entity();
+        entity.tags = JsonNullable.of(new ArrayList<>(Arrays.asList("a")));
+        jsonProcessor.updateValue(entity, "{\"tags\":[\"b\"],\"limit\":20}");
+        assertEquals(Arrays.asList("a", "b"), entity.tags.get());
+        assertEquals(JsonNullable.of(20), entity.limit);
+    }
+
+    @Test
+    void testNullAndAbsentValues() throws Exception {
+        Entity entity = jsonProcessor.readValue("{\"address\":{\"city\":\"Rome\"}}", Entity.class);
+        jsonProcessor.updateValue(entity, "{\"count\":1}");
+        assertEquals("Rome", entity.address.get().city);
+
+        jsonProcessor.updateValue(entity, "{\"address\":null}");
+        assertEquals(JsonNullable.of(null), entity.address);
+    }
+
+    @Test
+    void testPropertiesWithoutMergeAreReplaced() throws Exception {
+        Entity entity = jsonProcessor.readValue("{\"replaced\":{\"street\":\"Main\",\"city\":\"Rome\"}}", Entity.class);
+        Address address = entity.replaced.get();
+        jsonProcessor.updateValue(entity, "{\"replaced\":{\"city\":\"Milan\"}}");
+        assertNotSame(address, entity.replaced.get());
+        assertNull(entity.replaced.get().street);
+    }
+}
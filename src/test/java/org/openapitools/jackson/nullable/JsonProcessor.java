@@ -19,6 +19,7 @@ public interface JsonProcessor {
 
     <T> T readValue(String string, Class<T> type) throws Exception;
     <T> T readValue(String string, Object typeReference) throws Exception;
+    <T> T updateValue(T valueToUpdate, String string) throws Exception;
 
     interface TypeDescriptor {
         boolean isReferenceType();
@@ -0,0 +1,121 @@
+package org.openapitools.jackson.nullable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.Parameter;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ParameterizedClass
+@MethodSource("jsonProcessors")
+class PatchDocumentTest extends ModuleTestBase {
+
+    @Parameter
+    JsonProcessor jsonProcessor;
+
+    static class Holder {
+        public PatchDocument patch;
+    }
+
+    @BeforeEach
+    void setup() {
+        jsonProcessor.mapperWithModule();
+    }
+
+    @Test
+    void testFieldStates() {
+        PatchDocument document = new PatchDocument()
+                .set("name", "Rex")
+                .set("age", null);
+        assertEquals(2, document.size());
+        assertTrue(document.contains("name"));
+        assertFalse(document.isNull("name"));
+        assertTrue(document.contains("age"));
+        assertTrue(document.isNull("age"));
+        assertFalse(document.contains("tags"));
+        assertEquals(JsonNullable.of("Rex"), document.getNullable("name"));
+        assertEquals(JsonNullable.of(null), document.getNullable("age"));
+        assertEquals(JsonNullable.undefined(), document.getNullable("tags"));
+
+        assertTrue(document.remove("name"));
+        assertFalse(document.remove("name"));
+        assertFalse(document.contains("name"));
+        assertEquals(1, document.size());
+
+        document.setNullable("age", JsonNullable.undefined());
+        assertTrue(document.isEmpty());
+    }
+
+    @Test
+    void testGrowKeepsInsertionOrder() {
+        PatchDocument document = new PatchDocument(1);
+        for (int i = 0; i < 200; i++) {
+            document.set("field" + i, i);
+        }
+        for (int i = 0; i < 200; i += 2) {
+            document.remove("field" + i);
+        }
+        assertEquals(100, document.size());
+        assertEquals(199, document.get("field199"));
+        assertNull(document.get("field198"));
+        StringBuilder order = new StringBuilder();
+        document.forEach((name, value) -> {
+            if ((Integer) value < 7) {
+                order.append(name).append(',');
+            }
+        });
+        assertEquals("field1,field3,field5,", order.toString());
+    }
+
+    @Test
+    void testRemovedSlotsAreReclaimed() {
+        PatchDocument document = new PatchDocument(4).set("kept", null);
+        for (int i = 0; i < 10_000; i++) {
+            document.set("field" + i, i);
+            document.remove("field" + i);
+        }
+        assertTrue(document.slotCount() <= 4);
+        document.set("last", 1);
+        assertEquals(2, document.size());
+        assertTrue(document.isNull("kept"));
+        assertEquals("PatchDocument{kept=null, last=1}", document.toString());
+    }
+
+    @Test
+    void testSerialize() throws Exception {
+        PatchDocument document = new PatchDocument()
+                .set("name", "Rex")
+                .set("age", null)
+                .set("tags", Arrays.asList("a", "b"))
+                .set("removed", 1);
+        document.remove("removed");
+        assertEquals(aposToQuotes("{'name':'Rex','age':null,'tags':['a','b']}"),
+                jsonProcessor.writeValueAsString(document));
+        assertEquals("{}", jsonProcessor.writeValueAsString(new PatchDocument()));
+    }
+
+    @Test
+    void testDeserialize() throws Exception {
+        PatchDocument document = jsonProcessor.readValue(
+                aposToQuotes("{'name':'Rex','age':null,'owner':{'id':1},'tags':['a']}"), PatchDocument.class);
+        assertEquals(4, document.size());
+        assertEquals("Rex", document.get("name"));
+        assertTrue(document.isNull("age"));
+        assertEquals(Collections.singletonMap("id", 1), document.get("owner"));
+        assertEquals(Collections.singletonList("a"), document.get("tags"));
+    }
+
+    @Test
+    void testRoundTripAsProperty() throws Exception {
+        Holder holder = new Holder();
+        holder.patch = new PatchDocument().set("a", 1).set("b", null);
+        String json = jsonProcessor.writeValueAsString(holder);
+        assertEquals(aposToQuotes("{'patch':{'a':1,'b':null}}"), json);
+        assertEquals(holder.patch, jsonProcessor.readValue(json, Holder.class).patch);
+    }
+}
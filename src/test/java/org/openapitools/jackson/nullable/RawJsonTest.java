@@ -0,0 +1,68 @@
+package org.openapitools.jackson.nullable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.Parameter;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ParameterizedClass
+@MethodSource("jsonProcessors")
+class RawJsonTest extends ModuleTestBase {
+
+    @Parameter
+    JsonProcessor jsonProcessor;
+
+    static class Envelope {
+        public JsonNullable<String> id = JsonNullable.undefined();
+        public JsonNullable<RawJson> payload = JsonNullable.undefined();
+    }
+
+    @BeforeEach
+    void setup() {
+        jsonProcessor.mapperWithModule();
+    }
+
+    @Test
+    void testPassesObjectsThrough() throws Exception {
+        String json = "{\"id\":\"1\",\"payload\":{\"a\":[1,2.50,1e3,12345678901234567890.123456789],"
+                + "\"b\":\"x\\\"y\",\"c\":{\"d\":null,\"e\":true}}}";
+        Envelope envelope = jsonProcessor.readValue(json, Envelope.class);
+        assertEquals("{\"a\":[1,2.50,1e3,12345678901234567890.123456789],\"b\":\"x\\\"y\",\"c\":{\"d\":null,\"e\":true}}",
+                envelope.payload.get().json());
+        assertEquals(json, jsonProcessor.writeValueAsString(envelope));
+    }
+
+    @Test
+    void testDropsWhitespace() throws Exception {
+        Envelope envelope = jsonProcessor.readValue("{\"payload\": [ 1, { \"a\" : \"b c\" } ] }", Envelope.class);
+        assertEquals(JsonNullable.of(RawJson.of("[1,{\"a\":\"b c\"}]")), envelope.payload);
+    }
+
+    @Test
+    void testScalars() throws Exception {
+        assertEquals(RawJson.of("\"text\""), jsonProcessor.readValue("{\"payload\":\"text\"}", Envelope.class).payload.get());
+        assertEquals(RawJson.of("12.30"), jsonProcessor.readValue("{\"payload\":12.30}", Envelope.class).payload.get());
+        assertEquals(RawJson.of("false"), jsonProcessor.readValue("{\"payload\":false}", Envelope.class).payload.get());
+    }
+
+    @Test
+    void testUndefinedAndNull() throws Exception {
+        Envelope envelope = jsonProcessor.readValue("{\"payload\":null}", Envelope.class);
+        assertEquals(JsonNullable.of(null), envelope.payload);
+        assertEquals("{\"payload\":null}", jsonProcessor.writeValueAsString(envelope));
+
+        envelope = jsonProcessor.readValue("{\"id\":\"2\"}", Envelope.class);
+        assertEquals(JsonNullable.undefined(), envelope.payload);
+        assertEquals("{\"id\":\"2\"}", jsonProcessor.writeValueAsString(envelope));
+    }
+
+    @Test
+    void testWritesTextAsIs() throws Exception {
+        Envelope envelope = new Envelope();
+        envelope.payload = JsonNullable.of(RawJson.of("{\"x\": 1}"));
+        assertEquals("{\"payload\":{\"x\": 1}}", jsonProcessor.writeValueAsString(envelope));
+    }
+}